@@ -38,6 +38,7 @@ public class TutorialPart2 {
      * DFA states:      5                            *
      * Static size:     308 Bytes                    *
      * Instance size:   24 Bytes                     *
+     * Backtracking:    0                            *
      *                                               *
      ************************************************/
     
@@ -379,9 +380,14 @@ public class TutorialPart2 {
                     break;
                 }
                 
-                if (ACTION_MAP[curState] != -1) {
+                if (curState > 0) {
                     matchState = curState;
                     matchPosition = iterator;
+                    
+                    // stop at a state without transitions
+                    if (curState >= 4) {
+                        break;
+                    }
                 }
             } while (++iterator < regionEnd);
             
@@ -50,6 +50,7 @@ public class TutorialPart3 {
      * DFA states:      5                            *
      * Static size:     308 Bytes                    *
      * Instance size:   20 Bytes                     *
+     * Backtracking:    0                            *
      *                                               *
      ************************************************/
     
@@ -268,9 +269,14 @@ public class TutorialPart3 {
                     break;
                 }
                 
-                if (ACTION_MAP[curState] != -1) {
+                if (curState > 0) {
                     matchState = curState;
                     matchPosition = iterator;
+                    
+                    // stop at a state without transitions
+                    if (curState >= 4) {
+                        break;
+                    }
                 }
             } while (++iterator < regionEnd);
             
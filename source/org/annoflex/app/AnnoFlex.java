@@ -7,6 +7,7 @@ package org.annoflex.app;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 
 import org.annoflex.util.BuildInfo;
 import org.annoflex.util.BundleCache;
@@ -210,12 +211,35 @@ public class AnnoFlex {
                     console.printError(bundleCache.getString(Messages.FILE_SAVE_ERROR)
                             +" ("+e.getLocalizedMessage()+")");
                 }
+                
+                if (updater.getTableData() != null) {
+                    saveTableResource(file,updater);
+                }
             }
         }
         
         console.printSummary();
     }
     
+    /**
+     * 
+     */
+    private void saveTableResource(File file, Updater updater) {
+        File tableFile = new File(file.getAbsoluteFile().getParentFile(),
+                updater.getTableResourceName());
+        
+        console.printInfo(bundleCache.getString(Messages.SAVING_FILE)+" \""+tableFile+"\"");
+        
+        try {
+            Files.write(tableFile.toPath(),updater.getTableData());
+        }
+        
+        catch(IOException e) {
+            console.printError(bundleCache.getString(Messages.FILE_SAVE_ERROR)
+                    +" ("+e.getLocalizedMessage()+")");
+        }
+    }
+    
     //================
     // Static Methods
     //================
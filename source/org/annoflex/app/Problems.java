@@ -31,6 +31,10 @@ public class Problems {
     public static final Problem NO_RULES_DEFINED       = new Problem("s",Problems.class,"noRulesDefined");
     public static final Problem INVALID_EXPRESSION     = new Problem("s",Problems.class,"invalidExpression");
     public static final Problem TOO_MANY_EXPR_TAGS     = new Problem("s",Problems.class,"tooManyExprTags");
+    public static final Problem INVALID_TOKEN_CODE     = new Problem("s",Problems.class,"invalidTokenCode");
+    public static final Problem TOO_MANY_TOKEN_TAGS    = new Problem("s",Problems.class,"tooManyTokenTags");
+    public static final Problem TOKEN_RETURN_TYPE      = new Problem("s",Problems.class,"tokenReturnType");
+    public static final Problem MISSING_TOKEN_CODE     = new Problem("s",Problems.class,"missingTokenCode");
     public static final Problem AMBIGUOUS_RETURN_TYPES = new Problem("s",Problems.class,"ambiguousReturnType");
     public static final Problem UNUSED_TAG             = new Problem("w",Problems.class,"unusedTag");
     public static final Problem TOO_MANY_DFA_STATES    = new Problem("s",Problems.class,"tooManyDFAStates");
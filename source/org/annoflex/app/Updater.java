@@ -10,6 +10,7 @@ import java.util.HashSet;
 import org.annoflex.app.codegen.AutomatonInfo;
 import org.annoflex.app.codegen.ImportInserter;
 import org.annoflex.app.codegen.ScannerGenerator;
+import org.annoflex.app.dom.CharacterMode;
 import org.annoflex.app.dom.Config;
 import org.annoflex.app.dom.MethodInfo;
 import org.annoflex.app.dom.TypeDescriptor;
@@ -64,6 +65,16 @@ final class Updater {
      */
     private boolean errors;
     
+    /**
+     * 
+     */
+    private String tableResourceName;
+    
+    /**
+     * 
+     */
+    private byte[] tableData;
+    
     //=========
     // Methods
     //=========
@@ -89,11 +100,27 @@ final class Updater {
         return errors;
     }
     
+    /**
+     * 
+     */
+    public String getTableResourceName() {
+        return tableResourceName;
+    }
+    
+    /**
+     * 
+     */
+    public byte[] getTableData() {
+        return tableData;
+    }
+    
     /**
      * 
      */
     public String update(TextInfo textInfo) {
         errors = false;
+        tableResourceName = null;
+        tableData = null;
         
         // parse content of source file
         ConfigParser configParser = new ConfigParser();
@@ -109,6 +136,18 @@ final class Updater {
         // compute DFA based on the data of the source file
         AutomatonCompiler<MethodInfo> compiler = new AutomatonCompiler<>();
         compiler.setErrorHandler(new RuleListCompilerErrorHandler(errorHandler,config));
+        compiler.setMaxCharacter(config.getOptions().getCharacterMode().getMaxCharacter());
+        
+        // Note: The byte input modes decode the UTF-8 input to code points and
+        // thus only ASCII characters have a length of one unit.
+        if (config.getOptions().getInputMode().isByteMode()) {
+            compiler.setMaxCharacter(CharacterMode.CODE_POINT.getMaxCharacter());
+            compiler.setMaxSingleUnitCharacter(0x7f);
+        }
+        
+        else {
+            compiler.setMaxSingleUnitCharacter(Character.MAX_VALUE);
+        }
         
         Automaton<MethodInfo> automaton = compiler.compile(config.getRuleList());
         errors |= compiler.hasErrors();
@@ -130,7 +169,7 @@ final class Updater {
         }
         
         // compute scanner code
-        AutomatonInfo automatonInfo = new AutomatonInfo(automaton);
+        AutomatonInfo automatonInfo = new AutomatonInfo(automaton,config.getOptions());
         Span indentationSpan = determineIndentationSpan(config);
         int indentationSize = 4;
         boolean indentationWithTabs = StringToolkit.containsOnly(textInfo
@@ -144,6 +183,9 @@ final class Updater {
         
         String scannerCode = generator.generate(config,automatonInfo);
         
+        tableResourceName = generator.getTableResourceName();
+        tableData = automatonInfo.getTableData();
+        
         // compute new content of source code file
         Section codeArea = config.getCodeArea();
         Span codeAreaStart = codeArea.getStart();
@@ -5,23 +5,121 @@
  */
 package org.annoflex.app.codegen;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.zip.CRC32;
 
+import org.annoflex.app.dom.BufferStrategy;
+import org.annoflex.app.dom.CharacterMapLayout;
+import org.annoflex.app.dom.CharacterMode;
+import org.annoflex.app.dom.CodeStyle;
+import org.annoflex.app.dom.InputMode;
 import org.annoflex.app.dom.MethodInfo;
+import org.annoflex.app.dom.Options;
+import org.annoflex.app.dom.RunLoopType;
+import org.annoflex.app.dom.TableStorage;
+import org.annoflex.app.dom.TransitionTableLayout;
+import org.annoflex.regex.Condition;
 import org.annoflex.regex.automaton.Action;
 import org.annoflex.regex.automaton.ActionPool;
+import org.annoflex.regex.automaton.Alphabet;
 import org.annoflex.regex.automaton.Automaton;
 import org.annoflex.regex.automaton.DFA;
 import org.annoflex.regex.automaton.DFAList;
 import org.annoflex.regex.automaton.DFAState;
 import org.annoflex.regex.automaton.NameMap;
+import org.annoflex.regex.automaton.Rule;
 import org.annoflex.util.SystemToolkit;
+import org.annoflex.util.integer.ConstIntRangeSet;
 
 /**
  * @author Stefan Czaska
  */
 public class AutomatonInfo {
     
+    //===========
+    // Constants
+    //===========
+    
+    /**
+     * 
+     */
+    public static final int CHARACTER_PAGE_SHIFT = 8;
+    
+    /**
+     * 
+     */
+    public static final int CHARACTER_PAGE_SIZE = 1 << CHARACTER_PAGE_SHIFT;
+    
+    /**
+     * 
+     */
+    public static final int ASCII_ROW_SHIFT = 7;
+    
+    /**
+     * 
+     */
+    public static final int ASCII_ROW_SIZE = 1 << ASCII_ROW_SHIFT;
+    
+    /**
+     * 
+     */
+    private static final int MAX_DEFAULT_CANDIDATE_COUNT = 256;
+    
+    /**
+     * 
+     */
+    private static final int MAX_DEFAULT_DEPTH = 4;
+    
+    /**
+     * 
+     */
+    public static final char SENTINEL_CHARACTER = '\uffff';
+    
+    /**
+     * 
+     */
+    private static final int MAX_RUN_RANGE_COUNT = 4;
+    
+    /**
+     * 
+     */
+    public static final int UNBOUNDED_BACKTRACK = -1;
+    
+    /**
+     * The magic number at the start of a table resource ("AFTB").
+     */
+    public static final int TABLE_DATA_MAGIC = 0x41465442;
+    
+    /**
+     * 
+     */
+    public static final int MAX_RANGE_TREE_SIZE = 3000;
+    
+    /**
+     * 
+     */
+    private static final int MAX_DIRECT_CODE_SIZE = 6000;
+    
+    /**
+     * 
+     */
+    private static final int COMPARISON_SIZE = 8;
+    
+    /**
+     * 
+     */
+    private static final int LEAF_SIZE = 8;
+    
+    /**
+     * 
+     */
+    private static final int CASE_SIZE = 8;
+    
     //=================
     // Alphabet Fields
     //=================
@@ -31,6 +129,16 @@ public class AutomatonInfo {
      */
     private final int alphabetLength;
     
+    /**
+     * 
+     */
+    private final int sentinelSymbol;
+    
+    /**
+     * 
+     */
+    private int sentinelCharacterSymbol = -1;
+    
     /**
      * 
      */
@@ -46,6 +154,26 @@ public class AutomatonInfo {
      */
     private int characterMapLastValue;
     
+    /**
+     * 
+     */
+    private boolean isPagedCharacterMap;
+    
+    /**
+     * 
+     */
+    private String characterPageTableString;
+    
+    /**
+     * 
+     */
+    private int characterPageTableSize;
+    
+    /**
+     * 
+     */
+    private int characterPageCount;
+    
     //==============
     // State Fields
     //==============
@@ -75,11 +203,96 @@ public class AutomatonInfo {
      */
     private int[] startStateList;
     
+    /**
+     * 
+     */
+    private int[] terminalStateList;
+    
+    /**
+     * 
+     */
+    private boolean hasAcceptingStartStates;
+    
     /**
      * 
      */
     private String transitionTableString;
     
+    /**
+     * 
+     */
+    private TransitionTableLayout transitionTableLayout;
+    
+    /**
+     * 
+     */
+    private int stateStride = 1;
+    
+    /**
+     * 
+     */
+    private int maxStateNumber;
+    
+    /**
+     * 
+     */
+    private String transitionBaseString;
+    
+    /**
+     * 
+     */
+    private String transitionDefaultString;
+    
+    /**
+     * 
+     */
+    private String transitionNextString;
+    
+    /**
+     * 
+     */
+    private String transitionCheckString;
+    
+    /**
+     * 
+     */
+    private int transitionNextSize;
+    
+    /**
+     * 
+     */
+    private int maxTransitionBase;
+    
+    /**
+     * 
+     */
+    private boolean isAsciiTransitionTable;
+    
+    /**
+     * 
+     */
+    private String asciiTransitionTableString;
+    
+    /**
+     * 
+     */
+    private boolean isDirectCoded;
+    
+    /**
+     * 
+     */
+    private int[][] stateRangeList;
+    
+    /**
+     * 
+     */
+    private int[] runStateList;
+    
+    /**
+     * 
+     */
+    private int[][] runRangeList;
+    
     //===============
     // Action Fields
     //===============
@@ -124,6 +337,84 @@ public class AutomatonInfo {
      */
     private boolean hasVariableLookaheads;
     
+    //==================
+    // Backtrack Fields
+    //==================
+    
+    /**
+     * 
+     */
+    private int maxBacktrackLength;
+    
+    /**
+     * 
+     */
+    private String[] backtrackRuleList;
+    
+    /**
+     * 
+     */
+    private int[] backtrackLengthList;
+    
+    /**
+     * 
+     */
+    private String[] backtrackExampleList;
+    
+    //==============
+    // Table Fields
+    //==============
+    
+    /**
+     * 
+     */
+    private byte[] tableData;
+    
+    /**
+     * 
+     */
+    private int tableDataLength;
+    
+    /**
+     * 
+     */
+    private int tableDataChecksum;
+    
+    /**
+     * 
+     */
+    private int[] dfaFirstStateList;
+    
+    /**
+     * 
+     */
+    private int[] dfaStateCountList;
+    
+    /**
+     * 
+     */
+    private boolean[] lazyDFAList;
+    
+    /**
+     * 
+     */
+    private boolean[] lazyStateList;
+    
+    /**
+     * 
+     */
+    private String[] transitionTableSegmentList;
+    
+    /**
+     * 
+     */
+    private String[] asciiTransitionTableSegmentList;
+    
+    /**
+     * 
+     */
+    private String[] actionMapSegmentList;
+    
     //==============
     // Constructors
     //==============
@@ -131,16 +422,40 @@ public class AutomatonInfo {
     /**
      * 
      */
-    public AutomatonInfo(Automaton<MethodInfo> automaton) {
-        alphabetLength = automaton.getAlphabet().getLength();
+    public AutomatonInfo(Automaton<MethodInfo> automaton, Options options) {
+        int automatonAlphabetLength = automaton.getAlphabet().getLength();
+        
         nameMap = automaton.getNameMap();
         actionPool = automaton.getActionPool();
+        isDirectCoded = options.getCodeStyle() == CodeStyle.DIRECT;
+        
+        computeActionProperties();
+        
+        // Note: The sentinel symbol is appended to the alphabet and has no
+        // transitions. It is assigned to the sentinel character, which marks
+        // the end of the available characters in the buffer of a reader.
+        if (isSentinelSupported(options)) {
+            sentinelSymbol = automatonAlphabetLength;
+            alphabetLength = automatonAlphabetLength + 1;
+        }
+        
+        else {
+            sentinelSymbol = -1;
+            alphabetLength = automatonAlphabetLength;
+        }
         
-        computeStateData(automaton);
-        computeCharacterData(automaton);
+        computeStateData(automaton,options);
+        computeCharacterData(automaton,options);
         computeActionReorderMap();
         computeActionMap();
-        computeActionProperties();
+        
+        if (options.getStatistics()) {
+            computeBacktrackData(automaton);
+        }
+        
+        if (options.getTableStorage() == TableStorage.RESOURCE) {
+            computeTableData();
+        }
     }
     
     //========================
@@ -150,37 +465,63 @@ public class AutomatonInfo {
     /**
      * 
      */
-    private void computeStateData(Automaton<MethodInfo> automaton) {
+    private void computeStateData(Automaton<MethodInfo> automaton,
+            Options options) {
+        
         DFAList<MethodInfo> dfaList = automaton.getDFAList();
         int dfaListSize = dfaList.size();
         int totalDFAStateCount = dfaList.getTotalStateCount();
         int[][] stateList = new int[totalDFAStateCount][];
         int[] actionIdList = new int[totalDFAStateCount];
         int[] startStateList = new int[dfaListSize];
+        int[] terminalStateList = new int[dfaListSize];
+        int[] dfaFirstStateList = new int[dfaListSize];
+        int[] dfaStateCountList = new int[dfaListSize];
         int stateCounter = 0;
         int stateIdBase = 0;
         
         for (int i=0;i<dfaListSize;i++) {
             DFA<MethodInfo> curDFA = dfaList.get(i);
             int stateCount = curDFA.getStateCount();
+            DFAState<MethodInfo>[] stateOrder = computeStateOrder(curDFA);
+            int[] stateNumbers = new int[stateCount];
+            
+            for (int j=0;j<stateCount;j++) {
+                stateNumbers[stateOrder[j].getId()] = j;
+            }
             
-            startStateList[i] = stateIdBase + curDFA.getStartState().getId();
+            startStateList[i] = stateIdBase + stateNumbers[curDFA.getStartState().getId()];
+            terminalStateList[i] = stateIdBase + stateCount;
+            dfaFirstStateList[i] = stateIdBase;
+            dfaStateCountList[i] = stateCount;
+            
+            if (curDFA.getStartState().getAction() != null) {
+                hasAcceptingStartStates = true;
+            }
             
             for (int j=0;j<stateCount;j++) {
-                DFAState<MethodInfo> curState = curDFA.getState(j);
+                DFAState<MethodInfo> curState = stateOrder[j];
                 
                 int[] transitions = new int[alphabetLength];
                 stateList[stateCounter] = transitions;
                 
                 for (int k=0;k<alphabetLength;k++) {
-                    DFAState<MethodInfo> destState = curState.getConditionalTransition(k);
+                    DFAState<MethodInfo> destState = k != sentinelSymbol ?
+                            curState.getConditionalTransition(k) : null;
                     
-                    transitions[k] = destState != null ? stateIdBase + destState.getId() : -1;
+                    transitions[k] = destState != null ? stateIdBase +
+                            stateNumbers[destState.getId()] : -1;
                 }
                 
                 Action<MethodInfo> stateAction = curState.getAction();
                 actionIdList[stateCounter] = stateAction != null ? stateAction.getId() : -1;
                 
+                if ((stateAction != null) && (curState != curDFA.getStartState()) &&
+                    isTerminalState(curState) && (terminalStateList[i] == stateIdBase + stateCount)) {
+                    
+                    terminalStateList[i] = stateCounter;
+                }
+                
                 stateCounter++;
             }
             
@@ -191,246 +532,1538 @@ public class AutomatonInfo {
         this.totalDFAStateCount = totalDFAStateCount;
         this.actionIdList = actionIdList;
         this.startStateList = startStateList;
+        this.terminalStateList = terminalStateList;
+        this.dfaFirstStateList = dfaFirstStateList;
+        this.dfaStateCountList = dfaStateCountList;
         
-        // create transition table string
-        StringBuilder builder = new StringBuilder();
+        if ((options.getRunLoops() != RunLoopType.DISABLED) &&
+            !options.getInputMode().isByteMode()) {
+            
+            computeRunData(automaton,options,stateList);
+        }
         
-        for (int i=0;i<stateList.length;i++) {
-            appendCompressedArray(stateList[i],getTransitionTableOffset(),builder);
+        // Note: Direct coded scanners do not use any transition table. Their
+        // transitions are inlined into the scan loop. Automatons whose inlined
+        // transitions would exceed the method size limit of the JIT compiler
+        // therefore fall back to the transition tables.
+        if (isDirectCoded) {
+            computeStateRangeData(automaton,stateList);
+            
+            if (estimateDirectCodeSize() * (options.getMemoization() ? 2 : 1) <=
+                MAX_DIRECT_CODE_SIZE) {
+                
+                transitionTableLayout = TransitionTableLayout.DENSE;
+                maxStateNumber = totalDFAStateCount - 1;
+                return;
+            }
+            
+            isDirectCoded = false;
+            stateRangeList = null;
+        }
+        
+        transitionTableLayout = options.getTransitionTableLayout();
+        
+        // Note: The check values of the comb layout and the premultiplied
+        // state numbers of the flat layout are stored in short arrays. Very
+        // large automatons therefore fall back to the dense layout.
+        if ((transitionTableLayout == TransitionTableLayout.COMB) &&
+            !computeCombTransitionData(stateList)) {
+            
+            transitionTableLayout = TransitionTableLayout.DENSE;
+        }
+        
+        if ((transitionTableLayout == TransitionTableLayout.FLAT) &&
+            ((totalDFAStateCount - 1) * alphabetLength >= Short.MAX_VALUE)) {
+            
+            transitionTableLayout = TransitionTableLayout.DENSE;
         }
         
-        transitionTableString = builder.toString();
+        // Note: The rows of the comb layout are interleaved and can therefore
+        // not be decoded separately for each lexical state.
+        if (options.getLazyTables() && (nameMap.size() > 1) &&
+            (transitionTableLayout != TransitionTableLayout.COMB) &&
+            (options.getTableStorage() == TableStorage.STRING)) {
+            
+            computeLazyStateData();
+        }
+        
+        // Note: The rows of the ASCII transition table are addressed by
+        // shifting the state number and thus require unmultiplied states.
+        if (options.getAsciiTransitionTable() &&
+            (transitionTableLayout != TransitionTableLayout.FLAT)) {
+            
+            computeAsciiTransitionData(automaton,stateList);
+        }
+        
+        // premultiply all state numbers with the row length of the flat
+        // transition table
+        if (transitionTableLayout == TransitionTableLayout.FLAT) {
+            stateStride = alphabetLength;
+            
+            for (int i=0;i<totalDFAStateCount;i++) {
+                int[] transitions = stateList[i];
+                
+                for (int j=0;j<alphabetLength;j++) {
+                    if (transitions[j] != -1) {
+                        transitions[j] *= stateStride;
+                    }
+                }
+            }
+            
+            for (int i=0;i<dfaListSize;i++) {
+                startStateList[i] *= stateStride;
+            }
+            
+            if (runStateList != null) {
+                for (int i=0;i<runStateList.length;i++) {
+                    runStateList[i] *= stateStride;
+                }
+            }
+        }
+        
+        maxStateNumber = (totalDFAStateCount - 1) * stateStride;
+        
+        if (transitionTableLayout != TransitionTableLayout.COMB) {
+            transitionTableString = createCompressedRows(stateList,
+                    getTransitionTableOffset());
+            transitionTableSegmentList = createCompressedSegments(stateList,
+                    getTransitionTableOffset());
+        }
+    }
+    
+    /**
+     * 
+     */
+    private void computeRunData(Automaton<MethodInfo> automaton, Options options,
+            int[][] stateList) {
+        
+        char[] symbolMap = automaton.getAlphabet().toSymbolMap();
+        int characterCount = Math.min(symbolMap.length,0x10000);
+        boolean isCodePointMode = options.getCharacterMode() == CharacterMode.CODE_POINT;
+        int[] stateBuffer = new int[stateList.length];
+        int[][] rangeBuffer = new int[stateList.length][];
+        int runStateCount = 0;
+        
+        for (int i=0;i<stateList.length;i++) {
+            int[] transitions = stateList[i];
+            boolean hasSelfLoop = false;
+            
+            for (int j=0;j<transitions.length;j++) {
+                if (transitions[j] == i) {
+                    hasSelfLoop = true;
+                    break;
+                }
+            }
+            
+            if (!hasSelfLoop) {
+                continue;
+            }
+            
+            // collect the character ranges which stay in the state
+            int[] ranges = new int[MAX_RUN_RANGE_COUNT*2];
+            int rangeCount = 0;
+            int rangeStart = -1;
+            
+            for (int j=0;j<=characterCount;j++) {
+                
+                // Note: Surrogates have to be decoded by the normal scan loop
+                // and the sentinel character has to stop each run.
+                boolean isLoop = (j < characterCount) && (transitions[symbolMap[j]] == i) &&
+                        !(isCodePointMode && Character.isSurrogate((char)j)) &&
+                        !((sentinelSymbol != -1) && (j == SENTINEL_CHARACTER));
+                
+                if (isLoop) {
+                    if (rangeStart == -1) {
+                        rangeStart = j;
+                    }
+                }
+                
+                else if (rangeStart != -1) {
+                    if (rangeCount == MAX_RUN_RANGE_COUNT) {
+                        rangeCount = -1;
+                        break;
+                    }
+                    
+                    ranges[rangeCount*2] = rangeStart;
+                    ranges[rangeCount*2+1] = j - 1;
+                    rangeCount++;
+                    rangeStart = -1;
+                }
+            }
+            
+            if (rangeCount > 0) {
+                stateBuffer[runStateCount] = i;
+                rangeBuffer[runStateCount] = Arrays.copyOf(ranges,rangeCount*2);
+                runStateCount++;
+            }
+        }
+        
+        if (runStateCount != 0) {
+            runStateList = Arrays.copyOf(stateBuffer,runStateCount);
+            runRangeList = Arrays.copyOf(rangeBuffer,runStateCount);
+        }
+    }
+    
+    /**
+     * 
+     */
+    @SuppressWarnings({"unchecked","rawtypes"})
+    private DFAState<MethodInfo>[] computeStateOrder(DFA<MethodInfo> dfa) {
+        int stateCount = dfa.getStateCount();
+        DFAState<MethodInfo>[] stateOrder = new DFAState[stateCount];
+        DFAState<MethodInfo> startState = dfa.getStartState();
+        int stateCounter = 0;
+        
+        // Note: The states are ordered in such a way that the non-accepting
+        // states are followed by the start state, the accepting states and
+        // the terminal states without any transition. Each of these groups
+        // can thus be recognized by comparing the state number.
+        for (int i=0;i<stateCount;i++) {
+            DFAState<MethodInfo> curState = dfa.getState(i);
+            
+            if ((curState != startState) && (curState.getAction() == null)) {
+                stateOrder[stateCounter++] = curState;
+            }
+        }
+        
+        stateOrder[stateCounter++] = startState;
+        
+        for (int i=0;i<stateCount;i++) {
+            DFAState<MethodInfo> curState = dfa.getState(i);
+            
+            if ((curState != startState) && (curState.getAction() != null) &&
+                !isTerminalState(curState)) {
+                
+                stateOrder[stateCounter++] = curState;
+            }
+        }
+        
+        for (int i=0;i<stateCount;i++) {
+            DFAState<MethodInfo> curState = dfa.getState(i);
+            
+            if ((curState != startState) && (curState.getAction() != null) &&
+                isTerminalState(curState)) {
+                
+                stateOrder[stateCounter++] = curState;
+            }
+        }
+        
+        return stateOrder;
+    }
+    
+    /**
+     * 
+     */
+    private boolean isTerminalState(DFAState<MethodInfo> state) {
+        for (int i=0;i<alphabetLength;i++) {
+            if ((i != sentinelSymbol) && (state.getConditionalTransition(i) != null)) {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
+    /**
+     * 
+     */
+    private boolean isSentinelSupported(Options options) {
+        BufferStrategy bufferStrategy = options.getBufferStrategy();
+        
+        // Note: The backward pass of a variable lookahead and the comb layout
+        // can not distinguish the sentinel character from the sentinel symbol.
+        return options.getSentinel() && !isDirectCoded && !hasVariableLookaheads &&
+               (options.getInputMode() == InputMode.READER) &&
+               ((bufferStrategy == BufferStrategy.CURRENT_MATCH) ||
+                (bufferStrategy == BufferStrategy.ALL_CHARACTERS)) &&
+               (options.getTransitionTableLayout() != TransitionTableLayout.COMB);
+    }
+    
+    /**
+     * 
+     */
+    private void computeLazyStateData() {
+        boolean[] lazyDFAList = new boolean[dfaFirstStateList.length];
+        boolean[] lazyStateList = new boolean[totalDFAStateCount];
+        String[] names = nameMap.getNames();
+        
+        // all lexical states except the initial one are decoded on first use
+        for (int i=0;i<names.length;i++) {
+            if (!names[i].equals(Condition.NAME_INITIAL)) {
+                int dfaIndex = nameMap.get(names[i]);
+                int firstState = dfaFirstStateList[dfaIndex];
+                
+                lazyDFAList[dfaIndex] = true;
+                Arrays.fill(lazyStateList,firstState,firstState+
+                        dfaStateCountList[dfaIndex],true);
+            }
+        }
+        
+        this.lazyDFAList = lazyDFAList;
+        this.lazyStateList = lazyStateList;
+    }
+    
+    /**
+     * 
+     */
+    private String createCompressedRows(int[][] rowList, int offset) {
+        StringBuilder builder = new StringBuilder();
+        int[] emptyRow = null;
+        
+        // Note: The rows of lazy states are replaced by empty rows which
+        // consist of a single run and are overwritten on first use.
+        for (int i=0;i<rowList.length;i++) {
+            int[] row = rowList[i];
+            
+            if ((lazyStateList != null) && lazyStateList[i]) {
+                if (emptyRow == null) {
+                    emptyRow = new int[row.length];
+                    Arrays.fill(emptyRow,-1);
+                }
+                
+                row = emptyRow;
+            }
+            
+            appendCompressedArray(row,offset,builder);
+        }
+        
+        return builder.toString();
+    }
+    
+    /**
+     * 
+     */
+    private String[] createCompressedSegments(int[][] rowList, int offset) {
+        if (lazyDFAList == null) {
+            return null;
+        }
+        
+        String[] segmentList = new String[lazyDFAList.length];
+        
+        for (int i=0;i<lazyDFAList.length;i++) {
+            if (lazyDFAList[i]) {
+                StringBuilder builder = new StringBuilder();
+                int firstState = dfaFirstStateList[i];
+                int lastState = firstState + dfaStateCountList[i];
+                
+                for (int j=firstState;j<lastState;j++) {
+                    appendCompressedArray(rowList[j],offset,builder);
+                }
+                
+                segmentList[i] = builder.toString();
+            }
+        }
+        
+        return segmentList;
+    }
+    
+    /**
+     * 
+     */
+    private boolean computeCombTransitionData(int[][] stateList) {
+        int stateCount = stateList.length;
+        int[] baseList = new int[stateCount];
+        int[] defaultList = new int[stateCount];
+        int[] depthList = new int[stateCount];
+        int[] rowStateList = new int[stateCount];
+        int rowCount = 0;
+        HashMap<String,Integer> rowStateMap = new HashMap<>();
+        int[] nextList = new int[0];
+        int[] checkList = new int[0];
+        int[] entryList = new int[alphabetLength];
+        boolean[] usedBaseList = new boolean[0];
+        int firstFreeIndex = 0;
+        int maxBase = 0;
+        
+        for (int i=0;i<stateCount;i++) {
+            int[] transitions = stateList[i];
+            
+            // states with identical rows share their base and default
+            String rowKey = appendCompressedArray(transitions,0,
+                    new StringBuilder()).toString();
+            Integer rowState = rowStateMap.get(rowKey);
+            
+            if (rowState != null) {
+                baseList[i] = baseList[rowState];
+                defaultList[i] = defaultList[rowState];
+                continue;
+            }
+            
+            rowStateMap.put(rowKey,i);
+            
+            // choose the default state which leaves the fewest entries
+            int defaultState = -1;
+            int entryCount = countDifferences(transitions,null);
+            int minRow = Math.max(rowCount-MAX_DEFAULT_CANDIDATE_COUNT,0);
+            
+            for (int j=rowCount-1;j>=minRow;j--) {
+                int candidate = rowStateList[j];
+                
+                if (depthList[candidate] < MAX_DEFAULT_DEPTH) {
+                    int candidateEntryCount = countDifferences(transitions,
+                            stateList[candidate]);
+                    
+                    if (candidateEntryCount < entryCount) {
+                        defaultState = candidate;
+                        entryCount = candidateEntryCount;
+                    }
+                }
+            }
+            
+            rowStateList[rowCount++] = i;
+            defaultList[i] = defaultState;
+            depthList[i] = defaultState != -1 ? depthList[defaultState] + 1 : 0;
+            
+            // collect the entries which differ from the default state
+            int[] defaultTransitions = defaultState != -1 ?
+                    stateList[defaultState] : null;
+            
+            for (int k=0,j=0;k<alphabetLength;k++) {
+                int defaultValue = defaultTransitions != null ?
+                        defaultTransitions[k] : -1;
+                
+                if (transitions[k] != defaultValue) {
+                    entryList[j++] = k;
+                }
+            }
+            
+            // find the first unique base at which all entries fit
+            int base = entryCount > 0 ? Math.max(firstFreeIndex-entryList[0],0) : 0;
+            
+            while (true) {
+                int requiredSize = base + alphabetLength;
+                
+                if (requiredSize > nextList.length) {
+                    int newSize = Math.max(requiredSize,nextList.length*2);
+                    int oldSize = nextList.length;
+                    
+                    nextList = Arrays.copyOf(nextList,newSize);
+                    checkList = Arrays.copyOf(checkList,newSize);
+                    usedBaseList = Arrays.copyOf(usedBaseList,newSize);
+                    Arrays.fill(nextList,oldSize,newSize,-1);
+                    Arrays.fill(checkList,oldSize,newSize,-1);
+                }
+                
+                boolean fits = !usedBaseList[base];
+                
+                for (int j=0;fits&&(j<entryCount);j++) {
+                    fits = checkList[base+entryList[j]] == -1;
+                }
+                
+                if (fits) {
+                    break;
+                }
+                
+                base++;
+            }
+            
+            for (int j=0;j<entryCount;j++) {
+                int index = base + entryList[j];
+                
+                nextList[index] = transitions[entryList[j]];
+                checkList[index] = base;
+            }
+            
+            while ((firstFreeIndex < checkList.length) &&
+                   (checkList[firstFreeIndex] != -1)) {
+                
+                firstFreeIndex++;
+            }
+            
+            usedBaseList[base] = true;
+            baseList[i] = base;
+            maxBase = Math.max(maxBase,base);
+            
+            if (maxBase >= Short.MAX_VALUE) {
+                return false;
+            }
+        }
+        
+        int nextSize = maxBase + alphabetLength;
+        
+        this.maxTransitionBase = maxBase;
+        this.transitionNextSize = nextSize;
+        transitionBaseString = appendCompressedArray(baseList,
+                getTransitionBaseOffset(),new StringBuilder()).toString();
+        transitionDefaultString = appendCompressedArray(defaultList,
+                getTransitionTableOffset(),new StringBuilder()).toString();
+        transitionNextString = appendCompressedArray(Arrays.copyOf(nextList,
+                nextSize),getTransitionTableOffset(),new StringBuilder()).toString();
+        transitionCheckString = appendCompressedArray(Arrays.copyOf(checkList,
+                nextSize),getTransitionCheckOffset(),new StringBuilder()).toString();
+        
+        return true;
+    }
+    
+    /**
+     * 
+     */
+    private void computeAsciiTransitionData(Automaton<MethodInfo> automaton,
+            int[][] stateList) {
+        
+        char[] symbolMap = automaton.getAlphabet().toSymbolMap();
+        int[][] rowList = new int[stateList.length][ASCII_ROW_SIZE];
+        
+        // resolve the character map for all ASCII characters in advance
+        for (int i=0;i<stateList.length;i++) {
+            int[] transitions = stateList[i];
+            int[] row = rowList[i];
+            
+            for (int j=0;j<ASCII_ROW_SIZE;j++) {
+                row[j] = transitions[symbolMap[j]];
+            }
+        }
+        
+        isAsciiTransitionTable = true;
+        asciiTransitionTableString = createCompressedRows(rowList,
+                getTransitionTableOffset());
+        asciiTransitionTableSegmentList = createCompressedSegments(rowList,
+                getTransitionTableOffset());
+    }
+    
+    /**
+     * 
+     */
+    private void computeStateRangeData(Automaton<MethodInfo> automaton,
+            int[][] stateList) {
+        
+        char[] symbolMap = automaton.getAlphabet().toSymbolMap();
+        int[] runStartList = new int[16];
+        int[] runSymbolList = new int[16];
+        int runCount = 0;
+        
+        // determine the character runs which map to the same symbol
+        for (int i=0;i<symbolMap.length;i++) {
+            if ((i == 0) || (symbolMap[i] != symbolMap[i-1])) {
+                if (runCount == runStartList.length) {
+                    runStartList = Arrays.copyOf(runStartList,runCount*2);
+                    runSymbolList = Arrays.copyOf(runSymbolList,runCount*2);
+                }
+                
+                runStartList[runCount] = i;
+                runSymbolList[runCount] = symbolMap[i];
+                runCount++;
+            }
+        }
+        
+        // merge all adjacent runs with the same destination state
+        int[][] stateRangeList = new int[stateList.length][];
+        int[] rangeList = new int[runCount*2];
+        
+        for (int i=0;i<stateList.length;i++) {
+            int[] transitions = stateList[i];
+            int rangeCount = 0;
+            
+            for (int j=0;j<runCount;j++) {
+                int destState = transitions[runSymbolList[j]];
+                
+                if ((j == 0) || (destState != rangeList[rangeCount*2-1])) {
+                    rangeList[rangeCount*2] = runStartList[j];
+                    rangeList[rangeCount*2+1] = destState;
+                    rangeCount++;
+                }
+            }
+            
+            stateRangeList[i] = Arrays.copyOf(rangeList,rangeCount*2);
+        }
+        
+        this.stateRangeList = stateRangeList;
+    }
+    
+    /**
+     * 
+     */
+    private int countDifferences(int[] transitions, int[] defaultTransitions) {
+        int count = 0;
+        
+        for (int i=0;i<alphabetLength;i++) {
+            int defaultValue = defaultTransitions != null ?
+                    defaultTransitions[i] : -1;
+            
+            if (transitions[i] != defaultValue) {
+                count++;
+            }
+        }
+        
+        return count;
+    }
+    
+    /**
+     * 
+     */
+    private void computeCharacterData(Automaton<MethodInfo> automaton,
+            Options options) {
+        
+        if (isDirectCoded) {
+            return;
+        }
+        
+        char[] symbolMap = automaton.getAlphabet().toSymbolMap();
+        
+        if (sentinelSymbol != -1) {
+            sentinelCharacterSymbol = symbolMap[SENTINEL_CHARACTER];
+            symbolMap[SENTINEL_CHARACTER] = (char)sentinelSymbol;
+        }
+        
+        // code points beyond the BMP always require a two-level character map
+        if ((symbolMap.length > 0x10000) || (options.getCharacterMapLayout() ==
+                CharacterMapLayout.PAGED)) {
+            
+            computePagedCharacterData(symbolMap);
+            return;
+        }
+        
+        char[] compressedSymbolMap = compress(symbolMap,getCharacterMapOffset());
+        
+        // enable last counter removal optimization if at least one page of
+        // memory can be saved
+        int characterMapSize = 65536;
+        int characterMapLastValue = -1;
+        int lastCharacterCounter = compressedSymbolMap[compressedSymbolMap.length-1];
+        int charactersPerPage = SystemToolkit.SIZE_OF_MEMORY_PAGE / getCharacterMapElementSize();
+        
+        if (lastCharacterCounter >= charactersPerPage) {
+            characterMapSize -= lastCharacterCounter;
+            characterMapLastValue = compressedSymbolMap[compressedSymbolMap.length-2];
+            compressedSymbolMap = Arrays.copyOf(compressedSymbolMap,compressedSymbolMap.length-2);
+        }
+        
+        this.characterMapSize = characterMapSize;
+        this.characterMapLastValue = characterMapLastValue;
+        characterMapString = new String(compressedSymbolMap);
+    }
+    
+    /**
+     * 
+     */
+    private void computePagedCharacterData(char[] symbolMap) {
+        int pageTableSize = (symbolMap.length + CHARACTER_PAGE_SIZE - 1) >>
+                CHARACTER_PAGE_SHIFT;
+        int[] pageTable = new int[pageTableSize];
+        HashMap<String,Integer> pageNumberMap = new HashMap<>();
+        StringBuilder pageList = new StringBuilder();
+        
+        // store each distinct page only once
+        for (int i=0;i<pageTableSize;i++) {
+            int pageStart = i << CHARACTER_PAGE_SHIFT;
+            char[] page = Arrays.copyOfRange(symbolMap,pageStart,
+                    pageStart+CHARACTER_PAGE_SIZE);
+            String pageKey = new String(page);
+            Integer pageNumber = pageNumberMap.get(pageKey);
+            
+            if (pageNumber == null) {
+                pageNumber = pageNumberMap.size();
+                pageNumberMap.put(pageKey,pageNumber);
+                pageList.append(page);
+            }
+            
+            pageTable[i] = pageNumber;
+        }
+        
+        char[] pages = new char[pageList.length()];
+        pageList.getChars(0,pages.length,pages,0);
+        
+        this.isPagedCharacterMap = true;
+        this.characterMapSize = pages.length;
+        this.characterMapLastValue = -1;
+        this.characterPageTableSize = pageTableSize;
+        this.characterPageCount = pageNumberMap.size();
+        characterMapString = new String(compress(pages,getCharacterMapOffset()));
+        characterPageTableString = appendCompressedArray(pageTable,
+                getCharacterPageTableOffset(),new StringBuilder()).toString();
+    }
+    
+    /**
+     * 
+     */
+    private void computeActionReorderMap() {
+        int actionCount = actionPool.size();
+        int[] actionReorderMap = new int[actionCount];
+        int lastId = actionCount - 1;
+        
+        for (int i=0,j=0;i<actionCount;i++) {
+            
+            // Note: Move all forward and backward pass actions to the end of
+            // the list in order to have continuous action numbers for all
+            // "visible" actions in the action switch.
+            switch(actionPool.get(i).getLookaheadType()) {
+            case Action.LOOKAHEAD_FORWARD_PASS:
+            case Action.LOOKAHEAD_BACKWARD_PASS:
+                actionReorderMap[i] = lastId--;
+                break;
+            
+            default:
+                actionReorderMap[i] = j++;
+            }
+        }
+        
+        this.actionReorderMap = actionReorderMap;
+    }
+    
+    /**
+     * 
+     */
+    private void computeActionMap() {
+        int[] map = new int[maxStateNumber+1];
+        
+        Arrays.fill(map,-1);
+        
+        for (int i=0;i<totalDFAStateCount;i++) {
+            int actionId = getStateActionId(i);
+            
+            map[i*stateStride] = actionId != -1 ? actionReorderMap[actionId] : -1;
+        }
+        
+        if (lazyDFAList != null) {
+            actionMapSegmentList = new String[lazyDFAList.length];
+            
+            for (int i=0;i<lazyDFAList.length;i++) {
+                if (lazyDFAList[i]) {
+                    int start = dfaFirstStateList[i] * stateStride;
+                    int end = (dfaFirstStateList[i] + dfaStateCountList[i] - 1) *
+                            stateStride + 1;
+                    
+                    actionMapSegmentList[i] = appendCompressedArray(Arrays.copyOfRange(
+                            map,start,end),getActionMapOffset(),new StringBuilder()).toString();
+                    Arrays.fill(map,start,end,-1);
+                }
+            }
+        }
+        
+        actionMapSize = map.length;
+        actionMapString = appendCompressedArray(map,getActionMapOffset(),
+                new StringBuilder()).toString();
+    }
+    
+    /**
+     * 
+     */
+    private void computeActionProperties() {
+        int actionCount = actionPool.size();
+        
+        for (int i=0;i<actionCount;i++) {
+            switch(actionPool.get(i).getLookaheadType()) {
+            case Action.LOOKAHEAD_NONE:
+                hasNormalActions = true;
+                break;
+            
+            case Action.LOOKAHEAD_FIX_CONDITION:
+                hasFixConditionLookaheads = true;
+                break;
+            
+            case Action.LOOKAHEAD_FIX_CONTENT:
+                hasFixContentLookaheads = true;
+                break;
+            
+            case Action.LOOKAHEAD_VARIABLE:
+                hasVariableLookaheads = true;
+                break;
+            }
+        }
+    }
+    
+    /**
+     * 
+     */
+    private void computeBacktrackData(Automaton<MethodInfo> automaton) {
+        DFAList<MethodInfo> dfaList = automaton.getDFAList();
+        Alphabet alphabet = automaton.getAlphabet();
+        HashMap<Rule<MethodInfo>,Integer> lengthMap = new HashMap<>();
+        HashMap<Rule<MethodInfo>,String> exampleMap = new HashMap<>();
+        String[] names = nameMap.getNames();
+        
+        // Note: Only the DFAs of the lexical states are scanned with the
+        // longest match strategy. The DFAs of the variable lookaheads are
+        // limited to the text of the current match.
+        for (int i=0;i<names.length;i++) {
+            DFA<MethodInfo> curDFA = dfaList.get(nameMap.get(names[i]));
+            int stateCount = curDFA.getStateCount();
+            int[] depthList = new int[stateCount];
+            int[] nextSymbolList = new int[stateCount];
+            String[] prefixList = computeShortestPrefixes(curDFA,alphabet);
+            
+            for (int j=0;j<stateCount;j++) {
+                DFAState<MethodInfo> curState = curDFA.getState(j);
+                Action<MethodInfo> curAction = curState.getAction();
+                
+                if ((curAction == null) || (prefixList[j] == null)) {
+                    continue;
+                }
+                
+                // determine the longest path through non-accepting states
+                // which starts after the accepting state
+                int length = 0;
+                int firstSymbol = -1;
+                
+                for (int k=0;k<alphabet.getLength();k++) {
+                    DFAState<MethodInfo> destState = curState.getConditionalTransition(k);
+                    
+                    if ((destState != null) && (destState.getAction() == null)) {
+                        int depth = computeBacktrackDepth(curDFA,destState,
+                                depthList,nextSymbolList,alphabet);
+                        
+                        if ((depth == UNBOUNDED_BACKTRACK) || (depth > length)) {
+                            length = depth;
+                            firstSymbol = k;
+                            
+                            if (depth == UNBOUNDED_BACKTRACK) {
+                                break;
+                            }
+                        }
+                    }
+                }
+                
+                Rule<MethodInfo> rule = curAction.getOwnerRule();
+                Integer oldLength = lengthMap.get(rule);
+                
+                if ((oldLength == null) || ((oldLength != UNBOUNDED_BACKTRACK) &&
+                    ((length == UNBOUNDED_BACKTRACK) || (length > oldLength)))) {
+                    
+                    lengthMap.put(rule,length);
+                    exampleMap.put(rule,createBacktrackExample(prefixList[j],
+                            curState,firstSymbol,nextSymbolList,alphabet));
+                }
+            }
+        }
+        
+        // collect the rules which require backtracking in the order of
+        // their actions
+        int actionCount = actionPool.size();
+        String[] ruleList = new String[actionCount];
+        int[] lengthList = new int[actionCount];
+        String[] exampleList = new String[actionCount];
+        int ruleCount = 0;
+        
+        for (int i=0;i<actionCount;i++) {
+            Rule<MethodInfo> rule = actionPool.get(i).getOwnerRule();
+            Integer length = lengthMap.remove(rule);
+            
+            if ((length == null) || (length == 0)) {
+                continue;
+            }
+            
+            if ((length == UNBOUNDED_BACKTRACK) || (maxBacktrackLength == UNBOUNDED_BACKTRACK)) {
+                maxBacktrackLength = UNBOUNDED_BACKTRACK;
+            }
+            
+            else {
+                maxBacktrackLength = Math.max(maxBacktrackLength,length);
+            }
+            
+            ruleList[ruleCount] = rule.getAction().getName();
+            lengthList[ruleCount] = length;
+            exampleList[ruleCount] = exampleMap.get(rule);
+            ruleCount++;
+        }
+        
+        backtrackRuleList = Arrays.copyOf(ruleList,ruleCount);
+        backtrackLengthList = Arrays.copyOf(lengthList,ruleCount);
+        backtrackExampleList = Arrays.copyOf(exampleList,ruleCount);
+    }
+    
+    /**
+     * 
+     */
+    @SuppressWarnings({"unchecked","rawtypes"})
+    private String[] computeShortestPrefixes(DFA<MethodInfo> dfa,
+            Alphabet alphabet) {
+        
+        int stateCount = dfa.getStateCount();
+        String[] prefixList = new String[stateCount];
+        DFAState<MethodInfo>[] queue = new DFAState[stateCount];
+        int queueStart = 0;
+        int queueEnd = 0;
+        
+        DFAState<MethodInfo> startState = dfa.getStartState();
+        prefixList[startState.getId()] = "";
+        queue[queueEnd++] = startState;
+        
+        while (queueStart < queueEnd) {
+            DFAState<MethodInfo> curState = queue[queueStart++];
+            String curPrefix = prefixList[curState.getId()];
+            
+            for (int i=0;i<alphabet.getLength();i++) {
+                DFAState<MethodInfo> destState = curState.getConditionalTransition(i);
+                
+                if ((destState != null) && (prefixList[destState.getId()] == null)) {
+                    prefixList[destState.getId()] = appendExampleCharacter(
+                            new StringBuilder(curPrefix),i,alphabet).toString();
+                    queue[queueEnd++] = destState;
+                }
+            }
+        }
+        
+        return prefixList;
+    }
+    
+    /**
+     * 
+     */
+    private int computeBacktrackDepth(DFA<MethodInfo> dfa, DFAState<MethodInfo> state,
+            int[] depthList, int[] nextSymbolList, Alphabet alphabet) {
+        
+        // Note: The depth list contains the number of non-accepting states
+        // plus one. The value zero marks unvisited states and the value
+        // minus one marks states on the current path or states which lead
+        // into a cycle of non-accepting states.
+        int depth = depthList[state.getId()];
+        
+        if (depth != 0) {
+            return depth != UNBOUNDED_BACKTRACK ? depth - 1 : UNBOUNDED_BACKTRACK;
+        }
+        
+        // Note: The path is followed with an explicit stack, because it may be
+        // as long as the number of states. Each entry consists of the state
+        // id, the next symbol to be examined and the maximum depth of the
+        // examined successors.
+        int alphabetLength = alphabet.getLength();
+        int[] stack = new int[48];
+        int stackSize = 0;
+        int enterId = state.getId();
+        
+        while (true) {
+            // enter an unvisited state
+            if (enterId != -1) {
+                if (stackSize == stack.length) {
+                    stack = Arrays.copyOf(stack,stackSize*2);
+                }
+                
+                depthList[enterId] = UNBOUNDED_BACKTRACK;
+                nextSymbolList[enterId] = -1;
+                stack[stackSize++] = enterId;
+                stack[stackSize++] = 0;
+                stack[stackSize++] = 0;
+                enterId = -1;
+            }
+            
+            int top = stackSize - 3;
+            int stateId = stack[top];
+            int symbol = stack[top+1];
+            int destDepth;
+            
+            // examine the next transition
+            if (symbol < alphabetLength) {
+                DFAState<MethodInfo> curState = dfa.getState(stateId);
+                DFAState<MethodInfo> destState = curState.getConditionalTransition(symbol);
+                
+                stack[top+1] = symbol + 1;
+                
+                if ((destState == null) || (destState.getAction() != null)) {
+                    continue;
+                }
+                
+                destDepth = depthList[destState.getId()];
+                
+                if (destDepth == 0) {
+                    enterId = destState.getId();
+                    continue;
+                }
+                
+                if (destDepth != UNBOUNDED_BACKTRACK) {
+                    destDepth--;
+                }
+            }
+            
+            // or leave the state and pass its depth to the predecessor
+            else {
+                int maxDepth = stack[top+2];
+                
+                depthList[stateId] = maxDepth + 2;
+                stackSize = top;
+                
+                if (stackSize == 0) {
+                    return maxDepth + 1;
+                }
+                
+                top = stackSize - 3;
+                stateId = stack[top];
+                symbol = stack[top+1] - 1;
+                destDepth = maxDepth + 1;
+            }
+            
+            // a cycle makes all states on the path unbounded
+            if (destDepth == UNBOUNDED_BACKTRACK) {
+                for (int i=0;i<stackSize;i+=3) {
+                    nextSymbolList[stack[i]] = stack[i+1] - 1;
+                }
+                
+                return UNBOUNDED_BACKTRACK;
+            }
+            
+            if (destDepth > stack[top+2]) {
+                stack[top+2] = destDepth;
+                nextSymbolList[stateId] = symbol;
+            }
+        }
+    }
+    
+    /**
+     * 
+     */
+    private String createBacktrackExample(String prefix, DFAState<MethodInfo> state,
+            int symbol, int[] nextSymbolList, Alphabet alphabet) {
+        
+        StringBuilder builder = new StringBuilder(prefix);
+        boolean[] visitedList = new boolean[nextSymbolList.length];
+        
+        // follow the longest path until it ends or completes a cycle
+        while (symbol != -1) {
+            appendExampleCharacter(builder,symbol,alphabet);
+            
+            state = state.getConditionalTransition(symbol);
+            
+            if (visitedList[state.getId()]) {
+                break;
+            }
+            
+            visitedList[state.getId()] = true;
+            symbol = nextSymbolList[state.getId()];
+        }
+        
+        return builder.toString();
+    }
+    
+    /**
+     * 
+     */
+    private StringBuilder appendExampleCharacter(StringBuilder builder,
+            int symbol, Alphabet alphabet) {
+        
+        ConstIntRangeSet charClass = alphabet.getCharClass(symbol);
+        int character = charClass.getStart(0);
+        
+        // Note: Printable ASCII characters are preferred in order to get a
+        // readable example.
+        for (int i=0;i<charClass.size();i++) {
+            if ((charClass.getStart(i) <= 0x7e) && (charClass.getEnd(i) >= 0x21)) {
+                character = Math.max(charClass.getStart(i),0x21);
+                break;
+            }
+        }
+        
+        return builder.appendCodePoint(character);
+    }
+    
+    /**
+     * 
+     */
+    private void computeTableData() {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        
+        // Note: The order of the tables has to correspond to the order in
+        // which the scanner reads them from the table resource.
+        if (!isDirectCoded) {
+            if (isPagedCharacterMap) {
+                appendTableData(characterPageTableString,isSmallCharacterPageTable(),
+                        getCharacterPageTableOffset(),stream);
+            }
+            
+            appendTableData(characterMapString,isSmallCharacterMap(),
+                    getCharacterMapOffset(),stream);
+            
+            if (isCombTransitionTable()) {
+                appendTableData(transitionBaseString,isSmallTransitionBase(),
+                        getTransitionBaseOffset(),stream);
+                appendTableData(transitionDefaultString,isSmallTransitionTable(),
+                        getTransitionTableOffset(),stream);
+                appendTableData(transitionNextString,isSmallTransitionTable(),
+                        getTransitionTableOffset(),stream);
+                appendTableData(transitionCheckString,isSmallTransitionCheck(),
+                        getTransitionCheckOffset(),stream);
+            }
+            
+            else {
+                appendTableData(transitionTableString,isSmallTransitionTable(),
+                        getTransitionTableOffset(),stream);
+            }
+            
+            if (isAsciiTransitionTable) {
+                appendTableData(asciiTransitionTableString,isSmallTransitionTable(),
+                        getTransitionTableOffset(),stream);
+            }
+        }
+        
+        appendTableData(actionMapString,isSmallActionMap(),getActionMapOffset(),stream);
+        
+        byte[] data = stream.toByteArray();
+        CRC32 checksum = new CRC32();
+        
+        checksum.update(data,0,data.length);
+        tableDataLength = data.length;
+        tableDataChecksum = (int)checksum.getValue();
+        
+        // Note: The header consists of a magic number and of the length and
+        // the checksum of the tables. The scanner compares it with the values
+        // of its own tables in order to reject a stale or foreign resource.
+        ByteArrayOutputStream resourceStream = new ByteArrayOutputStream();
+        
+        try (DataOutputStream dataStream = new DataOutputStream(resourceStream)) {
+            dataStream.writeInt(TABLE_DATA_MAGIC);
+            dataStream.writeInt(tableDataLength);
+            dataStream.writeInt(tableDataChecksum);
+            dataStream.write(data);
+        }
+        
+        catch(IOException e) {
+            throw new IllegalStateException(e);
+        }
+        
+        tableData = resourceStream.toByteArray();
+    }
+    
+    /**
+     * 
+     */
+    private void appendTableData(String compressedArray, boolean isByteArray,
+            int offset, ByteArrayOutputStream stream) {
+        
+        int length = compressedArray.length();
+        
+        // decompress the array and store each value in big-endian order
+        for (int i=0;i<length;i+=2) {
+            int value = compressedArray.charAt(i) - offset;
+            
+            for (int x=compressedArray.charAt(i+1);x>0;x--) {
+                if (!isByteArray) {
+                    stream.write(value >> 8);
+                }
+                
+                stream.write(value);
+            }
+        }
+    }
+    
+    //==================
+    // Alphabet Methods
+    //==================
+    
+    /**
+     * 
+     */
+    public int getAlphabetLength() {
+        return alphabetLength;
+    }
+    
+    /**
+     * 
+     */
+    public boolean hasSentinelSymbol() {
+        return sentinelSymbol != -1;
+    }
+    
+    /**
+     * 
+     */
+    public int getSentinelSymbol() {
+        return sentinelSymbol;
+    }
+    
+    /**
+     * 
+     */
+    public int getSentinelCharacterSymbol() {
+        return sentinelCharacterSymbol;
+    }
+    
+    /**
+     * 
+     */
+    public String getCharacterMapString() {
+        return characterMapString;
+    }
+    
+    /**
+     * 
+     */
+    public int getCharacterMapSize() {
+        return characterMapSize;
+    }
+    
+    /**
+     * 
+     */
+    public int getCharacterMapLastValue() {
+        return characterMapLastValue;
+    }
+    
+    /**
+     * 
+     */
+    public String getCharacterMapType() {
+        return isSmallCharacterMap() ? "byte" : "char";
+    }
+    
+    /**
+     * 
+     */
+    public int getCharacterMapElementSize() {
+        return isSmallCharacterMap() ? SystemToolkit.SIZE_OF_BYTE :
+            SystemToolkit.SIZE_OF_SHORT;
+    }
+    
+    /**
+     * 
+     */
+    public int getCharacterMapOffset() {
+        return 0;
+    }
+    
+    /**
+     * 
+     */
+    public boolean isSmallCharacterMap() {
+        return alphabetLength <= 128;
+    }
+    
+    /**
+     * 
+     */
+    public boolean isPagedCharacterMap() {
+        return isPagedCharacterMap;
+    }
+    
+    /**
+     * 
+     */
+    public String getCharacterPageTableString() {
+        return characterPageTableString;
+    }
+    
+    /**
+     * 
+     */
+    public int getCharacterPageTableSize() {
+        return characterPageTableSize;
+    }
+    
+    /**
+     * 
+     */
+    public int getCharacterPageCount() {
+        return characterPageCount;
+    }
+    
+    /**
+     * 
+     */
+    public String getCharacterPageTableType() {
+        return isSmallCharacterPageTable() ? "byte" : "char";
+    }
+    
+    /**
+     * 
+     */
+    public int getCharacterPageTableOffset() {
+        return 0;
+    }
+    
+    /**
+     * 
+     */
+    public boolean isSmallCharacterPageTable() {
+        return characterPageCount <= 128;
+    }
+    
+    //===============
+    // State Methods
+    //===============
+    
+    /**
+     * 
+     */
+    public NameMap getNameMap() {
+        return nameMap;
+    }
+    
+    /**
+     * 
+     */
+    public int getTotalNFAStateCount() {
+        return totalNFAStateCount;
+    }
+    
+    /**
+     * 
+     */
+    public int getTotalDFAStateCount() {
+        return totalDFAStateCount;
+    }
+    
+    /**
+     * 
+     */
+    public int getStateStride() {
+        return stateStride;
+    }
+    
+    /**
+     * 
+     */
+    private int getStateActionId(int stateIndex) {
+        return actionIdList[stateIndex];
+    }
+    
+    /**
+     * 
+     */
+    public int getStartState(int dfaIndex) {
+        return startStateList[dfaIndex];
+    }
+    
+    /**
+     * 
+     */
+    public int getStartState(String name) {
+        return getStartState(nameMap.get(name));
+    }
+    
+    /**
+     * 
+     */
+    public boolean hasAcceptingStartStates() {
+        return hasAcceptingStartStates;
+    }
+    
+    /**
+     * 
+     */
+    public boolean hasTerminalStates(String name) {
+        int dfaIndex = nameMap.get(name);
+        
+        return terminalStateList[dfaIndex] != dfaFirstStateList[dfaIndex] +
+                dfaStateCountList[dfaIndex];
+    }
+    
+    /**
+     * 
+     */
+    public int getFirstTerminalState(String name) {
+        return terminalStateList[nameMap.get(name)] * stateStride;
+    }
+    
+    /**
+     * 
+     */
+    public String getTransitionTableString() {
+        return transitionTableString;
+    }
+    
+    /**
+     * 
+     */
+    public String getTransitionTableType() {
+        return isSmallTransitionTable() ? "byte" : "short";
+    }
+    
+    /**
+     * 
+     */
+    public int getTransitionTableOffset() {
+        return 1;
+    }
+    
+    /**
+     * 
+     */
+    public int getTransitionTableSize() {
+        return totalDFAStateCount * stateStride;
     }
     
     /**
      * 
      */
-    private void computeCharacterData(Automaton<MethodInfo> automaton) {
-        char[] symbolMap = automaton.getAlphabet().toSymbolMap();
-        char[] compressedSymbolMap = compress(symbolMap,getCharacterMapOffset());
-        
-        // enable last counter removal optimization if at least one page of
-        // memory can be saved
-        int characterMapSize = 65536;
-        int characterMapLastValue = -1;
-        int lastCharacterCounter = compressedSymbolMap[compressedSymbolMap.length-1];
-        int charactersPerPage = SystemToolkit.SIZE_OF_MEMORY_PAGE / getCharacterMapElementSize();
-        
-        if (lastCharacterCounter >= charactersPerPage) {
-            characterMapSize -= lastCharacterCounter;
-            characterMapLastValue = compressedSymbolMap[compressedSymbolMap.length-2];
-            compressedSymbolMap = Arrays.copyOf(compressedSymbolMap,compressedSymbolMap.length-2);
-        }
-        
-        this.characterMapSize = characterMapSize;
-        this.characterMapLastValue = characterMapLastValue;
-        characterMapString = new String(compressedSymbolMap);
+    public boolean isSmallTransitionTable() {
+        return maxStateNumber <= 127;
     }
     
     /**
      * 
      */
-    private void computeActionReorderMap() {
-        int actionCount = actionPool.size();
-        int[] actionReorderMap = new int[actionCount];
-        int lastId = actionCount - 1;
-        
-        for (int i=0,j=0;i<actionCount;i++) {
-            
-            // Note: Move all forward and backward pass actions to the end of
-            // the list in order to have continuous action numbers for all
-            // "visible" actions in the action switch.
-            switch(actionPool.get(i).getLookaheadType()) {
-            case Action.LOOKAHEAD_FORWARD_PASS:
-            case Action.LOOKAHEAD_BACKWARD_PASS:
-                actionReorderMap[i] = lastId--;
-                break;
-            
-            default:
-                actionReorderMap[i] = j++;
-            }
-        }
-        
-        this.actionReorderMap = actionReorderMap;
+    public boolean isFlatTransitionTable() {
+        return transitionTableLayout == TransitionTableLayout.FLAT;
     }
     
     /**
      * 
      */
-    private void computeActionMap() {
-        int[] map = new int[totalDFAStateCount];
-        
-        for (int i=0;i<totalDFAStateCount;i++) {
-            int actionId = getStateActionId(i);
-            
-            map[i] = actionId != -1 ? actionReorderMap[actionId] : -1;
-        }
-        
-        actionMapSize = map.length;
-        actionMapString = appendCompressedArray(map,getActionMapOffset(),
-                new StringBuilder()).toString();
+    public boolean isDirectCoded() {
+        return isDirectCoded;
     }
     
     /**
      * 
      */
-    private void computeActionProperties() {
-        int actionCount = actionPool.size();
-        
-        for (int i=0;i<actionCount;i++) {
-            switch(actionPool.get(i).getLookaheadType()) {
-            case Action.LOOKAHEAD_NONE:
-                hasNormalActions = true;
-                break;
-            
-            case Action.LOOKAHEAD_FIX_CONDITION:
-                hasFixConditionLookaheads = true;
-                break;
-            
-            case Action.LOOKAHEAD_FIX_CONTENT:
-                hasFixContentLookaheads = true;
-                break;
-            
-            case Action.LOOKAHEAD_VARIABLE:
-                hasVariableLookaheads = true;
-                break;
-            }
-        }
+    public int[] getStateRanges(int stateIndex) {
+        return stateRangeList[stateIndex];
     }
     
-    //==================
-    // Alphabet Methods
-    //==================
+    /**
+     * 
+     */
+    public boolean hasRunStates() {
+        return runStateList != null;
+    }
     
     /**
      * 
      */
-    public int getAlphabetLength() {
-        return alphabetLength;
+    public int getRunStateCount() {
+        return runStateList != null ? runStateList.length : 0;
     }
     
     /**
      * 
      */
-    public String getCharacterMapString() {
-        return characterMapString;
+    public int getRunState(int index) {
+        return runStateList[index];
     }
     
     /**
      * 
      */
-    public int getCharacterMapSize() {
-        return characterMapSize;
+    public int[] getRunRanges(int index) {
+        return runRangeList[index];
     }
     
     /**
      * 
      */
-    public int getCharacterMapLastValue() {
-        return characterMapLastValue;
+    public int getRunTerminator(int index) {
+        int[] ranges = runRangeList[index];
+        
+        switch(ranges.length) {
+        case 2:
+            if ((ranges[0] == 1) && (ranges[1] == 0xffff)) {
+                return 0;
+            }
+            
+            if ((ranges[0] == 0) && (ranges[1] == 0xfffe)) {
+                return 0xffff;
+            }
+            
+            return -1;
+            
+        case 4:
+            if ((ranges[0] == 0) && (ranges[2] == ranges[1] + 2) && (ranges[3] == 0xffff)) {
+                return ranges[1] + 1;
+            }
+            
+            return -1;
+        }
+        
+        return -1;
     }
     
     /**
      * 
      */
-    public String getCharacterMapType() {
-        return isSmallCharacterMap() ? "byte" : "char";
+    public boolean isAsciiTransitionTable() {
+        return isAsciiTransitionTable;
     }
     
     /**
      * 
      */
-    public int getCharacterMapElementSize() {
-        return isSmallCharacterMap() ? SystemToolkit.SIZE_OF_BYTE :
-            SystemToolkit.SIZE_OF_SHORT;
+    public String getAsciiTransitionTableString() {
+        return asciiTransitionTableString;
     }
     
     /**
      * 
      */
-    public int getCharacterMapOffset() {
-        return 0;
+    public int getAsciiTransitionTableSize() {
+        return totalDFAStateCount * ASCII_ROW_SIZE;
     }
     
     /**
      * 
      */
-    public boolean isSmallCharacterMap() {
-        return alphabetLength <= 128;
+    public TransitionTableLayout getTransitionTableLayout() {
+        return transitionTableLayout;
     }
     
-    //===============
-    // State Methods
-    //===============
+    /**
+     * 
+     */
+    public boolean isCombTransitionTable() {
+        return transitionTableLayout == TransitionTableLayout.COMB;
+    }
     
     /**
      * 
      */
-    public NameMap getNameMap() {
-        return nameMap;
+    public String getTransitionBaseString() {
+        return transitionBaseString;
     }
     
     /**
      * 
      */
-    public int getTotalNFAStateCount() {
-        return totalNFAStateCount;
+    public String getTransitionBaseType() {
+        return isSmallTransitionBase() ? "byte" : "short";
     }
     
     /**
      * 
      */
-    public int getTotalDFAStateCount() {
-        return totalDFAStateCount;
+    public int getTransitionBaseOffset() {
+        return 0;
     }
     
     /**
      * 
      */
-    private int getStateActionId(int stateIndex) {
-        return actionIdList[stateIndex];
+    public boolean isSmallTransitionBase() {
+        return maxTransitionBase <= 127;
     }
     
     /**
      * 
      */
-    public int getStartState(int dfaIndex) {
-        return startStateList[dfaIndex];
+    public String getTransitionDefaultString() {
+        return transitionDefaultString;
     }
     
     /**
      * 
      */
-    public int getStartState(String name) {
-        return getStartState(nameMap.get(name));
+    public String getTransitionNextString() {
+        return transitionNextString;
     }
     
     /**
      * 
      */
-    public String getTransitionTableString() {
-        return transitionTableString;
+    public int getTransitionNextSize() {
+        return transitionNextSize;
     }
     
     /**
      * 
      */
-    public String getTransitionTableType() {
-        return isSmallTransitionTable() ? "byte" : "short";
+    public String getTransitionCheckString() {
+        return transitionCheckString;
     }
     
     /**
      * 
      */
-    public int getTransitionTableOffset() {
+    public String getTransitionCheckType() {
+        return isSmallTransitionCheck() ? "byte" : "short";
+    }
+    
+    /**
+     * 
+     */
+    public int getTransitionCheckOffset() {
         return 1;
     }
     
     /**
      * 
      */
-    public boolean isSmallTransitionTable() {
-        return totalDFAStateCount <= 128;
+    public boolean isSmallTransitionCheck() {
+        return maxTransitionBase <= 126;
     }
     
     //================
@@ -514,10 +2147,185 @@ public class AutomatonInfo {
         return hasVariableLookaheads;
     }
     
+    //===================
+    // Backtrack Methods
+    //===================
+    
+    /**
+     * 
+     */
+    public int getMaxBacktrackLength() {
+        return maxBacktrackLength;
+    }
+    
+    /**
+     * 
+     */
+    public int getBacktrackRuleCount() {
+        return backtrackRuleList != null ? backtrackRuleList.length : 0;
+    }
+    
+    /**
+     * 
+     */
+    public String getBacktrackRule(int index) {
+        return backtrackRuleList[index];
+    }
+    
+    /**
+     * 
+     */
+    public int getBacktrackLength(int index) {
+        return backtrackLengthList[index];
+    }
+    
+    /**
+     * 
+     */
+    public String getBacktrackExample(int index) {
+        return backtrackExampleList[index];
+    }
+    
+    //===============
+    // Table Methods
+    //===============
+    
+    /**
+     * 
+     */
+    public byte[] getTableData() {
+        return tableData;
+    }
+    
+    /**
+     * 
+     */
+    public int getTableDataLength() {
+        return tableDataLength;
+    }
+    
+    /**
+     * 
+     */
+    public int getTableDataChecksum() {
+        return tableDataChecksum;
+    }
+    
+    /**
+     * 
+     */
+    public boolean hasLazyLexicalStates() {
+        return lazyDFAList != null;
+    }
+    
+    /**
+     * 
+     */
+    public boolean isLazyLexicalState(String name) {
+        return (lazyDFAList != null) && lazyDFAList[nameMap.get(name)];
+    }
+    
+    /**
+     * 
+     */
+    public int getTableSegmentFirstState(String name) {
+        return dfaFirstStateList[nameMap.get(name)] * stateStride;
+    }
+    
+    /**
+     * 
+     */
+    public String getTransitionTableSegmentString(String name) {
+        return transitionTableSegmentList[nameMap.get(name)];
+    }
+    
+    /**
+     * 
+     */
+    public String getAsciiTransitionTableSegmentString(String name) {
+        return asciiTransitionTableSegmentList[nameMap.get(name)];
+    }
+    
+    /**
+     * 
+     */
+    public String getActionMapSegmentString(String name) {
+        return actionMapSegmentList[nameMap.get(name)];
+    }
+    
     //================
     // Helper Methods
     //================
     
+    /**
+     * 
+     */
+    private int estimateDirectCodeSize() {
+        HashSet<String> rangesKeySet = new HashSet<>();
+        int size = 0;
+        
+        // states with identical ranges share their code
+        for (int i=0;i<stateRangeList.length;i++) {
+            int[] ranges = stateRangeList[i];
+            
+            if ((ranges.length > 2) || (ranges[1] != -1)) {
+                size += CASE_SIZE;
+                
+                if (rangesKeySet.add(Arrays.toString(ranges))) {
+                    size += estimateStateSize(ranges);
+                }
+            }
+        }
+        
+        return size;
+    }
+    
+    /**
+     * 
+     */
+    private static int estimateStateSize(int[] ranges) {
+        int asciiRangeCount = getAsciiRangeCount(ranges);
+        
+        if (hasNonAsciiTree(ranges,asciiRangeCount)) {
+            return estimateRangeTreeSize(asciiRangeCount) + COMPARISON_SIZE + LEAF_SIZE;
+        }
+        
+        return Math.min(estimateRangeTreeSize(ranges.length/2),MAX_RANGE_TREE_SIZE);
+    }
+    
+    /**
+     * 
+     */
+    public static int estimateRangeTreeSize(int rangeCount) {
+        return (rangeCount - 1) * COMPARISON_SIZE + rangeCount * LEAF_SIZE;
+    }
+    
+    /**
+     * 
+     */
+    public static int getAsciiRangeCount(int[] ranges) {
+        int rangeCount = 0;
+        
+        while ((rangeCount*2 < ranges.length) && (ranges[rangeCount*2] < ASCII_ROW_SIZE)) {
+            rangeCount++;
+        }
+        
+        return rangeCount;
+    }
+    
+    /**
+     * 
+     */
+    public static boolean hasNonAsciiTree(int[] ranges, int asciiRangeCount) {
+        int nonAsciiRangeCount = ranges.length/2 - asciiRangeCount;
+        
+        if ((nonAsciiRangeCount > 0) && (ranges[asciiRangeCount*2] != ASCII_ROW_SIZE)) {
+            nonAsciiRangeCount++;
+        }
+        
+        return nonAsciiRangeCount > 1;
+    }
+    
     /**
      * 
      */
@@ -6,13 +6,17 @@
 package org.annoflex.app.codegen;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 
 import org.annoflex.app.dom.BooleanMap;
 import org.annoflex.app.dom.BufferIncrement;
+import org.annoflex.app.dom.BufferOverflow;
 import org.annoflex.app.dom.BufferStrategy;
+import org.annoflex.app.dom.CharacterMode;
 import org.annoflex.app.dom.Config;
 import org.annoflex.app.dom.FunctionalityMap;
 import org.annoflex.app.dom.InputMode;
@@ -20,6 +24,7 @@ import org.annoflex.app.dom.Member;
 import org.annoflex.app.dom.MethodInfo;
 import org.annoflex.app.dom.NoMatchAction;
 import org.annoflex.app.dom.Options;
+import org.annoflex.app.dom.RunLoopType;
 import org.annoflex.app.dom.TypeDescriptor;
 import org.annoflex.app.dom.VisibilityMap;
 import org.annoflex.jdt.codegen.JavaPrinter;
@@ -45,9 +50,83 @@ public class ScannerGenerator extends JavaPrinter {
     private static final TypeDescriptor TYPE_READER =
             TypeDescriptor.create("java.io.Reader");
     
+    private static final TypeDescriptor TYPE_INPUT_STREAM =
+            TypeDescriptor.create("java.io.InputStream");
+    
+    private static final TypeDescriptor TYPE_DATA_INPUT_STREAM =
+            TypeDescriptor.create("java.io.DataInputStream");
+    
+    private static final TypeDescriptor TYPE_EOF_EXCEPTION =
+            TypeDescriptor.create("java.io.EOFException");
+    
+    private static final TypeDescriptor TYPE_CRC32 =
+            TypeDescriptor.create("java.util.zip.CRC32");
+    
+    private static final TypeDescriptor TYPE_READABLE_BYTE_CHANNEL =
+            TypeDescriptor.create("java.nio.channels.ReadableByteChannel");
+    
+    private static final TypeDescriptor TYPE_CHARSET =
+            TypeDescriptor.create("java.nio.charset.Charset");
+    
+    private static final TypeDescriptor TYPE_CHARSET_DECODER =
+            TypeDescriptor.create("java.nio.charset.CharsetDecoder");
+    
+    private static final TypeDescriptor TYPE_CODING_ERROR_ACTION =
+            TypeDescriptor.create("java.nio.charset.CodingErrorAction");
+    
+    private static final TypeDescriptor TYPE_BYTE_BUFFER =
+            TypeDescriptor.create("java.nio.ByteBuffer");
+    
+    private static final TypeDescriptor TYPE_CHAR_BUFFER =
+            TypeDescriptor.create("java.nio.CharBuffer");
+    
     private static final TypeDescriptor TYPE_ILLEGAL_STATE_EXCEPTION =
             TypeDescriptor.create("java.lang.IllegalStateException");
     
+    private static final TypeDescriptor TYPE_STANDARD_CHARSETS =
+            TypeDescriptor.create("java.nio.charset.StandardCharsets");
+    
+    private static final TypeDescriptor TYPE_ARRAY_LIST =
+            TypeDescriptor.create("java.util.ArrayList");
+    
+    private static final TypeDescriptor TYPE_ARRAYS =
+            TypeDescriptor.create("java.util.Arrays");
+    
+    private static final TypeDescriptor TYPE_FORK_JOIN_TASK =
+            TypeDescriptor.create("java.util.concurrent.ForkJoinTask");
+    
+    private static final TypeDescriptor TYPE_RECURSIVE_ACTION =
+            TypeDescriptor.create("java.util.concurrent.RecursiveAction");
+    
+    private static final TypeDescriptor TYPE_SUPPLIER =
+            TypeDescriptor.create("java.util.function.Supplier");
+    
+    private static final TypeDescriptor TYPE_SHORT_VECTOR =
+            TypeDescriptor.create("jdk.incubator.vector.ShortVector");
+    
+    private static final TypeDescriptor TYPE_VECTOR_MASK =
+            TypeDescriptor.create("jdk.incubator.vector.VectorMask");
+    
+    private static final TypeDescriptor TYPE_VECTOR_OPERATORS =
+            TypeDescriptor.create("jdk.incubator.vector.VectorOperators");
+    
+    private static final TypeDescriptor TYPE_VECTOR_SPECIES =
+            TypeDescriptor.create("jdk.incubator.vector.VectorSpecies");
+    
+    private static final String TABLE_RESOURCE_EXTENSION = ".bin";
+    
+    private static final int TABLE_SEGMENT_LINE_SPACE = 56;
+    
+    private static final int ASCII_LIMIT = 0x80;
+    
+    private static final int UTF8_LENGTH_SHIFT = 21;
+    
+    private static final int CHANNEL_BUFFER_CAPACITY = 8192;
+    
+    private static final int BUFFER_CHUNK_SHIFT = 14;
+    
+    private static final int UTF8_CODE_POINT_MASK = (1 << UTF8_LENGTH_SHIFT) - 1;
+    
     //==============
     // Input Fields
     //==============
@@ -71,11 +150,116 @@ public class ScannerGenerator extends JavaPrinter {
      */
     private boolean isReaderMode;
     
+    /**
+     * 
+     */
+    private boolean isCharArrayMode;
+    
+    /**
+     * 
+     */
+    private boolean isCharSequenceMode;
+    
+    /**
+     * 
+     */
+    private boolean isByteArrayMode;
+    
+    /**
+     * 
+     */
+    private boolean isByteBufferMode;
+    
+    /**
+     * 
+     */
+    private boolean isByteMode;
+    
+    /**
+     * 
+     */
+    private boolean isChannelMode;
+    
+    /**
+     * 
+     */
+    private boolean isPushMode;
+    
+    /**
+     * 
+     */
+    private boolean isCodePointMode;
+    
+    /**
+     * 
+     */
+    private boolean isTableResource;
+    
+    /**
+     * 
+     */
+    private boolean isIncremental;
+    
+    /**
+     * 
+     */
+    private boolean hasTokenize;
+    
+    /**
+     * 
+     */
+    private boolean hasTokenizeParallel;
+    
+    /**
+     * 
+     */
+    private boolean hasTokenCodeScan;
+    
+    /**
+     * 
+     */
+    private String typeName;
+    
     /**
      * 
      */
     private boolean isCurMatchStrategy;
     
+    /**
+     * 
+     */
+    private boolean isRingStrategy;
+    
+    /**
+     * 
+     */
+    private boolean isChunkedStrategy;
+    
+    /**
+     * 
+     */
+    private boolean isSentinel;
+    
+    /**
+     * 
+     */
+    private boolean isVectorRuns;
+    
+    /**
+     * 
+     */
+    private boolean isMemoization;
+    
+    /**
+     * 
+     */
+    private int maxBufferCapacity;
+    
+    /**
+     * 
+     */
+    private boolean isTruncateOverflow;
+    
     /**
      * 
      */
@@ -120,6 +304,26 @@ public class ScannerGenerator extends JavaPrinter {
      */
     private HashSet<TypeDescriptor> imports;
     
+    /**
+     * 
+     */
+    private String tableResourceName;
+    
+    /**
+     * 
+     */
+    private ArrayList<String> tableAssignmentList;
+    
+    /**
+     * 
+     */
+    private ArrayList<int[]> rangeTreeList;
+    
+    /**
+     * 
+     */
+    private HashMap<String,Integer> rangeTreeMap;
+    
     //====================
     // Generation Methods
     //====================
@@ -133,14 +337,65 @@ public class ScannerGenerator extends JavaPrinter {
         
         Options options = config.getOptions();
         
-        isReaderMode = options.getInputMode() == InputMode.READER;
-        isCurMatchStrategy = isReaderMode && options.getBufferStrategy() ==
-                BufferStrategy.CURRENT_MATCH;
+        isChannelMode = options.getInputMode() == InputMode.CHANNEL;
+        isPushMode = options.getInputMode() == InputMode.PUSH;
+        isReaderMode = (options.getInputMode() == InputMode.READER) || isChannelMode ||
+                isPushMode;
+        isCharArrayMode = options.getInputMode() == InputMode.CHAR_ARRAY;
+        isCharSequenceMode = options.getInputMode() == InputMode.CHAR_SEQUENCE;
+        isByteArrayMode = options.getInputMode() == InputMode.BYTE_ARRAY;
+        isByteBufferMode = options.getInputMode() == InputMode.BYTE_BUFFER;
+        isByteMode = options.getInputMode().isByteMode();
+        isCodePointMode = (options.getCharacterMode() == CharacterMode.CODE_POINT) ||
+                isByteMode;
+        isCurMatchStrategy = isReaderMode && ((options.getBufferStrategy() ==
+                BufferStrategy.CURRENT_MATCH) || (options.getBufferStrategy() ==
+                BufferStrategy.RING_BUFFER));
+        
+        // Note: The ring buffer and the chunked buffer are only supported for
+        // readers. The other input modes use the current match strategy or the
+        // all characters strategy instead.
+        isRingStrategy = isCurMatchStrategy && !isChannelMode && !isPushMode &&
+                (options.getBufferStrategy() == BufferStrategy.RING_BUFFER);
+        isChunkedStrategy = isReaderMode && !isChannelMode && !isPushMode &&
+                (options.getBufferStrategy() == BufferStrategy.CHUNKED);
+        isSentinel = automatonInfo.hasSentinelSymbol();
+        
+        // Note: The vector run loops require the characters in a single array.
+        // The ring buffer and the chunked buffer use the scalar run loops.
+        isVectorRuns = automatonInfo.hasRunStates() && (options.getRunLoops() ==
+                RunLoopType.VECTOR) && (isCharArrayMode || (isReaderMode &&
+                !isRingStrategy && !isChunkedStrategy));
+        maxBufferCapacity = isRingStrategy ? createPowerOfTwo(options.getMaxBufferCapacity()) : 0;
+        isTruncateOverflow = options.getBufferOverflow() == BufferOverflow.TRUNCATE;
         isGoldenRatioIncrement = options.getBufferIncrement() ==
                 BufferIncrement.GOLDEN_RATIO;
+        isTableResource = automatonInfo.getTableData() != null;
+        isIncremental = options.getIncremental() && !isReaderMode &&
+                !isCharArrayMode && !isCharSequenceMode && !isByteMode;
+        
+        // Note: The memoization requires that the characters behind the match
+        // are still available and that the input does not change during a
+        // scan. The suspended scans of the push mode, the sentinel refills,
+        // the relex method and a truncating ring buffer violate this.
+        isMemoization = options.getMemoization() && !isPushMode && !isSentinel &&
+                !isIncremental && !((maxBufferCapacity != 0) && isTruncateOverflow);
+        typeName = config.getTypeDeclaration().substring(config.getTextInfo().getText());
+        tableResourceName = isTableResource ? typeName + TABLE_RESOURCE_EXTENSION : null;
         hasLexicalStates = automatonInfo.getNameMap().size() > 1;
         functionalityMap = options.getFunctionalityMap();
         visibilityMap = options.getVisibilityMap();
+        
+        // Note: The bulk tokenization stores the results in an int array and
+        // is therefore only available for int return types. The parallel
+        // tokenization is based on it and requires a string as input.
+        hasTokenizeParallel = functionalityMap.has(Member.TOKENIZE_PARALLEL) &&
+                config.getUsedReturnType().equals("int") && !isReaderMode &&
+                !isCharArrayMode && !isCharSequenceMode && !isByteMode && !isIncremental;
+        hasTokenize = (functionalityMap.has(Member.TOKENIZE) || hasTokenizeParallel) &&
+                config.getUsedReturnType().equals("int");
+        hasTokenCodeScan = functionalityMap.has(Member.GET_NEXT_TOKEN_CODE) &&
+                config.getHasTokenCodes();
         internalMap = options.getInternalMap();
         methodThrows = options.getMethodThrows();
         noMatchAction = options.getNoMatchAction();
@@ -156,11 +411,50 @@ public class ScannerGenerator extends JavaPrinter {
         generateHelperMethods();
         ensureEmptyLine(1);
         
-        if (isReaderMode) {
+        if (isChannelMode) {
+            addImport(TYPE_IO_EXCEPTION);
+            addImport(TYPE_READABLE_BYTE_CHANNEL);
+            addImport(TYPE_CHARSET);
+            addImport(TYPE_CHARSET_DECODER);
+            addImport(TYPE_CODING_ERROR_ACTION);
+            addImport(TYPE_BYTE_BUFFER);
+            addImport(TYPE_CHAR_BUFFER);
+        }
+        
+        else if (isPushMode) {
+            addImport(TYPE_CHAR_BUFFER);
+        }
+        
+        else if (isReaderMode) {
             addImport(TYPE_IO_EXCEPTION);
             addImport(TYPE_READER);
         }
         
+        if (hasTokenizeParallel) {
+            addImport(TYPE_ARRAY_LIST);
+            addImport(TYPE_ARRAYS);
+            addImport(TYPE_FORK_JOIN_TASK);
+            addImport(TYPE_RECURSIVE_ACTION);
+            addImport(TYPE_SUPPLIER);
+        }
+        
+        if (isTableResource) {
+            addImport(TYPE_IO_EXCEPTION);
+            addImport(TYPE_INPUT_STREAM);
+            addImport(TYPE_DATA_INPUT_STREAM);
+            addImport(TYPE_EOF_EXCEPTION);
+            addImport(TYPE_CRC32);
+            addImport(TYPE_BYTE_BUFFER);
+        }
+        
+        if (isByteBufferMode) {
+            addImport(TYPE_BYTE_BUFFER);
+        }
+        
+        if (isByteMode && functionalityMap.hasMatchTextMethod()) {
+            addImport(TYPE_STANDARD_CHARSETS);
+        }
+        
         for (int i=0;i<methodThrows.size();i++) {
             TypeDescriptor curThrowable = methodThrows.get(i);
             
@@ -183,6 +477,13 @@ public class ScannerGenerator extends JavaPrinter {
         return imports;
     }
     
+    /**
+     * 
+     */
+    public String getTableResourceName() {
+        return tableResourceName;
+    }
+    
     /**
      * 
      */
@@ -229,9 +530,89 @@ public class ScannerGenerator extends JavaPrinter {
             line(1," * DFA states:      "+createValue(automatonInfo.getTotalDFAStateCount())+"*");
             line(1," * Static size:     "+createValue(computeStaticSize(automatonInfo))+"*");
             line(1," * Instance size:   "+createValue(computeInstanceSize(automatonInfo))+"*");
+            line(1," * Backtracking:    "+createValue(createBacktrackValue(automatonInfo.getMaxBacktrackLength()))+"*");
             line(1," *                                               *");
             line(1," ************************************************/");
+            
+            generateBacktrackAnalysis();
+        }
+    }
+    
+    /**
+     * 
+     */
+    private void generateBacktrackAnalysis() {
+        int ruleCount = automatonInfo.getBacktrackRuleCount();
+        
+        if (ruleCount == 0) {
+            return;
+        }
+        
+        ensureEmptyLine(1);
+        
+        line(1,"/*************************************************");
+        line(1," *             Backtracking Analysis             *");
+        line(1," * * * * * * * * * * * * * * * * * * * * * * * * *");
+        line(1," *                                               *");
+        
+        // Note: Each rule is listed with the maximum number of characters
+        // which are scanned again after its last accepting state and an
+        // input which reaches this maximum. Unbounded values lead to a
+        // quadratic scan time for repetitions of the example input.
+        for (int i=0;i<ruleCount;i++) {
+            int length = automatonInfo.getBacktrackLength(i);
+            String example = automatonInfo.getBacktrackExample(i);
+            
+            line(1," * Rule:            "+createValue(automatonInfo.getBacktrackRule(i))+"*");
+            line(1," * Backtracking:    "+createValue(createBacktrackValue(length))+"*");
+            line(1," * Example:         "+createValue(createExampleString(example)+
+                    (length == AutomatonInfo.UNBOUNDED_BACKTRACK ? "..." : ""))+"*");
+            line(1," *                                               *");
+        }
+        
+        line(1," ************************************************/");
+    }
+    
+    /**
+     * 
+     */
+    private String createBacktrackValue(int length) {
+        return length != AutomatonInfo.UNBOUNDED_BACKTRACK ? Integer.toString(length) : "unbounded";
+    }
+    
+    /**
+     * 
+     */
+    private String createExampleString(String example) {
+        StringBuilder builder = new StringBuilder();
+        builder.append('"');
+        
+        // Note: The example is part of a comment and may therefore neither
+        // contain the end of a comment nor a unicode escape.
+        for (int i=0;i<example.length();) {
+            int character = example.codePointAt(i);
+            i += Character.charCount(character);
+            
+            if ((character == '/') && (i > 1) && (example.charAt(i-2) == '*')) {
+                builder.append("\\x{2f}");
+            }
+            
+            else if ((character == '"') || (character == '\\')) {
+                builder.append('\\').append((char)character);
+            }
+            
+            else if ((character >= 0x20) && (character < 0x7f)) {
+                builder.append((char)character);
+            }
+            
+            else {
+                builder.append("\\x{").append(Integer.toHexString(character)).append('}');
+            }
         }
+        
+        builder.append('"');
+        
+        return builder.toString();
     }
     
     /**
@@ -253,17 +634,13 @@ public class ScannerGenerator extends JavaPrinter {
      * 
      */
     private String computeStaticSize(AutomatonInfo automatonInfo) {
-        int sizeOfCharacterMap = SystemToolkit.SIZE_OF_REFERENCE +
-                (automatonInfo.isSmallCharacterMap() ?
-                        SystemToolkit.sizeOfByteArray(automatonInfo.getCharacterMapSize()) :
-                        SystemToolkit.sizeOfShortArray(automatonInfo.getCharacterMapSize()));
+        int sizeOfCharacterMap = 0;
+        int sizeOfTransitionTable = 0;
         
-        int stateCount = automatonInfo.getTotalDFAStateCount();
-        int sizeOfTransitionTable = SystemToolkit.SIZE_OF_REFERENCE +
-                SystemToolkit.sizeOfObjectArray(stateCount) +
-                (stateCount * (automatonInfo.isSmallTransitionTable() ?
-                        SystemToolkit.sizeOfByteArray(automatonInfo.getAlphabetLength()) :
-                        SystemToolkit.sizeOfShortArray(automatonInfo.getAlphabetLength())));
+        if (!automatonInfo.isDirectCoded()) {
+            sizeOfCharacterMap = computeCharacterMapSize(automatonInfo);
+            sizeOfTransitionTable = computeTransitionTableSize(automatonInfo);
+        }
         
         int sizeOfActionMap = SystemToolkit.SIZE_OF_REFERENCE +
                 (automatonInfo.isSmallActionMap() ?
@@ -279,7 +656,11 @@ public class ScannerGenerator extends JavaPrinter {
         
         int sizeOfHelperConstants = 0;
         
-        if (isReaderMode) {
+        if (isByteMode) {
+            sizeOfHelperConstants += SystemToolkit.sizeOfByteArray(0);
+        }
+        
+        else if (isReaderMode || isCharArrayMode) {
             sizeOfHelperConstants += SystemToolkit.sizeOfCharArray(0);
         }
         
@@ -288,6 +669,78 @@ public class ScannerGenerator extends JavaPrinter {
                 sizeOfHelperConstants);
     }
     
+    /**
+     * 
+     */
+    private int computeCharacterMapSize(AutomatonInfo automatonInfo) {
+        int sizeOfCharacterMap = SystemToolkit.SIZE_OF_REFERENCE +
+                (automatonInfo.isSmallCharacterMap() ?
+                        SystemToolkit.sizeOfByteArray(automatonInfo.getCharacterMapSize()) :
+                        SystemToolkit.sizeOfShortArray(automatonInfo.getCharacterMapSize()));
+        
+        if (automatonInfo.isPagedCharacterMap()) {
+            sizeOfCharacterMap += SystemToolkit.SIZE_OF_REFERENCE +
+                    (automatonInfo.isSmallCharacterPageTable() ?
+                            SystemToolkit.sizeOfByteArray(automatonInfo.getCharacterPageTableSize()) :
+                            SystemToolkit.sizeOfShortArray(automatonInfo.getCharacterPageTableSize()));
+        }
+        
+        return sizeOfCharacterMap;
+    }
+    
+    /**
+     * 
+     */
+    private int computeTransitionTableSize(AutomatonInfo automatonInfo) {
+        int stateCount = automatonInfo.getTotalDFAStateCount();
+        int sizeOfTransitionTable;
+        
+        if (automatonInfo.isCombTransitionTable()) {
+            int nextSize = automatonInfo.getTransitionNextSize();
+            
+            sizeOfTransitionTable = SystemToolkit.SIZE_OF_REFERENCE * 4 +
+                    (automatonInfo.isSmallTransitionBase() ?
+                            SystemToolkit.sizeOfByteArray(stateCount) :
+                            SystemToolkit.sizeOfShortArray(stateCount)) +
+                    (automatonInfo.isSmallTransitionTable() ?
+                            SystemToolkit.sizeOfByteArray(stateCount) +
+                            SystemToolkit.sizeOfByteArray(nextSize) :
+                            SystemToolkit.sizeOfShortArray(stateCount) +
+                            SystemToolkit.sizeOfShortArray(nextSize)) +
+                    (automatonInfo.isSmallTransitionCheck() ?
+                            SystemToolkit.sizeOfByteArray(nextSize) :
+                            SystemToolkit.sizeOfShortArray(nextSize));
+        }
+        
+        else if (automatonInfo.isFlatTransitionTable()) {
+            int tableSize = automatonInfo.getTransitionTableSize();
+            
+            sizeOfTransitionTable = SystemToolkit.SIZE_OF_REFERENCE +
+                    (automatonInfo.isSmallTransitionTable() ?
+                            SystemToolkit.sizeOfByteArray(tableSize) :
+                            SystemToolkit.sizeOfShortArray(tableSize));
+        }
+        
+        else {
+            sizeOfTransitionTable = SystemToolkit.SIZE_OF_REFERENCE +
+                    SystemToolkit.sizeOfObjectArray(stateCount) +
+                    (stateCount * (automatonInfo.isSmallTransitionTable() ?
+                            SystemToolkit.sizeOfByteArray(automatonInfo.getAlphabetLength()) :
+                            SystemToolkit.sizeOfShortArray(automatonInfo.getAlphabetLength())));
+        }
+        
+        if (automatonInfo.isAsciiTransitionTable()) {
+            int tableSize = automatonInfo.getAsciiTransitionTableSize();
+            
+            sizeOfTransitionTable += SystemToolkit.SIZE_OF_REFERENCE +
+                    (automatonInfo.isSmallTransitionTable() ?
+                            SystemToolkit.sizeOfByteArray(tableSize) :
+                            SystemToolkit.sizeOfShortArray(tableSize));
+        }
+        
+        return sizeOfTransitionTable;
+    }
+    
     /**
      * 
      */
@@ -297,7 +750,26 @@ public class ScannerGenerator extends JavaPrinter {
         int sizeOfReaderFields = 0;
         int sizeOfBufferFields = 0;
         
-        if (isReaderMode) {
+        if (isChannelMode) {
+            sizeOfReaderFields += SystemToolkit.SIZE_OF_REFERENCE * 4 +
+                    SystemToolkit.SIZE_OF_INTEGER + SystemToolkit.SIZE_OF_BOOLEAN * 2;
+            
+            sizeOfBufferFields += SystemToolkit.SIZE_OF_REFERENCE +
+                    SystemToolkit.SIZE_OF_INTEGER * 2;
+        }
+        
+        else if (isPushMode) {
+            sizeOfReaderFields += SystemToolkit.SIZE_OF_BOOLEAN;
+            
+            if (isCodePointMode) {
+                sizeOfReaderFields += SystemToolkit.SIZE_OF_CHAR;
+            }
+            
+            sizeOfBufferFields += SystemToolkit.SIZE_OF_REFERENCE +
+                    SystemToolkit.SIZE_OF_INTEGER * 2;
+        }
+        
+        else if (isReaderMode) {
             sizeOfReaderFields += SystemToolkit.SIZE_OF_REFERENCE +
                     SystemToolkit.SIZE_OF_INTEGER;
             
@@ -345,6 +817,10 @@ public class ScannerGenerator extends JavaPrinter {
             sizeOfHelperFields += SystemToolkit.SIZE_OF_REFERENCE;
         }
         
+        if (isPushMode) {
+            sizeOfHelperFields += SystemToolkit.SIZE_OF_INTEGER * 4;
+        }
+        
         String sizeString = getSizeString(sizeOfReaderFields + sizeOfBufferFields +
                 sizeOfStringFields + sizeOfRegionFields + sizeOfDotFields +
                 sizeOfLexicalStateFields + sizeOfMatchFields + sizeOfHelperFields);
@@ -372,6 +848,10 @@ public class ScannerGenerator extends JavaPrinter {
                 return " + O(inputLength)";
             }
             
+            if (maxBufferCapacity != 0) {
+                return " + "+getSizeString(maxBufferCapacity * SystemToolkit.SIZE_OF_CHAR)+" max";
+            }
+            
             return " + O(maxMatchLength)";
         }
         
@@ -414,26 +894,107 @@ public class ScannerGenerator extends JavaPrinter {
         ensureEmptyLine(1);
         heading("Table Constants");
         
-        javadoc(Member.CHARACTER_MAP,"Maps Unicode characters to DFA input symbols.");
-        variableWithMethod(visibilityMap.getMemberName(Member.CHARACTER_MAP),
-                "static final",automatonInfo.getCharacterMapType()+"[]","CHARACTER_MAP",
-                "createCharacterMap",automatonInfo.getCharacterMapString());
-        
-        javadoc(Member.TRANSITION_TABLE,"The transition table of the DFA.");
-        variableWithMethod(visibilityMap.getMemberName(Member.TRANSITION_TABLE),
-                "static final",automatonInfo.getTransitionTableType()+"[][]","TRANSITION_TABLE",
-                "createTransitionTable",automatonInfo.getTransitionTableString());
-        
-        javadoc(Member.ACTION_MAP,"Maps state numbers to action numbers.");
-        variableWithMethod(visibilityMap.getMemberName(Member.ACTION_MAP),
-                "static final",automatonInfo.getActionMapType()+"[]","ACTION_MAP",
-                "createActionMap",automatonInfo.getActionMapString());
-    }
-    
-    /**
-     * 
-     */
-    private void generateLexicalStateConstants() {
+        tableAssignmentList = new ArrayList<>();
+        
+        // Note: Direct coded scanners contain the character map and the
+        // transition table as code.
+        if (!automatonInfo.isDirectCoded()) {
+            if (automatonInfo.isPagedCharacterMap()) {
+                javadoc(Member.CHARACTER_PAGE_TABLE,"Maps the upper bits of Unicode code points to pages of the",
+                        "character map.");
+                tableConstant(visibilityMap.getMemberName(Member.CHARACTER_PAGE_TABLE),
+                        "static final",automatonInfo.getCharacterPageTableType()+"[]","CHARACTER_PAGE_TABLE",
+                        "createCharacterPageTable",automatonInfo.getCharacterPageTableString());
+            }
+            
+            javadoc(Member.CHARACTER_MAP,"Maps Unicode characters to DFA input symbols.");
+            tableConstant(visibilityMap.getMemberName(Member.CHARACTER_MAP),
+                    "static final",automatonInfo.getCharacterMapType()+"[]","CHARACTER_MAP",
+                    "createCharacterMap",automatonInfo.getCharacterMapString());
+            
+            if (automatonInfo.isCombTransitionTable()) {
+                javadoc(Member.TRANSITION_BASE,"Maps state numbers to their base index in the compressed",
+                        "transition table.");
+                tableConstant(visibilityMap.getMemberName(Member.TRANSITION_BASE),
+                        "static final",automatonInfo.getTransitionBaseType()+"[]","TRANSITION_BASE",
+                        "createTransitionBase",automatonInfo.getTransitionBaseString());
+                
+                javadoc(Member.TRANSITION_DEFAULT,"Maps state numbers to the state whose transitions are used",
+                        "for all input symbols without an entry.");
+                tableConstant(visibilityMap.getMemberName(Member.TRANSITION_DEFAULT),
+                        "static final",automatonInfo.getTransitionTableType()+"[]","TRANSITION_DEFAULT",
+                        "createTransitionDefault",automatonInfo.getTransitionDefaultString());
+                
+                javadoc(Member.TRANSITION_NEXT,"The destination states of the compressed transition table.");
+                tableConstant(visibilityMap.getMemberName(Member.TRANSITION_NEXT),
+                        "static final",automatonInfo.getTransitionTableType()+"[]","TRANSITION_NEXT",
+                        "createTransitionNext",automatonInfo.getTransitionNextString());
+                
+                javadoc(Member.TRANSITION_CHECK,"The base index of the owner of each entry of the compressed",
+                        "transition table.");
+                tableConstant(visibilityMap.getMemberName(Member.TRANSITION_CHECK),
+                        "static final",automatonInfo.getTransitionCheckType()+"[]","TRANSITION_CHECK",
+                        "createTransitionCheck",automatonInfo.getTransitionCheckString());
+            }
+            
+            else {
+                javadoc(Member.TRANSITION_TABLE,"The transition table of the DFA.");
+                tableConstant(visibilityMap.getMemberName(Member.TRANSITION_TABLE),
+                        "static final",automatonInfo.getTransitionTableType()+
+                        (automatonInfo.isFlatTransitionTable() ? "[]" : "[][]"),"TRANSITION_TABLE",
+                        "createTransitionTable",automatonInfo.getTransitionTableString());
+            }
+            
+            if (automatonInfo.isAsciiTransitionTable()) {
+                javadoc(Member.ASCII_TRANSITION_TABLE,"The transition table of the DFA for ASCII characters. The",
+                        "row of a state starts at the state number shifted by "+
+                        AutomatonInfo.ASCII_ROW_SHIFT+".");
+                tableConstant(visibilityMap.getMemberName(Member.ASCII_TRANSITION_TABLE),
+                        "static final",automatonInfo.getTransitionTableType()+"[]","ASCII_TRANSITION_TABLE",
+                        "createAsciiTransitionTable",automatonInfo.getAsciiTransitionTableString());
+            }
+        }
+        
+        javadoc(Member.ACTION_MAP,"Maps state numbers to action numbers.");
+        tableConstant(visibilityMap.getMemberName(Member.ACTION_MAP),
+                "static final",automatonInfo.getActionMapType()+"[]","ACTION_MAP",
+                "createActionMap",automatonInfo.getActionMapString());
+        
+        // load all tables from the table resource in a single pass
+        if (isTableResource) {
+            ensureEmptyLine(1);
+            line(1,"static {");
+            line(2,"ByteBuffer tableData = loadTableData();");
+            line(2,"");
+            
+            for (int i=0;i<tableAssignmentList.size();i++) {
+                line(2,tableAssignmentList.get(i));
+            }
+            
+            line(1,"}");
+        }
+    }
+    
+    /**
+     * 
+     */
+    private void tableConstant(String visibility, String modifiers,
+            String type, String name, String methodName, String string) {
+        
+        if (isTableResource) {
+            variable(visibility,modifiers,type,name,null);
+            tableAssignmentList.add(name+" = "+methodName+"(tableData);");
+        }
+        
+        else {
+            variableWithMethod(visibility,modifiers,type,name,methodName,string);
+        }
+    }
+    
+    /**
+     * 
+     */
+    private void generateLexicalStateConstants() {
         if (hasLexicalStates) {
             ensureEmptyLine(1);
             heading("Lexical State Constants");
@@ -446,20 +1007,117 @@ public class ScannerGenerator extends JavaPrinter {
                 variable(visibilityMap.getMemberName(Member.LEXICAL_STATE_ENUM),
                         "static final","int","LEXICAL_STATE_"+names[i],""+i);
             }
+            
+            if (automatonInfo.hasLazyLexicalStates()) {
+                for (int i=0;i<names.length;i++) {
+                    if (automatonInfo.isLazyLexicalState(names[i])) {
+                        generateTableSegmentClass(i,names[i]);
+                    }
+                }
+            }
+        }
+    }
+    
+    /**
+     * 
+     */
+    private void generateTableSegmentClass(int index, String name) {
+        javadoc(Member.TABLE_SEGMENT,"Decodes the table segment of the lexical state \""+name+
+                "\" on first",
+                "access to its start state.");
+        
+        line(1,visibilityMap.getMemberName(Member.TABLE_SEGMENT)+" static final class "+
+                "TableSegment"+index+" {");
+        line(2,"");
+        line(2,"static final int START_STATE = loadTableSegment("+
+                automatonInfo.getTableSegmentFirstState(name)+","+
+                automatonInfo.getStartState(name)+",");
+        
+        indent(4);
+        stringLiteral(4,TABLE_SEGMENT_LINE_SPACE,automatonInfo.getTransitionTableSegmentString(name));
+        append(",");
+        lineSeparator();
+        
+        if (automatonInfo.isAsciiTransitionTable()) {
+            indent(4);
+            stringLiteral(4,TABLE_SEGMENT_LINE_SPACE,automatonInfo.getAsciiTransitionTableSegmentString(name));
+            append(",");
+            lineSeparator();
         }
+        
+        indent(4);
+        stringLiteral(4,TABLE_SEGMENT_LINE_SPACE,automatonInfo.getActionMapSegmentString(name));
+        append(");");
+        lineSeparator();
+        
+        line(1,"}");
     }
     
     /**
      * 
      */
     private void generateHelperConstants() {
-        if (isReaderMode) {
+        if (isByteMode || isReaderMode || isCharArrayMode || isIncremental ||
+            isMemoization) {
+            
             ensureEmptyLine(1);
             heading("Helper Constants");
             
-            javadoc(Member.EMPTY_CHAR_ARRAY,false,"An empty char array which is used to avoid null checks.");
-            variable(visibilityMap.getMemberName(Member.EMPTY_CHAR_ARRAY),"static final","char[]",
-                    "EMPTY_CHAR_ARRAY","new char[]{}");
+            if (isByteArrayMode) {
+                javadoc(Member.EMPTY_BYTE_ARRAY,false,"An empty byte array which is used to avoid null checks.");
+                variable(visibilityMap.getMemberName(Member.EMPTY_BYTE_ARRAY),"static final","byte[]",
+                        "EMPTY_BYTE_ARRAY","new byte[]{}");
+            }
+            
+            else if (isByteBufferMode) {
+                javadoc(Member.EMPTY_BYTE_BUFFER,false,"An empty byte buffer which is used to avoid null checks.");
+                variable(visibilityMap.getMemberName(Member.EMPTY_BYTE_BUFFER),"static final","ByteBuffer",
+                        "EMPTY_BYTE_BUFFER","ByteBuffer.allocate(0)");
+            }
+            
+            else if (isChunkedStrategy) {
+                javadoc(Member.EMPTY_CHUNK_ARRAY,false,"An empty chunk array which is used to avoid null checks.");
+                variable(visibilityMap.getMemberName(Member.EMPTY_CHUNK_ARRAY),"static final","char[][]",
+                        "EMPTY_CHUNK_ARRAY","new char[][]{}");
+                
+                javadoc(Member.BUFFER_CHUNK_SHIFT,false,"The number of bits of a position inside a buffer chunk.");
+                variable(visibilityMap.getMemberName(Member.BUFFER_CHUNK_SHIFT),"static final","int",
+                        "BUFFER_CHUNK_SHIFT",""+BUFFER_CHUNK_SHIFT);
+                
+                javadoc(Member.BUFFER_CHUNK_SIZE,false,"The number of characters of a buffer chunk.");
+                variable(visibilityMap.getMemberName(Member.BUFFER_CHUNK_SIZE),"static final","int",
+                        "BUFFER_CHUNK_SIZE","1 << BUFFER_CHUNK_SHIFT");
+            }
+            
+            else if (isReaderMode || isCharArrayMode || isIncremental) {
+                javadoc(Member.EMPTY_CHAR_ARRAY,false,"An empty char array which is used to avoid null checks.");
+                variable(visibilityMap.getMemberName(Member.EMPTY_CHAR_ARRAY),"static final","char[]",
+                        "EMPTY_CHAR_ARRAY","new char[]{}");
+            }
+            
+            if (isVectorRuns) {
+                javadoc(Member.VECTOR_RUNS,false,"Whether the module jdk.incubator.vector is available for the run loops.");
+                variable(visibilityMap.getMemberName(Member.VECTOR_RUNS),"static final","boolean",
+                        "VECTOR_RUNS","ModuleLayer.boot().findModule(\"jdk.incubator.vector\").isPresent()");
+            }
+            
+            if (maxBufferCapacity != 0) {
+                javadoc(Member.MAX_BUFFER_CAPACITY,false,"The maximum size of the ring buffer.");
+                variable(visibilityMap.getMemberName(Member.MAX_BUFFER_CAPACITY),"static final","int",
+                        "MAX_BUFFER_CAPACITY",""+maxBufferCapacity);
+            }
+            
+            if (isIncremental) {
+                javadoc(Member.EMPTY_INT_ARRAY,false,"An empty int array which is used to avoid null checks.");
+                variable(visibilityMap.getMemberName(Member.EMPTY_INT_ARRAY),"static final","int[]",
+                        "EMPTY_INT_ARRAY","new int[]{}");
+            }
+            
+            if (isMemoization) {
+                javadoc(Member.EMPTY_LONG_ARRAY,false,"An empty long array which is used to avoid null checks.");
+                variable(visibilityMap.getMemberName(Member.EMPTY_LONG_ARRAY),"static final","long[]",
+                        "EMPTY_LONG_ARRAY","new long[]{}");
+            }
         }
     }
     
@@ -475,18 +1133,66 @@ public class ScannerGenerator extends JavaPrinter {
         
         // input mode dependent fields
         if (isReaderMode) {
-            heading("Reader Fields");
+            if (isPushMode) {
+                heading("Push Fields");
+                
+                javadoc(Member.INPUT_END,false,"Whether the end of the input has been fed.");
+                variable(visibilityMap.getMemberName(Member.INPUT_END),"","boolean","inputEnd",null);
+                
+                if (isCodePointMode) {
+                    javadoc(Member.PENDING_CHAR,false,"A high surrogate at the end of the fed characters which is held back",
+                            "until its low surrogate has been fed.");
+                    variable(visibilityMap.getMemberName(Member.PENDING_CHAR),"","char","pendingChar",null);
+                }
+            }
             
-            javadoc(Member.READER,false,"A {@link Reader} from which the input characters are read.");
-            variable(visibilityMap.getMemberName(Member.READER),"","Reader","reader",null);
+            else if (isChannelMode) {
+                heading("Channel Fields");
+                
+                javadoc(Member.CHANNEL,false,"A {@link ReadableByteChannel} from which the input bytes are read.");
+                variable(visibilityMap.getMemberName(Member.CHANNEL),"","ReadableByteChannel","channel",null);
+                
+                javadoc(Member.CHANNEL_START_CAPACITY,false,"The initial size of the character buffer.");
+                variable(visibilityMap.getMemberName(Member.CHANNEL_START_CAPACITY),"","int","channelStartCapacity",null);
+                
+                javadoc(Member.DECODER,false,"The {@link CharsetDecoder} which decodes the input bytes.");
+                variable(visibilityMap.getMemberName(Member.DECODER),"","CharsetDecoder","decoder",null);
+                
+                javadoc(Member.BYTE_BUFFER,false,"A direct buffer which contains the undecoded input bytes.");
+                variable(visibilityMap.getMemberName(Member.BYTE_BUFFER),"","ByteBuffer","byteBuffer",null);
+                
+                javadoc(Member.CHAR_BUFFER,false,"A view of the character buffer which is used by the decoder.");
+                variable(visibilityMap.getMemberName(Member.CHAR_BUFFER),"","CharBuffer","charBuffer",null);
+                
+                javadoc(Member.CHANNEL_END,false,"Whether the end of the channel has been reached.");
+                variable(visibilityMap.getMemberName(Member.CHANNEL_END),"","boolean","channelEnd",null);
+                
+                javadoc(Member.DECODER_END,false,"Whether all input bytes have been decoded.");
+                variable(visibilityMap.getMemberName(Member.DECODER_END),"","boolean","decoderEnd",null);
+            }
             
-            javadoc(Member.READER_START_CAPACITY,false,"The initial size of the character buffer.");
-            variable(visibilityMap.getMemberName(Member.READER_START_CAPACITY),"","int","readerStartCapacity",null);
+            else {
+                heading("Reader Fields");
+                
+                javadoc(Member.READER,false,"A {@link Reader} from which the input characters are read.");
+                variable(visibilityMap.getMemberName(Member.READER),"","Reader","reader",null);
+                
+                javadoc(Member.READER_START_CAPACITY,false,"The initial size of the character buffer.");
+                variable(visibilityMap.getMemberName(Member.READER_START_CAPACITY),"","int","readerStartCapacity",null);
+            }
             
             heading("Buffer Fields");
             
-            javadoc(Member.BUFFER,false,"A buffer which contains the characters of the reader.");
-            variable(visibilityMap.getMemberName(Member.BUFFER),"","char[]","buffer","EMPTY_CHAR_ARRAY");
+            javadoc(Member.BUFFER,false,isPushMode ? "A buffer which contains the fed characters." :
+                    "A buffer which contains the characters of the "+(isChannelMode ? "channel." : "reader."));
+            
+            if (isChunkedStrategy) {
+                variable(visibilityMap.getMemberName(Member.BUFFER),"","char[][]","buffer","EMPTY_CHUNK_ARRAY");
+            }
+            
+            else {
+                variable(visibilityMap.getMemberName(Member.BUFFER),"","char[]","buffer","EMPTY_CHAR_ARRAY");
+            }
             
             if (isCurMatchStrategy) {
                 javadoc(Member.BUFFER_START,false,"The position of the first available character.");
@@ -498,10 +1204,56 @@ public class ScannerGenerator extends JavaPrinter {
         }
         
         else {
-            heading("String Fields");
+            if (isCharArrayMode) {
+                heading("Char Array Fields");
+                
+                javadoc(Member.CHAR_ARRAY,false,"The current char array to be scanned.");
+                variable(visibilityMap.getMemberName(Member.CHAR_ARRAY),"","char[]","charArray","EMPTY_CHAR_ARRAY");
+            }
+            
+            else if (isByteArrayMode) {
+                heading("Byte Array Fields");
+                
+                javadoc(Member.BYTE_ARRAY,false,"The current UTF-8 encoded byte array to be scanned.");
+                variable(visibilityMap.getMemberName(Member.BYTE_ARRAY),"","byte[]","byteArray","EMPTY_BYTE_ARRAY");
+            }
+            
+            else if (isByteBufferMode) {
+                heading("Byte Buffer Fields");
+                
+                javadoc(Member.BYTE_BUFFER,false,"The current UTF-8 encoded byte buffer to be scanned.");
+                variable(visibilityMap.getMemberName(Member.BYTE_BUFFER),"","ByteBuffer","byteBuffer","EMPTY_BYTE_BUFFER");
+            }
+            
+            else if (isCharSequenceMode) {
+                heading("Char Sequence Fields");
+                
+                javadoc(Member.CHAR_SEQUENCE,false,"The current char sequence to be scanned.");
+                variable(visibilityMap.getMemberName(Member.CHAR_SEQUENCE),"","CharSequence","charSequence","\"\"");
+            }
+            
+            // Note: The incremental mode keeps the string in a gap buffer, so
+            // that an edit only moves the characters between the previous and
+            // the current edit.
+            else if (isIncremental) {
+                heading("Gap Buffer Fields");
+                
+                javadoc(Member.GAP_BUFFER,false,"The characters of the current string with a gap at the last edit.");
+                variable(visibilityMap.getMemberName(Member.GAP_BUFFER),"","char[]","gapBuffer","EMPTY_CHAR_ARRAY");
+                
+                javadoc(Member.GAP_START,false,"The start of the gap.");
+                variable(visibilityMap.getMemberName(Member.GAP_START),"","int","gapStart",null);
+                
+                javadoc(Member.GAP_LENGTH,false,"The length of the gap.");
+                variable(visibilityMap.getMemberName(Member.GAP_LENGTH),"","int","gapLength",null);
+            }
             
-            javadoc(Member.STRING,false,"The current string to be scanned.");
-            variable(visibilityMap.getMemberName(Member.STRING),"","String","string","\"\"");
+            else {
+                heading("String Fields");
+                
+                javadoc(Member.STRING,false,"The current string to be scanned.");
+                variable(visibilityMap.getMemberName(Member.STRING),"","String","string","\"\"");
+            }
             
             heading("Region Fields");
             
@@ -552,7 +1304,9 @@ public class ScannerGenerator extends JavaPrinter {
         
         boolean hasVariableLookaheads = automatonInfo.hasVariableLookaheads();
         
-        if (hasLexicalStates || hasVariableLookaheads) {
+        if (hasLexicalStates || hasVariableLookaheads || isIncremental || isPushMode ||
+            isMemoization) {
+            
             heading("Helper Fields");
             
             if (hasLexicalStates) {
@@ -570,6 +1324,66 @@ public class ScannerGenerator extends JavaPrinter {
                         "variable lookaheads.");
                 variable(visibilityMap.getMemberName(Member.POSITION_LIST),"","boolean[]","positionList",null);
             }
+            
+            if (isIncremental) {
+                javadoc(Member.CHECKPOINT_POSITIONS,false,
+                        "The start positions of the recorded scans. The positions behind the gap",
+                        "are relative to the end of the scan region.");
+                variable(visibilityMap.getMemberName(Member.CHECKPOINT_POSITIONS),"","int[]",
+                        "checkpointPositions","EMPTY_INT_ARRAY");
+                
+                javadoc(Member.CHECKPOINT_SCAN_ENDS,false,
+                        "The greatest positions which have been examined up to the recorded scans.",
+                        "The positions behind the gap are relative to the end of the scan region.");
+                variable(visibilityMap.getMemberName(Member.CHECKPOINT_SCAN_ENDS),"","int[]",
+                        "checkpointScanEnds","EMPTY_INT_ARRAY");
+                
+                if (hasLexicalStates) {
+                    javadoc(Member.CHECKPOINT_STATES,false,"The lexical states of the recorded scans.");
+                    variable(visibilityMap.getMemberName(Member.CHECKPOINT_STATES),"","int[]",
+                            "checkpointStates","EMPTY_INT_ARRAY");
+                }
+                
+                javadoc(Member.CHECKPOINT_COUNT,false,"The number of checkpoints before the gap.");
+                variable(visibilityMap.getMemberName(Member.CHECKPOINT_COUNT),"","int","checkpointCount",null);
+                
+                javadoc(Member.CHECKPOINT_GAP_END,false,"The index of the first checkpoint behind the gap.");
+                variable(visibilityMap.getMemberName(Member.CHECKPOINT_GAP_END),"","int","checkpointGapEnd",null);
+                
+                javadoc(Member.EDIT_END,false,"The end of the last edit.");
+                variable(visibilityMap.getMemberName(Member.EDIT_END),"","int","editEnd",null);
+            }
+            
+            if (isPushMode) {
+                javadoc(Member.RESUME_STATE,false,"The DFA state of the suspended scan or -1 if no scan is suspended.");
+                variable(visibilityMap.getMemberName(Member.RESUME_STATE),"","int","resumeState","-1");
+                
+                javadoc(Member.RESUME_ITERATOR,false,"The position at which the suspended scan continues.");
+                variable(visibilityMap.getMemberName(Member.RESUME_ITERATOR),"","int","resumeIterator",null);
+                
+                javadoc(Member.RESUME_MATCH_STATE,false,"The match state of the suspended scan.");
+                variable(visibilityMap.getMemberName(Member.RESUME_MATCH_STATE),"","int","resumeMatchState",null);
+                
+                javadoc(Member.RESUME_MATCH_POSITION,false,"The match position of the suspended scan.");
+                variable(visibilityMap.getMemberName(Member.RESUME_MATCH_POSITION),"","int","resumeMatchPosition",null);
+            }
+            
+            if (isMemoization) {
+                javadoc(Member.FAIL_MEMO,false,
+                        "The pairs of states and positions from which no further match can be",
+                        "reached. Each position has a row with one bit per state.");
+                variable(visibilityMap.getMemberName(Member.FAIL_MEMO),"","long[]","failMemo",
+                        "EMPTY_LONG_ARRAY");
+                
+                javadoc(Member.FAIL_MEMO_START,false,"The position of the first row of the fail memo.");
+                variable(visibilityMap.getMemberName(Member.FAIL_MEMO_START),"","int","failMemoStart",null);
+                
+                javadoc(Member.FAIL_MEMO_END,false,"The position after the last valid row of the fail memo.");
+                variable(visibilityMap.getMemberName(Member.FAIL_MEMO_END),"","int","failMemoEnd",null);
+                
+                javadoc(Member.FAIL_MEMO_HITS,false,"The number of scans which have been stopped by the fail memo.");
+                variable(visibilityMap.getMemberName(Member.FAIL_MEMO_HITS),"","long","failMemoHits",null);
+            }
         }
     }
     
@@ -584,117 +1398,407 @@ public class ScannerGenerator extends JavaPrinter {
         ensureEmptyLine(1);
         heading("Table Methods");
         
-        javadoc(Member.CREATE_CHARACTER_MAP,
-                "Creates the character map of the scanner.",
-                "",
-                "@param characterMapData The compressed data of the character map.",
-                "@return The character map of the scanner.");
-        
-        decompressionMethod(Member.CREATE_CHARACTER_MAP,automatonInfo.getCharacterMapType(),
-                "createCharacterMap","characterMapData","characterMap",
-                ""+automatonInfo.getCharacterMapSize(),
-                automatonInfo.getCharacterMapType(),
-                getOffsetString(automatonInfo.getCharacterMapOffset()),null);
-        
-        javadoc(Member.CREATE_TRANSITION_TABLE,
-                "Creates the transition table of the scanner.",
-                "",
-                "@param transitionTableData The compressed data of the transition table.",
-                "@return The transition table of the scanner.");
+        if (isTableResource) {
+            generateLoadTableDataMethod();
+        }
         
-        decompressionMethod(Member.CREATE_TRANSITION_TABLE,automatonInfo.getTransitionTableType(),
-                "createTransitionTable","transitionTableData","transitionTable",
-                ""+automatonInfo.getTotalDFAStateCount(),
-                automatonInfo.getTransitionTableType(),
-                getOffsetString(automatonInfo.getTransitionTableOffset()),
-                ""+automatonInfo.getAlphabetLength());
+        if (!automatonInfo.isDirectCoded()) {
+            if (automatonInfo.isPagedCharacterMap()) {
+                tableMethodJavadoc(Member.CREATE_CHARACTER_PAGE_TABLE,"character page table",
+                        "@param characterPageTableData The compressed data of the character page",
+                        "table.");
+                
+                decompressionMethod(Member.CREATE_CHARACTER_PAGE_TABLE,
+                        automatonInfo.getCharacterPageTableType(),"createCharacterPageTable",
+                        "characterPageTableData","characterPageTable",
+                        ""+automatonInfo.getCharacterPageTableSize(),
+                        automatonInfo.getCharacterPageTableType(),
+                        getOffsetString(automatonInfo.getCharacterPageTableOffset()),null);
+            }
+            
+            tableMethodJavadoc(Member.CREATE_CHARACTER_MAP,"character map",
+                    "@param characterMapData The compressed data of the character map.");
+            
+            decompressionMethod(Member.CREATE_CHARACTER_MAP,automatonInfo.getCharacterMapType(),
+                    "createCharacterMap","characterMapData","characterMap",
+                    ""+automatonInfo.getCharacterMapSize(),
+                    automatonInfo.getCharacterMapType(),
+                    getOffsetString(automatonInfo.getCharacterMapOffset()),null);
+            
+            if (automatonInfo.isCombTransitionTable()) {
+                tableMethodJavadoc(Member.CREATE_TRANSITION_BASE,"transition base map",
+                        "@param transitionBaseData The compressed data of the transition base map.");
+                
+                decompressionMethod(Member.CREATE_TRANSITION_BASE,automatonInfo.getTransitionBaseType(),
+                        "createTransitionBase","transitionBaseData","transitionBase",
+                        ""+automatonInfo.getTotalDFAStateCount(),
+                        automatonInfo.getTransitionBaseType(),
+                        getOffsetString(automatonInfo.getTransitionBaseOffset()),null);
+                
+                tableMethodJavadoc(Member.CREATE_TRANSITION_DEFAULT,"transition default map",
+                        "@param transitionDefaultData The compressed data of the transition default",
+                        "map.");
+                
+                decompressionMethod(Member.CREATE_TRANSITION_DEFAULT,automatonInfo.getTransitionTableType(),
+                        "createTransitionDefault","transitionDefaultData","transitionDefault",
+                        ""+automatonInfo.getTotalDFAStateCount(),
+                        automatonInfo.getTransitionTableType(),
+                        getOffsetString(automatonInfo.getTransitionTableOffset()),null);
+                
+                tableMethodJavadoc(Member.CREATE_TRANSITION_NEXT,"transition next table",
+                        "@param transitionNextData The compressed data of the transition next table.");
+                
+                decompressionMethod(Member.CREATE_TRANSITION_NEXT,automatonInfo.getTransitionTableType(),
+                        "createTransitionNext","transitionNextData","transitionNext",
+                        ""+automatonInfo.getTransitionNextSize(),
+                        automatonInfo.getTransitionTableType(),
+                        getOffsetString(automatonInfo.getTransitionTableOffset()),null);
+                
+                tableMethodJavadoc(Member.CREATE_TRANSITION_CHECK,"transition check table",
+                        "@param transitionCheckData The compressed data of the transition check",
+                        "table.");
+                
+                decompressionMethod(Member.CREATE_TRANSITION_CHECK,automatonInfo.getTransitionCheckType(),
+                        "createTransitionCheck","transitionCheckData","transitionCheck",
+                        ""+automatonInfo.getTransitionNextSize(),
+                        automatonInfo.getTransitionCheckType(),
+                        getOffsetString(automatonInfo.getTransitionCheckOffset()),null);
+            }
+            
+            else {
+                tableMethodJavadoc(Member.CREATE_TRANSITION_TABLE,"transition table",
+                        "@param transitionTableData The compressed data of the transition table.");
+                
+                if (automatonInfo.isFlatTransitionTable()) {
+                    decompressionMethod(Member.CREATE_TRANSITION_TABLE,automatonInfo.getTransitionTableType(),
+                            "createTransitionTable","transitionTableData","transitionTable",
+                            ""+automatonInfo.getTransitionTableSize(),
+                            automatonInfo.getTransitionTableType(),
+                            getOffsetString(automatonInfo.getTransitionTableOffset()),null);
+                }
+                
+                else {
+                    decompressionMethod(Member.CREATE_TRANSITION_TABLE,automatonInfo.getTransitionTableType(),
+                            "createTransitionTable","transitionTableData","transitionTable",
+                            ""+automatonInfo.getTotalDFAStateCount(),
+                            automatonInfo.getTransitionTableType(),
+                            getOffsetString(automatonInfo.getTransitionTableOffset()),
+                            ""+automatonInfo.getAlphabetLength());
+                }
+            }
+            
+            if (automatonInfo.isAsciiTransitionTable()) {
+                tableMethodJavadoc(Member.CREATE_ASCII_TRANSITION_TABLE,"ASCII transition table",
+                        "@param asciiTransitionTableData The compressed data of the ASCII",
+                        "transition table.");
+                
+                decompressionMethod(Member.CREATE_ASCII_TRANSITION_TABLE,automatonInfo.getTransitionTableType(),
+                        "createAsciiTransitionTable","asciiTransitionTableData","asciiTransitionTable",
+                        ""+automatonInfo.getAsciiTransitionTableSize(),
+                        automatonInfo.getTransitionTableType(),
+                        getOffsetString(automatonInfo.getTransitionTableOffset()),null);
+            }
+        }
         
-        javadoc(Member.CREATE_ACTION_MAP,
-                "Creates the action map of the scanner.",
-                "",
-                "@param actionMapData The compressed data of the action map.",
-                "@return The action map of the scanner.");
+        tableMethodJavadoc(Member.CREATE_ACTION_MAP,"action map",
+                "@param actionMapData The compressed data of the action map.");
         
         decompressionMethod(Member.CREATE_ACTION_MAP,automatonInfo.getActionMapType(),
                 "createActionMap","actionMapData","actionMap",
-                ""+automatonInfo.getTotalDFAStateCount(),
+                ""+automatonInfo.getActionMapSize(),
                 automatonInfo.getActionMapType(),
                 getOffsetString(automatonInfo.getActionMapOffset()),null);
+        
+        if (automatonInfo.hasLazyLexicalStates()) {
+            generateLoadTableSegmentMethod();
+        }
     }
     
     /**
      * 
      */
-    private String getOffsetString(int offset) {
-        if (offset > 0) {
-            return " - "+offset;
+    private void generateLoadTableSegmentMethod() {
+        boolean isAsciiTransitionTable = automatonInfo.isAsciiTransitionTable();
+        
+        if (isAsciiTransitionTable) {
+            javadoc(Member.LOAD_TABLE_SEGMENT,
+                    "Decodes the table segment of a lexical state into the tables of the",
+                    "scanner.",
+                    "",
+                    "@param firstState The first state of the segment.",
+                    "@param startState The start state of the lexical state.",
+                    "@param transitionTableData The compressed transition table rows of the",
+                    "segment.",
+                    "@param asciiTransitionTableData The compressed ASCII transition table",
+                    "rows of the segment.",
+                    "@param actionMapData The compressed action map entries of the segment.",
+                    "@return The start state of the lexical state.");
+            
         }
         
-        if (offset < 0) {
-            return " + "+(-offset);
+        else {
+            javadoc(Member.LOAD_TABLE_SEGMENT,
+                    "Decodes the table segment of a lexical state into the tables of the",
+                    "scanner.",
+                    "",
+                    "@param firstState The first state of the segment.",
+                    "@param startState The start state of the lexical state.",
+                    "@param transitionTableData The compressed transition table rows of the",
+                    "segment.",
+                    "@param actionMapData The compressed action map entries of the segment.",
+                    "@return The start state of the lexical state.");
+            
         }
         
-        return null;
-    }
-    
-    /**
-     * 
-     */
-    private void decompressionMethod(Member member, String type,
-            String methodName, String stringParamName, String localVarName,
-            String arraySize, String cast, String offset, String secondArraySize) {
+        indent();
+        append(visibilityMap.getMemberName(Member.LOAD_TABLE_SEGMENT));
+        ensureSpace();
+        append("static int loadTableSegment(int firstState, int startState,");
+        lineSeparator();
+        indent(3);
         
-        methodHead(visibilityMap.getMemberName(member),"static",type+(secondArraySize != null ?
-                "[][]" : "[]"),methodName,"String "+stringParamName);
+        if (isAsciiTransitionTable) {
+            append("String transitionTableData, String asciiTransitionTableData,");
+            lineSeparator();
+            indent(3);
+        }
         
-        indent(2);
-        append(type);
+        else {
+            append("String transitionTableData, ");
+        }
         
-        if (secondArraySize != null) {
-            append("[]");
+        append("String actionMapData) {");
+        lineSeparator();
+        
+        line(2,"");
+        line(2,"int length;");
+        line(2,"int i;");
+        line(2,"int j;");
+        
+        if (!automatonInfo.isFlatTransitionTable()) {
+            line(2,"int k;");
         }
         
-        append("[] ");
-        append(localVarName);
-        append(" = new ");
-        append(type);
-        append("[");
-        append(arraySize);
-        append("]");
+        segmentDecompressionLoop("transitionTableData","TRANSITION_TABLE",
+                automatonInfo.getTransitionTableType(),"firstState",
+                getOffsetString(automatonInfo.getTransitionTableOffset()),
+                automatonInfo.isFlatTransitionTable() ? null : ""+automatonInfo.getAlphabetLength());
         
-        if (secondArraySize != null) {
-            append("[");
-            append(secondArraySize);
-            append("]");
+        if (isAsciiTransitionTable) {
+            segmentDecompressionLoop("asciiTransitionTableData","ASCII_TRANSITION_TABLE",
+                    automatonInfo.getTransitionTableType(),"firstState << "+
+                    AutomatonInfo.ASCII_ROW_SHIFT,getOffsetString(automatonInfo
+                    .getTransitionTableOffset()),null);
         }
         
-        append(";");
-        lineSeparator();
+        segmentDecompressionLoop("actionMapData","ACTION_MAP",
+                automatonInfo.getActionMapType(),"firstState",
+                getOffsetString(automatonInfo.getActionMapOffset()),null);
         
-        indent(2);
-        append("int length = ");
-        append(stringParamName);
-        append(".length();");
-        lineSeparator();
+        line(2,"");
+        line(2,"return startState;");
+        line(1,"}");
+    }
+    
+    /**
+     * 
+     */
+    private void segmentDecompressionLoop(String stringParamName, String target,
+            String type, String start, String offset, String secondArraySize) {
         
-        line(2,"int i = 0;");
-        line(2,"int j = 0;");
+        line(2,"");
+        line(2,"length = "+stringParamName+".length();");
+        line(2,"i = 0;");
+        line(2,"j = "+start+";");
         
         if (secondArraySize != null) {
-            line(2,"int k = 0;");
+            line(2,"k = 0;");
         }
         
         line(2,"");
         line(2,"while (i < length) {");
+        line(3,type+" curValue = "+(!type.equals("char") ? "("+type+")" : "")+
+                (offset != null ? "((short)" : "")+stringParamName+".charAt(i++)"+
+                (offset != null ? offset+")" : "")+";");
+        line(3,"");
+        line(3,"for (int x="+stringParamName+".charAt(i++);x>0;x--) {");
+        line(4,target+(secondArraySize != null ? "[j][k++]" : "[j++]")+" = curValue;");
+        line(3,"}");
         
-        indent(3);
-        append(type);
-        append(" curValue = ");
-        
-        if ((cast != null) && !cast.equals("char")) {
-            append("(");
-            append(cast);
-            append(")");
+        if (secondArraySize != null) {
+            line(3,"");
+            line(3,"if (k == "+secondArraySize+") {");
+            line(4,"k = 0;");
+            line(4,"j++;");
+            line(3,"}");
+        }
+        
+        line(2,"}");
+    }
+    
+    /**
+     * 
+     */
+    private void generateLoadTableDataMethod() {
+        String resourceName = "table resource \\\""+tableResourceName+"\\\"";
+        String length = Integer.toString(automatonInfo.getTableDataLength());
+        String checksum = "0x"+Integer.toHexString(automatonInfo.getTableDataChecksum());
+        
+        javadoc(Member.LOAD_TABLE_DATA,
+                "Loads the binary table data of the scanner from the resource",
+                "\""+tableResourceName+"\" which is located next to the scanner class.",
+                "The resource has to start with the magic number, the length and the",
+                "checksum of the tables of this scanner and has to end behind the tables.",
+                "",
+                "@return The binary table data of the scanner.");
+        
+        methodHead(visibilityMap.getMemberName(Member.LOAD_TABLE_DATA),"static",
+                "ByteBuffer","loadTableData",null);
+        
+        line(2,"try (InputStream stream = "+typeName+".class.getResourceAsStream(\""+
+                tableResourceName+"\")) {");
+        line(3,"if (stream == null) {");
+        line(4,"throw new IllegalStateException(\"missing "+resourceName+"\");");
+        line(3,"}");
+        line(3,"");
+        line(3,"// check header");
+        line(3,"DataInputStream input = new DataInputStream(stream);");
+        line(3,"");
+        line(3,"if ((input.readInt() != 0x"+Integer.toHexString(AutomatonInfo.TABLE_DATA_MAGIC)+
+                ") || (input.readInt() != "+length+") ||");
+        line(3,"    (input.readInt() != "+checksum+")) {");
+        line(4,"");
+        line(4,"throw new IllegalStateException(\""+resourceName+
+                " does not belong to this scanner\");");
+        line(3,"}");
+        line(3,"");
+        line(3,"// read tables and check their end and their checksum");
+        line(3,"byte[] tableData = new byte["+length+"];");
+        line(3,"CRC32 crc = new CRC32();");
+        line(3,"");
+        line(3,"input.readFully(tableData);");
+        line(3,"crc.update(tableData,0,tableData.length);");
+        line(3,"");
+        line(3,"if ((input.read() != -1) || ((int)crc.getValue() != "+checksum+")) {");
+        line(4,"throw new IllegalStateException(\""+resourceName+" is corrupted\");");
+        line(3,"}");
+        line(3,"");
+        line(3,"return ByteBuffer.wrap(tableData);");
+        line(2,"}");
+        line(2,"");
+        line(2,"catch(EOFException e) {");
+        line(3,"throw new IllegalStateException(\""+resourceName+" is truncated\",e);");
+        line(2,"}");
+        line(2,"");
+        line(2,"catch(IOException e) {");
+        line(3,"throw new IllegalStateException(\"table resource \\\""+
+                tableResourceName+"\\\" could not be loaded\",e);");
+        line(2,"}");
+        line(1,"}");
+    }
+    
+    /**
+     * 
+     */
+    private void tableMethodJavadoc(Member member, String tableName,
+            String... paramLines) {
+        
+        ArrayList<String> lines = new ArrayList<>();
+        
+        lines.add("Creates the "+tableName+" of the scanner.");
+        lines.add("");
+        
+        if (isTableResource) {
+            lines.add("@param tableData The binary table data of the scanner.");
+        }
+        
+        else {
+            lines.addAll(Arrays.asList(paramLines));
+        }
+        
+        lines.add("@return The "+tableName+" of the scanner.");
+        
+        javadoc(member,lines.toArray(new String[lines.size()]));
+    }
+    
+    /**
+     * 
+     */
+    private String getOffsetString(int offset) {
+        if (offset > 0) {
+            return " - "+offset;
+        }
+        
+        if (offset < 0) {
+            return " + "+(-offset);
+        }
+        
+        return null;
+    }
+    
+    /**
+     * 
+     */
+    private void decompressionMethod(Member member, String type,
+            String methodName, String stringParamName, String localVarName,
+            String arraySize, String cast, String offset, String secondArraySize) {
+        
+        if (isTableResource) {
+            loadMethod(member,type,methodName,localVarName,arraySize,secondArraySize);
+            return;
+        }
+        
+        methodHead(visibilityMap.getMemberName(member),"static",type+(secondArraySize != null ?
+                "[][]" : "[]"),methodName,"String "+stringParamName);
+        
+        indent(2);
+        append(type);
+        
+        if (secondArraySize != null) {
+            append("[]");
+        }
+        
+        append("[] ");
+        append(localVarName);
+        append(" = new ");
+        append(type);
+        append("[");
+        append(arraySize);
+        append("]");
+        
+        if (secondArraySize != null) {
+            append("[");
+            append(secondArraySize);
+            append("]");
+        }
+        
+        append(";");
+        lineSeparator();
+        
+        indent(2);
+        append("int length = ");
+        append(stringParamName);
+        append(".length();");
+        lineSeparator();
+        
+        line(2,"int i = 0;");
+        line(2,"int j = 0;");
+        
+        if (secondArraySize != null) {
+            line(2,"int k = 0;");
+        }
+        
+        line(2,"");
+        line(2,"while (i < length) {");
+        
+        indent(3);
+        append(type);
+        append(" curValue = ");
+        
+        if ((cast != null) && !cast.equals("char")) {
+            append("(");
+            append(cast);
+            append(")");
         }
         
         if (offset != null) {
@@ -754,6 +1858,50 @@ public class ScannerGenerator extends JavaPrinter {
         line(1,"}");
     }
     
+    /**
+     * 
+     */
+    private void loadMethod(Member member, String type, String methodName,
+            String localVarName, String arraySize, String secondArraySize) {
+        
+        String arrayType = type+(secondArraySize != null ? "[][]" : "[]");
+        
+        // Note: Byte arrays are copied directly whereas all other arrays are
+        // copied via a view buffer which does not advance the position.
+        String source = type.equals("byte") ? "tableData" : "tableData.as"+
+                Character.toUpperCase(type.charAt(0))+type.substring(1)+"Buffer()";
+        
+        methodHead(visibilityMap.getMemberName(member),"static",arrayType,
+                methodName,"ByteBuffer tableData");
+        
+        line(2,arrayType+" "+localVarName+" = new "+type+"["+arraySize+"]"+
+                (secondArraySize != null ? "["+secondArraySize+"]" : "")+";");
+        line(2,"");
+        
+        if (secondArraySize != null) {
+            line(2,"for (int i=0;i<"+localVarName+".length;i++) {");
+            line(3,source+".get("+localVarName+"[i]);");
+            
+            if (!type.equals("byte")) {
+                line(3,"tableData.position(tableData.position()+"+localVarName+"[i].length*2);");
+            }
+            
+            line(2,"}");
+        }
+        
+        else {
+            line(2,source+".get("+localVarName+");");
+            
+            if (!type.equals("byte")) {
+                line(2,"tableData.position(tableData.position()+"+localVarName+".length*2);");
+            }
+        }
+        
+        line(2,"");
+        line(2,"return "+localVarName+";");
+        line(1,"}");
+    }
+    
     //==================
     // Property Methods
     //==================
@@ -765,7 +1913,15 @@ public class ScannerGenerator extends JavaPrinter {
         ensureEmptyLine(1);
         
         if (isReaderMode) {
-            if (functionalityMap.hasReaderMethod()) {
+            if (isPushMode) {
+                generatePushMethods();
+            }
+            
+            else if (isChannelMode) {
+                generateChannelMethods();
+            }
+            
+            else if (functionalityMap.hasReaderMethod()) {
                 heading("Reader Methods");
                 
                 if (functionalityMap.has(Member.SET_READER)) {
@@ -782,9 +1938,29 @@ public class ScannerGenerator extends JavaPrinter {
                             "void",createMemberName(Member.SET_READER),"Reader reader, int startCapacity");
                     
                     line(2,"this.reader = reader;");
-                    line(2,"this.readerStartCapacity = Math.max(startCapacity+1,2);");
+                    
+                    // Note: The capacity of a ring buffer has to be a power of two.
+                    if (maxBufferCapacity != 0) {
+                        line(2,"this.readerStartCapacity = Math.min(Integer.highestOneBit(Math.max(startCapacity,2)-1) << 1,");
+                        line(4,"MAX_BUFFER_CAPACITY);");
+                    }
+                    
+                    else if (isRingStrategy) {
+                        line(2,"this.readerStartCapacity = Integer.highestOneBit(Math.max(startCapacity,2)-1) << 1;");
+                    }
+                    
+                    // Note: The sentinel requires an additional character and a
+                    // compacted buffer must still have space for new characters.
+                    else if (isSentinel) {
+                        line(2,"this.readerStartCapacity = Math.max(startCapacity+2,3);");
+                    }
+                    
+                    else {
+                        line(2,"this.readerStartCapacity = Math.max(startCapacity+1,2);");
+                    }
+                    
                     line(2,"");
-                    line(2,"buffer = EMPTY_CHAR_ARRAY;");
+                    line(2,"buffer = "+(isChunkedStrategy ? "EMPTY_CHUNK_ARRAY;" : "EMPTY_CHAR_ARRAY;"));
                     
                     if (isCurMatchStrategy) {
                         line(2,"bufferStart = 0;");
@@ -792,7 +1968,7 @@ public class ScannerGenerator extends JavaPrinter {
                     
                     line(2,"bufferEnd = 0;");
                     
-                    appendResetForSharedFields();
+                    appendResetForSharedFields("0");
                     
                     line(1,"}");
                 }
@@ -826,7 +2002,7 @@ public class ScannerGenerator extends JavaPrinter {
                             "",
                             "@return The current character buffer.");
                     
-                    getter(Member.GET_BUFFER,"char[]","buffer");
+                    getter(Member.GET_BUFFER,isChunkedStrategy ? "char[][]" : "char[]","buffer");
                 }
                 
                 if (isCurMatchStrategy &&
@@ -852,7 +2028,64 @@ public class ScannerGenerator extends JavaPrinter {
         }
         
         else {
-            if (functionalityMap.hasStringMethod()) {
+            if (isCharArrayMode) {
+                generateArrayMethods(Member.SET_CHAR_ARRAY,Member.GET_CHAR_ARRAY,
+                        "Char Array Methods","char array","char[]","charArray","EMPTY_CHAR_ARRAY");
+            }
+            
+            else if (isByteArrayMode) {
+                generateArrayMethods(Member.SET_BYTE_ARRAY,Member.GET_BYTE_ARRAY,
+                        "Byte Array Methods","UTF-8 encoded byte array","byte[]","byteArray","EMPTY_BYTE_ARRAY");
+            }
+            
+            else if (isByteBufferMode) {
+                generateByteBufferMethods();
+            }
+            
+            else if (isCharSequenceMode) {
+                if (functionalityMap.has(Member.SET_CHAR_SEQUENCE) ||
+                    functionalityMap.has(Member.GET_CHAR_SEQUENCE)) {
+                    
+                    heading("Char Sequence Methods");
+                    
+                    if (functionalityMap.has(Member.SET_CHAR_SEQUENCE)) {
+                        javadoc(Member.SET_CHAR_SEQUENCE,
+                                "Sets the char sequence to be scanned. The scan region is set to the",
+                                "entire char sequence. The char sequence is not copied and thus must",
+                                "not be modified while it is scanned.",
+                                "",
+                                "@param charSequence The new char sequence to be scanned.");
+                        
+                        methodHead(visibilityMap.getMemberName(Member.SET_CHAR_SEQUENCE),"",
+                                "void",createMemberName(Member.SET_CHAR_SEQUENCE),
+                                "CharSequence charSequence");
+                        
+                        line(2,"this.charSequence = charSequence != null ? charSequence : \"\";");
+                        line(2,"");
+                        
+                        if (functionalityMap.hasRegionStartFieldReadAccess()) {
+                            line(2,"regionStart = 0;");
+                        }
+                        
+                        line(2,"regionEnd = this.charSequence.length();");
+                        
+                        appendResetForSharedFields("0");
+                        
+                        line(1,"}");
+                    }
+                    
+                    if (functionalityMap.has(Member.GET_CHAR_SEQUENCE)) {
+                        javadoc(Member.GET_CHAR_SEQUENCE,
+                                "Returns the current char sequence to be scanned.",
+                                "",
+                                "@return The current char sequence to be scanned.");
+                        
+                        getter(Member.GET_CHAR_SEQUENCE,"CharSequence","charSequence");
+                    }
+                }
+            }
+            
+            else if (functionalityMap.hasStringMethod()) {
                 heading("String Methods");
                 
                 if (functionalityMap.has(Member.SET_STRING)) {
@@ -865,16 +2098,26 @@ public class ScannerGenerator extends JavaPrinter {
                     methodHead(visibilityMap.getMemberName(Member.SET_STRING),"",
                             "void",createMemberName(Member.SET_STRING),"String string");
                     
-                    line(2,"this.string = string != null ? string : \"\";");
+                    if (isIncremental) {
+                        line(2,"gapBuffer = string != null ? string.toCharArray() : EMPTY_CHAR_ARRAY;");
+                        line(2,"gapStart = gapBuffer.length;");
+                        line(2,"gapLength = 0;");
+                    }
+                    
+                    else {
+                        line(2,"this.string = string != null ? string : \"\";");
+                    }
+                    
                     line(2,"");
                     
                     if (functionalityMap.hasRegionStartFieldReadAccess()) {
                         line(2,"regionStart = 0;");
                     }
                     
-                    line(2,"regionEnd = this.string.length();");
+                    line(2,"regionEnd = "+(isIncremental ? "gapBuffer.length" :
+                        "this.string.length()")+";");
                     
-                    appendResetForSharedFields();
+                    appendResetForSharedFields("0");
                     
                     line(1,"}");
                 }
@@ -885,7 +2128,16 @@ public class ScannerGenerator extends JavaPrinter {
                             "",
                             "@return The current string to be scanned.");
                     
-                    getter(Member.GET_STRING,"String","string");
+                    if (isIncremental) {
+                        methodHead(visibilityMap.getMemberName(Member.GET_STRING),"",
+                                "String",createMemberName(Member.GET_STRING),"");
+                        line(2,"return getGapText(0,"+createInputLength()+");");
+                        line(1,"}");
+                    }
+                    
+                    else {
+                        getter(Member.GET_STRING,"String","string");
+                    }
                 }
             }
             
@@ -903,7 +2155,7 @@ public class ScannerGenerator extends JavaPrinter {
                     methodHead(visibilityMap.getMemberName(Member.SET_REGION),"",
                             "void",createMemberName(Member.SET_REGION),"int start, int end");
                     
-                    line(2,"if ((start < 0) || (end > string.length()) || (start > end)) {");
+                    line(2,"if ((start < 0) || (end > "+createInputLength()+") || (start > end)) {");
                     line(3,"throw new IllegalArgumentException(\"region offsets out of range\");");
                     line(2,"}");
                     line(2,"");
@@ -913,6 +2165,17 @@ public class ScannerGenerator extends JavaPrinter {
                     }
                     
                     line(2,"regionEnd = end;");
+                    
+                    if (isIncremental) {
+                        line(2,"");
+                        appendCheckpointReset();
+                    }
+                    
+                    if (isMemoization) {
+                        line(2,"");
+                        appendFailMemoReset();
+                    }
+                    
                     line(2,"");
                     line(2,"if (dot < start) {");
                     line(3,"dot = start;");
@@ -993,7 +2256,8 @@ public class ScannerGenerator extends JavaPrinter {
             String[] names = automatonInfo.getNameMap().getNames();
             
             for (int i=0;i<names.length;i++) {
-                int startState = automatonInfo.getStartState(names[i]);
+                String startState = automatonInfo.isLazyLexicalState(names[i]) ?
+                        "TableSegment"+i+".START_STATE" : ""+automatonInfo.getStartState(names[i]);
                 
                 line(2,"case LEXICAL_STATE_"+names[i]+": startState = "+startState+"; break;");
             }
@@ -1076,8 +2340,6 @@ public class ScannerGenerator extends JavaPrinter {
                 getter(Member.GET_MATCH_LOOKAHEAD_LENGTH,"int","matchLookahead - matchEnd");
             }
             
-            String curMatchStrategyDelta = isCurMatchStrategy ? "-bufferStart" : "";
-            
             if (functionalityMap.has(Member.GET_MATCH_TEXT)) {
                 javadoc(Member.GET_MATCH_TEXT,
                         "Returns the text of the last match.",
@@ -1090,11 +2352,11 @@ public class ScannerGenerator extends JavaPrinter {
                 if (isReaderMode) {
                     line(2,"int count = matchEnd - matchStart;");
                     line(2,"");
-                    line(2,"return count > 0 ? new String(buffer,matchStart"+curMatchStrategyDelta+",count) : \"\";");
+                    line(2,"return count > 0 ? "+createBufferText("matchStart")+" : \"\";");
                 }
                 
                 else {
-                    line(2,"return string.substring(matchStart,matchEnd);");
+                    line(2,"return "+createSubstring("matchStart","matchEnd")+";");
                 }
                 
                 line(1,"}");
@@ -1134,11 +2396,11 @@ public class ScannerGenerator extends JavaPrinter {
                 if (isReaderMode) {
                     line(2,"int count = endIndex - startIndex;");
                     line(2,"");
-                    line(2,"return count > 0 ? new String(buffer,startIndex"+curMatchStrategyDelta+",count) : \"\";");
+                    line(2,"return count > 0 ? "+createBufferText("startIndex")+" : \"\";");
                 }
                 
                 else {
-                    line(2,"return string.substring(startIndex,endIndex);");
+                    line(2,"return "+createSubstring("startIndex","endIndex")+";");
                 }
                 
                 line(1,"}");
@@ -1156,11 +2418,11 @@ public class ScannerGenerator extends JavaPrinter {
                 if (isReaderMode) {
                     line(2,"int count = matchLookahead - matchStart;");
                     line(2,"");
-                    line(2,"return count > 0 ? new String(buffer,matchStart"+curMatchStrategyDelta+",count) : \"\";");
+                    line(2,"return count > 0 ? "+createBufferText("matchStart")+" : \"\";");
                 }
                 
                 else {
-                    line(2,"return string.substring(matchStart,matchLookahead);");
+                    line(2,"return "+createSubstring("matchStart","matchLookahead")+";");
                 }
                 
                 line(1,"}");
@@ -1178,11 +2440,11 @@ public class ScannerGenerator extends JavaPrinter {
                 if (isReaderMode) {
                     line(2,"int count = matchLookahead - matchEnd;");
                     line(2,"");
-                    line(2,"return count > 0 ? new String(buffer,matchEnd"+curMatchStrategyDelta+",count) : \"\";");
+                    line(2,"return count > 0 ? "+createBufferText("matchEnd")+" : \"\";");
                 }
                 
                 else {
-                    line(2,"return string.substring(matchEnd,matchLookahead);");
+                    line(2,"return "+createSubstring("matchEnd","matchLookahead")+";");
                 }
                 
                 line(1,"}");
@@ -1210,9 +2472,7 @@ public class ScannerGenerator extends JavaPrinter {
                 line(2,"}");
                 line(2,"");
                 
-                line(2,isReaderMode ?
-                        "return buffer[stringIndex"+curMatchStrategyDelta+"];" :
-                        "return string.charAt(stringIndex);");
+                line(2,"return "+createCharAccess("stringIndex")+";");
                 
                 line(1,"}");
             }
@@ -1226,589 +2486,3347 @@ public class ScannerGenerator extends JavaPrinter {
     /**
      * 
      */
-    private void generateScanMethods() {
-        ensureEmptyLine(1);
-        heading("Scan Methods");
-        
-        // create method throw types
-        LinkedHashSet<TypeDescriptor> methodThrowsTypes = new LinkedHashSet<>();
-        
-        if (isReaderMode) {
-            methodThrowsTypes.add(TYPE_IO_EXCEPTION);
+    private void generatePushMethods() {
+        if (functionalityMap.hasPushMethod()) {
+            heading("Push Methods");
+            
+            if (functionalityMap.has(Member.FEED)) {
+                javadoc(Member.FEED,
+                        "Appends the specified range of characters to the input. If the available",
+                        "input ends inside of a match then the scan is suspended and continued",
+                        "after further characters have been fed.",
+                        "",
+                        "@param chars The array which contains the characters.",
+                        "@param offset The index of the first character.",
+                        "@param length The number of characters.",
+                        "@param endOfInput Whether the characters are the last ones of the input.");
+                
+                methodHead(visibilityMap.getMemberName(Member.FEED),"","void",
+                        createMemberName(Member.FEED),"char[] chars, int offset, int length, "+
+                        "boolean endOfInput");
+                
+                generateFeedBody("System.arraycopy(chars,offset,buffer,"+
+                        createBufferIndex("bufferEnd")+",length);");
+                
+                javadoc(Member.FEED,
+                        "Appends the remaining characters of the specified {@link CharBuffer} to",
+                        "the input. If the available input ends inside of a match then the scan",
+                        "is suspended and continued after further characters have been fed.",
+                        "",
+                        "@param chars The {@link CharBuffer} which contains the characters.",
+                        "@param endOfInput Whether the characters are the last ones of the input.");
+                
+                methodHead(visibilityMap.getMemberName(Member.FEED),"","void",
+                        createMemberName(Member.FEED),"CharBuffer chars, boolean endOfInput");
+                
+                line(2,"int length = chars.remaining();");
+                line(2,"");
+                
+                generateFeedBody("chars.get(buffer,"+createBufferIndex("bufferEnd")+",length);");
+            }
+            
+            if (functionalityMap.has(Member.IS_INPUT_NEEDED)) {
+                javadoc(Member.IS_INPUT_NEEDED,
+                        "Checks whether further characters have to be fed before the next step",
+                        "of the lexical analysis can be performed. This is the case if a scan",
+                        "has been suspended or if all fed characters have been scanned before",
+                        "the end of the input has been fed.",
+                        "",
+                        "@return True if further characters are needed, otherwise false.");
+                
+                methodHead(visibilityMap.getMemberName(Member.IS_INPUT_NEEDED),"",
+                        "boolean",createMemberName(Member.IS_INPUT_NEEDED),null);
+                
+                line(2,"return (resumeState != -1) || ((dot == bufferEnd) && !inputEnd);");
+                line(1,"}");
+            }
         }
+    }
+    
+    /**
+     * 
+     */
+    private void generateFeedBody(String copyStatement) {
         
-        methodThrowsTypes.addAll(methodThrows);
-        
-        // create Javadoc throw types
-        LinkedHashSet<TypeDescriptor> javaDocThrowsTypes = new LinkedHashSet<>(methodThrowsTypes);
+        // Note: A held back high surrogate requires space for one additional
+        // character.
+        line(2,"ensureBufferSpace("+(isCodePointMode ? "length+1" : "length")+");");
+        line(2,"");
         
-        if (noMatchAction == NoMatchAction.ERROR) {
-            javaDocThrowsTypes.add(TYPE_ILLEGAL_STATE_EXCEPTION);
+        if (isCodePointMode) {
+            line(2,"int oldBufferEnd = bufferEnd;");
+            line(2,"");
+            line(2,"// append a held back high surrogate");
+            line(2,"if (pendingChar != 0) {");
+            line(3,createCharAccess("bufferEnd")+" = pendingChar;");
+            line(3,"bufferEnd++;");
+            line(3,"pendingChar = 0;");
+            line(2,"}");
+            line(2,"");
         }
         
-        javadoc(Member.GET_NEXT_TOKEN,
-                createDocComment(true,javaDocThrowsTypes,new String[]{
-                "Performs at the current position the next step of the lexical analysis",
-                "and returns the result."
-                },"The result of the next step of the lexical analysis."));
+        line(2,copyStatement);
+        line(2,"bufferEnd += length;");
+        line(2,"inputEnd = endOfInput;");
         
-        indent();
-        append(visibilityMap.getMemberName(Member.GET_NEXT_TOKEN));
-        ensureSpace();
-        append(config.getUsedReturnType());
-        append(" ");
-        append(config.getOptions().getMethodName()+(internalMap
-                .get(Member.GET_NEXT_TOKEN) ? "Internal" : ""));
-        append("() ");
+        // Note: A code point is only scanned if both of its surrogates are
+        // available.
+        if (isCodePointMode) {
+            line(2,"");
+            line(2,"// hold back a trailing high surrogate until its low surrogate is fed");
+            line(2,"if (!endOfInput && (bufferEnd != oldBufferEnd) &&");
+            line(2,"    Character.isHighSurrogate("+createCharAccess("bufferEnd-1")+")) {");
+            line(3,"");
+            line(3,"bufferEnd--;");
+            line(3,"pendingChar = "+createCharAccess("bufferEnd")+";");
+            line(2,"}");
+        }
         
-        if (!methodThrowsTypes.isEmpty()) {
-            append("throws ");
-            
-            Iterator<TypeDescriptor> iterator = methodThrowsTypes.iterator();
-            int throwCounter = 0;
-            
-            while (iterator.hasNext()) {
-                append(iterator.next().getSimpleName());
-                throwCounter++;
+        line(1,"}");
+    }
+    
+    /**
+     * 
+     */
+    private void generateChannelMethods() {
+        if (functionalityMap.hasChannelMethod()) {
+            heading("Channel Methods");
+            
+            if (functionalityMap.has(Member.SET_CHANNEL)) {
+                javadoc(Member.SET_CHANNEL,
+                        "Reinitializes the scanner by setting the {@link ReadableByteChannel}, the",
+                        "{@link Charset} of its bytes and the initial buffer size to the specified",
+                        "values. All other values are set to their default value. The decoder and",
+                        "the byte buffer of the previous channel are reused if possible.",
+                        "",
+                        "@param channel The new blocking {@link ReadableByteChannel} from which",
+                        "the input bytes are read.",
+                        "@param charset The {@link Charset} which is used to decode the input bytes.",
+                        "@param startCapacity The initial size of the character buffer.");
                 
-                if (iterator.hasNext()) {
-                    append(",");
-                    
-                    if (((throwCounter - 1) % 2) == 0) {
-                        lineSeparator();
-                        indent(3);
-                    }
-                    
-                    else {
-                        append(" ");
-                    }
+                methodHead(visibilityMap.getMemberName(Member.SET_CHANNEL),"",
+                        "void",createMemberName(Member.SET_CHANNEL),
+                        "ReadableByteChannel channel, Charset charset, int startCapacity");
+                
+                line(2,"this.channel = channel;");
+                line(2,"this.channelStartCapacity = Math.max(startCapacity+1,4);");
+                line(2,"");
+                line(2,"if ((decoder == null) || !decoder.charset().equals(charset)) {");
+                line(3,"decoder = charset.newDecoder()");
+                line(5,".onMalformedInput(CodingErrorAction.REPLACE)");
+                line(5,".onUnmappableCharacter(CodingErrorAction.REPLACE);");
+                line(2,"}");
+                line(2,"");
+                line(2,"else {");
+                line(3,"decoder.reset();");
+                line(2,"}");
+                line(2,"");
+                line(2,"if (byteBuffer == null) {");
+                line(3,"byteBuffer = ByteBuffer.allocateDirect("+CHANNEL_BUFFER_CAPACITY+");");
+                line(2,"}");
+                line(2,"");
+                line(2,"byteBuffer.clear();");
+                line(2,"byteBuffer.limit(0);");
+                line(2,"channelEnd = false;");
+                line(2,"decoderEnd = false;");
+                line(2,"");
+                line(2,"buffer = EMPTY_CHAR_ARRAY;");
+                
+                if (isCurMatchStrategy) {
+                    line(2,"bufferStart = 0;");
                 }
+                
+                line(2,"bufferEnd = 0;");
+                
+                appendResetForSharedFields("0");
+                
+                line(1,"}");
             }
             
-            append(" ");
+            if (functionalityMap.has(Member.GET_CHANNEL)) {
+                javadoc(Member.GET_CHANNEL,
+                        "Returns the {@link ReadableByteChannel} from which the input bytes are",
+                        "read.",
+                        "",
+                        "@return The {@link ReadableByteChannel} from which the input bytes are",
+                        "read.");
+                
+                getter(Member.GET_CHANNEL,"ReadableByteChannel","channel");
+            }
+            
+            if (functionalityMap.has(Member.GET_CHANNEL_START_CAPACITY)) {
+                javadoc(Member.GET_CHANNEL_START_CAPACITY,
+                        "Returns the initial size of the character buffer.",
+                        "",
+                        "@return The initial size of the character buffer.");
+                
+                getter(Member.GET_CHANNEL_START_CAPACITY,"int","channelStartCapacity");
+            }
         }
+    }
+    
+    /**
+     * 
+     */
+    private void generateArrayMethods(Member setMember, Member getMember,
+            String headingText, String description, String type, String name,
+            String emptyArray) {
         
-        append("{");
+        if (functionalityMap.has(setMember) || functionalityMap.has(getMember)) {
+            heading(headingText);
+            
+            if (functionalityMap.has(setMember)) {
+                javadoc(setMember,
+                        "Sets the "+description+" to be scanned. The scan region is set",
+                        "to the specified range of the array. The array is not copied and thus",
+                        "must not be modified while it is scanned.",
+                        "",
+                        "@param "+name+" The new "+description+" to be scanned.",
+                        "@param start The start of the scan region (inclusive).",
+                        "@param end The end of the scan region (exclusive).",
+                        "@throws IllegalArgumentException If the region is out of range");
+                
+                methodHead(visibilityMap.getMemberName(setMember),"",
+                        "void",createMemberName(setMember),
+                        type+" "+name+", int start, int end");
+                
+                line(2,"if ("+name+" == null) {");
+                line(3,name+" = "+emptyArray+";");
+                line(2,"}");
+                line(2,"");
+                line(2,"if ((start < 0) || (end > "+name+".length) || (start > end)) {");
+                line(3,"throw new IllegalArgumentException(\"region offsets out of range\");");
+                line(2,"}");
+                line(2,"");
+                line(2,"this."+name+" = "+name+";");
+                line(2,"");
+                
+                if (functionalityMap.hasRegionStartFieldReadAccess()) {
+                    line(2,"regionStart = start;");
+                }
+                
+                line(2,"regionEnd = end;");
+                
+                appendResetForSharedFields("start");
+                
+                line(1,"}");
+            }
+            
+            if (functionalityMap.has(getMember)) {
+                javadoc(getMember,
+                        "Returns the current "+description+" to be scanned.",
+                        "",
+                        "@return The current "+description+" to be scanned.");
+                
+                getter(getMember,type,name);
+            }
+        }
+    }
+    
+    /**
+     * 
+     */
+    private void generateByteBufferMethods() {
+        if (functionalityMap.has(Member.SET_BYTE_BUFFER) ||
+            functionalityMap.has(Member.GET_BYTE_BUFFER)) {
+            
+            heading("Byte Buffer Methods");
+            
+            if (functionalityMap.has(Member.SET_BYTE_BUFFER)) {
+                javadoc(Member.SET_BYTE_BUFFER,
+                        "Sets the UTF-8 encoded byte buffer to be scanned. The scan region is",
+                        "set to the remaining bytes of the buffer. The bytes are read with",
+                        "absolute indices and thus neither the position nor the limit of the",
+                        "buffer are changed. The buffer must not be modified while it is",
+                        "scanned.",
+                        "",
+                        "@param byteBuffer The new UTF-8 encoded byte buffer to be scanned.");
+                
+                methodHead(visibilityMap.getMemberName(Member.SET_BYTE_BUFFER),"",
+                        "void",createMemberName(Member.SET_BYTE_BUFFER),"ByteBuffer byteBuffer");
+                
+                line(2,"if (byteBuffer == null) {");
+                line(3,"byteBuffer = EMPTY_BYTE_BUFFER;");
+                line(2,"}");
+                line(2,"");
+                line(2,"int start = byteBuffer.position();");
+                line(2,"");
+                line(2,"this.byteBuffer = byteBuffer;");
+                line(2,"");
+                
+                if (functionalityMap.hasRegionStartFieldReadAccess()) {
+                    line(2,"regionStart = start;");
+                }
+                
+                line(2,"regionEnd = byteBuffer.limit();");
+                
+                appendResetForSharedFields("start");
+                
+                line(1,"}");
+            }
+            
+            if (functionalityMap.has(Member.GET_BYTE_BUFFER)) {
+                javadoc(Member.GET_BYTE_BUFFER,
+                        "Returns the current UTF-8 encoded byte buffer to be scanned.",
+                        "",
+                        "@return The current UTF-8 encoded byte buffer to be scanned.");
+                
+                getter(Member.GET_BYTE_BUFFER,"ByteBuffer","byteBuffer");
+            }
+        }
+    }
+    
+    /**
+     * 
+     */
+    private void generateScanMethods() {
+        ensureEmptyLine(1);
+        heading("Scan Methods");
+        
+        // create method throw types
+        LinkedHashSet<TypeDescriptor> methodThrowsTypes = new LinkedHashSet<>();
+        
+        if (isReaderMode && !isPushMode) {
+            methodThrowsTypes.add(TYPE_IO_EXCEPTION);
+        }
+        
+        methodThrowsTypes.addAll(methodThrows);
+        
+        // create Javadoc throw types
+        LinkedHashSet<TypeDescriptor> javaDocThrowsTypes = new LinkedHashSet<>(methodThrowsTypes);
+        
+        if (noMatchAction == NoMatchAction.ERROR) {
+            javaDocThrowsTypes.add(TYPE_ILLEGAL_STATE_EXCEPTION);
+        }
+        
+        javadoc(Member.GET_NEXT_TOKEN,
+                createDocComment(true,javaDocThrowsTypes,new String[]{
+                "Performs at the current position the next step of the lexical analysis",
+                "and returns the result."
+                },"The result of the next step of the lexical analysis."));
+        
+        indent();
+        append(visibilityMap.getMemberName(Member.GET_NEXT_TOKEN));
+        ensureSpace();
+        append(config.getUsedReturnType());
+        append(" ");
+        append(config.getOptions().getMethodName()+(internalMap
+                .get(Member.GET_NEXT_TOKEN) ? "Internal" : ""));
+        append("() ");
+        appendThrowsClause(methodThrowsTypes);
+        generateScanLoop(false,false);
+        
+        if (hasTokenCodeScan) {
+            line(1,"");
+            javadoc(Member.GET_NEXT_TOKEN_CODE,
+                    createDocComment(true,javaDocThrowsTypes,new String[]{
+                    "Performs at the current position the next step of the lexical analysis",
+                    "and returns the token code of the matched rule. The methods of the",
+                    "rules with a token code are not called, so that no token object is",
+                    "created. The positions of the token are available via the match methods."
+                    },"The token code of the next token or -1 if there is no further token."));
+            
+            indent();
+            append(visibilityMap.getMemberName(Member.GET_NEXT_TOKEN_CODE));
+            ensureSpace();
+            append("int getNextTokenCode() ");
+            appendThrowsClause(methodThrowsTypes);
+            generateScanLoop(false,true);
+        }
+        
+        if (hasTokenize) {
+            line(1,"");
+            javadoc(Member.TOKENIZE,
+                    createDocComment(true,javaDocThrowsTypes,new String[]{
+                    "Performs at the current position the lexical analysis for up to the",
+                    "specified number of tokens and stores the results and the positions of",
+                    "the tokens in the specified arrays."
+                    },new String[]{
+                    "@param types The array which receives the results of the tokens.",
+                    "@param starts The array which receives the start positions of the tokens.",
+                    "@param ends The array which receives the end positions of the tokens.",
+                    "@param max The maximum number of tokens."
+                    },"The number of tokens which have been stored in the arrays."));
+            
+            indent();
+            append(visibilityMap.getMemberName(Member.TOKENIZE));
+            ensureSpace();
+            append("int tokenize(int[] types, int[] starts, int[] ends, int max) ");
+            appendThrowsClause(methodThrowsTypes);
+            generateScanLoop(true,false);
+        }
+        
+        if (isIncremental) {
+            generateRelexMethod();
+        }
+        
+        if (hasTokenizeParallel) {
+            generateTokenizeParallelMethod(methodThrowsTypes,javaDocThrowsTypes);
+        }
+        
+        if (isMemoization && functionalityMap.has(Member.GET_FAIL_MEMO_HITS)) {
+            line(1,"");
+            javadoc(Member.GET_FAIL_MEMO_HITS,
+                    "Returns the number of scans which have been stopped early because they",
+                    "reached a state at a position from which no further match is reachable.",
+                    "The number is reset when the input or the region changes.",
+                    "",
+                    "@return The number of scans which have been stopped by the fail memo.");
+            
+            getter(Member.GET_FAIL_MEMO_HITS,"long","failMemoHits");
+        }
+    }
+    
+    /**
+     * 
+     */
+    private void generateTokenizeParallelMethod(LinkedHashSet<TypeDescriptor> methodThrowsTypes,
+            LinkedHashSet<TypeDescriptor> javaDocThrowsTypes) {
+        
+        String stateVar = getParallelStateVar();
+        
+        javadoc(Member.TOKENIZE_PARALLEL,
+                createDocComment(true,javaDocThrowsTypes,new String[]{
+                "Performs at the current position the lexical analysis of the remaining",
+                "input in parallel. The input is split into chunks which start after a line",
+                "break. The chunks are scanned concurrently by scanners of the specified",
+                "factory, whereby all chunks except the first one start in the initial",
+                "lexical state. The tokens of a chunk are taken over at the first position",
+                "at which the chunk agrees with the preceding tokens in the position and",
+                "the lexical state. Before this position the tokens are rescanned.",
+                "Chunks are only split after line breaks. An input without line breaks",
+                "is therefore scanned as a single chunk."
+                },new String[]{
+                "@param factory The factory which creates the scanners for the chunks.",
+                "@param chunkLength The minimum length of a chunk.",
+                },"The results, start and end positions of the tokens as consecutive triples."));
+        
+        indent();
+        append(visibilityMap.getMemberName(Member.TOKENIZE_PARALLEL));
+        ensureSpace();
+        append("int[] tokenizeParallel(Supplier<? extends "+typeName+"> factory,");
         lineSeparator();
+        indent(3);
+        append("int chunkLength) ");
+        appendThrowsClause(methodThrowsTypes);
         
-        if (methodThrowsTypes.size() > 1) {
+        if (methodThrowsTypes.size() <= 1) {
             line(2,"");
         }
         
-        boolean isLoop = (noMatchAction == NoMatchAction.CONTINUE) ||
-                config.getHasAlsoVoidReturnType();
-        String entranceCondition = isReaderMode ?
-                "(reader != null) && hasNextChar(dot)" :
-                "dot < regionEnd";
+        line(2,"// split input into chunks which start after a line break");
+        line(2,"ArrayList<TokenChunk> chunkList = new ArrayList<>();");
+        line(2,"int chunkStart = dot;");
         
-        if (isLoop) {
-            line(2,"while ("+entranceCondition+") {");
+        if (stateVar != null) {
+            line(2,"int chunkState = "+stateVar+";");
         }
         
-        else {
-            line(2,"if ("+entranceCondition+") {");
+        line(2,"");
+        line(2,"while (chunkStart < regionEnd) {");
+        line(3,"int chunkEnd = string.indexOf('\\n',chunkStart+Math.max(chunkLength,1)-1) + 1;");
+        line(3,"");
+        line(3,"if ((chunkEnd == 0) || (chunkEnd > regionEnd)) {");
+        line(4,"chunkEnd = regionEnd;");
+        line(3,"}");
+        line(3,"");
+        line(3,"TokenChunk chunk = new TokenChunk();");
+        line(3,"");
+        line(3,"chunk.scanner = createChunkScanner(factory.get(),chunkStart"+
+                (stateVar != null ? ",chunkState" : "")+");");
+        line(3,"chunk.end = chunkEnd;");
+        line(3,"chunk.addEntry(chunkStart"+(stateVar != null ? ",chunkState" : "")+");");
+        line(3,"chunkList.add(chunk);");
+        line(3,"");
+        line(3,"chunkStart = chunkEnd;");
+        
+        if (stateVar != null) {
+            line(3,"chunkState = "+getInitialStateValue()+";");
         }
         
+        line(2,"}");
+        line(2,"");
+        line(2,"// scan chunks in parallel");
+        line(2,"ForkJoinTask.invokeAll(chunkList);");
+        line(2,"");
+        line(2,"// take over the tokens of the chunks and rescan where they disagree");
+        line(2,"TokenChunk result = new TokenChunk();");
+        line(2,"int[] types = new int[1];");
+        line(2,"int[] starts = new int[1];");
+        line(2,"int[] ends = new int[1];");
+        line(2,"int position = dot;");
+        
+        if (stateVar != null) {
+            line(2,"int state = "+stateVar+";");
+        }
+        
+        line(2,"boolean isEnded = false;");
+        line(2,"");
+        line(2,"for (int i=0;(i<chunkList.size()) && !isEnded;i++) {");
+        line(3,"TokenChunk chunk = chunkList.get(i);");
+        line(3,"int index = 0;");
         line(3,"");
-        line(3,"// find longest match");
+        line(3,"while (!isEnded && (position < chunk.end)) {");
+        line(4,"while ((index < chunk.entryCount) && (chunk.positions[index] < position)) {");
+        line(5,"index++;");
+        line(4,"}");
+        line(4,"");
         
-        String startState = hasLexicalStates ? "startState" :
-            ""+automatonInfo.getStartState(Condition.NAME_INITIAL);
+        if (stateVar != null) {
+            line(4,"if ((index < chunk.entryCount) && (chunk.positions[index] == position) &&");
+            line(4,"    (chunk.states[index] == state)) {");
+            line(5,"");
+        }
         
-        line(3,"int curState = "+startState+";");
-        line(3,"int iterator = dot;");
-        line(3,"int matchState = -1;");
-        line(3,"int matchPosition = 0;");
-        line(3,"");
-        line(3,"do {");
+        else {
+            line(4,"if ((index < chunk.entryCount) && (chunk.positions[index] == position)) {");
+        }
+        
+        line(5,"result.addTokens(chunk,index);");
+        line(5,"position = chunk.positions[chunk.entryCount-1];");
         
-        generateStateTransition(1,false);
+        if (stateVar != null) {
+            line(5,"state = chunk.states[chunk.entryCount-1];");
+        }
         
+        line(5,"index = chunk.entryCount;");
+        line(5,"continue;");
+        line(4,"}");
         line(4,"");
-        line(4,"if (curState == -1) {");
-        line(5,"break;");
+        line(4,"// rescan one token");
+        line(4,"dot = position;");
+        
+        if (stateVar != null) {
+            line(4,getParallelStateAssignment("","state"));
+        }
+        
+        line(4,"");
+        line(4,"try {");
+        line(5,"if (tokenize(types,starts,ends,1) != 0) {");
+        line(6,"result.addToken(types[0],starts[0],ends[0]);");
+        line(5,"}");
+        line(5,"");
+        line(5,"else {");
+        line(6,"isEnded = true;");
+        line(5,"}");
         line(4,"}");
         line(4,"");
-        line(4,"if (ACTION_MAP[curState] != -1) {");
-        line(5,"matchState = curState;");
-        line(5,"matchPosition = iterator;");
+        line(4,"catch (Exception e) {");
+        line(5,"if (result.tokenLength == 0) {");
+        line(6,"throw e;");
+        line(5,"}");
+        line(5,"");
+        line(5,"// Note: The error is reported by the next call.");
+        line(5,"isEnded = true;");
         line(4,"}");
+        line(4,"");
+        line(4,"position = dot;");
+        
+        if (stateVar != null) {
+            line(4,"state = "+stateVar+";");
+        }
+        
+        line(3,"}");
+        line(2,"}");
+        line(2,"");
+        line(2,"// update position and lexical state");
+        line(2,"dot = position;");
+        
+        if (stateVar != null) {
+            line(2,getParallelStateAssignment("","state"));
+        }
+        
+        line(2,"");
+        line(2,"return Arrays.copyOf(result.tokens,result.tokenLength);");
+        line(1,"}");
+    }
+    
+    /**
+     * 
+     */
+    private void generateTokenChunkClass() {
+        String stateVar = getParallelStateVar();
         
-        String loopCondition = isReaderMode ? "hasNextChar(++iterator)" :
-            "++iterator < regionEnd";
+        javadoc(Member.TOKEN_CHUNK,"Scans a chunk of the input for the parallel lexical analysis. The",
+                "tokens are scanned in batches and the position and lexical state after",
+                "each batch are stored as entry points for the join with the preceding",
+                "chunk. The first tokens of the chunk and the tokens up to its end are",
+                "scanned one by one, so that the entry points cover the chunk boundaries.");
         
-        line(3,"} while ("+loopCondition+");");
+        line(1,visibilityMap.getMemberName(Member.TOKEN_CHUNK)+
+                " static final class TokenChunk extends RecursiveAction {");
+        line(2,"");
+        line(2,"private static final long serialVersionUID = 1L;");
+        line(2,"");
+        line(2,typeName+" scanner;");
+        line(2,"int end;");
+        line(2,"int[] tokens = new int[48];");
+        line(2,"int tokenLength;");
+        line(2,"int[] positions = new int[16];");
+        
+        if (stateVar != null) {
+            line(2,"int[] states = new int[16];");
+        }
         
+        line(2,"int[] offsets = new int[16];");
+        line(2,"int entryCount;");
+        line(2,"");
+        line(2,"@Override");
+        line(2,"protected void compute() {");
+        line(3,"int[] types = new int[64];");
+        line(3,"int[] starts = new int[64];");
+        line(3,"int[] ends = new int[64];");
+        line(3,"int start = scanner.dot;");
+        line(3,"int batchLength = 1;");
         line(3,"");
-        line(3,"// match found, perform action");
-        line(3,"if (matchState != -1) {");
+        line(3,"// Note: Errors are reproduced by the rescan if necessary.");
+        line(3,"try {");
+        line(4,"while (scanner.dot < end) {");
+        line(5,"int count = scanner.tokenize(types,starts,ends,batchLength);");
+        line(5,"");
+        line(5,"if (count == 0) {");
+        line(6,"break;");
+        line(5,"}");
+        line(5,"");
+        line(5,"for (int i=0;i<count;i++) {");
+        line(6,"addToken(types[i],starts[i],ends[i]);");
+        line(5,"}");
+        line(5,"");
+        line(5,"addEntry(scanner.dot"+(stateVar != null ? ",scanner."+stateVar : "")+");");
+        line(5,"");
+        line(5,"// Note: The batches are shortened at the start and towards the end of");
+        line(5,"// the chunk. This records an entry after each token where the chunk is");
+        line(5,"// joined with its neighbours.");
+        line(5,"int tokenCount = tokenLength / 3;");
+        line(5,"long remaining = (long)(end - scanner.dot) * tokenCount;");
+        line(5,"");
+        line(5,"batchLength = tokenCount < 64 ? 1 : (int)Math.max(1,Math.min(64,");
+        line(5,"        remaining/Math.max(1,scanner.dot-start)));");
+        line(4,"}");
+        line(3,"}");
+        line(3,"");
+        line(3,"catch (Exception e) {");
+        line(4,"// ignore");
+        line(3,"}");
+        line(3,"");
+        line(3,"scanner = null;");
+        line(2,"}");
+        line(2,"");
+        line(2,"void addToken(int type, int start, int end) {");
+        line(3,"if (tokenLength + 3 > tokens.length) {");
+        line(4,"tokens = Arrays.copyOf(tokens,"+createBufferIncrement("tokens.length")+");");
+        line(3,"}");
+        line(3,"");
+        line(3,"tokens[tokenLength++] = type;");
+        line(3,"tokens[tokenLength++] = start;");
+        line(3,"tokens[tokenLength++] = end;");
+        line(2,"}");
+        line(2,"");
+        line(2,"void addTokens(TokenChunk chunk, int index) {");
+        line(3,"int offset = chunk.offsets[index];");
+        line(3,"int length = chunk.tokenLength - offset;");
+        line(3,"");
+        line(3,"if (tokenLength + length > tokens.length) {");
+        line(4,"tokens = Arrays.copyOf(tokens,Math.max(tokenLength+length,"+
+                createBufferIncrement("tokens.length")+"));");
+        line(3,"}");
+        line(3,"");
+        line(3,"System.arraycopy(chunk.tokens,offset,tokens,tokenLength,length);");
+        line(3,"tokenLength += length;");
+        line(2,"}");
+        line(2,"");
+        line(2,"void addEntry(int position"+(stateVar != null ? ", int state" : "")+") {");
+        line(3,"if (entryCount == positions.length) {");
+        line(4,"positions = Arrays.copyOf(positions,"+createBufferIncrement("entryCount")+");");
         
-        boolean hasMatchStartOwner = functionalityMap.hasMatchStartFieldReadAccess(isCurMatchStrategy);
-        boolean hasMatchEndOwner = functionalityMap.hasMatchEndFieldReadAccess();
-        boolean hasMatchLookaheadOwner = functionalityMap.hasMatchLookaheadFieldReadAccess(isCurMatchStrategy);
-        boolean hasDotAssignmentOwner = automatonInfo.hasNormalActions();
+        if (stateVar != null) {
+            line(4,"states = Arrays.copyOf(states,"+createBufferIncrement("entryCount")+");");
+        }
         
-        boolean hasMatchStartVarOwner = (automatonInfo.hasFixContentLookaheads() ||
-                 automatonInfo.hasVariableLookaheads()) &&
-                 hasDotAssignmentOwner && !hasMatchStartOwner;
+        line(4,"offsets = Arrays.copyOf(offsets,"+createBufferIncrement("entryCount")+");");
+        line(3,"}");
+        line(3,"");
+        line(3,"positions[entryCount] = position;");
         
-        int endPositionOwner = 0;
+        if (stateVar != null) {
+            line(3,"states[entryCount] = state;");
+        }
+        
+        line(3,"offsets[entryCount] = tokenLength;");
+        line(3,"entryCount++;");
+        line(2,"}");
+        line(1,"}");
+    }
+    
+    /**
+     * 
+     */
+    private String getParallelStateVar() {
+        if (!hasLexicalStates) {
+            return null;
+        }
+        
+        return functionalityMap.hasLexicalStateFieldReadAccess() ?
+                "lexicalState" : "startState";
+    }
+    
+    /**
+     * 
+     */
+    private String getInitialStateValue() {
+        return functionalityMap.hasLexicalStateFieldReadAccess() ? "LEXICAL_STATE_INITIAL" :
+            ""+automatonInfo.getStartState(Condition.NAME_INITIAL);
+    }
+    
+    /**
+     * 
+     */
+    private String getParallelStateAssignment(String prefix, String state) {
+        if (functionalityMap.hasLexicalStateFieldReadAccess()) {
+            return prefix+createMemberName(Member.SET_LEXICAL_STATE)+"("+state+");";
+        }
+        
+        return prefix+"startState = "+state+";";
+    }
+    
+    /**
+     * 
+     */
+    private void generateRelexMethod() {
+        String regionStart = functionalityMap.hasRegionStartFieldReadAccess() ?
+                "regionStart" : "0";
+        
+        javadoc(Member.RELEX,
+                "Applies an edit to the string to be scanned and prepares the rescan of",
+                "the affected tokens. The scan restarts at the returned position with the",
+                "lexical state which has been recorded there. As soon as a scan behind the",
+                "edit starts at the position and in the lexical state of a previous scan,",
+                "the scan method returns the default value and the dot remains at this",
+                "position. All following tokens are equal to the previous tokens shifted by",
+                "the length difference of the edit. A rescan has to be continued until the",
+                "scan method returns the default value before the next edit is applied.",
+                "The text is kept in a gap buffer. An edit therefore only moves the",
+                "characters between the previous and the current edit.",
+                "",
+                "@param offset The start of the edited text.",
+                "@param removedLength The number of removed characters.",
+                "@param insertedText The inserted text.",
+                "@return The position at which the rescan starts.",
+                "@throws IllegalArgumentException If the edit is out of range");
+        
+        methodHead(visibilityMap.getMemberName(Member.RELEX),"","int",
+                createMemberName(Member.RELEX),
+                "int offset, int removedLength, String insertedText");
+        
+        line(2,"if ((offset < "+regionStart+") || (removedLength < 0) ||");
+        line(2,"    (offset > (regionEnd - removedLength))) {");
+        line(3,"");
+        line(3,"throw new IllegalArgumentException(\"edit out of range\");");
+        line(2,"}");
+        line(2,"");
+        line(2,"if (insertedText == null) {");
+        line(3,"insertedText = \"\";");
+        line(2,"}");
+        line(2,"");
+        line(2,"int capacity = checkpointPositions.length;");
+        line(2,"");
+        line(2,"// move the checkpoints which examined the edited text behind the gap");
+        line(2,"while ((checkpointCount != 0) &&");
+        line(2,"       (checkpointScanEnds[checkpointCount-1] >= offset)) {");
+        line(3,"");
+        line(3,"moveCheckpointGap(true);");
+        line(2,"}");
+        line(2,"");
+        line(2,"while ((checkpointGapEnd != capacity) &&");
+        line(2,"       ((regionEnd - checkpointScanEnds[checkpointGapEnd]) < offset)) {");
+        line(3,"");
+        line(3,"moveCheckpointGap(false);");
+        line(2,"}");
+        line(2,"");
+        line(2,"if ((checkpointGapEnd == capacity) && (checkpointCount != 0)) {");
+        line(3,"moveCheckpointGap(true);");
+        line(2,"}");
+        line(2,"");
+        line(2,"// restart at the first checkpoint behind the gap");
+        line(2,"if (checkpointGapEnd != capacity) {");
+        line(3,"dot = regionEnd - checkpointPositions[checkpointGapEnd];");
+        
+        if (hasLexicalStates) {
+            if (functionalityMap.hasLexicalStateFieldReadAccess()) {
+                line(3,createMemberName(Member.SET_LEXICAL_STATE)+
+                        "(checkpointStates[checkpointGapEnd]);");
+            }
+            
+            else {
+                line(3,"startState = checkpointStates[checkpointGapEnd];");
+            }
+        }
+        
+        line(2,"}");
+        line(2,"");
+        line(2,"else {");
+        line(3,"dot = "+regionStart+";");
+        
+        if (hasLexicalStates) {
+            if (functionalityMap.hasLexicalStateFieldReadAccess()) {
+                line(3,createMemberName(Member.SET_LEXICAL_STATE)+"(LEXICAL_STATE_INITIAL);");
+            }
+            
+            else {
+                line(3,"startState = "+automatonInfo.getStartState(Condition.NAME_INITIAL)+";");
+            }
+        }
+        
+        line(2,"}");
+        line(2,"");
+        line(2,"// apply edit");
+        line(2,"int insertedLength = insertedText.length();");
+        line(2,"");
+        line(2,"moveGap(offset,insertedLength-removedLength);");
+        line(2,"gapLength += removedLength - insertedLength;");
+        line(2,"insertedText.getChars(0,insertedLength,gapBuffer,gapStart);");
+        line(2,"gapStart += insertedLength;");
+        line(2,"regionEnd += insertedLength - removedLength;");
+        line(2,"editEnd = gapStart;");
+        line(2,"");
+        line(2,"return dot;");
+        line(1,"}");
+    }
+    
+    /**
+     * 
+     */
+    private void appendThrowsClause(LinkedHashSet<TypeDescriptor> methodThrowsTypes) {
+        if (!methodThrowsTypes.isEmpty()) {
+            append("throws ");
+            
+            Iterator<TypeDescriptor> iterator = methodThrowsTypes.iterator();
+            int throwCounter = 0;
+            
+            while (iterator.hasNext()) {
+                append(iterator.next().getSimpleName());
+                throwCounter++;
+                
+                if (iterator.hasNext()) {
+                    append(",");
+                    
+                    if (((throwCounter - 1) % 2) == 0) {
+                        lineSeparator();
+                        indent(3);
+                    }
+                    
+                    else {
+                        append(" ");
+                    }
+                }
+            }
+            
+            append(" ");
+        }
+        
+        append("{");
+        lineSeparator();
+        
+        if (methodThrowsTypes.size() > 1) {
+            line(2,"");
+        }
+    }
+    
+    /**
+     * 
+     */
+    private void generateScanLoop(boolean isTokenize, boolean isTokenCode) {
+        boolean hasMatchStartOwner = functionalityMap.hasMatchStartFieldReadAccess(isCurMatchStrategy);
+        boolean hasMatchEndOwner = functionalityMap.hasMatchEndFieldReadAccess();
+        boolean hasMatchLookaheadOwner = functionalityMap.hasMatchLookaheadFieldReadAccess(isCurMatchStrategy);
+        
+        // Note: The bulk tokenization keeps the dot and the match positions in
+        // local variables. They are written back after the loop and in front
+        // of each method call. The reader modes and the memoization access the
+        // dot inside of helper methods and therefore use the fields.
+        boolean hasLocalFields = isTokenize && !isReaderMode && !isMemoization;
+        boolean isLoop = (noMatchAction == NoMatchAction.CONTINUE) ||
+                config.getHasAlsoVoidReturnType() || isTokenize;
+        String defaultReturnValue = isTokenCode ? "-1" : createDefaultReturnValue();
+        String entranceCondition = isPushMode ? "dot < bufferEnd" : isReaderMode ?
+                "("+(isChannelMode ? "channel" : "reader")+" != null) && hasNextChar(dot)" :
+                "dot < regionEnd";
+        
+        if (isTokenize) {
+            if (hasLocalFields) {
+                generateLocalFieldCopy(2,"int ",false);
+            }
+            
+            line(2,"int count = 0;");
+            line(2,"");
+            
+            entranceCondition = "(count < max) && "+(isReaderMode && !isPushMode ?
+                    entranceCondition : "("+entranceCondition+")");
+        }
+        
+        if (isLoop) {
+            line(2,"while ("+entranceCondition+") {");
+        }
+        
+        else {
+            line(2,"if ("+entranceCondition+") {");
+        }
+        
+        line(3,"");
+        line(3,"// find longest match");
+        
+        String startState = hasLexicalStates ? "startState" :
+            ""+automatonInfo.getStartState(Condition.NAME_INITIAL);
+        
+        line(3,"int curState = "+startState+";");
+        line(3,"int iterator = dot;");
+        line(3,"int matchState = -1;");
+        line(3,"int matchPosition = 0;");
+        line(3,"");
+        
+        // Note: In push mode the available input may end inside of a match.
+        // The scan is then suspended and continued by the next call.
+        if (isPushMode) {
+            line(3,"// continue a suspended scan");
+            line(3,"if (resumeState != -1) {");
+            line(4,"curState = resumeState;");
+            line(4,"iterator = resumeIterator;");
+            line(4,"matchState = resumeMatchState;");
+            line(4,"matchPosition = resumeMatchPosition;");
+            line(4,"resumeState = -1;");
+            line(3,"}");
+            line(3,"");
+            line(3,"while (iterator < bufferEnd) {");
+        }
+        
+        else if (isSentinel) {
+            line(3,"while (true) {");
+            line(4,"int lastState = curState;");
+            line(4,"");
+        }
+        
+        else {
+            line(3,"do {");
+        }
+        
+        generateStateTransition(1,false,false);
+        
+        line(4,"");
+        line(4,"if (curState == -1) {");
+        
+        if (isSentinel) {
+            generateSentinelCheck();
+        }
+        
+        else {
+            line(5,"break;");
+        }
+        
+        line(4,"}");
+        line(4,"");
+        
+        // Note: The memo is checked in front of the run loops, because the
+        // run loops would otherwise pass over the memoized positions.
+        if (isMemoization) {
+            line(4,"if (hasFailMemo(curState,iterator)) {");
+            line(5,"failMemoHits++;");
+            line(5,"break;");
+            line(4,"}");
+            line(4,"");
+        }
+        
+        if (automatonInfo.hasRunStates()) {
+            generateRunLoops();
+        }
+        
+        // Note: The accepting states are numbered behind the start state and
+        // the terminal states without any transition at the end of each DFA.
+        // The terminal states are only known for a single lexical state and
+        // end a push scan without suspending it.
+        line(4,"if ("+createAcceptCondition(startState)+") {");
+        line(5,"matchState = curState;");
+        line(5,"matchPosition = iterator;");
+        
+        if (!hasLexicalStates && automatonInfo.hasTerminalStates(Condition.NAME_INITIAL)) {
+            line(5,"");
+            line(5,"// stop at a state without transitions");
+            line(5,"if (curState >= "+automatonInfo.getFirstTerminalState(Condition.NAME_INITIAL)+") {");
+            
+            if (isPushMode) {
+                line(6,"curState = -1;");
+            }
+            
+            line(6,"break;");
+            line(5,"}");
+        }
+        
+        line(4,"}");
+        
+        if (isPushMode || isSentinel) {
+            line(4,"");
+            line(4,"iterator++;");
+            line(3,"}");
+        }
+        
+        if (isPushMode) {
+            line(3,"");
+            line(3,"// suspend scan if further input may extend the match");
+            line(3,"if ((curState != -1) && !inputEnd) {");
+            line(4,"resumeState = curState;");
+            line(4,"resumeIterator = iterator;");
+            line(4,"resumeMatchState = matchState;");
+            line(4,"resumeMatchPosition = matchPosition;");
+            line(4,isTokenize ? "break;" : "return "+defaultReturnValue+";");
+            line(3,"}");
+        }
+        
+        else if (!isSentinel) {
+            String loopCondition = isReaderMode ? "hasNextChar(++iterator)" :
+                "++iterator < regionEnd";
+            
+            line(3,"} while ("+loopCondition+");");
+        }
+        
+        if (isMemoization) {
+            generateFailMemoUpdate(startState);
+        }
+        
+        // Note: A surrogate pair may have been examined beyond the iterator.
+        if (isIncremental) {
+            line(3,"");
+            line(3,"// record checkpoint and stop at resynchronization");
+            line(3,"if (addCheckpoint(dot,"+(isCodePointMode ? "iterator+1" : "iterator")+")) {");
+            
+            if (isLoop) {
+                line(4,"break;");
+            }
+            
+            else {
+                generateMatchAssignment(4,
+                        functionalityMap.hasMatchStartFieldReadAccess(isCurMatchStrategy),
+                        functionalityMap.hasMatchEndFieldReadAccess(),
+                        functionalityMap.hasMatchLookaheadFieldReadAccess(isCurMatchStrategy),
+                        "dot","dot","dot");
+                line(4,"return "+defaultReturnValue+";");
+            }
+            
+            line(3,"}");
+        }
+        
+        line(3,"");
+        line(3,"// match found, perform action");
+        line(3,"if (matchState != -1) {");
+        
+        if (isTokenize) {
+            line(4,"starts[count] = dot;");
+            line(4,"");
+        }
+        
+        boolean hasDotAssignmentOwner = automatonInfo.hasNormalActions();
+        
+        boolean hasMatchStartVarOwner = (automatonInfo.hasFixContentLookaheads() ||
+                 automatonInfo.hasVariableLookaheads()) &&
+                 hasDotAssignmentOwner && !hasMatchStartOwner;
+        
+        int endPositionOwner = 0;
+        
+        if (hasMatchEndOwner) {
+            endPositionOwner++;
+        }
+        
+        if (hasMatchLookaheadOwner) {
+            endPositionOwner++;
+        }
+        
+        if (hasDotAssignmentOwner) {
+            endPositionOwner++;
+        }
+        
+        String endPositionCode = endPositionOwner > 1 ?
+                "endPosition" : "matchPosition + 1";
+        
+        boolean hasLocalVars = (endPositionOwner > 1) || hasMatchStartVarOwner;
+        boolean hasMatchVars = hasMatchStartOwner || hasMatchEndOwner || hasMatchLookaheadOwner;
+        boolean hasAssignments = hasMatchVars || hasDotAssignmentOwner;
+        
+        if (hasLocalVars) {
+            if (endPositionOwner > 1) {
+                line(4,"int endPosition = matchPosition + 1;");
+            }
+            
+            if (hasMatchStartVarOwner) {
+                line(4,"int matchStart = dot;");
+            }
+        }
+        
+        if (hasLocalVars && hasAssignments) {
+            line(4,"");
+        }
+        
+        if (hasAssignments) {
+            generateMatchAssignment(4,hasMatchStartOwner,hasMatchEndOwner,
+                    hasMatchLookaheadOwner,"dot",endPositionCode,endPositionCode);
+            
+            if (hasDotAssignmentOwner) {
+                line(4,"dot = "+endPositionCode+";");
+            }
+            
+            line(4,"");
+        }
+        
+        String oldDotVar = hasDotAssignmentOwner ? "matchStart" : "dot";
+        
+        generateActionSwitch(oldDotVar,isTokenize,isTokenCode,hasLocalFields);
+        
+        if (isTokenize) {
+            line(4,"");
+            line(4,"ends[count] = dot;");
+            line(4,"count++;");
+            line(4,"continue;");
+        }
+        
+        line(3,"}");
+        
+        switch(noMatchAction) {
+        case CONTINUE:
+            line(3,"");
+            line(3,"// no match found, try next position");
+            line(3,"dot++;");
+            break;
+        
+        case RETURN:
+            if (isLoop) {
+                line(3,"");
+                line(3,"// no match found, break loop");
+                line(3,"break;");
+            }
+            break;
+        
+        case ERROR:
+            line(3,"");
+            
+            // Note: The already stored tokens are returned first, so that the
+            // error is reported by the next call.
+            if (isTokenize) {
+                line(3,"// no match found, return stored tokens");
+                line(3,"if (count != 0) {");
+                line(4,"break;");
+                line(3,"}");
+                line(3,"");
+            }
+            
+            line(3,"// no match found, set match values and report as error");
+            
+            if (hasMatchVars) {
+                generateMatchAssignment(3,hasMatchStartOwner,hasMatchEndOwner,
+                        hasMatchLookaheadOwner,"dot","dot","dot");
+                line(3,"");
+            }
+            
+            if (hasLocalFields) {
+                generateLocalFieldCopy(3,"",true);
+            }
+            
+            line(3,"throw new IllegalStateException(\"invalid input\");");
+            break;
+        
+        default:
+            throw new IllegalStateException("unknown action type");
+        }
+        
+        line(2,"}");
+        line(2,"");
+        
+        // Note: A rescan which reaches the end of the input did not
+        // resynchronize and thus the remaining checkpoints are outdated.
+        if (isIncremental) {
+            line(2,"// remove outdated checkpoints at the end of the input");
+            line(2,"if (dot == regionEnd) {");
+            line(3,"checkpointGapEnd = checkpointPositions.length;");
+            line(2,"}");
+            line(2,"");
+        }
+        
+        if (isTokenize) {
+            line(2,"// return number of stored tokens");
+            
+            if (hasLocalFields) {
+                generateLocalFieldCopy(2,"",true);
+            }
+            
+            line(2,"return count;");
+            line(1,"}");
+            return;
+        }
+        
+        line(2,"// no match found, set match values and return to caller");
+        
+        if (hasMatchVars) {
+            generateMatchAssignment(2,hasMatchStartOwner,hasMatchEndOwner,
+                    hasMatchLookaheadOwner,"dot","dot","dot");
+            line(2,"");
+        }
+        
+        line(2,"return "+defaultReturnValue+";");
+        line(1,"}");
+    }
+    
+    /**
+     * 
+     */
+    private String createAcceptCondition(String startState) {
+        if (automatonInfo.hasAcceptingStartStates()) {
+            return "ACTION_MAP[curState] != -1";
+        }
+        
+        return "curState > "+startState;
+    }
+    
+    /**
+     * 
+     */
+    private void generateFailMemoUpdate(String startState) {
+        line(3,"");
+        line(3,"// memoize the states behind the match which lead to no further match");
+        line(3,"int failEnd = iterator;");
+        line(3,"");
+        line(3,"if (matchState != -1) {");
+        line(4,"curState = matchState;");
+        line(4,"iterator = matchPosition + 1;");
+        line(3,"}");
+        line(3,"");
+        line(3,"else {");
+        line(4,"curState = "+startState+";");
+        line(4,"iterator = dot;");
+        line(3,"}");
+        line(3,"");
+        line(3,"while (iterator < failEnd) {");
+        
+        generateStateTransition(1,false,false);
+        
+        line(4,"");
+        line(4,"if (curState == -1) {");
+        line(5,"break;");
+        line(4,"}");
+        line(4,"");
+        line(4,"addFailMemo(curState,iterator);");
+        line(4,"iterator++;");
+        line(3,"}");
+    }
+    
+    /**
+     * 
+     */
+    private void generateRunLoops() {
+        
+        // Note: The sentinel character is never part of a run and thus stops
+        // each run at the end of the buffer.
+        String runCondition = isSentinel ? "true" : isPushMode ? "iterator+1 < bufferEnd" :
+            isReaderMode ? "hasNextChar(iterator+1)" : "iterator+1 < regionEnd";
+        
+        // Note: A string offers the intrinsic indexOf method, which finds the
+        // only character that leaves a run state much faster than the loop.
+        boolean hasIndexOf = !isReaderMode && !isCharArrayMode && !isCharSequenceMode &&
+                !isByteMode && !isIncremental;
+        
+        line(4,"// skip all following characters which do not leave the state");
+        line(4,"switch(curState) {");
+        
+        for (int i=0;i<automatonInfo.getRunStateCount();i++) {
+            int runTerminator = automatonInfo.getRunTerminator(i);
+            
+            if (i != 0) {
+                line(4,"");
+            }
+            
+            line(4,"case "+automatonInfo.getRunState(i)+":");
+            
+            if (hasIndexOf && (runTerminator != -1)) {
+                line(5,"iterator = string.indexOf("+createCharacterLiteral(runTerminator)+
+                        ",iterator+1);");
+                line(5,"");
+                line(5,"if ((iterator == -1) || (iterator > regionEnd)) {");
+                line(6,"iterator = regionEnd;");
+                line(5,"}");
+                line(5,"");
+                line(5,"iterator--;");
+            }
+            
+            else {
+                if (isVectorRuns) {
+                    generateVectorRunCall(i);
+                }
+                
+                line(5,"while ("+runCondition+") {");
+                line(6,"char runChar = "+createCharAccess("iterator+1")+";");
+                line(6,"");
+                line(6,"if ("+createRunExitCondition(automatonInfo.getRunRanges(i))+") {");
+                line(7,"break;");
+                line(6,"}");
+                line(6,"");
+                line(6,"iterator++;");
+                line(5,"}");
+            }
+            
+            line(5,"break;");
+        }
+        
+        line(4,"}");
+        line(4,"");
+    }
+    
+    /**
+     * 
+     */
+    private void generateVectorRunCall(int index) {
+        String array = isCharArrayMode ? "charArray" : "buffer";
+        String offset = isCurMatchStrategy ? "bufferStart" : null;
+        String start = "iterator+1"+(offset != null ? "-"+offset : "");
+        String end = (isCharArrayMode ? "regionEnd" : "bufferEnd")+(offset != null ?
+                "-"+offset : "");
+        
+        line(5,"if (VECTOR_RUNS) {");
+        line(6,"iterator = RunVectors.skipRun"+index+"("+array+","+start+","+end+")"+
+                (offset != null ? "+"+offset : "")+"-1;");
+        line(5,"}");
+        line(5,"");
+    }
+    
+    /**
+     * 
+     */
+    private String createRunExitCondition(int[] ranges) {
+        StringBuilder builder = new StringBuilder();
+        int rangeCount = ranges.length / 2;
+        
+        for (int i=0;i<rangeCount;i++) {
+            int start = ranges[i*2];
+            int end = ranges[i*2+1];
+            String condition;
+            
+            if (start == end) {
+                condition = "runChar != "+createCharacterLiteral(start);
+            }
+            
+            else if (start == 0) {
+                condition = "runChar > "+createCharacterLiteral(end);
+            }
+            
+            else if (end == 0xffff) {
+                condition = "runChar < "+createCharacterLiteral(start);
+            }
+            
+            else {
+                condition = "(runChar < "+createCharacterLiteral(start)+") || (runChar > "+
+                        createCharacterLiteral(end)+")";
+            }
+            
+            if (rangeCount > 1) {
+                if (i != 0) {
+                    builder.append(" && ");
+                }
+                
+                builder.append("(");
+                builder.append(condition);
+                builder.append(")");
+            }
+            
+            else {
+                builder.append(condition);
+            }
+        }
+        
+        return builder.toString();
+    }
+    
+    /**
+     * 
+     */
+    private void generateSentinelCheck() {
+        String sentinelTransition = automatonInfo.isFlatTransitionTable() ?
+                "TRANSITION_TABLE[lastState+" : "TRANSITION_TABLE[lastState][";
+        
+        line(5,"// stop at all characters except the sentinel character");
+        line(5,"if ("+createCharAccess("iterator")+" != "+
+                createCharacterLiteral(AutomatonInfo.SENTINEL_CHARACTER)+") {");
+        line(6,"break;");
+        line(5,"}");
+        line(5,"");
+        line(5,"// read further characters at the end of the buffer");
+        line(5,"if (iterator == bufferEnd) {");
+        line(6,"if (!hasNextChar(iterator)) {");
+        line(7,"break;");
+        line(6,"}");
+        line(6,"");
+        line(6,"curState = lastState;");
+        line(6,"continue;");
+        line(5,"}");
+        line(5,"");
+        line(5,"// otherwise use the original symbol of the sentinel character");
+        line(5,"curState = "+sentinelTransition+automatonInfo.getSentinelCharacterSymbol()+"];");
+        line(5,"");
+        line(5,"if (curState == -1) {");
+        line(6,"break;");
+        line(5,"}");
+    }
+    
+    /**
+     * 
+     */
+    private void generateStateTransition(int indent, boolean decreaseIterator,
+            boolean insideMatch) {
+        
+        int characterMapLastValue = automatonInfo.getCharacterMapLastValue();
+        
+        if (isCodePointMode) {
+            generateCodePointTransition(indent,decreaseIterator,insideMatch);
+        }
+        
+        else if (automatonInfo.isDirectCoded()) {
+            line(3+indent,"char curChar = "+createCharAccess("iterator")+";");
+            
+            if (decreaseIterator) {
+                line(3+indent,"iterator--;");
+            }
+            
+            line(3+indent,"");
+            generateDirectTransition(indent,"curChar");
+        }
+        
+        else if (automatonInfo.isAsciiTransitionTable()) {
+            line(3+indent,"char curChar = "+createCharAccess("iterator")+";");
+            
+            if (decreaseIterator) {
+                line(3+indent,"iterator--;");
+            }
+            
+            line(3+indent,"");
+            generateAsciiTransition(indent,"curChar");
+        }
+        
+        else if (automatonInfo.isPagedCharacterMap() || (characterMapLastValue != -1)) {
+            line(3+indent,"char curChar = "+createCharAccess("iterator")+";");
+            
+            if (decreaseIterator) {
+                line(3+indent,"iterator--;");
+            }
+            
+            line(3+indent,"");
+            generateCharacterMapTransition(indent,"curChar");
+        }
+        
+        else {
+            boolean isArrayAccess = isReaderMode || isCharArrayMode || isIncremental;
+            String charAccess1 = isArrayAccess ? "" :
+                createInputName();
+            String charAccess2 = isArrayAccess ? createCharAccess("iterator") :
+                ".charAt(iterator)";
+            
+            line(3+indent,createTransitionStart()+"CHARACTER_MAP["+charAccess1);
+            line(5+indent,""+charAccess2+"]"+createTransitionEnd());
+            
+            if (decreaseIterator) {
+                line(3+indent,"iterator--;");
+            }
+            
+            if (automatonInfo.isCombTransitionTable()) {
+                line(3+indent,"");
+                generateCombTransition(indent);
+            }
+        }
+    }
+    
+    /**
+     * 
+     */
+    private void generateCharacterMapTransition(int indent, String characterVar) {
+        int characterMapLastValue = automatonInfo.getCharacterMapLastValue();
+        
+        if (automatonInfo.isPagedCharacterMap()) {
+            generatePagedTransition(indent,characterVar);
+        }
+        
+        else if (characterMapLastValue != -1) {
+            
+            // Note: The premultiplied state of the flat layout is added to the
+            // whole conditional expression.
+            boolean isFlat = automatonInfo.isFlatTransitionTable();
+            
+            indent(3+indent);
+            append(createTransitionStart());
+            append(isFlat ? "(" : "");
+            append(characterVar);
+            append(" >= ");
+            append(automatonInfo.getCharacterMapSize());
+            append(" ?");
+            lineSeparator();
+            
+            indent(5+indent);
+            append("");
+            append(characterMapLastValue);
+            append(" : CHARACTER_MAP[");
+            append(characterVar);
+            append("]");
+            append(isFlat ? ")" : "");
+            append(createTransitionEnd());
+            lineSeparator();
+        }
+        
+        else {
+            line(3+indent,createTransitionStart()+"CHARACTER_MAP["+characterVar+"]"+
+                    createTransitionEnd());
+        }
+        
+        if (automatonInfo.isCombTransitionTable()) {
+            line(3+indent,"");
+            generateCombTransition(indent);
+        }
+    }
+    
+    /**
+     * 
+     */
+    private void generateCodePointTransition(int indent, boolean decreaseIterator,
+            boolean insideMatch) {
+        
+        if (isByteMode) {
+            generateUtf8Decoding(indent,decreaseIterator,insideMatch);
+        }
+        
+        else {
+            generateSurrogateDecoding(indent,decreaseIterator,insideMatch);
+        }
+        
+        line(3+indent,"");
+        
+        if (automatonInfo.isDirectCoded()) {
+            generateDirectTransition(indent,"codePoint");
+        }
+        
+        else if (automatonInfo.isAsciiTransitionTable()) {
+            generateAsciiTransition(indent,"codePoint");
+        }
+        
+        else {
+            generateCharacterMapTransition(indent,"codePoint");
+        }
+    }
+    
+    /**
+     * 
+     */
+    private void generateSurrogateDecoding(int indent, boolean decreaseIterator,
+            boolean insideMatch) {
+        
+        line(3+indent,"char curChar = "+createCharAccess("iterator")+";");
+        line(3+indent,"int codePoint = curChar;");
+        line(3+indent,"");
+        
+        // Note: The backward pass of a variable lookahead reads the characters
+        // in reverse order and thus has to start with the low surrogate.
+        if (decreaseIterator) {
+            line(3+indent,"iterator--;");
+            line(3+indent,"");
+            line(3+indent,"if (Character.isLowSurrogate(curChar) && (iterator >= start)) {");
+            line(4+indent,"char prevChar = "+createCharAccess("iterator")+";");
+            line(4+indent,"");
+            line(4+indent,"if (Character.isHighSurrogate(prevChar)) {");
+            line(5+indent,"codePoint = Character.toCodePoint(prevChar,curChar);");
+            line(5+indent,"iterator--;");
+            line(4+indent,"}");
+            line(3+indent,"}");
+        }
+        
+        else {
+            // Note: All characters of a match are already known and thus the
+            // end of the match can be used instead of reading further input.
+            String nextCharCondition = insideMatch ? "(iterator < end)" :
+                isPushMode ? "(iterator+1 < bufferEnd)" : isReaderMode ?
+                "hasNextChar(iterator+1)" : "(iterator+1 < regionEnd)";
+            
+            line(3+indent,"if (Character.isHighSurrogate(curChar) && "+nextCharCondition+") {");
+            line(4+indent,"char nextChar = "+createCharAccess("iterator+1")+";");
+            line(4+indent,"");
+            line(4+indent,"if (Character.isLowSurrogate(nextChar)) {");
+            line(5+indent,"codePoint = Character.toCodePoint(curChar,nextChar);");
+            line(5+indent,"iterator++;");
+            line(4+indent,"}");
+            line(3+indent,"}");
+        }
+    }
+    
+    /**
+     * 
+     */
+    private void generateUtf8Decoding(int indent, boolean decreaseIterator,
+            boolean insideMatch) {
+        
+        line(3+indent,"int codePoint = "+createByteAccess("iterator")+";");
+        line(3+indent,"");
+        
+        // Note: The decode methods return the number of additional bytes of the
+        // sequence in the upper bits of the code point.
+        if (decreaseIterator) {
+            line(3+indent,"if (codePoint < 0) {");
+            line(4+indent,"codePoint = decodeLastCodePoint(iterator,start);");
+            line(4+indent,"iterator -= codePoint >>> "+UTF8_LENGTH_SHIFT+";");
+            line(4+indent,"codePoint &= 0x"+Integer.toHexString(UTF8_CODE_POINT_MASK)+";");
+            line(3+indent,"}");
+            line(3+indent,"");
+            line(3+indent,"iterator--;");
+        }
+        
+        else {
+            line(3+indent,"if (codePoint < 0) {");
+            line(4+indent,"codePoint = decodeCodePoint(iterator,"+
+                    (insideMatch ? "end+1" : "regionEnd")+");");
+            line(4+indent,"iterator += codePoint >>> "+UTF8_LENGTH_SHIFT+";");
+            line(4+indent,"codePoint &= 0x"+Integer.toHexString(UTF8_CODE_POINT_MASK)+";");
+            line(3+indent,"}");
+        }
+    }
+    
+    /**
+     * 
+     */
+    private void generateAsciiTransition(int indent, String characterVar) {
+        
+        // Note: ASCII characters skip the character map and all indirect
+        // lookups of the transition table.
+        line(3+indent,"if ("+characterVar+" < "+AutomatonInfo.ASCII_ROW_SIZE+") {");
+        line(4+indent,"curState = ASCII_TRANSITION_TABLE[(curState << "+
+                AutomatonInfo.ASCII_ROW_SHIFT+") | "+characterVar+"];");
+        line(3+indent,"}");
+        line(3+indent,"");
+        line(3+indent,"else {");
+        generateCharacterMapTransition(indent+1,characterVar);
+        line(3+indent,"}");
+    }
+    
+    /**
+     * 
+     */
+    private void generatePagedTransition(int indent, String characterVar) {
+        line(3+indent,createTransitionStart()+"CHARACTER_MAP[(CHARACTER_PAGE_TABLE["+
+                characterVar+" >> "+AutomatonInfo.CHARACTER_PAGE_SHIFT+"] << "+
+                AutomatonInfo.CHARACTER_PAGE_SHIFT+") |");
+        line(5+indent,"("+characterVar+" & "+(AutomatonInfo.CHARACTER_PAGE_SIZE-1)+")]"+
+                createTransitionEnd());
+    }
+    
+    /**
+     * 
+     */
+    private String createTransitionStart() {
+        if (automatonInfo.isCombTransitionTable()) {
+            return "int symbol = ";
+        }
+        
+        return automatonInfo.isFlatTransitionTable() ?
+                "curState = TRANSITION_TABLE[curState+" :
+                "curState = TRANSITION_TABLE[curState][";
+    }
+    
+    /**
+     * 
+     */
+    private String createTransitionEnd() {
+        return automatonInfo.isCombTransitionTable() ? ";" : "];";
+    }
+    
+    /**
+     * 
+     */
+    private void generateCombTransition(int indent) {
+        line(3+indent,"int base = TRANSITION_BASE[curState];");
+        line(3+indent,"");
+        line(3+indent,"// follow the default states until an entry is found");
+        line(3+indent,"while (TRANSITION_CHECK[base+symbol] != base) {");
+        line(4+indent,"curState = TRANSITION_DEFAULT[curState];");
+        line(4+indent,"");
+        line(4+indent,"if (curState == -1) {");
+        line(5+indent,"break;");
+        line(4+indent,"}");
+        line(4+indent,"");
+        line(4+indent,"base = TRANSITION_BASE[curState];");
+        line(3+indent,"}");
+        line(3+indent,"");
+        line(3+indent,"if (curState != -1) {");
+        line(4+indent,"curState = TRANSITION_NEXT[base+symbol];");
+        line(3+indent,"}");
+    }
+    
+    /**
+     * 
+     */
+    private String createCharAccess(String position) {
+        if (isRingStrategy) {
+            return "buffer["+(position.matches("\\w+") ? position : "("+position+")")+
+                    " & (buffer.length-1)]";
+        }
+        
+        if (isChunkedStrategy) {
+            String chunkPosition = position.matches("\\w+") ? position : "("+position+")";
+            
+            return "buffer["+chunkPosition+" >> BUFFER_CHUNK_SHIFT]["+chunkPosition+
+                    " & (BUFFER_CHUNK_SIZE-1)]";
+        }
+        
+        if (isReaderMode) {
+            return isCurMatchStrategy ? "buffer["+position+"-bufferStart]" :
+                "buffer["+position+"]";
+        }
+        
+        if (isCharArrayMode) {
+            return "charArray["+position+"]";
+        }
+        
+        if (isByteMode) {
+            return "(char)("+createByteAccess(position)+" & 0xff)";
+        }
+        
+        if (isIncremental) {
+            return "gapBuffer["+position+" < gapStart ? "+position+" : "+position+"+gapLength]";
+        }
+        
+        return createInputName()+".charAt("+position+")";
+    }
+    
+    /**
+     * 
+     */
+    private String createByteAccess(String position) {
+        return isByteBufferMode ? "byteBuffer.get("+position+")" :
+            "byteArray["+position+"]";
+    }
+    
+    /**
+     * 
+     */
+    private String createBufferText(String start) {
+        if (isRingStrategy || isChunkedStrategy) {
+            return "getBufferText("+start+",count)";
+        }
+        
+        return "new String(buffer,"+start+(isCurMatchStrategy ? "-bufferStart" : "")+",count)";
+    }
+    
+    /**
+     * 
+     */
+    private String createBufferIndex(String position) {
+        return isCurMatchStrategy ? position+"-bufferStart" : position;
+    }
+    
+    /**
+     * 
+     */
+    private String createInputName() {
+        if (isCharArrayMode) {
+            return "charArray";
+        }
+        
+        if (isByteArrayMode) {
+            return "byteArray";
+        }
+        
+        if (isByteBufferMode) {
+            return "byteBuffer";
+        }
+        
+        return isCharSequenceMode ? "charSequence" : "string";
+    }
+    
+    /**
+     * 
+     */
+    private String createInputLength() {
+        if (isCharArrayMode || isByteArrayMode) {
+            return createInputName()+".length";
+        }
+        
+        if (isByteBufferMode) {
+            return "byteBuffer.limit()";
+        }
+        
+        if (isIncremental) {
+            return "gapBuffer.length-gapLength";
+        }
+        
+        return createInputName()+".length()";
+    }
+    
+    /**
+     * 
+     */
+    private String createSubstring(String start, String end) {
+        if (isCharArrayMode) {
+            return "new String(charArray,"+start+","+end+"-"+start+")";
+        }
+        
+        if (isByteArrayMode) {
+            return "new String(byteArray,"+start+","+end+"-"+start+",StandardCharsets.UTF_8)";
+        }
+        
+        if (isByteBufferMode) {
+            return "decodeText("+start+","+end+")";
+        }
+        
+        if (isIncremental) {
+            return "getGapText("+start+","+end+")";
+        }
+        
+        if (isCharSequenceMode) {
+            return "charSequence.subSequence("+start+","+end+").toString()";
+        }
+        
+        return "string.substring("+start+","+end+")";
+    }
+    
+    /**
+     * 
+     */
+    private void generateActionSwitch(String oldDotVar, boolean isTokenize,
+            boolean isTokenCode, boolean hasLocalFields) {
+        
+        ActionPool<MethodInfo> actionPool = automatonInfo.getActionPool();
+        int[] actionReorderMap = automatonInfo.getActionReorderMap();
+        int actionCount = actionPool.size();
+        boolean lastMultiLine = false;
+        
+        line(4,"switch(ACTION_MAP[matchState]) {");
+        
+        for (int i=0;i<actionCount;i++) {
+            Action<MethodInfo> curAction = actionPool.get(i);
+            MethodInfo curMethod = curAction.getOwnerRule().getAction();
+            int curLookaheadType = curAction.getLookaheadType();
+            boolean isFieldCall = hasLocalFields;
+            
+            if (lastMultiLine) {
+                line(4,"");
+            }
+            
+            lastMultiLine = (curLookaheadType != Action.LOOKAHEAD_NONE) || isFieldCall;
+            
+            switch(curLookaheadType) {
+            case Action.LOOKAHEAD_NONE:
+                if (isFieldCall) {
+                    line(4,"case "+actionReorderMap[i]+":");
+                    generateFieldActionCall(5,curMethod);
+                }
+                
+                else {
+                    line(4,"case "+actionReorderMap[i]+": "+generateActionCall(curMethod,isTokenize,isTokenCode));
+                }
+                break;
+            
+            case Action.LOOKAHEAD_FIX_CONDITION:
+                line(4,"case "+actionReorderMap[i]+":");
+                
+                String dotIncrement = createIntIncrement("dot","matchPosition",
+                        -(curAction.getLookaheadValue()-1));
+                
+                if (dotIncrement != null) {
+                    line(5,""+dotIncrement);
+                }
+                
+                if (functionalityMap.hasMatchEndFieldReadAccess()) {
+                    line(5,"matchEnd = dot;");
+                }
+                
+                if (isFieldCall) {
+                    generateFieldActionCall(5,curMethod);
+                }
+                
+                else {
+                    line(5,""+generateActionCall(curMethod,isTokenize,isTokenCode));
+                }
+                break;
+            
+            case Action.LOOKAHEAD_FIX_CONTENT:
+                line(4,"case "+actionReorderMap[i]+":");
+                
+                dotIncrement = createIntIncrement("dot",oldDotVar,
+                        curAction.getLookaheadValue());
+                
+                if (dotIncrement != null) {
+                    line(5,""+dotIncrement);
+                }
+                
+                if (functionalityMap.hasMatchEndFieldReadAccess()) {
+                    line(5,"matchEnd = dot;");
+                }
+                
+                if (isFieldCall) {
+                    generateFieldActionCall(5,curMethod);
+                }
+                
+                else {
+                    line(5,""+generateActionCall(curMethod,isTokenize,isTokenCode));
+                }
+                break;
+            
+            case Action.LOOKAHEAD_VARIABLE:
+                int lookaheadValue = curAction.getLookaheadValue();
+                
+                line(4,"case "+actionReorderMap[i]+":");
+                line(5,"dot = computeMatchEnd("+oldDotVar+",matchPosition,"+
+                        automatonInfo.getStartState(lookaheadValue)+","+
+                        automatonInfo.getStartState(lookaheadValue+1)+");");
+                
+                if (functionalityMap.hasMatchEndFieldReadAccess()) {
+                    line(5,"matchEnd = dot;");
+                }
+                
+                if (isFieldCall) {
+                    generateFieldActionCall(5,curMethod);
+                }
+                
+                else {
+                    line(5,""+generateActionCall(curMethod,isTokenize,isTokenCode));
+                }
+                break;
+            }
+        }
+        
+        line(4,"}");
+    }
+    
+    /**
+     * 
+     */
+    private String generateActionCall(MethodInfo method, boolean isTokenize,
+            boolean isTokenCode) {
+        
+        // Note: The token code scan does not call the methods of the rules
+        // with a token code in order to avoid any allocation.
+        if (isTokenCode && (method.getTokenCode() != null)) {
+            return "return "+method.getTokenCode()+";";
+        }
+        
+        StringBuilder builder = new StringBuilder();
+        String returnType = method.getReturnType();
+        boolean isVoid = returnType == null || returnType.equals("void");
+        
+        if (!isVoid) {
+            builder.append(isTokenize ? "types[count] = " : "return ");
+        }
+        
+        builder.append(method.getName());
+        builder.append("();");
+        
+        if (!isVoid && isTokenize) {
+            builder.append(" break;");
+        }
+        
+        if (isVoid) {
+            if (config.getHasAlsoVoidReturnType()) {
+                builder.append(" continue;");
+            }
+            
+            else {
+                builder.append(" return true;");
+            }
+        }
+        
+        return builder.toString();
+    }
+    
+    /**
+     * 
+     */
+    private void generateFieldActionCall(int indent, MethodInfo method) {
+        String returnType = method.getReturnType();
+        boolean isVoid = returnType == null || returnType.equals("void");
+        
+        // Note: The method may access the dot and the match positions and
+        // may even change them by setting new input.
+        generateLocalFieldCopy(indent,"",true);
+        line(indent,(isVoid ? "" : "types[count] = ")+method.getName()+"();");
+        generateLocalFieldCopy(indent,"",false);
+        line(indent,isVoid ? "continue;" : "break;");
+    }
+    
+    /**
+     * 
+     */
+    private void generateLocalFieldCopy(int indent, String localType, boolean toFields) {
+        ArrayList<String> nameList = new ArrayList<>();
+        nameList.add("dot");
+        
+        if (functionalityMap.hasMatchStartFieldReadAccess(isCurMatchStrategy)) {
+            nameList.add("matchStart");
+        }
+        
+        if (functionalityMap.hasMatchEndFieldReadAccess()) {
+            nameList.add("matchEnd");
+        }
+        
+        if (functionalityMap.hasMatchLookaheadFieldReadAccess(isCurMatchStrategy)) {
+            nameList.add("matchLookahead");
+        }
+        
+        for (int i=0;i<nameList.size();i++) {
+            String name = nameList.get(i);
+            
+            line(indent,toFields ? "this."+name+" = "+name+";" :
+                localType+name+" = this."+name+";");
+        }
+    }
+    
+    /**
+     * 
+     */
+    private void generateMatchAssignment(int indent, boolean hasMatchStartOwner,
+            boolean hasMatchEndOwner, boolean hasMatchLookaheadOwner,
+            String matchStart, String matchEnd, String matchLookahead) {
+        
+        if (hasMatchStartOwner) {
+            line(indent,"matchStart = "+matchStart+";");
+        }
+        
+        if (hasMatchEndOwner) {
+            line(indent,"matchEnd = "+matchEnd+";");
+        }
+        
+        if (hasMatchLookaheadOwner) {
+            line(indent,"matchLookahead = "+matchLookahead+";");
+        }
+    }
+    
+    /**
+     * 
+     */
+    private String createDefaultReturnValue() {
+        String defaultReturnValue = config.getOptions().getDefaultReturnValue();
+        
+        if ((defaultReturnValue != null) && !defaultReturnValue.trim().isEmpty()) {
+            return defaultReturnValue;
+        }
+        
+        return config.getReturnTypeDefaultValue();
+    }
+    
+    //================
+    // Helper Methods
+    //================
+    
+    /**
+     * 
+     */
+    private void generateHelperMethods() {
+        boolean hasVariableLookaheads = automatonInfo.hasVariableLookaheads();
+        boolean isDirectCoded = automatonInfo.isDirectCoded();
+        
+        if (isReaderMode || isByteMode || isDirectCoded || hasVariableLookaheads ||
+            isIncremental || hasTokenizeParallel || isVectorRuns || isMemoization) {
+            
+            ensureEmptyLine(1);
+            heading("Helper Methods");
+            
+            if (isPushMode) {
+                generateEnsureBufferSpaceMethod();
+            }
+            
+            else if (isReaderMode) {
+                javadoc(Member.HAS_NEXT_CHAR,
+                        "Checks whether for the specified position a following character exists.",
+                        "This is always the case if the position lies inside the range of",
+                        "available characters. If the position lies straight after the last",
+                        "available character then the "+(isChannelMode ? "channel" : "reader")+
+                        " is used to check whether there are",
+                        "further characters.",
+                        "",
+                        "@param position A position inside the range of available characters.",
+                        "@return True if there is a next character, otherwise false.",
+                        "@throws IOException If an IO error occurs");
+                
+                methodHead(visibilityMap.getMemberName(Member.HAS_NEXT_CHAR),"",
+                        "boolean","hasNextChar","int position","IOException");
+                
+                line(2,"if (position < bufferEnd) {");
+                line(3,"return true;");
+                line(2,"}");
+                line(2,"");
+                
+                if (isRingStrategy) {
+                    generateRingBufferRead();
+                }
+                
+                else if (isChunkedStrategy) {
+                    generateChunkedBufferRead();
+                }
+                
+                else {
+                    line(2,"// if the buffer is empty then create a new one with the specified size");
+                    line(2,"if (buffer == EMPTY_CHAR_ARRAY) {");
+                    line(3,"buffer = new char["+(isChannelMode ? "channelStartCapacity" :
+                            "readerStartCapacity")+"];");
+                    line(2,"}");
+                    line(2,"");
+                    line(2,"// otherwise check whether the buffer is full");
+                    
+                    // Note: The decoder of a channel requires space for at least two
+                    // characters in order to be able to store surrogate pairs. The
+                    // sentinel requires space for one character after the buffer end.
+                    String fullLength = isChannelMode || isSentinel ? " >= (buffer.length - 1)) {" :
+                        " == buffer.length) {";
+                    String readLength = isSentinel ? "-1);" : ");";
+                    
+                    if (isCurMatchStrategy) {
+                        line(2,"else if ((bufferEnd - bufferStart)"+fullLength);
+                        line(3,"int usedSpace = bufferEnd - dot;");
+                        line(3,"");
+                        line(3,"if (usedSpace > (buffer.length >> 1)) {");
+                        line(4,"char[] newBuffer = new char["+createBufferIncrement("buffer.length")+"];");
+                        line(4,"System.arraycopy(buffer,dot-bufferStart,newBuffer,0,usedSpace);");
+                        line(4,"buffer = newBuffer;");
+                        line(3,"}");
+                        line(3,"");
+                        line(3,"else {");
+                        line(4,"System.arraycopy(buffer,dot-bufferStart,buffer,0,usedSpace);");
+                        line(3,"}");
+                        line(3,"");
+                        line(3,"bufferStart = dot;");
+                        line(2,"}");
+                    }
+                    
+                    else {
+                        line(2,"else if (bufferEnd"+fullLength);
+                        line(3,"char[] newBuffer = new char["+createBufferIncrement("buffer.length")+"];");
+                        line(3,"System.arraycopy(buffer,0,newBuffer,0,buffer.length);");
+                        line(3,"buffer = newBuffer;");
+                        line(2,"}");
+                    }
+                    
+                    line(2,"");
+                    line(2,"// read further characters and check results");
+                    
+                    if (isCurMatchStrategy) {
+                        line(2,"int usedSpace = bufferEnd - bufferStart;");
+                        line(2,"int charsRead = "+(isChannelMode ? "readChannel" : "reader.read")+
+                                "("+(isChannelMode ? "" : "buffer,")+"usedSpace,buffer.length-usedSpace"+readLength);
+                    }
+                    
+                    else {
+                        line(2,"int charsRead = "+(isChannelMode ? "readChannel" : "reader.read")+
+                                "("+(isChannelMode ? "" : "buffer,")+"bufferEnd,buffer.length-bufferEnd"+readLength);
+                    }
+                    
+                    line(2,"");
+                    // Note: The buffer may have been compacted even if no further
+                    // characters are available and thus the sentinel is always set.
+                    if (isSentinel) {
+                        line(2,"if (charsRead > 0) {");
+                        line(3,"bufferEnd += charsRead;");
+                        line(2,"}");
+                        line(2,"");
+                        line(2,"// mark the end of the available characters");
+                        line(2,createCharAccess("bufferEnd")+" = "+
+                                createCharacterLiteral(AutomatonInfo.SENTINEL_CHARACTER)+";");
+                        line(2,"");
+                        line(2,"return charsRead > 0;");
+                    }
+                    
+                    else {
+                        line(2,"if (charsRead > 0) {");
+                        line(3,"bufferEnd += charsRead;");
+                        line(3,"");
+                        line(3,"return true;");
+                        line(2,"}");
+                        line(2,"");
+                        line(2,"return false;");
+                    }
+                }
+                
+                line(1,"}");
+                
+                if (isChannelMode) {
+                    generateReadChannelMethod();
+                }
+                
+                if (isRingStrategy) {
+                    generateRingBufferMethods();
+                }
+                
+                else if (isChunkedStrategy) {
+                    generateChunkedBufferMethods();
+                }
+            }
+            
+            if (isByteMode) {
+                generateDecodeMethods(hasVariableLookaheads,isByteBufferMode &&
+                        functionalityMap.hasMatchTextMethod());
+            }
+            
+            if (hasVariableLookaheads) {
+                javadoc(Member.COMPUTE_MATCH_END,
+                        "Computes the match end position of a variable lookahead.",
+                        "",
+                        "@param start The start of the current match.",
+                        "@param end The end of the current match.",
+                        "@param forwardStartState The index of the start state of the forward pass.",
+                        "@param backwardStartState The index of the start state of the backward pass.",
+                        "@return The end position of the match.");
+                
+                indent();
+                append(visibilityMap.getMemberName(Member.COMPUTE_MATCH_END));
+                ensureSpace();
+                append("int computeMatchEnd(int start, int end, int forwardStartState,");
+                lineSeparator();
+                indent(3);
+                append("int backwardStartState) {");
+                lineSeparator();
+                
+                line(2,"");
+                line(2,"// initialize position list");
+                line(2,"int length = end - start + 1;");
+                line(2,"");
+                line(2,"if (positionList == null) {");
+                line(3,"positionList = new boolean[length];");
+                line(2,"}");
+                line(2,"");
+                line(2,"else if (length > positionList.length) {");
+                line(3,"positionList = new boolean["+createBufferIncrement("length")+"];");
+                line(2,"}");
+                line(2,"");
+                line(2,"else {");
+                line(3,"for (int i=0;i<length;i++) {");
+                line(4,"positionList[i] = false;");
+                line(3,"}");
+                line(2,"}");
+                line(2,"");
+                line(2,"// determine content positions");
+                line(2,"int curState = forwardStartState;");
+                line(2,"int iterator = start;");
+                line(2,"");
+                line(2,"do {");
+                
+                generateStateTransition(0,false,true);
+                
+                line(3,"");
+                line(3,"if (curState == -1) {");
+                line(4,"break;");
+                line(3,"}");
+                line(3,"");
+                line(3,"if ("+createAcceptCondition("forwardStartState")+") {");
+                line(4,"positionList[iterator - start] = true;");
+                line(3,"}");
+                line(3,"");
+                line(3,"if (iterator == end) {");
+                line(4,"break;");
+                line(3,"}");
+                line(3,"");
+                line(3,"iterator++;");
+                line(2,"} while (true);");
+                line(2,"");
+                line(2,"// determine longest content match");
+                line(2,"curState = backwardStartState;");
+                line(2,"iterator = end;");
+                line(2,"");
+                line(2,"do {");
+                
+                generateStateTransition(0,true,true);
+                
+                line(3,"");
+                line(3,"if (("+createAcceptCondition("backwardStartState")+") && positionList[iterator-start]) {");
+                line(4,"return iterator + 1;");
+                line(3,"}");
+                line(2,"} while (true);");
+                line(1,"}");
+            }
+            
+            // Note: The range trees are collected during the generation of the
+            // inlined transitions.
+            if (isDirectCoded && (rangeTreeList != null)) {
+                generateRangeTreeMethods();
+            }
+            
+            if (isIncremental) {
+                generateCheckpointMethods();
+                generateGapMethods();
+            }
+            
+            if (hasTokenizeParallel) {
+                String stateVar = getParallelStateVar();
+                
+                if (stateVar != null) {
+                    javadoc(Member.CREATE_CHUNK_SCANNER,
+                            "Initializes the specified scanner for the scan of a chunk of the",
+                            "current string.",
+                            "",
+                            "@param scanner The scanner to be initialized.",
+                            "@param position The start position of the scan.",
+                            "@param state The lexical state of the scan.",
+                            "@return The initialized scanner.");
+                }
+                
+                else {
+                    javadoc(Member.CREATE_CHUNK_SCANNER,
+                            "Initializes the specified scanner for the scan of a chunk of the",
+                            "current string.",
+                            "",
+                            "@param scanner The scanner to be initialized.",
+                            "@param position The start position of the scan.",
+                            "@return The initialized scanner.");
+                }
+                
+                methodHead(visibilityMap.getMemberName(Member.CREATE_CHUNK_SCANNER),"",
+                        typeName,"createChunkScanner",typeName+" scanner, int position"+
+                        (stateVar != null ? ", int state" : ""));
+                
+                line(2,"scanner.string = string;");
+                
+                if (functionalityMap.hasRegionStartFieldReadAccess()) {
+                    line(2,"scanner.regionStart = regionStart;");
+                }
+                
+                line(2,"scanner.regionEnd = regionEnd;");
+                line(2,"scanner.dot = position;");
+                
+                if (stateVar != null) {
+                    line(2,getParallelStateAssignment("scanner.","state"));
+                }
+                
+                line(2,"");
+                line(2,"return scanner;");
+                line(1,"}");
+                
+                generateTokenChunkClass();
+            }
+            
+            if (isMemoization) {
+                generateFailMemoMethods();
+            }
+            
+            if (isVectorRuns) {
+                generateRunVectorsClass();
+            }
+        }
+    }
+    
+    /**
+     * 
+     */
+    private void generateFailMemoMethods() {
+        int stateStride = automatonInfo.getStateStride();
+        int rowLength = (automatonInfo.getTotalDFAStateCount() + 63) >>> 6;
+        String stateIndex = stateStride != 1 ? "(state / "+stateStride+")" : "state";
+        String rowStart = rowLength != 1 ? "(position - failMemoStart) * "+rowLength :
+            "(position - failMemoStart)";
+        
+        addImport(TYPE_ARRAYS);
+        
+        javadoc(Member.HAS_FAIL_MEMO,
+                "Checks whether no further match can be reached from the specified state",
+                "at the specified position.",
+                "",
+                "@param state The current state of the DFA.",
+                "@param position The position of the last examined character.",
+                "@return True if no further match can be reached, otherwise false.");
+        
+        methodHead(visibilityMap.getMemberName(Member.HAS_FAIL_MEMO),"",
+                "boolean","hasFailMemo","int state, int position");
+        
+        line(2,"if ((position < failMemoStart) || (position >= failMemoEnd)) {");
+        line(3,"return false;");
+        line(2,"}");
+        line(2,"");
+        line(2,"return (failMemo["+rowStart+" + ("+stateIndex+" >>> 6)] & (1L << "+
+                stateIndex+")) != 0;");
+        line(1,"}");
+        
+        javadoc(Member.ADD_FAIL_MEMO,
+                "Records that no further match can be reached from the specified state at",
+                "the specified position. The rows in front of the dot are dropped and new",
+                "rows are cleared when they are appended.",
+                "",
+                "@param state The current state of the DFA.",
+                "@param position The position of the last examined character.");
+        
+        methodHead(visibilityMap.getMemberName(Member.ADD_FAIL_MEMO),"",
+                "void","addFailMemo","int state, int position");
+        
+        line(2,"if (position < failMemoStart) {");
+        line(3,"return;");
+        line(2,"}");
+        line(2,"");
+        line(2,"if (position >= failMemoEnd) {");
+        line(3,"");
+        line(3,"// drop the rows in front of the dot");
+        line(3,"if (dot >= failMemoEnd) {");
+        line(4,"failMemoStart = dot;");
+        line(4,"failMemoEnd = dot;");
+        line(3,"}");
+        line(3,"");
+        line(3,"else if (dot > failMemoStart) {");
+        line(4,"System.arraycopy(failMemo,"+createFailMemoOffset("dot",rowLength)+",failMemo,0,"+
+                createFailMemoLength("failMemoEnd-dot",rowLength)+");");
+        line(4,"failMemoStart = dot;");
+        line(3,"}");
+        line(3,"");
+        line(3,"// append the missing rows");
+        line(3,"int length = "+createFailMemoLength("position+1-failMemoStart",rowLength)+";");
+        line(3,"");
+        line(3,"if (length > failMemo.length) {");
+        line(4,"failMemo = Arrays.copyOf(failMemo,Math.max(length,"+
+                createBufferIncrement("failMemo.length")+"));");
+        line(3,"}");
+        line(3,"");
+        line(3,"Arrays.fill(failMemo,"+createFailMemoOffset("failMemoEnd",rowLength)+",length,0);");
+        line(3,"failMemoEnd = position + 1;");
+        line(2,"}");
+        line(2,"");
+        line(2,"failMemo["+rowStart+" + ("+stateIndex+" >>> 6)] |= 1L << "+stateIndex+";");
+        line(1,"}");
+    }
+    
+    /**
+     * 
+     */
+    private String createFailMemoOffset(String position, int rowLength) {
+        return createFailMemoLength(position+"-failMemoStart",rowLength);
+    }
+    
+    /**
+     * 
+     */
+    private String createFailMemoLength(String rowCount, int rowLength) {
+        return rowLength != 1 ? "("+rowCount+")*"+rowLength : rowCount;
+    }
+    
+    /**
+     * 
+     */
+    private void generateRunVectorsClass() {
+        addImport(TYPE_SHORT_VECTOR);
+        addImport(TYPE_VECTOR_MASK);
+        addImport(TYPE_VECTOR_OPERATORS);
+        addImport(TYPE_VECTOR_SPECIES);
+        
+        javadoc(Member.RUN_VECTORS,"Skips the characters of the run loops with the vector API. Each method",
+                "compares a whole vector of characters with the character ranges of a",
+                "run state and returns the position of the first character which leaves",
+                "the state or the position at which the scalar run loop continues. The",
+                "class is only loaded if the module jdk.incubator.vector is available.");
+        
+        line(1,visibilityMap.getMemberName(Member.RUN_VECTORS)+
+                " static final class RunVectors {");
+        line(2,"");
+        line(2,"static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;");
+        
+        for (int i=0;i<automatonInfo.getRunStateCount();i++) {
+            String[] exitMasks = createVectorExitMasks(automatonInfo.getRunRanges(i));
+            
+            line(2,"");
+            line(2,"static int skipRun"+i+"(char[] chars, int index, int end) {");
+            line(3,"int vectorEnd = end - SPECIES.length();");
+            line(3,"");
+            line(3,"while (index <= vectorEnd) {");
+            line(4,"ShortVector vector = ShortVector.fromCharArray(SPECIES,chars,index);");
+            line(4,"VectorMask<Short> exitMask = "+exitMasks[0]+(exitMasks.length == 1 ? ";" : ""));
+            
+            for (int j=1;j<exitMasks.length;j++) {
+                line(6,".and("+exitMasks[j]+")"+(j == exitMasks.length-1 ? ";" : ""));
+            }
+            
+            line(4,"");
+            line(4,"if (exitMask.anyTrue()) {");
+            line(5,"return index + exitMask.firstTrue();");
+            line(4,"}");
+            line(4,"");
+            line(4,"index += SPECIES.length();");
+            line(3,"}");
+            line(3,"");
+            line(3,"return index;");
+            line(2,"}");
+        }
+        
+        line(1,"}");
+    }
+    
+    /**
+     * 
+     */
+    private String[] createVectorExitMasks(int[] ranges) {
+        String[] exitMasks = new String[ranges.length / 2];
+        
+        for (int i=0;i<exitMasks.length;i++) {
+            int start = ranges[i*2];
+            int end = ranges[i*2+1];
+            
+            if (start == end) {
+                exitMasks[i] = "vector.compare(VectorOperators.NE,(short)"+
+                        createCharacterLiteral(start)+")";
+            }
+            
+            else if (start == 0) {
+                exitMasks[i] = "vector.compare(VectorOperators.UNSIGNED_GT,(short)"+
+                        createCharacterLiteral(end)+")";
+            }
+            
+            else if (end == 0xffff) {
+                exitMasks[i] = "vector.compare(VectorOperators.UNSIGNED_LT,(short)"+
+                        createCharacterLiteral(start)+")";
+            }
+            
+            else {
+                
+                // Note: The subtraction of the range start maps the range to the
+                // values from zero to the range length which allows a single
+                // unsigned comparison.
+                exitMasks[i] = "vector.sub((short)"+createCharacterLiteral(start)+
+                        ").compare(VectorOperators.UNSIGNED_GT,(short)"+(end-start)+")";
+            }
+        }
+        
+        return exitMasks;
+    }
+    
+    /**
+     * 
+     */
+    private void generateGapMethods() {
+        javadoc(Member.MOVE_GAP,
+                "Moves the gap to the specified position and ensures that the gap has at",
+                "least the specified length. A grown gap has at least half of the string",
+                "length, so that the copies of the growth are amortized over the edits.",
+                "",
+                "@param position The new start of the gap.",
+                "@param minLength The minimum length of the gap.");
+        
+        methodHead(visibilityMap.getMemberName(Member.MOVE_GAP),"","void",
+                "moveGap","int position, int minLength");
+        
+        line(2,"int length = gapBuffer.length - gapLength;");
+        line(2,"");
+        line(2,"if (gapLength < minLength) {");
+        line(3,"int newGapLength = Math.max(minLength,(length >> 1) + 16);");
+        line(3,"char[] newGapBuffer = new char[length+newGapLength];");
+        line(3,"");
+        line(3,"System.arraycopy(gapBuffer,0,newGapBuffer,0,gapStart);");
+        line(3,"System.arraycopy(gapBuffer,gapStart+gapLength,newGapBuffer,");
+        line(5,"gapStart+newGapLength,length-gapStart);");
+        line(3,"");
+        line(3,"gapBuffer = newGapBuffer;");
+        line(3,"gapLength = newGapLength;");
+        line(2,"}");
+        line(2,"");
+        line(2,"if (position < gapStart) {");
+        line(3,"System.arraycopy(gapBuffer,position,gapBuffer,position+gapLength,");
+        line(5,"gapStart-position);");
+        line(2,"}");
+        line(2,"");
+        line(2,"else if (position > gapStart) {");
+        line(3,"System.arraycopy(gapBuffer,gapStart+gapLength,gapBuffer,gapStart,");
+        line(5,"position-gapStart);");
+        line(2,"}");
+        line(2,"");
+        line(2,"gapStart = position;");
+        line(1,"}");
+        
+        javadoc(Member.GET_GAP_TEXT,
+                "Returns the text between the specified positions of the string.",
+                "",
+                "@param start The start of the text (inclusive).",
+                "@param end The end of the text (exclusive).",
+                "@return The text between the specified positions.");
+        
+        methodHead(visibilityMap.getMemberName(Member.GET_GAP_TEXT),"","String",
+                "getGapText","int start, int end");
+        
+        line(2,"if (end <= gapStart) {");
+        line(3,"return new String(gapBuffer,start,end-start);");
+        line(2,"}");
+        line(2,"");
+        line(2,"if (start >= gapStart) {");
+        line(3,"return new String(gapBuffer,start+gapLength,end-start);");
+        line(2,"}");
+        line(2,"");
+        line(2,"StringBuilder builder = new StringBuilder(end-start);");
+        line(2,"builder.append(gapBuffer,start,gapStart-start);");
+        line(2,"builder.append(gapBuffer,gapStart+gapLength,end-gapStart);");
+        line(2,"");
+        line(2,"return builder.toString();");
+        line(1,"}");
+    }
+    
+    /**
+     * 
+     */
+    private void generateCheckpointMethods() {
+        String stateVar = functionalityMap.hasLexicalStateFieldReadAccess() ?
+                "lexicalState" : "startState";
+        
+        javadoc(Member.ADD_CHECKPOINT,
+                "Records a checkpoint for the current scan and checks whether the scan is",
+                "resynchronized with the previous scans. Checkpoints behind the gap which",
+                "lie before the current scan are outdated and thus removed.",
+                "",
+                "@param position The start position of the current scan.",
+                "@param scanEnd The greatest position which has been examined by the",
+                "current scan.",
+                "@return True if the current scan is resynchronized, otherwise false.");
+        
+        methodHead(visibilityMap.getMemberName(Member.ADD_CHECKPOINT),"",
+                "boolean","addCheckpoint","int position, int scanEnd");
+        
+        line(2,"int capacity = checkpointPositions.length;");
+        line(2,"");
+        line(2,"// remove outdated checkpoints and check for resynchronization");
+        line(2,"while (checkpointGapEnd != capacity) {");
+        line(3,"int curPosition = regionEnd - checkpointPositions[checkpointGapEnd];");
+        line(3,"");
+        line(3,"if (curPosition > position) {");
+        line(4,"break;");
+        line(3,"}");
+        line(3,"");
+        
+        if (hasLexicalStates) {
+            line(3,"if ((curPosition == position) && (position >= editEnd) &&");
+            line(3,"    (checkpointStates[checkpointGapEnd] == "+stateVar+")) {");
+            line(4,"");
+        }
+        
+        else {
+            line(3,"if ((curPosition == position) && (position >= editEnd)) {");
+        }
+        
+        line(4,"return true;");
+        line(3,"}");
+        line(3,"");
+        line(3,"checkpointGapEnd++;");
+        line(2,"}");
+        line(2,"");
+        line(2,"// grow the checkpoint arrays if necessary");
+        line(2,"if (checkpointCount == checkpointGapEnd) {");
+        line(3,"int newCapacity = Math.max("+createBufferIncrement("capacity")+",16);");
+        line(3,"");
+        line(3,"checkpointPositions = growCheckpointArray(checkpointPositions,newCapacity);");
+        line(3,"checkpointScanEnds = growCheckpointArray(checkpointScanEnds,newCapacity);");
+        
+        if (hasLexicalStates) {
+            line(3,"checkpointStates = growCheckpointArray(checkpointStates,newCapacity);");
+        }
+        
+        line(3,"checkpointGapEnd += newCapacity - capacity;");
+        line(2,"}");
+        line(2,"");
+        line(2,"// append checkpoint");
+        line(2,"if (checkpointCount != 0) {");
+        line(3,"scanEnd = Math.max(scanEnd,checkpointScanEnds[checkpointCount-1]);");
+        line(2,"}");
+        line(2,"");
+        line(2,"checkpointPositions[checkpointCount] = position;");
+        line(2,"checkpointScanEnds[checkpointCount] = scanEnd;");
+        
+        if (hasLexicalStates) {
+            line(2,"checkpointStates[checkpointCount] = "+stateVar+";");
+        }
+        
+        line(2,"checkpointCount++;");
+        line(2,"");
+        line(2,"return false;");
+        line(1,"}");
+        
+        javadoc(Member.GROW_CHECKPOINT_ARRAY,
+                "Copies the checkpoints of the specified array into a new array with the",
+                "specified capacity. The checkpoints behind the gap are moved to the end of",
+                "the new array.",
+                "",
+                "@param array The array which contains the checkpoints.",
+                "@param newCapacity The capacity of the new array.",
+                "@return The new array.");
+        
+        methodHead(visibilityMap.getMemberName(Member.GROW_CHECKPOINT_ARRAY),"",
+                "int[]","growCheckpointArray","int[] array, int newCapacity");
+        
+        line(2,"int[] newArray = new int[newCapacity];");
+        line(2,"int gapLength = array.length - checkpointGapEnd;");
+        line(2,"");
+        line(2,"System.arraycopy(array,0,newArray,0,checkpointCount);");
+        line(2,"System.arraycopy(array,checkpointGapEnd,newArray,newCapacity-gapLength,gapLength);");
+        line(2,"");
+        line(2,"return newArray;");
+        line(1,"}");
+        
+        javadoc(Member.MOVE_CHECKPOINT_GAP,
+                "Moves the gap of the checkpoints by one checkpoint. The positions of the",
+                "moved checkpoint are converted accordingly.",
+                "",
+                "@param backward Whether the gap is moved backward or forward.");
+        
+        methodHead(visibilityMap.getMemberName(Member.MOVE_CHECKPOINT_GAP),"",
+                "void","moveCheckpointGap","boolean backward");
+        
+        line(2,"if (backward) {");
+        line(3,"checkpointCount--;");
+        line(3,"checkpointGapEnd--;");
+        line(3,"checkpointPositions[checkpointGapEnd] = regionEnd - checkpointPositions[checkpointCount];");
+        line(3,"checkpointScanEnds[checkpointGapEnd] = regionEnd - checkpointScanEnds[checkpointCount];");
+        
+        if (hasLexicalStates) {
+            line(3,"checkpointStates[checkpointGapEnd] = checkpointStates[checkpointCount];");
+        }
+        
+        line(2,"}");
+        line(2,"");
+        line(2,"else {");
+        line(3,"int scanEnd = regionEnd - checkpointScanEnds[checkpointGapEnd];");
+        line(3,"");
+        line(3,"if (checkpointCount != 0) {");
+        line(4,"scanEnd = Math.max(scanEnd,checkpointScanEnds[checkpointCount-1]);");
+        line(3,"}");
+        line(3,"");
+        line(3,"checkpointPositions[checkpointCount] = regionEnd - checkpointPositions[checkpointGapEnd];");
+        line(3,"checkpointScanEnds[checkpointCount] = scanEnd;");
         
-        if (hasMatchEndOwner) {
-            endPositionOwner++;
+        if (hasLexicalStates) {
+            line(3,"checkpointStates[checkpointCount] = checkpointStates[checkpointGapEnd];");
         }
         
-        if (hasMatchLookaheadOwner) {
-            endPositionOwner++;
+        line(3,"checkpointCount++;");
+        line(3,"checkpointGapEnd++;");
+        line(2,"}");
+        line(1,"}");
+    }
+    
+    /**
+     * 
+     */
+    private void generateEnsureBufferSpaceMethod() {
+        if (isCurMatchStrategy) {
+            javadoc(Member.ENSURE_BUFFER_SPACE,
+                    "Ensures that the character buffer has space for the specified number of",
+                    "additional characters. The characters before the last match are",
+                    "discarded if necessary.",
+                    "",
+                    "@param length The number of additional characters.");
         }
         
-        if (hasDotAssignmentOwner) {
-            endPositionOwner++;
+        else {
+            javadoc(Member.ENSURE_BUFFER_SPACE,
+                    "Ensures that the character buffer has space for the specified number of",
+                    "additional characters.",
+                    "",
+                    "@param length The number of additional characters.");
         }
         
-        String endPositionCode = endPositionOwner > 1 ?
-                "endPosition" : "matchPosition + 1";
-        
-        boolean hasLocalVars = (endPositionOwner > 1) || hasMatchStartVarOwner;
-        boolean hasMatchVars = hasMatchStartOwner || hasMatchEndOwner || hasMatchLookaheadOwner;
-        boolean hasAssignments = hasMatchVars || hasDotAssignmentOwner;
+        methodHead(visibilityMap.getMemberName(Member.ENSURE_BUFFER_SPACE),"",
+                "void","ensureBufferSpace","int length");
         
-        if (hasLocalVars) {
-            if (endPositionOwner > 1) {
-                line(4,"int endPosition = matchPosition + 1;");
-            }
+        if (isCurMatchStrategy) {
+            String keepStart = functionalityMap.hasMatchStartFieldReadAccess(isCurMatchStrategy) ?
+                    "matchStart" : "dot";
             
-            if (hasMatchStartVarOwner) {
-                line(4,"int matchStart = dot;");
-            }
+            line(2,"if ((bufferEnd - bufferStart + length) > buffer.length) {");
+            line(3,"int usedSpace = bufferEnd - "+keepStart+";");
+            line(3,"");
+            line(3,"if ((usedSpace + length) > (buffer.length >> 1)) {");
+            line(4,"char[] newBuffer = new char[Math.max("+createBufferIncrement("buffer.length")+
+                    ",usedSpace+length)];");
+            line(4,"System.arraycopy(buffer,"+keepStart+"-bufferStart,newBuffer,0,usedSpace);");
+            line(4,"buffer = newBuffer;");
+            line(3,"}");
+            line(3,"");
+            line(3,"else {");
+            line(4,"System.arraycopy(buffer,"+keepStart+"-bufferStart,buffer,0,usedSpace);");
+            line(3,"}");
+            line(3,"");
+            line(3,"bufferStart = "+keepStart+";");
+            line(2,"}");
         }
         
-        if (hasLocalVars && hasAssignments) {
-            line(4,"");
+        else {
+            line(2,"if ((bufferEnd + length) > buffer.length) {");
+            line(3,"char[] newBuffer = new char[Math.max("+createBufferIncrement("buffer.length")+
+                    ",bufferEnd+length)];");
+            line(3,"System.arraycopy(buffer,0,newBuffer,0,bufferEnd);");
+            line(3,"buffer = newBuffer;");
+            line(2,"}");
         }
         
-        if (hasAssignments) {
-            generateMatchAssignment(4,hasMatchStartOwner,hasMatchEndOwner,
-                    hasMatchLookaheadOwner,"dot",endPositionCode,endPositionCode);
+        line(1,"}");
+    }
+    
+    /**
+     * 
+     */
+    private void generateRingBufferRead() {
+        line(2,"// if the buffer is empty then create a new one with the specified size");
+        line(2,"if (buffer == EMPTY_CHAR_ARRAY) {");
+        line(3,"buffer = new char[readerStartCapacity];");
+        line(2,"}");
+        line(2,"");
+        line(2,"// otherwise check whether the buffer is full");
+        line(2,"else if ((bufferEnd - dot) == buffer.length) {");
+        
+        if (maxBufferCapacity != 0) {
+            line(3,"if (buffer.length == MAX_BUFFER_CAPACITY) {");
             
-            if (hasDotAssignmentOwner) {
-                line(4,"dot = "+endPositionCode+";");
+            // Note: A truncating buffer is treated like the end of the input.
+            // The scan falls back to the last match or truncates the match and
+            // reads the remaining characters after the match has been consumed.
+            if (isTruncateOverflow) {
+                line(4,"return false;");
             }
             
-            line(4,"");
+            else {
+                line(4,"throw new IOException(\"buffer capacity exceeded\");");
+            }
+            
+            line(3,"}");
+            line(3,"");
+            line(3,"resizeBuffer(Math.min(buffer.length << 1,MAX_BUFFER_CAPACITY));");
         }
         
-        String oldDotVar = hasDotAssignmentOwner ? "matchStart" : "dot";
-        
-        generateActionSwitch(oldDotVar);
+        else {
+            line(3,"resizeBuffer(buffer.length << 1);");
+        }
         
-        line(3,"}");
+        line(2,"}");
+        line(2,"");
+        line(2,"// or whether it can be shrunk again after a long match");
+        line(2,"else if ((buffer.length > readerStartCapacity) &&");
+        line(3,"((bufferEnd - dot) <= (readerStartCapacity >> 1))) {");
+        line(3,"");
+        line(3,"resizeBuffer(readerStartCapacity);");
+        line(2,"}");
+        line(2,"");
+        line(2,"// read further characters and check results");
+        line(2,"int index = bufferEnd & (buffer.length-1);");
+        line(2,"int charsRead = reader.read(buffer,index,Math.min(buffer.length-(bufferEnd-dot),");
+        line(4,"buffer.length-index));");
+        line(2,"");
+        line(2,"if (charsRead > 0) {");
+        line(3,"bufferEnd += charsRead;");
+        line(3,"bufferStart = Math.max(bufferStart,bufferEnd-buffer.length);");
+        line(3,"");
+        line(3,"return true;");
+        line(2,"}");
+        line(2,"");
+        line(2,"return false;");
+    }
+    
+    /**
+     * 
+     */
+    private void generateRingBufferMethods() {
+        javadoc(Member.RESIZE_BUFFER,
+                "Moves the characters starting at the dot into a new ring buffer with",
+                "the specified capacity.",
+                "",
+                "@param capacity The new capacity. It has to be a power of two.");
         
-        switch(noMatchAction) {
-        case CONTINUE:
-            line(3,"");
-            line(3,"// no match found, try next position");
-            line(3,"dot++;");
-            break;
+        methodHead(visibilityMap.getMemberName(Member.RESIZE_BUFFER),"",
+                "void","resizeBuffer","int capacity");
         
-        case RETURN:
-            if (isLoop) {
-                line(3,"");
-                line(3,"// no match found, break loop");
-                line(3,"break;");
-            }
-            break;
+        line(2,"char[] newBuffer = new char[capacity];");
+        line(2,"int position = dot;");
+        line(2,"");
+        line(2,"while (position < bufferEnd) {");
+        line(3,"int sourceIndex = position & (buffer.length-1);");
+        line(3,"int targetIndex = position & (capacity-1);");
+        line(3,"int length = Math.min(bufferEnd-position,Math.min(buffer.length-sourceIndex,");
+        line(5,"capacity-targetIndex));");
+        line(3,"");
+        line(3,"System.arraycopy(buffer,sourceIndex,newBuffer,targetIndex,length);");
+        line(3,"position += length;");
+        line(2,"}");
+        line(2,"");
+        line(2,"buffer = newBuffer;");
+        line(2,"bufferStart = dot;");
+        line(1,"}");
         
-        case ERROR:
-            line(3,"");
-            line(3,"// no match found, set match values and report as error");
+        if (functionalityMap.has(Member.GET_MATCH_TEXT) ||
+            functionalityMap.has(Member.GET_MATCH_TEXT_RANGE) ||
+            functionalityMap.has(Member.GET_MATCH_TOTAL_TEXT) ||
+            functionalityMap.has(Member.GET_MATCH_LOOKAHEAD_TEXT)) {
             
-            if (hasMatchVars) {
-                generateMatchAssignment(3,hasMatchStartOwner,hasMatchEndOwner,
-                        hasMatchLookaheadOwner,"dot","dot","dot");
-                line(3,"");
-            }
+            javadoc(Member.GET_BUFFER_TEXT,
+                    "Returns the characters of the specified range of the ring buffer.",
+                    "",
+                    "@param start The position of the first character.",
+                    "@param count The number of characters.",
+                    "@return The characters of the specified range.");
             
-            line(3,"throw new IllegalStateException(\"invalid input\");");
-            break;
-        
-        default:
-            throw new IllegalStateException("unknown action type");
+            methodHead(visibilityMap.getMemberName(Member.GET_BUFFER_TEXT),"",
+                    "String","getBufferText","int start, int count");
+            
+            line(2,"int index = start & (buffer.length-1);");
+            line(2,"int length = Math.min(count,buffer.length-index);");
+            line(2,"");
+            line(2,"if (length == count) {");
+            line(3,"return new String(buffer,index,count);");
+            line(2,"}");
+            line(2,"");
+            line(2,"return new StringBuilder(count).append(buffer,index,length)");
+            line(4,".append(buffer,0,count-length).toString();");
+            line(1,"}");
         }
-        
+    }
+    
+    /**
+     * 
+     */
+    private void generateChunkedBufferRead() {
+        line(2,"// if the chunk directory is empty or full then create a larger one");
+        line(2,"int chunkIndex = bufferEnd >> BUFFER_CHUNK_SHIFT;");
+        line(2,"");
+        line(2,"if (buffer == EMPTY_CHUNK_ARRAY) {");
+        line(3,"buffer = new char[(readerStartCapacity >> BUFFER_CHUNK_SHIFT)+1][];");
         line(2,"}");
         line(2,"");
-        line(2,"// no match found, set match values and return to caller");
-        
-        if (hasMatchVars) {
-            generateMatchAssignment(2,hasMatchStartOwner,hasMatchEndOwner,
-                    hasMatchLookaheadOwner,"dot","dot","dot");
+        line(2,"else if (chunkIndex == buffer.length) {");
+        line(3,"char[][] newBuffer = new char[buffer.length << 1][];");
+        line(3,"System.arraycopy(buffer,0,newBuffer,0,buffer.length);");
+        line(3,"buffer = newBuffer;");
+        line(2,"}");
+        line(2,"");
+        line(2,"// append a new chunk if the last one is full");
+        line(2,"if (buffer[chunkIndex] == null) {");
+        line(3,"buffer[chunkIndex] = new char[BUFFER_CHUNK_SIZE];");
+        line(2,"}");
+        line(2,"");
+        line(2,"// read further characters and check results");
+        line(2,"int offset = bufferEnd & (BUFFER_CHUNK_SIZE-1);");
+        line(2,"int charsRead = reader.read(buffer[chunkIndex],offset,BUFFER_CHUNK_SIZE-offset);");
+        line(2,"");
+        line(2,"if (charsRead > 0) {");
+        line(3,"bufferEnd += charsRead;");
+        line(3,"");
+        line(3,"return true;");
+        line(2,"}");
+        line(2,"");
+        line(2,"return false;");
+    }
+    
+    /**
+     * 
+     */
+    private void generateChunkedBufferMethods() {
+        if (functionalityMap.has(Member.GET_MATCH_TEXT) ||
+            functionalityMap.has(Member.GET_MATCH_TEXT_RANGE) ||
+            functionalityMap.has(Member.GET_MATCH_TOTAL_TEXT) ||
+            functionalityMap.has(Member.GET_MATCH_LOOKAHEAD_TEXT)) {
+            
+            javadoc(Member.GET_BUFFER_TEXT,
+                    "Returns the characters of the specified range of the chunked buffer.",
+                    "",
+                    "@param start The position of the first character.",
+                    "@param count The number of characters.",
+                    "@return The characters of the specified range.");
+            
+            methodHead(visibilityMap.getMemberName(Member.GET_BUFFER_TEXT),"",
+                    "String","getBufferText","int start, int count");
+            
+            line(2,"int offset = start & (BUFFER_CHUNK_SIZE-1);");
+            line(2,"");
+            line(2,"if ((offset + count) <= BUFFER_CHUNK_SIZE) {");
+            line(3,"return new String(buffer[start >> BUFFER_CHUNK_SHIFT],offset,count);");
+            line(2,"}");
+            line(2,"");
+            line(2,"// copy the characters chunk by chunk");
+            line(2,"StringBuilder builder = new StringBuilder(count);");
             line(2,"");
+            line(2,"while (count > 0) {");
+            line(3,"int length = Math.min(count,BUFFER_CHUNK_SIZE-offset);");
+            line(3,"builder.append(buffer[start >> BUFFER_CHUNK_SHIFT],offset,length);");
+            line(3,"");
+            line(3,"start += length;");
+            line(3,"count -= length;");
+            line(3,"offset = 0;");
+            line(2,"}");
+            line(2,"");
+            line(2,"return builder.toString();");
+            line(1,"}");
         }
+    }
+    
+    /**
+     * 
+     */
+    private static int createPowerOfTwo(int capacity) {
+        return capacity > 0 ? Math.max(Integer.highestOneBit(capacity-1) << 1,2) : 0;
+    }
+    
+    /**
+     * 
+     */
+    private void generateReadChannelMethod() {
+        javadoc(Member.READ_CHANNEL,
+                "Reads bytes from the channel and decodes them into the specified range",
+                "of the character buffer. The method blocks until at least one character",
+                "has been decoded or the end of the channel has been reached.",
+                "",
+                "@param offset The start position inside the character buffer.",
+                "@param length The maximum number of characters to be decoded.",
+                "@return The number of decoded characters or -1 if all bytes of the",
+                "channel have been decoded.",
+                "@throws IOException If an IO error occurs");
+        
+        methodHead(visibilityMap.getMemberName(Member.READ_CHANNEL),"",
+                "int","readChannel","int offset, int length","IOException");
         
-        line(2,"return "+createDefaultReturnValue()+";");
+        line(2,"if (decoderEnd) {");
+        line(3,"return -1;");
+        line(2,"}");
+        line(2,"");
+        line(2,"// wrap the character buffer only if it has been replaced");
+        line(2,"if ((charBuffer == null) || (charBuffer.array() != buffer)) {");
+        line(3,"charBuffer = CharBuffer.wrap(buffer);");
+        line(2,"}");
+        line(2,"");
+        line(2,"charBuffer.limit(offset+length);");
+        line(2,"charBuffer.position(offset);");
+        line(2,"");
+        line(2,"// decode bytes until at least one character is available");
+        line(2,"while (true) {");
+        line(3,"if (channelEnd) {");
+        line(4,"if (decoder.decode(byteBuffer,charBuffer,true).isUnderflow() &&");
+        line(5,"decoder.flush(charBuffer).isUnderflow()) {");
+        line(5,"");
+        line(5,"decoderEnd = true;");
+        line(4,"}");
+        line(4,"");
+        line(4,"break;");
+        line(3,"}");
+        line(3,"");
+        line(3,"if (decoder.decode(byteBuffer,charBuffer,false).isOverflow() ||");
+        line(4,"(charBuffer.position() != offset)) {");
+        line(4,"");
+        line(4,"break;");
+        line(3,"}");
+        line(3,"");
+        line(3,"byteBuffer.compact();");
+        line(3,"channelEnd = channel.read(byteBuffer) == -1;");
+        line(3,"byteBuffer.flip();");
+        line(2,"}");
+        line(2,"");
+        line(2,"int charsRead = charBuffer.position() - offset;");
+        line(2,"");
+        line(2,"return charsRead > 0 ? charsRead : -1;");
         line(1,"}");
     }
     
     /**
      * 
      */
-    private void generateStateTransition(int indent, boolean decreaseIterator) {
-        int characterMapLastValue = automatonInfo.getCharacterMapLastValue();
+    private void generateDecodeMethods(boolean hasVariableLookaheads,
+            boolean hasDecodeText) {
         
-        if (characterMapLastValue != -1) {
-            String charAccess = isReaderMode ? (isCurMatchStrategy ?
-                    "buffer[iterator-bufferStart]" : "buffer[iterator]") :
-                    "string.charAt(iterator)";
-            
-            line(3+indent,"char curChar = "+charAccess+";");
-            
-            if (decreaseIterator) {
-                line(3+indent,"iterator--;");
-            }
-            
-            line(3+indent,"");
+        javadoc(Member.DECODE_CODE_POINT,
+                "Decodes the UTF-8 sequence of a non-ASCII code point. Each byte of a",
+                "malformed sequence is decoded as U+FFFD.",
+                "",
+                "@param position The position of the first byte of the sequence.",
+                "@param end The position after the last available byte.",
+                "@return The code point in the lower "+UTF8_LENGTH_SHIFT+" bits and the number of",
+                "additional bytes of the sequence in the upper bits.");
+        
+        methodHead(visibilityMap.getMemberName(Member.DECODE_CODE_POINT),"",
+                "int","decodeCodePoint","int position, int end");
+        
+        line(2,"int leadByte = "+createByteAccess("position")+" & 0xff;");
+        line(2,"int length;");
+        line(2,"int codePoint;");
+        line(2,"");
+        line(2,"if ((leadByte >= 0xc2) && (leadByte < 0xe0)) {");
+        line(3,"length = 2;");
+        line(3,"codePoint = leadByte & 0x1f;");
+        line(2,"}");
+        line(2,"");
+        line(2,"else if ((leadByte >= 0xe0) && (leadByte < 0xf0)) {");
+        line(3,"length = 3;");
+        line(3,"codePoint = leadByte & 0x0f;");
+        line(2,"}");
+        line(2,"");
+        line(2,"else if ((leadByte >= 0xf0) && (leadByte < 0xf5)) {");
+        line(3,"length = 4;");
+        line(3,"codePoint = leadByte & 0x07;");
+        line(2,"}");
+        line(2,"");
+        line(2,"else {");
+        line(3,"return 0xfffd;");
+        line(2,"}");
+        line(2,"");
+        line(2,"if (position + length > end) {");
+        line(3,"return 0xfffd;");
+        line(2,"}");
+        line(2,"");
+        line(2,"for (int i=1;i<length;i++) {");
+        line(3,"int nextByte = "+createByteAccess("position+i")+";");
+        line(3,"");
+        line(3,"if ((nextByte & 0xc0) != 0x80) {");
+        line(4,"return 0xfffd;");
+        line(3,"}");
+        line(3,"");
+        line(3,"codePoint = (codePoint << 6) | (nextByte & 0x3f);");
+        line(2,"}");
+        line(2,"");
+        line(2,"// reject overlong sequences, surrogates and values beyond the last");
+        line(2,"// code point");
+        line(2,"if (((length == 3) && (codePoint < 0x800)) ||");
+        line(3,"((length == 4) && (codePoint < 0x10000)) ||");
+        line(3,"((codePoint >= 0xd800) && (codePoint <= 0xdfff)) ||");
+        line(3,"(codePoint > 0x10ffff)) {");
+        line(3,"");
+        line(3,"return 0xfffd;");
+        line(2,"}");
+        line(2,"");
+        line(2,"return ((length - 1) << "+UTF8_LENGTH_SHIFT+") | codePoint;");
+        line(1,"}");
+        
+        if (hasVariableLookaheads) {
+            javadoc(Member.DECODE_LAST_CODE_POINT,
+                    "Decodes the UTF-8 sequence of a non-ASCII code point backwards. Each",
+                    "byte of a malformed sequence is decoded as U+FFFD.",
+                    "",
+                    "@param position The position of the last byte of the sequence.",
+                    "@param start The position of the first available byte.",
+                    "@return The code point in the lower "+UTF8_LENGTH_SHIFT+" bits and the number of",
+                    "additional bytes of the sequence in the upper bits.");
             
-            indent(3+indent);
-            append("curState = TRANSITION_TABLE[curState][curChar >= ");
-            append(automatonInfo.getCharacterMapSize());
-            append(" ?");
-            lineSeparator();
+            methodHead(visibilityMap.getMemberName(Member.DECODE_LAST_CODE_POINT),"",
+                    "int","decodeLastCodePoint","int position, int start");
             
-            indent(5+indent);
-            append("");
-            append(characterMapLastValue);
-            append(" : CHARACTER_MAP[curChar]];");
-            lineSeparator();
+            line(2,"if (("+createByteAccess("position")+" & 0xc0) == 0x80) {");
+            line(3,"int limit = Math.max(start,position-3);");
+            line(3,"");
+            line(3,"// search the lead byte and check whether its sequence ends at the");
+            line(3,"// specified position");
+            line(3,"for (int i=position-1;i>=limit;i--) {");
+            line(4,"if (("+createByteAccess("i")+" & 0xc0) != 0x80) {");
+            line(5,"int codePoint = decodeCodePoint(i,position+1);");
+            line(5,"");
+            line(5,"return (codePoint >>> "+UTF8_LENGTH_SHIFT+") == position - i ? codePoint : 0xfffd;");
+            line(4,"}");
+            line(3,"}");
+            line(2,"}");
+            line(2,"");
+            line(2,"return 0xfffd;");
+            line(1,"}");
         }
         
-        else {
-            String charAccess1 = isReaderMode ? "" :
-                "string";
-            String charAccess2 = isReaderMode ? (isCurMatchStrategy ?
-                    "buffer[iterator-bufferStart]" : "buffer[iterator]") :
-                    ".charAt(iterator)";
+        if (hasDecodeText) {
+            javadoc(Member.DECODE_TEXT,
+                    "Decodes a range of the byte buffer to a string. The range is decoded",
+                    "through a duplicate and thus neither the position nor the limit of the",
+                    "byte buffer are changed.",
+                    "",
+                    "@param start The start of the range (inclusive).",
+                    "@param end The end of the range (exclusive).",
+                    "@return The decoded range.");
             
-            line(3+indent,"curState = TRANSITION_TABLE[curState][CHARACTER_MAP["+charAccess1);
-            line(5+indent,""+charAccess2+"]];");
+            methodHead(visibilityMap.getMemberName(Member.DECODE_TEXT),"",
+                    "String","decodeText","int start, int end");
             
-            if (decreaseIterator) {
-                line(3+indent,"iterator--;");
-            }
+            line(2,"ByteBuffer buffer = byteBuffer.duplicate();");
+            line(2,"buffer.limit(end);");
+            line(2,"buffer.position(start);");
+            line(2,"");
+            line(2,"return StandardCharsets.UTF_8.decode(buffer).toString();");
+            line(1,"}");
         }
     }
     
     /**
      * 
      */
-    private void generateActionSwitch(String oldDotVar) {
-        ActionPool<MethodInfo> actionPool = automatonInfo.getActionPool();
-        int[] actionReorderMap = automatonInfo.getActionReorderMap();
-        int actionCount = actionPool.size();
-        int lastLookaheadType = -1;
-        
-        line(4,"switch(ACTION_MAP[matchState]) {");
+    private void generateDirectTransition(int indent, String characterVar) {
+        int stateCount = automatonInfo.getTotalDFAStateCount();
+        HashMap<String,ArrayList<Integer>> stateListMap = new HashMap<>();
+        ArrayList<int[]> rangeListList = new ArrayList<>();
         
-        for (int i=0;i<actionCount;i++) {
-            Action<MethodInfo> curAction = actionPool.get(i);
-            MethodInfo curMethod = curAction.getOwnerRule().getAction();
-            int curLookaheadType = curAction.getLookaheadType();
-            
-            switch(lastLookaheadType) {
-            case Action.LOOKAHEAD_FIX_CONTENT:
-            case Action.LOOKAHEAD_FIX_CONDITION:
-            case Action.LOOKAHEAD_VARIABLE:
-                line(4,"");
-            }
-            
-            switch(curLookaheadType) {
-            case Action.LOOKAHEAD_NONE:
-                line(4,"case "+actionReorderMap[i]+": "+generateActionCall(curMethod));
-                break;
+        if (rangeTreeList == null) {
+            rangeTreeList = new ArrayList<>();
+            rangeTreeMap = new HashMap<>();
+        }
+        
+        // states with identical ranges share their code
+        for (int i=0;i<stateCount;i++) {
+            int[] ranges = automatonInfo.getStateRanges(i);
             
-            case Action.LOOKAHEAD_FIX_CONDITION:
-                line(4,"case "+actionReorderMap[i]+":");
-                
-                String dotIncrement = createIntIncrement("dot","matchPosition",
-                        -(curAction.getLookaheadValue()-1));
-                
-                if (dotIncrement != null) {
-                    line(5,""+dotIncrement);
-                }
+            if ((ranges.length > 2) || (ranges[1] != -1)) {
+                String rangesKey = Arrays.toString(ranges);
+                ArrayList<Integer> stateList = stateListMap.get(rangesKey);
                 
-                if (functionalityMap.hasMatchEndFieldReadAccess()) {
-                    line(5,"matchEnd = dot;");
+                if (stateList == null) {
+                    stateList = new ArrayList<>();
+                    stateListMap.put(rangesKey,stateList);
+                    rangeListList.add(ranges);
                 }
                 
-                line(5,""+generateActionCall(curMethod));
-                break;
+                stateList.add(i);
+            }
+        }
+        
+        if (rangeListList.isEmpty()) {
+            line(3+indent,"curState = -1;");
+            return;
+        }
+        
+        line(3+indent,"switch(curState) {");
+        
+        for (int i=0;i<rangeListList.size();i++) {
+            int[] ranges = rangeListList.get(i);
+            ArrayList<Integer> stateList = stateListMap.get(Arrays.toString(ranges));
+            int asciiRangeCount = AutomatonInfo.getAsciiRangeCount(ranges);
             
-            case Action.LOOKAHEAD_FIX_CONTENT:
-                line(4,"case "+actionReorderMap[i]+":");
-                
-                dotIncrement = createIntIncrement("dot",oldDotVar,
-                        curAction.getLookaheadValue());
-                
-                if (dotIncrement != null) {
-                    line(5,""+dotIncrement);
-                }
-                
-                if (functionalityMap.hasMatchEndFieldReadAccess()) {
-                    line(5,"matchEnd = dot;");
-                }
-                
-                line(5,""+generateActionCall(curMethod));
-                break;
+            for (int j=0;j<stateList.size();j++) {
+                line(3+indent,"case "+stateList.get(j)+":");
+            }
             
-            case Action.LOOKAHEAD_VARIABLE:
-                int lookaheadValue = curAction.getLookaheadValue();
-                
-                line(4,"case "+actionReorderMap[i]+":");
-                line(5,"dot = computeMatchEnd("+oldDotVar+",matchPosition,"+
-                        automatonInfo.getStartState(lookaheadValue)+","+
-                        automatonInfo.getStartState(lookaheadValue+1)+");");
-                
-                if (functionalityMap.hasMatchEndFieldReadAccess()) {
-                    line(5,"matchEnd = dot;");
-                }
+            // Note: The non-ASCII ranges of many states are identical and
+            // thus are moved to shared methods.
+            if (AutomatonInfo.hasNonAsciiTree(ranges,asciiRangeCount)) {
+                line(4+indent,"if ("+characterVar+" >= "+createCharacterLiteral(ASCII_LIMIT)+") {");
+                line(5+indent,"curState = computeNextState"+getRangeTreeMethod(
+                        createNonAsciiRanges(ranges,asciiRangeCount))+"("+characterVar+");");
+                line(5+indent,"break;");
+                line(4+indent,"}");
+                line(4+indent,"");
                 
-                line(5,""+generateActionCall(curMethod));
-                break;
+                generateRangeTree(4+indent,characterVar,ranges,0,asciiRangeCount,true);
             }
             
-            lastLookaheadType = curLookaheadType;
+            else {
+                generateRangeTree(4+indent,characterVar,ranges,0,ranges.length/2,true);
+            }
+            
+            line(4+indent,"");
         }
         
-        line(4,"}");
+        line(3+indent,"default:");
+        line(4+indent,"curState = -1;");
+        line(3+indent,"}");
     }
     
     /**
      * 
      */
-    private String generateActionCall(MethodInfo method) {
-        StringBuilder builder = new StringBuilder();
-        String returnType = method.getReturnType();
-        boolean isVoid = returnType == null || returnType.equals("void");
+    private void generateRangeTreeMethods() {
         
-        if (!isVoid) {
-            builder.append("return ");
+        // Note: The list grows while the range trees are generated.
+        for (int i=0;i<rangeTreeList.size();i++) {
+            int[] ranges = rangeTreeList.get(i);
+            
+            javadoc(Member.COMPUTE_NEXT_STATE,
+                    "Computes the next state of the DFA for a range of characters starting",
+                    "at "+createCharacterLiteral(ranges[0])+".",
+                    "",
+                    "@param character The current input character.",
+                    "@return The next state of the DFA or -1 if there is no transition.");
+            
+            methodHead(visibilityMap.getMemberName(Member.COMPUTE_NEXT_STATE),"static",
+                    "int","computeNextState"+i,"int character");
+            
+            generateRangeTree(2,"character",ranges,0,ranges.length/2,false);
+            
+            line(1,"}");
         }
         
-        builder.append(method.getName());
-        builder.append("();");
+        rangeTreeList = null;
+        rangeTreeMap = null;
+    }
+    
+    /**
+     * 
+     */
+    private void generateRangeTree(int indent, String characterVar, int[] ranges,
+            int start, int end, boolean isInline) {
         
-        if (isVoid) {
-            if (config.getHasAlsoVoidReturnType()) {
-                builder.append(" continue;");
+        if (end - start == 1) {
+            if (isInline) {
+                line(indent,"curState = "+ranges[start*2+1]+";");
+                line(indent,"break;");
             }
             
             else {
-                builder.append(" return true;");
+                line(indent,"return "+ranges[start*2+1]+";");
             }
+            
+            return;
         }
         
-        return builder.toString();
+        int middle = (start + end) >>> 1;
+        
+        line(indent,"if ("+characterVar+" < "+createCharacterLiteral(ranges[middle*2])+") {");
+        generateRangeSubtree(indent+1,characterVar,ranges,start,middle,isInline);
+        line(indent,"}");
+        line(indent,"");
+        generateRangeSubtree(indent,characterVar,ranges,middle,end,isInline);
     }
     
     /**
      * 
      */
-    private void generateMatchAssignment(int indent, boolean hasMatchStartOwner,
-            boolean hasMatchEndOwner, boolean hasMatchLookaheadOwner,
-            String matchStart, String matchEnd, String matchLookahead) {
+    private void generateRangeSubtree(int indent, String characterVar, int[] ranges,
+            int start, int end, boolean isInline) {
         
-        if (hasMatchStartOwner) {
-            line(indent,"matchStart = "+matchStart+";");
+        // move large subtrees to their own methods
+        if (AutomatonInfo.estimateRangeTreeSize(end-start) > AutomatonInfo.MAX_RANGE_TREE_SIZE) {
+            int methodIndex = getRangeTreeMethod(Arrays.copyOfRange(ranges,
+                    start*2,end*2));
+            
+            if (isInline) {
+                line(indent,"curState = computeNextState"+methodIndex+"("+characterVar+");");
+                line(indent,"break;");
+            }
+            
+            else {
+                line(indent,"return computeNextState"+methodIndex+"("+characterVar+");");
+            }
         }
         
-        if (hasMatchEndOwner) {
-            line(indent,"matchEnd = "+matchEnd+";");
+        else {
+            generateRangeTree(indent,characterVar,ranges,start,end,isInline);
         }
-        
-        if (hasMatchLookaheadOwner) {
-            line(indent,"matchLookahead = "+matchLookahead+";");
+    }
+    
+    /**
+     * 
+     */
+    private int getRangeTreeMethod(int[] ranges) {
+        String rangesKey = Arrays.toString(ranges);
+        Integer methodIndex = rangeTreeMap.get(rangesKey);
+        
+        if (methodIndex == null) {
+            methodIndex = rangeTreeList.size();
+            rangeTreeMap.put(rangesKey,methodIndex);
+            rangeTreeList.add(ranges);
         }
+        
+        return methodIndex;
     }
     
     /**
      * 
      */
-    private String createDefaultReturnValue() {
-        String defaultReturnValue = config.getOptions().getDefaultReturnValue();
+    private int[] createNonAsciiRanges(int[] ranges, int asciiRangeCount) {
+        int[] nonAsciiRanges = Arrays.copyOfRange(ranges,asciiRangeCount*2-2,
+                ranges.length);
         
-        if ((defaultReturnValue != null) && !defaultReturnValue.trim().isEmpty()) {
-            return defaultReturnValue;
+        nonAsciiRanges[0] = ASCII_LIMIT;
+        
+        if (ranges[asciiRangeCount*2] == ASCII_LIMIT) {
+            nonAsciiRanges = Arrays.copyOfRange(nonAsciiRanges,2,nonAsciiRanges.length);
         }
         
-        return config.getReturnTypeDefaultValue();
+        return nonAsciiRanges;
     }
     
-    //================
-    // Helper Methods
-    //================
-    
     /**
      * 
      */
-    private void generateHelperMethods() {
-        boolean hasVariableLookaheads = automatonInfo.hasVariableLookaheads();
-        
-        if (isReaderMode || hasVariableLookaheads) {
-            ensureEmptyLine(1);
-            heading("Helper Methods");
-            
-            if (isReaderMode) {
-                javadoc(Member.HAS_NEXT_CHAR,
-                        "Checks whether for the specified position a following character exists.",
-                        "This is always the case if the position lies inside the range of",
-                        "available characters. If the position lies straight after the last",
-                        "available character then the reader is used to check whether there are",
-                        "further characters.",
-                        "",
-                        "@param position A position inside the range of available characters.",
-                        "@return True if there is a next character, otherwise false.",
-                        "@throws IOException If an IO error occurs");
-                
-                methodHead(visibilityMap.getMemberName(Member.HAS_NEXT_CHAR),"",
-                        "boolean","hasNextChar","int position","IOException");
-                
-                line(2,"if (position < bufferEnd) {");
-                line(3,"return true;");
-                line(2,"}");
-                line(2,"");
-                line(2,"// if the buffer is empty then create a new one with the specified size");
-                line(2,"if (buffer == EMPTY_CHAR_ARRAY) {");
-                line(3,"buffer = new char[readerStartCapacity];");
-                line(2,"}");
-                line(2,"");
-                line(2,"// otherwise check whether the buffer is full");
-                
-                if (isCurMatchStrategy) {
-                    line(2,"else if ((bufferEnd - bufferStart) == buffer.length) {");
-                    line(3,"int usedSpace = bufferEnd - dot;");
-                    line(3,"");
-                    line(3,"if (usedSpace > (buffer.length >> 1)) {");
-                    line(4,"char[] newBuffer = new char["+createBufferIncrement("buffer.length")+"];");
-                    line(4,"System.arraycopy(buffer,dot-bufferStart,newBuffer,0,usedSpace);");
-                    line(4,"buffer = newBuffer;");
-                    line(3,"}");
-                    line(3,"");
-                    line(3,"else {");
-                    line(4,"System.arraycopy(buffer,dot-bufferStart,buffer,0,usedSpace);");
-                    line(3,"}");
-                    line(3,"");
-                    line(3,"bufferStart = dot;");
-                    line(2,"}");
-                }
-                
-                else {
-                    line(2,"else if (bufferEnd == buffer.length) {");
-                    line(3,"char[] newBuffer = new char["+createBufferIncrement("buffer.length")+"];");
-                    line(3,"System.arraycopy(buffer,0,newBuffer,0,buffer.length);");
-                    line(3,"buffer = newBuffer;");
-                    line(2,"}");
-                }
-                
-                line(2,"");
-                line(2,"// read further characters and check results");
-                
-                if (isCurMatchStrategy) {
-                    line(2,"int usedSpace = bufferEnd - bufferStart;");
-                    line(2,"int charsRead = reader.read(buffer,usedSpace,buffer.length-usedSpace);");
-                }
-                
-                else {
-                    line(2,"int charsRead = reader.read(buffer,bufferEnd,buffer.length-bufferEnd);");
-                }
-                
-                line(2,"");
-                line(2,"if (charsRead > 0) {");
-                line(3,"bufferEnd += charsRead;");
-                line(3,"");
-                line(3,"return true;");
-                line(2,"}");
-                line(2,"");
-                line(2,"return false;");
-                line(1,"}");
-            }
+    private String createCharacterLiteral(int character) {
+        if ((character >= 0x20) && (character < 0x7f) &&
+            (character != '\'') && (character != '\\')) {
             
-            if (hasVariableLookaheads) {
-                javadoc(Member.COMPUTE_MATCH_END,
-                        "Computes the match end position of a variable lookahead.",
-                        "",
-                        "@param start The start of the current match.",
-                        "@param end The end of the current match.",
-                        "@param forwardStartState The index of the start state of the forward pass.",
-                        "@param backwardStartState The index of the start state of the backward pass.",
-                        "@return The end position of the match.");
-                
-                indent();
-                append(visibilityMap.getMemberName(Member.COMPUTE_MATCH_END));
-                ensureSpace();
-                append("int computeMatchEnd(int start, int end, int forwardStartState,");
-                lineSeparator();
-                indent(3);
-                append("int backwardStartState) {");
-                lineSeparator();
-                
-                line(2,"");
-                line(2,"// initialize position list");
-                line(2,"int length = end - start + 1;");
-                line(2,"");
-                line(2,"if (positionList == null) {");
-                line(3,"positionList = new boolean[length];");
-                line(2,"}");
-                line(2,"");
-                line(2,"else if (length > positionList.length) {");
-                line(3,"positionList = new boolean["+createBufferIncrement("length")+"];");
-                line(2,"}");
-                line(2,"");
-                line(2,"else {");
-                line(3,"for (int i=0;i<length;i++) {");
-                line(4,"positionList[i] = false;");
-                line(3,"}");
-                line(2,"}");
-                line(2,"");
-                line(2,"// determine content positions");
-                line(2,"int curState = forwardStartState;");
-                line(2,"int iterator = start;");
-                line(2,"");
-                line(2,"do {");
-                
-                generateStateTransition(0,false);
-                
-                line(3,"");
-                line(3,"if (curState == -1) {");
-                line(4,"break;");
-                line(3,"}");
-                line(3,"");
-                line(3,"if (ACTION_MAP[curState] != -1) {");
-                line(4,"positionList[iterator - start] = true;");
-                line(3,"}");
-                line(3,"");
-                line(3,"if (iterator == end) {");
-                line(4,"break;");
-                line(3,"}");
-                line(3,"");
-                line(3,"iterator++;");
-                line(2,"} while (true);");
-                line(2,"");
-                line(2,"// determine longest content match");
-                line(2,"curState = backwardStartState;");
-                line(2,"iterator = end;");
-                line(2,"");
-                line(2,"do {");
-                
-                generateStateTransition(0,true);
-                
-                line(3,"");
-                line(3,"if ((ACTION_MAP[curState] != -1) && positionList[iterator-start]) {");
-                line(4,"return iterator + 1;");
-                line(3,"}");
-                line(2,"} while (true);");
-                line(1,"}");
-            }
+            return "'"+(char)character+"'";
         }
+        
+        return "0x"+Integer.toHexString(character);
     }
     
     /**
@@ -1825,13 +5843,13 @@ public class ScannerGenerator extends JavaPrinter {
     /**
      * 
      */
-    private void appendResetForSharedFields() {
+    private void appendResetForSharedFields(String position) {
         boolean hasMatchStartOwner = functionalityMap.hasMatchStartFieldReadAccess(isCurMatchStrategy);
         boolean hasMatchEndOwner = functionalityMap.hasMatchEndFieldReadAccess();
         boolean hasMatchLookaheadOwner = functionalityMap.hasMatchLookaheadFieldReadAccess(isCurMatchStrategy);
         
         line(2,"");
-        line(2,"dot = 0;");
+        line(2,"dot = "+position+";");
         
         if (hasLexicalStates && functionalityMap.hasLexicalStateFieldReadAccess()) {
             line(2,"lexicalState = LEXICAL_STATE_INITIAL;");
@@ -1841,15 +5859,15 @@ public class ScannerGenerator extends JavaPrinter {
             line(2,"");
             
             if (hasMatchStartOwner) {
-                line(2,"matchStart = 0;");
+                line(2,"matchStart = "+position+";");
             }
             
             if (hasMatchEndOwner) {
-                line(2,"matchEnd = 0;");
+                line(2,"matchEnd = "+position+";");
             }
             
             if (hasMatchLookaheadOwner) {
-                line(2,"matchLookahead = 0;");
+                line(2,"matchLookahead = "+position+";");
             }
         }
         
@@ -1867,6 +5885,34 @@ public class ScannerGenerator extends JavaPrinter {
                 line(2,"positionList = null;");
             }
         }
+        
+        if (isIncremental) {
+            line(2,"");
+            appendCheckpointReset();
+        }
+        
+        if (isMemoization) {
+            line(2,"");
+            appendFailMemoReset();
+        }
+    }
+    
+    /**
+     * 
+     */
+    private void appendCheckpointReset() {
+        line(2,"checkpointCount = 0;");
+        line(2,"checkpointGapEnd = checkpointPositions.length;");
+        line(2,"editEnd = 0;");
+    }
+    
+    /**
+     * 
+     */
+    private void appendFailMemoReset() {
+        line(2,"failMemoStart = 0;");
+        line(2,"failMemoEnd = 0;");
+        line(2,"failMemoHits = 0;");
     }
     
     //=================
@@ -1993,6 +6039,17 @@ public class ScannerGenerator extends JavaPrinter {
             LinkedHashSet<TypeDescriptor> throwsTypes,
             String[] methodDescription, String returnTypeDescription) {
         
+        return createDocComment(hasReturnType,throwsTypes,methodDescription,
+                null,returnTypeDescription);
+    }
+    
+    /**
+     * 
+     */
+    private String[] createDocComment(boolean hasReturnType,
+            LinkedHashSet<TypeDescriptor> throwsTypes, String[] methodDescription,
+            String[] parameterDescription, String returnTypeDescription) {
+        
         ArrayList<String> lines = new ArrayList<>();
         
         if (methodDescription != null) {
@@ -2002,13 +6059,21 @@ public class ScannerGenerator extends JavaPrinter {
         }
         
         boolean hasThrowTypes = !throwsTypes.isEmpty();
+        boolean hasParameters = (parameterDescription != null) &&
+                (parameterDescription.length > 0);
         
         if ((methodDescription != null) && (methodDescription.length > 0) &&
-            (hasReturnType || hasThrowTypes)) {
+            (hasReturnType || hasThrowTypes || hasParameters)) {
             
             lines.add("");
         }
         
+        if (hasParameters) {
+            for (int i=0;i<parameterDescription.length;i++) {
+                lines.add(parameterDescription[i]);
+            }
+        }
+        
         if (hasReturnType) {
             lines.add("@return "+returnTypeDescription);
         }
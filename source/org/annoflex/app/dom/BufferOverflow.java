@@ -0,0 +1,73 @@
+/*
+ * AnnoFlex - An annotation-based code generator for lexical scanners
+ * 
+ * Copyright (c) Stefan Czaska. All rights reserved.
+ */
+package org.annoflex.app.dom;
+
+import java.util.HashMap;
+
+/**
+ * @author Stefan Czaska
+ */
+public enum BufferOverflow {
+    
+    EXCEPTION("exception"),
+    TRUNCATE("truncate");
+    
+    //===========
+    // Constants
+    //===========
+    
+    /**
+     * 
+     */
+    private static final HashMap<String,BufferOverflow> NAME_MAP = new HashMap<>();
+    
+    /**
+     * 
+     */
+    static {
+        BufferOverflow[] values = BufferOverflow.values();
+        
+        for (int i=0;i<values.length;i++) {
+            BufferOverflow value = values[i];
+            
+            NAME_MAP.put(value.getName(),value);
+        }
+    }
+    
+    //========
+    // Fields
+    //========
+    
+    /**
+     * 
+     */
+    private final String name;
+    
+    /**
+     * 
+     */
+    private BufferOverflow(String name) {
+        this.name = name;
+    }
+    
+    /**
+     * 
+     */
+    public final String getName() {
+        return name;
+    }
+    
+    //================
+    // Static Methods
+    //================
+    
+    /**
+     * 
+     */
+    public static BufferOverflow forName(String name) {
+        return NAME_MAP.get(name);
+    }
+}
@@ -13,7 +13,9 @@ import java.util.HashMap;
 public enum BufferStrategy {
     
     CURRENT_MATCH("currentMatch"),
-    ALL_CHARACTERS("allCharacters");
+    ALL_CHARACTERS("allCharacters"),
+    RING_BUFFER("ringBuffer"),
+    CHUNKED("chunked");
     
     //===========
     // Constants
@@ -0,0 +1,73 @@
+/*
+ * AnnoFlex - An annotation-based code generator for lexical scanners
+ * 
+ * Copyright (c) Stefan Czaska. All rights reserved.
+ */
+package org.annoflex.app.dom;
+
+import java.util.HashMap;
+
+/**
+ * @author Stefan Czaska
+ */
+public enum CharacterMapLayout {
+    
+    FLAT("flat"),
+    PAGED("paged");
+    
+    //===========
+    // Constants
+    //===========
+    
+    /**
+     * 
+     */
+    private static final HashMap<String,CharacterMapLayout> NAME_MAP = new HashMap<>();
+    
+    /**
+     * 
+     */
+    static {
+        CharacterMapLayout[] values = CharacterMapLayout.values();
+        
+        for (int i=0;i<values.length;i++) {
+            CharacterMapLayout value = values[i];
+            
+            NAME_MAP.put(value.getName(),value);
+        }
+    }
+    
+    //========
+    // Fields
+    //========
+    
+    /**
+     * 
+     */
+    private final String name;
+    
+    /**
+     * 
+     */
+    private CharacterMapLayout(String name) {
+        this.name = name;
+    }
+    
+    /**
+     * 
+     */
+    public final String getName() {
+        return name;
+    }
+    
+    //================
+    // Static Methods
+    //================
+    
+    /**
+     * 
+     */
+    public static CharacterMapLayout forName(String name) {
+        return NAME_MAP.get(name);
+    }
+}
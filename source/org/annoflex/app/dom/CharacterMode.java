@@ -0,0 +1,86 @@
+/*
+ * AnnoFlex - An annotation-based code generator for lexical scanners
+ * 
+ * Copyright (c) Stefan Czaska. All rights reserved.
+ */
+package org.annoflex.app.dom;
+
+import java.util.HashMap;
+
+/**
+ * @author Stefan Czaska
+ */
+public enum CharacterMode {
+    
+    CODE_UNIT("codeUnit",Character.MAX_VALUE),
+    CODE_POINT("codePoint",Character.MAX_CODE_POINT);
+    
+    //===========
+    // Constants
+    //===========
+    
+    /**
+     * 
+     */
+    private static final HashMap<String,CharacterMode> NAME_MAP = new HashMap<>();
+    
+    /**
+     * 
+     */
+    static {
+        CharacterMode[] values = CharacterMode.values();
+        
+        for (int i=0;i<values.length;i++) {
+            CharacterMode value = values[i];
+            
+            NAME_MAP.put(value.getName(),value);
+        }
+    }
+    
+    //========
+    // Fields
+    //========
+    
+    /**
+     * 
+     */
+    private final String name;
+    
+    /**
+     * 
+     */
+    private final int maxCharacter;
+    
+    /**
+     * 
+     */
+    private CharacterMode(String name, int maxCharacter) {
+        this.name = name;
+        this.maxCharacter = maxCharacter;
+    }
+    
+    /**
+     * 
+     */
+    public final String getName() {
+        return name;
+    }
+    
+    /**
+     * 
+     */
+    public final int getMaxCharacter() {
+        return maxCharacter;
+    }
+    
+    //================
+    // Static Methods
+    //================
+    
+    /**
+     * 
+     */
+    public static CharacterMode forName(String name) {
+        return NAME_MAP.get(name);
+    }
+}
@@ -76,6 +76,11 @@ public class Config {
      */
     private boolean hasAlsoVoidReturnType;
     
+    /**
+     * 
+     */
+    private boolean hasTokenCodes;
+    
     //==============
     // Constructors
     //==============
@@ -255,4 +260,18 @@ public class Config {
     public boolean getHasAlsoVoidReturnType() {
         return hasAlsoVoidReturnType;
     }
+    
+    /**
+     * 
+     */
+    public void setHasTokenCodes(boolean enabled) {
+        hasTokenCodes = enabled;
+    }
+    
+    /**
+     * 
+     */
+    public boolean getHasTokenCodes() {
+        return hasTokenCodes;
+    }
 }
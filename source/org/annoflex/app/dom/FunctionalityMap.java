@@ -29,6 +29,7 @@ public class FunctionalityMap extends BooleanMap {
         put(Member.GET_MATCH_LENGTH,true);
         put(Member.GET_MATCH_TEXT,true);
         put(Member.GET_MATCH_CHAR,true);
+        put(Member.GET_NEXT_TOKEN_CODE,true);
     }
     
     //=========
@@ -44,6 +45,33 @@ public class FunctionalityMap extends BooleanMap {
                has(Member.GET_READER_START_CAPACITY);
     }
     
+    /**
+     * 
+     */
+    public boolean hasChannelMethod() {
+        return has(Member.SET_CHANNEL) ||
+               has(Member.GET_CHANNEL) ||
+               has(Member.GET_CHANNEL_START_CAPACITY);
+    }
+    
+    /**
+     * 
+     */
+    public boolean hasPushMethod() {
+        return has(Member.FEED) ||
+               has(Member.IS_INPUT_NEEDED);
+    }
+    
+    /**
+     * 
+     */
+    public boolean hasMatchTextMethod() {
+        return has(Member.GET_MATCH_TEXT) ||
+               has(Member.GET_MATCH_TEXT_RANGE) ||
+               has(Member.GET_MATCH_TOTAL_TEXT) ||
+               has(Member.GET_MATCH_LOOKAHEAD_TEXT);
+    }
+    
     /**
      * 
      */
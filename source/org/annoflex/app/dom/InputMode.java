@@ -13,7 +13,13 @@ import java.util.HashMap;
 public enum InputMode {
     
     STRING("string"),
-    READER("reader");
+    CHAR_ARRAY("charArray"),
+    CHAR_SEQUENCE("charSequence"),
+    BYTE_ARRAY("byteArray"),
+    BYTE_BUFFER("byteBuffer"),
+    READER("reader"),
+    CHANNEL("channel"),
+    PUSH("push");
     
     //===========
     // Constants
@@ -60,6 +66,13 @@ public enum InputMode {
         return name;
     }
     
+    /**
+     * 
+     */
+    public final boolean isByteMode() {
+        return (this == BYTE_ARRAY) || (this == BYTE_BUFFER);
+    }
+    
     //================
     // Static Methods
     //================
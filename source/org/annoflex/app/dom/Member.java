@@ -13,19 +13,44 @@ import java.util.HashMap;
 public enum Member {
     
     /* table constants */
+    CHARACTER_PAGE_TABLE("characterPageTable"),
     CHARACTER_MAP("characterMap"),
     TRANSITION_TABLE("transitionTable"),
+    TRANSITION_BASE("transitionBase"),
+    TRANSITION_DEFAULT("transitionDefault"),
+    TRANSITION_NEXT("transitionNext"),
+    TRANSITION_CHECK("transitionCheck"),
+    ASCII_TRANSITION_TABLE("asciiTransitionTable"),
     ACTION_MAP("actionMap"),
+    TABLE_SEGMENT("tableSegment"),
     
     /* lexical state constants */
     LEXICAL_STATE_ENUM("lexicalStateEnum"),
     
     /* helper constants */
     EMPTY_CHAR_ARRAY("emptyCharArray"),
+    EMPTY_BYTE_ARRAY("emptyByteArray"),
+    EMPTY_BYTE_BUFFER("emptyByteBuffer"),
+    EMPTY_INT_ARRAY("emptyIntArray"),
+    EMPTY_LONG_ARRAY("emptyLongArray"),
+    MAX_BUFFER_CAPACITY("maxBufferCapacity"),
+    EMPTY_CHUNK_ARRAY("emptyChunkArray"),
+    BUFFER_CHUNK_SHIFT("bufferChunkShift"),
+    BUFFER_CHUNK_SIZE("bufferChunkSize"),
+    VECTOR_RUNS("vectorRuns"),
     
     /* reader fields */
     READER("reader"),
     READER_START_CAPACITY("readerStartCapacity"),
+    CHANNEL("channel"),
+    CHANNEL_START_CAPACITY("channelStartCapacity"),
+    DECODER("decoder"),
+    BYTE_BUFFER("byteBuffer"),
+    CHAR_BUFFER("charBuffer"),
+    CHANNEL_END("channelEnd"),
+    DECODER_END("decoderEnd"),
+    INPUT_END("inputEnd"),
+    PENDING_CHAR("pendingChar"),
     
     /* buffer fields */
     BUFFER("buffer"),
@@ -34,6 +59,12 @@ public enum Member {
     
     /* string fields */
     STRING("string"),
+    CHAR_ARRAY("charArray"),
+    CHAR_SEQUENCE("charSequence"),
+    BYTE_ARRAY("byteArray"),
+    GAP_BUFFER("gapBuffer"),
+    GAP_START("gapStart"),
+    GAP_LENGTH("gapLength"),
     
     /* region fields */
     REGION_START("regionStart"),
@@ -53,16 +84,43 @@ public enum Member {
     /* helper fields */
     START_STATE("startState"),
     POSITION_LIST("positionList"),
+    CHECKPOINT_POSITIONS("checkpointPositions"),
+    CHECKPOINT_SCAN_ENDS("checkpointScanEnds"),
+    CHECKPOINT_STATES("checkpointStates"),
+    CHECKPOINT_COUNT("checkpointCount"),
+    CHECKPOINT_GAP_END("checkpointGapEnd"),
+    EDIT_END("editEnd"),
+    RESUME_STATE("resumeState"),
+    RESUME_ITERATOR("resumeIterator"),
+    RESUME_MATCH_STATE("resumeMatchState"),
+    RESUME_MATCH_POSITION("resumeMatchPosition"),
+    FAIL_MEMO("failMemo"),
+    FAIL_MEMO_START("failMemoStart"),
+    FAIL_MEMO_END("failMemoEnd"),
+    FAIL_MEMO_HITS("failMemoHits"),
     
     /* table methods */
+    LOAD_TABLE_DATA("loadTableData"),
+    CREATE_CHARACTER_PAGE_TABLE("createCharacterPageTable"),
     CREATE_CHARACTER_MAP("createCharacterMap"),
     CREATE_TRANSITION_TABLE("createTransitionTable"),
+    CREATE_TRANSITION_BASE("createTransitionBase"),
+    CREATE_TRANSITION_DEFAULT("createTransitionDefault"),
+    CREATE_TRANSITION_NEXT("createTransitionNext"),
+    CREATE_TRANSITION_CHECK("createTransitionCheck"),
+    CREATE_ASCII_TRANSITION_TABLE("createAsciiTransitionTable"),
     CREATE_ACTION_MAP("createActionMap"),
+    LOAD_TABLE_SEGMENT("loadTableSegment"),
     
     /* reader methods */
     SET_READER("setReader"),
     GET_READER("getReader"),
     GET_READER_START_CAPACITY("getReaderStartCapacity"),
+    SET_CHANNEL("setChannel"),
+    GET_CHANNEL("getChannel"),
+    GET_CHANNEL_START_CAPACITY("getChannelStartCapacity"),
+    FEED("feed"),
+    IS_INPUT_NEEDED("isInputNeeded"),
     
     /* buffer methods */
     GET_BUFFER("getBuffer"),
@@ -72,6 +130,14 @@ public enum Member {
     /* string methods */
     SET_STRING("setString"),
     GET_STRING("getString"),
+    SET_CHAR_ARRAY("setCharArray"),
+    GET_CHAR_ARRAY("getCharArray"),
+    SET_CHAR_SEQUENCE("setCharSequence"),
+    GET_CHAR_SEQUENCE("getCharSequence"),
+    SET_BYTE_ARRAY("setByteArray"),
+    GET_BYTE_ARRAY("getByteArray"),
+    SET_BYTE_BUFFER("setByteBuffer"),
+    GET_BYTE_BUFFER("getByteBuffer"),
     
     /* region methods */
     SET_REGION("setRegion"),
@@ -101,10 +167,33 @@ public enum Member {
     
     /* scan methods */
     GET_NEXT_TOKEN("getNextToken"),
+    GET_NEXT_TOKEN_CODE("getNextTokenCode"),
+    TOKENIZE("tokenize"),
+    RELEX("relex"),
+    TOKENIZE_PARALLEL("tokenizeParallel"),
+    GET_FAIL_MEMO_HITS("getFailMemoHits"),
     
     /* helper methods */
     HAS_NEXT_CHAR("hasNextChar"),
-    COMPUTE_MATCH_END("computeMatchEnd");
+    READ_CHANNEL("readChannel"),
+    ENSURE_BUFFER_SPACE("ensureBufferSpace"),
+    RESIZE_BUFFER("resizeBuffer"),
+    GET_BUFFER_TEXT("getBufferText"),
+    COMPUTE_NEXT_STATE("computeNextState"),
+    DECODE_CODE_POINT("decodeCodePoint"),
+    DECODE_LAST_CODE_POINT("decodeLastCodePoint"),
+    DECODE_TEXT("decodeText"),
+    COMPUTE_MATCH_END("computeMatchEnd"),
+    ADD_CHECKPOINT("addCheckpoint"),
+    GROW_CHECKPOINT_ARRAY("growCheckpointArray"),
+    MOVE_CHECKPOINT_GAP("moveCheckpointGap"),
+    MOVE_GAP("moveGap"),
+    GET_GAP_TEXT("getGapText"),
+    ADD_FAIL_MEMO("addFailMemo"),
+    HAS_FAIL_MEMO("hasFailMemo"),
+    CREATE_CHUNK_SCANNER("createChunkScanner"),
+    TOKEN_CHUNK("tokenChunk"),
+    RUN_VECTORS("runVectors");
     
     /**
      * 
@@ -129,9 +129,16 @@ public class MemberMap<V> {
      * 
      */
     public void putTableConstants(V value) {
+        put(Member.CHARACTER_PAGE_TABLE,value);
         put(Member.CHARACTER_MAP,value);
         put(Member.TRANSITION_TABLE,value);
+        put(Member.TRANSITION_BASE,value);
+        put(Member.TRANSITION_DEFAULT,value);
+        put(Member.TRANSITION_NEXT,value);
+        put(Member.TRANSITION_CHECK,value);
+        put(Member.ASCII_TRANSITION_TABLE,value);
         put(Member.ACTION_MAP,value);
+        put(Member.TABLE_SEGMENT,value);
     }
     
     /**
@@ -146,6 +153,15 @@ public class MemberMap<V> {
      */
     public void putHelperConstants(V value) {
         put(Member.EMPTY_CHAR_ARRAY,value);
+        put(Member.EMPTY_BYTE_ARRAY,value);
+        put(Member.EMPTY_BYTE_BUFFER,value);
+        put(Member.EMPTY_INT_ARRAY,value);
+        put(Member.EMPTY_LONG_ARRAY,value);
+        put(Member.MAX_BUFFER_CAPACITY,value);
+        put(Member.EMPTY_CHUNK_ARRAY,value);
+        put(Member.BUFFER_CHUNK_SHIFT,value);
+        put(Member.BUFFER_CHUNK_SIZE,value);
+        put(Member.VECTOR_RUNS,value);
     }
     
     /**
@@ -154,6 +170,15 @@ public class MemberMap<V> {
     public void putReaderFields(V value) {
         put(Member.READER,value);
         put(Member.READER_START_CAPACITY,value);
+        put(Member.CHANNEL,value);
+        put(Member.CHANNEL_START_CAPACITY,value);
+        put(Member.DECODER,value);
+        put(Member.BYTE_BUFFER,value);
+        put(Member.CHAR_BUFFER,value);
+        put(Member.CHANNEL_END,value);
+        put(Member.DECODER_END,value);
+        put(Member.INPUT_END,value);
+        put(Member.PENDING_CHAR,value);
     }
     
     /**
@@ -170,6 +195,12 @@ public class MemberMap<V> {
      */
     public void putStringFields(V value) {
         put(Member.STRING,value);
+        put(Member.CHAR_ARRAY,value);
+        put(Member.CHAR_SEQUENCE,value);
+        put(Member.BYTE_ARRAY,value);
+        put(Member.GAP_BUFFER,value);
+        put(Member.GAP_START,value);
+        put(Member.GAP_LENGTH,value);
     }
     
     /**
@@ -209,15 +240,37 @@ public class MemberMap<V> {
     public void putHelperFields(V value) {
         put(Member.START_STATE,value);
         put(Member.POSITION_LIST,value);
+        put(Member.CHECKPOINT_POSITIONS,value);
+        put(Member.CHECKPOINT_SCAN_ENDS,value);
+        put(Member.CHECKPOINT_STATES,value);
+        put(Member.CHECKPOINT_COUNT,value);
+        put(Member.CHECKPOINT_GAP_END,value);
+        put(Member.EDIT_END,value);
+        put(Member.RESUME_STATE,value);
+        put(Member.RESUME_ITERATOR,value);
+        put(Member.RESUME_MATCH_STATE,value);
+        put(Member.RESUME_MATCH_POSITION,value);
+        put(Member.FAIL_MEMO,value);
+        put(Member.FAIL_MEMO_START,value);
+        put(Member.FAIL_MEMO_END,value);
+        put(Member.FAIL_MEMO_HITS,value);
     }
     
     /**
      * 
      */
     public void putTableMethods(V value) {
+        put(Member.LOAD_TABLE_DATA,value);
+        put(Member.CREATE_CHARACTER_PAGE_TABLE,value);
         put(Member.CREATE_CHARACTER_MAP,value);
         put(Member.CREATE_TRANSITION_TABLE,value);
+        put(Member.CREATE_TRANSITION_BASE,value);
+        put(Member.CREATE_TRANSITION_DEFAULT,value);
+        put(Member.CREATE_TRANSITION_NEXT,value);
+        put(Member.CREATE_TRANSITION_CHECK,value);
+        put(Member.CREATE_ASCII_TRANSITION_TABLE,value);
         put(Member.CREATE_ACTION_MAP,value);
+        put(Member.LOAD_TABLE_SEGMENT,value);
     }
     
     /**
@@ -227,6 +280,11 @@ public class MemberMap<V> {
         put(Member.SET_READER,value);
         put(Member.GET_READER,value);
         put(Member.GET_READER_START_CAPACITY,value);
+        put(Member.SET_CHANNEL,value);
+        put(Member.GET_CHANNEL,value);
+        put(Member.GET_CHANNEL_START_CAPACITY,value);
+        put(Member.FEED,value);
+        put(Member.IS_INPUT_NEEDED,value);
     }
     
     /**
@@ -244,6 +302,14 @@ public class MemberMap<V> {
     public void putStringMethods(V value) {
         put(Member.SET_STRING,value);
         put(Member.GET_STRING,value);
+        put(Member.SET_CHAR_ARRAY,value);
+        put(Member.GET_CHAR_ARRAY,value);
+        put(Member.SET_CHAR_SEQUENCE,value);
+        put(Member.GET_CHAR_SEQUENCE,value);
+        put(Member.SET_BYTE_ARRAY,value);
+        put(Member.GET_BYTE_ARRAY,value);
+        put(Member.SET_BYTE_BUFFER,value);
+        put(Member.GET_BYTE_BUFFER,value);
     }
     
     /**
@@ -293,6 +359,11 @@ public class MemberMap<V> {
      */
     public void putScanMethods(V value) {
         put(Member.GET_NEXT_TOKEN,value);
+        put(Member.GET_NEXT_TOKEN_CODE,value);
+        put(Member.TOKENIZE,value);
+        put(Member.RELEX,value);
+        put(Member.TOKENIZE_PARALLEL,value);
+        put(Member.GET_FAIL_MEMO_HITS,value);
     }
     
     /**
@@ -300,7 +371,25 @@ public class MemberMap<V> {
      */
     public void putHelperMethods(V value) {
         put(Member.HAS_NEXT_CHAR,value);
+        put(Member.READ_CHANNEL,value);
+        put(Member.ENSURE_BUFFER_SPACE,value);
+        put(Member.RESIZE_BUFFER,value);
+        put(Member.GET_BUFFER_TEXT,value);
+        put(Member.COMPUTE_NEXT_STATE,value);
+        put(Member.DECODE_CODE_POINT,value);
+        put(Member.DECODE_LAST_CODE_POINT,value);
+        put(Member.DECODE_TEXT,value);
         put(Member.COMPUTE_MATCH_END,value);
+        put(Member.ADD_CHECKPOINT,value);
+        put(Member.GROW_CHECKPOINT_ARRAY,value);
+        put(Member.MOVE_CHECKPOINT_GAP,value);
+        put(Member.MOVE_GAP,value);
+        put(Member.GET_GAP_TEXT,value);
+        put(Member.ADD_FAIL_MEMO,value);
+        put(Member.HAS_FAIL_MEMO,value);
+        put(Member.CREATE_CHUNK_SCANNER,value);
+        put(Member.TOKEN_CHUNK,value);
+        put(Member.RUN_VECTORS,value);
     }
     
     /**
@@ -36,6 +36,11 @@ public class MethodInfo {
      */
     private final Span exprSpan;
     
+    /**
+     * 
+     */
+    private final String tokenCode;
+    
     //==============
     // Constructors
     //==============
@@ -44,12 +49,13 @@ public class MethodInfo {
      * 
      */
     public MethodInfo(String name, String returnType, Span returnTypeSpan,
-            Span exprSpan) {
+            Span exprSpan, String tokenCode) {
         
         this.name = name;
         this.returnType = returnType;
         this.returnTypeSpan = returnTypeSpan;
         this.exprSpan = exprSpan;
+        this.tokenCode = tokenCode;
     }
     
     //=========
@@ -84,6 +90,13 @@ public class MethodInfo {
         return exprSpan;
     }
     
+    /**
+     * 
+     */
+    public final String getTokenCode() {
+        return tokenCode;
+    }
+    
     //================
     // Object Methods
     //================
@@ -101,6 +114,8 @@ public class MethodInfo {
         buffer.append(returnType);
         buffer.append(",returnTypeSpan=");
         buffer.append(returnTypeSpan);
+        buffer.append(",tokenCode=");
+        buffer.append(tokenCode);
         buffer.append("]");
         
         return buffer.toString();
@@ -16,34 +16,60 @@ public class Options {
     // Names
     //=======
     
-    public static final String LOGO                 = "logo";
-    public static final String STATISTICS           = "statistics";
-    public static final String HEADINGS             = "headings";
-    public static final String METHOD_NAME          = "methodName";
-    public static final String METHOD_THROWS        = "methodThrows";
-    public static final String DEFAULT_RETURN_VALUE = "defaultReturnValue";
-    public static final String INPUT_MODE           = "inputMode";
-    public static final String BUFFER_STRATEGY      = "bufferStrategy";
-    public static final String BUFFER_INCREMENT     = "bufferIncrement";
-    public static final String FUNCTIONALITY        = "functionality";
-    public static final String JAVADOC              = "javadoc";
-    public static final String VISIBILITY           = "visibility";
-    public static final String INTERNAL             = "internal";
-    public static final String NO_MATCH_ACION       = "noMatchAction";
+    public static final String LOGO                    = "logo";
+    public static final String STATISTICS              = "statistics";
+    public static final String HEADINGS                = "headings";
+    public static final String METHOD_NAME             = "methodName";
+    public static final String METHOD_THROWS           = "methodThrows";
+    public static final String DEFAULT_RETURN_VALUE    = "defaultReturnValue";
+    public static final String INPUT_MODE              = "inputMode";
+    public static final String CHARACTER_MODE          = "characterMode";
+    public static final String CHARACTER_MAP_LAYOUT    = "characterMapLayout";
+    public static final String TRANSITION_TABLE_LAYOUT = "transitionTableLayout";
+    public static final String ASCII_TRANSITION_TABLE  = "asciiTransitionTable";
+    public static final String CODE_STYLE              = "codeStyle";
+    public static final String TABLE_STORAGE           = "tableStorage";
+    public static final String LAZY_TABLES             = "lazyTables";
+    public static final String BUFFER_STRATEGY         = "bufferStrategy";
+    public static final String BUFFER_INCREMENT        = "bufferIncrement";
+    public static final String MAX_BUFFER_CAPACITY     = "maxBufferCapacity";
+    public static final String BUFFER_OVERFLOW         = "bufferOverflow";
+    public static final String INCREMENTAL             = "incremental";
+    public static final String SENTINEL                = "sentinel";
+    public static final String RUN_LOOPS               = "runLoops";
+    public static final String MEMOIZATION             = "memoization";
+    public static final String FUNCTIONALITY           = "functionality";
+    public static final String JAVADOC                 = "javadoc";
+    public static final String VISIBILITY              = "visibility";
+    public static final String INTERNAL                = "internal";
+    public static final String NO_MATCH_ACION          = "noMatchAction";
     
     //================
     // Default Values
     //================
     
-    public static final boolean         LOGO_DEFAULT_VALUE                 = true;
-    public static final boolean         STATISTICS_DEFAULT_VALUE           = true;
-    public static final HeadingType     HEADINGS_DEFAULT_VALUE             = HeadingType.ENABLED;
-    public static final String          METHOD_NAME_DEFAULT_VALUE          = "getNextToken";
-    public static final String          DEFAULT_RETURN_VALUE_DEFAULT_VALUE = "";
-    public static final InputMode       INPUT_MODE_DEFAULT_VALUE           = InputMode.STRING;
-    public static final BufferStrategy  BUFFER_STRATEGY_DEFAULT_VALUE      = BufferStrategy.CURRENT_MATCH;
-    public static final BufferIncrement BUFFER_INCREMENT_DEFAULT_VALUE     = BufferIncrement.GOLDEN_RATIO;
-    public static final NoMatchAction   NO_MATCH_ACTION_DEFAULT_VALUE      = NoMatchAction.ERROR;
+    public static final boolean               LOGO_DEFAULT_VALUE                    = true;
+    public static final boolean               STATISTICS_DEFAULT_VALUE              = true;
+    public static final HeadingType           HEADINGS_DEFAULT_VALUE                = HeadingType.ENABLED;
+    public static final String                METHOD_NAME_DEFAULT_VALUE             = "getNextToken";
+    public static final String                DEFAULT_RETURN_VALUE_DEFAULT_VALUE    = "";
+    public static final InputMode             INPUT_MODE_DEFAULT_VALUE              = InputMode.STRING;
+    public static final CharacterMode         CHARACTER_MODE_DEFAULT_VALUE          = CharacterMode.CODE_UNIT;
+    public static final CharacterMapLayout    CHARACTER_MAP_LAYOUT_DEFAULT_VALUE    = CharacterMapLayout.FLAT;
+    public static final TransitionTableLayout TRANSITION_TABLE_LAYOUT_DEFAULT_VALUE = TransitionTableLayout.DENSE;
+    public static final boolean               ASCII_TRANSITION_TABLE_DEFAULT_VALUE  = false;
+    public static final CodeStyle             CODE_STYLE_DEFAULT_VALUE              = CodeStyle.TABLE;
+    public static final TableStorage          TABLE_STORAGE_DEFAULT_VALUE           = TableStorage.STRING;
+    public static final boolean               LAZY_TABLES_DEFAULT_VALUE             = false;
+    public static final BufferStrategy        BUFFER_STRATEGY_DEFAULT_VALUE         = BufferStrategy.CURRENT_MATCH;
+    public static final BufferIncrement       BUFFER_INCREMENT_DEFAULT_VALUE        = BufferIncrement.GOLDEN_RATIO;
+    public static final int                   MAX_BUFFER_CAPACITY_DEFAULT_VALUE     = 0;
+    public static final BufferOverflow        BUFFER_OVERFLOW_DEFAULT_VALUE         = BufferOverflow.EXCEPTION;
+    public static final boolean               INCREMENTAL_DEFAULT_VALUE             = false;
+    public static final boolean               SENTINEL_DEFAULT_VALUE                = false;
+    public static final RunLoopType           RUN_LOOPS_DEFAULT_VALUE               = RunLoopType.DISABLED;
+    public static final boolean               MEMOIZATION_DEFAULT_VALUE             = false;
+    public static final NoMatchAction         NO_MATCH_ACTION_DEFAULT_VALUE         = NoMatchAction.ERROR;
     
     //========
     // Fields
@@ -84,6 +110,41 @@ public class Options {
      */
     private InputMode inputMode = INPUT_MODE_DEFAULT_VALUE;
     
+    /**
+     * 
+     */
+    private CharacterMode characterMode = CHARACTER_MODE_DEFAULT_VALUE;
+    
+    /**
+     * 
+     */
+    private CharacterMapLayout characterMapLayout = CHARACTER_MAP_LAYOUT_DEFAULT_VALUE;
+    
+    /**
+     * 
+     */
+    private TransitionTableLayout transitionTableLayout = TRANSITION_TABLE_LAYOUT_DEFAULT_VALUE;
+    
+    /**
+     * 
+     */
+    private boolean asciiTransitionTable = ASCII_TRANSITION_TABLE_DEFAULT_VALUE;
+    
+    /**
+     * 
+     */
+    private CodeStyle codeStyle = CODE_STYLE_DEFAULT_VALUE;
+    
+    /**
+     * 
+     */
+    private TableStorage tableStorage = TABLE_STORAGE_DEFAULT_VALUE;
+    
+    /**
+     * 
+     */
+    private boolean lazyTables = LAZY_TABLES_DEFAULT_VALUE;
+    
     /**
      * 
      */
@@ -94,6 +155,36 @@ public class Options {
      */
     private BufferIncrement bufferIncrement = BUFFER_INCREMENT_DEFAULT_VALUE;
     
+    /**
+     * 
+     */
+    private int maxBufferCapacity = MAX_BUFFER_CAPACITY_DEFAULT_VALUE;
+    
+    /**
+     * 
+     */
+    private BufferOverflow bufferOverflow = BUFFER_OVERFLOW_DEFAULT_VALUE;
+    
+    /**
+     * 
+     */
+    private boolean incremental = INCREMENTAL_DEFAULT_VALUE;
+    
+    /**
+     * 
+     */
+    private boolean sentinel = SENTINEL_DEFAULT_VALUE;
+    
+    /**
+     * 
+     */
+    private RunLoopType runLoops = RUN_LOOPS_DEFAULT_VALUE;
+    
+    /**
+     * 
+     */
+    private boolean memoization = MEMOIZATION_DEFAULT_VALUE;
+    
     /**
      * 
      */
@@ -222,6 +313,114 @@ public class Options {
         return inputMode;
     }
     
+    /**
+     * 
+     */
+    public void setCharacterMode(CharacterMode characterMode) {
+        if (characterMode != null) {
+            this.characterMode = characterMode;
+        }
+    }
+    
+    /**
+     * 
+     */
+    public CharacterMode getCharacterMode() {
+        return characterMode;
+    }
+    
+    /**
+     * 
+     */
+    public void setCharacterMapLayout(CharacterMapLayout characterMapLayout) {
+        if (characterMapLayout != null) {
+            this.characterMapLayout = characterMapLayout;
+        }
+    }
+    
+    /**
+     * 
+     */
+    public CharacterMapLayout getCharacterMapLayout() {
+        return characterMapLayout;
+    }
+    
+    /**
+     * 
+     */
+    public void setTransitionTableLayout(TransitionTableLayout transitionTableLayout) {
+        if (transitionTableLayout != null) {
+            this.transitionTableLayout = transitionTableLayout;
+        }
+    }
+    
+    /**
+     * 
+     */
+    public TransitionTableLayout getTransitionTableLayout() {
+        return transitionTableLayout;
+    }
+    
+    /**
+     * 
+     */
+    public void setAsciiTransitionTable(boolean asciiTransitionTable) {
+        this.asciiTransitionTable = asciiTransitionTable;
+    }
+    
+    /**
+     * 
+     */
+    public boolean getAsciiTransitionTable() {
+        return asciiTransitionTable;
+    }
+    
+    /**
+     * 
+     */
+    public void setCodeStyle(CodeStyle codeStyle) {
+        if (codeStyle != null) {
+            this.codeStyle = codeStyle;
+        }
+    }
+    
+    /**
+     * 
+     */
+    public CodeStyle getCodeStyle() {
+        return codeStyle;
+    }
+    
+    /**
+     * 
+     */
+    public void setTableStorage(TableStorage tableStorage) {
+        if (tableStorage != null) {
+            this.tableStorage = tableStorage;
+        }
+    }
+    
+    /**
+     * 
+     */
+    public TableStorage getTableStorage() {
+        return tableStorage;
+    }
+    
+    /**
+     * 
+     */
+    public void setLazyTables(boolean lazyTables) {
+        this.lazyTables = lazyTables;
+    }
+    
+    /**
+     * 
+     */
+    public boolean getLazyTables() {
+        return lazyTables;
+    }
+    
     /**
      * 
      */
@@ -254,6 +453,96 @@ public class Options {
         return bufferIncrement;
     }
     
+    /**
+     * 
+     */
+    public void setMaxBufferCapacity(int maxBufferCapacity) {
+        if (maxBufferCapacity >= 0) {
+            this.maxBufferCapacity = maxBufferCapacity;
+        }
+    }
+    
+    /**
+     * 
+     */
+    public int getMaxBufferCapacity() {
+        return maxBufferCapacity;
+    }
+    
+    /**
+     * 
+     */
+    public void setBufferOverflow(BufferOverflow bufferOverflow) {
+        if (bufferOverflow != null) {
+            this.bufferOverflow = bufferOverflow;
+        }
+    }
+    
+    /**
+     * 
+     */
+    public BufferOverflow getBufferOverflow() {
+        return bufferOverflow;
+    }
+    
+    /**
+     * 
+     */
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+    
+    /**
+     * 
+     */
+    public boolean getIncremental() {
+        return incremental;
+    }
+    
+    /**
+     * 
+     */
+    public void setSentinel(boolean sentinel) {
+        this.sentinel = sentinel;
+    }
+    
+    /**
+     * 
+     */
+    public boolean getSentinel() {
+        return sentinel;
+    }
+    
+    /**
+     * 
+     */
+    public void setRunLoops(RunLoopType runLoops) {
+        if (runLoops != null) {
+            this.runLoops = runLoops;
+        }
+    }
+    
+    /**
+     * 
+     */
+    public RunLoopType getRunLoops() {
+        return runLoops;
+    }
+    
+    /**
+     * 
+     */
+    public void setMemoization(boolean memoization) {
+        this.memoization = memoization;
+    }
+    
+    /**
+     * 
+     */
+    public boolean getMemoization() {
+        return memoization;
+    }
+    
     /**
      * 
      */
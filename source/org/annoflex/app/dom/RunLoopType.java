@@ -0,0 +1,74 @@
+/*
+ * AnnoFlex - An annotation-based code generator for lexical scanners
+ * 
+ * Copyright (c) Stefan Czaska. All rights reserved.
+ */
+package org.annoflex.app.dom;
+
+import java.util.HashMap;
+
+/**
+ * @author Stefan Czaska
+ */
+public enum RunLoopType {
+    
+    DISABLED("disabled"),
+    ENABLED("enabled"),
+    VECTOR("vector");
+    
+    //===========
+    // Constants
+    //===========
+    
+    /**
+     * 
+     */
+    private static final HashMap<String,RunLoopType> NAME_MAP = new HashMap<>();
+    
+    /**
+     * 
+     */
+    static {
+        RunLoopType[] values = RunLoopType.values();
+        
+        for (int i=0;i<values.length;i++) {
+            RunLoopType value = values[i];
+            
+            NAME_MAP.put(value.getName(),value);
+        }
+    }
+    
+    //========
+    // Fields
+    //========
+    
+    /**
+     * 
+     */
+    private final String name;
+    
+    /**
+     * 
+     */
+    private RunLoopType(String name) {
+        this.name = name;
+    }
+    
+    /**
+     * 
+     */
+    public final String getName() {
+        return name;
+    }
+    
+    //================
+    // Static Methods
+    //================
+    
+    /**
+     * 
+     */
+    public static RunLoopType forName(String name) {
+        return NAME_MAP.get(name);
+    }
+}
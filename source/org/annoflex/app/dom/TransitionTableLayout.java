@@ -0,0 +1,74 @@
+/*
+ * AnnoFlex - An annotation-based code generator for lexical scanners
+ * 
+ * Copyright (c) Stefan Czaska. All rights reserved.
+ */
+package org.annoflex.app.dom;
+
+import java.util.HashMap;
+
+/**
+ * @author Stefan Czaska
+ */
+public enum TransitionTableLayout {
+    
+    DENSE("dense"),
+    FLAT("flat"),
+    COMB("comb");
+    
+    //===========
+    // Constants
+    //===========
+    
+    /**
+     * 
+     */
+    private static final HashMap<String,TransitionTableLayout> NAME_MAP = new HashMap<>();
+    
+    /**
+     * 
+     */
+    static {
+        TransitionTableLayout[] values = TransitionTableLayout.values();
+        
+        for (int i=0;i<values.length;i++) {
+            TransitionTableLayout value = values[i];
+            
+            NAME_MAP.put(value.getName(),value);
+        }
+    }
+    
+    //========
+    // Fields
+    //========
+    
+    /**
+     * 
+     */
+    private final String name;
+    
+    /**
+     * 
+     */
+    private TransitionTableLayout(String name) {
+        this.name = name;
+    }
+    
+    /**
+     * 
+     */
+    public final String getName() {
+        return name;
+    }
+    
+    //================
+    // Static Methods
+    //================
+    
+    /**
+     * 
+     */
+    public static TransitionTableLayout forName(String name) {
+        return NAME_MAP.get(name);
+    }
+}
@@ -14,7 +14,11 @@ import java.util.List;
 import org.annoflex.app.Problems;
 import org.annoflex.app.TextInfo;
 import org.annoflex.app.dom.BufferIncrement;
+import org.annoflex.app.dom.BufferOverflow;
 import org.annoflex.app.dom.BufferStrategy;
+import org.annoflex.app.dom.CharacterMapLayout;
+import org.annoflex.app.dom.CharacterMode;
+import org.annoflex.app.dom.CodeStyle;
 import org.annoflex.app.dom.ConditionArea;
 import org.annoflex.app.dom.Config;
 import org.annoflex.app.dom.HeadingType;
@@ -24,6 +28,9 @@ import org.annoflex.app.dom.Member;
 import org.annoflex.app.dom.MethodInfo;
 import org.annoflex.app.dom.NoMatchAction;
 import org.annoflex.app.dom.Options;
+import org.annoflex.app.dom.RunLoopType;
+import org.annoflex.app.dom.TableStorage;
+import org.annoflex.app.dom.TransitionTableLayout;
 import org.annoflex.app.dom.TypeDescriptor;
 import org.annoflex.app.dom.TypeException;
 import org.annoflex.app.dom.Visibility;
@@ -81,6 +88,7 @@ public class ConfigParser {
     public static final String OPTION_TAG = "@option";
     public static final String MACRO_TAG = "@macro";
     public static final String EXPR_TAG = "@expr";
+    public static final String TOKEN_TAG = "@token";
     
     //====================
     // Internal Constants
@@ -227,6 +235,7 @@ public class ConfigParser {
         if (globalMacros != null) {
             RegExCompiler expressionCompiler = new RegExCompiler();
             expressionCompiler.setExcludeConditions(true);
+            expressionCompiler.setMaxCharacter(getMaxCharacter(config.getOptions()));
             expressionCompiler.setMacroResolver(globalMacroResolver);
             
             setMacros(globalMacros,expressionCompiler,globalMacroResolver);
@@ -657,6 +666,42 @@ public class ConfigParser {
             options.setInputMode(parseInputMode(optionTag,value,valueSpan));
             break;
         
+        case Options.CHARACTER_MODE:
+            options.setCharacterMode(parseCharacterMode(optionTag,value,valueSpan));
+            break;
+        
+        case Options.CHARACTER_MAP_LAYOUT:
+            options.setCharacterMapLayout(parseCharacterMapLayout(optionTag,value,valueSpan));
+            break;
+        
+        case Options.TRANSITION_TABLE_LAYOUT:
+            options.setTransitionTableLayout(parseTransitionTableLayout(optionTag,value,valueSpan));
+            break;
+        
+        case Options.ASCII_TRANSITION_TABLE:
+            Boolean asciiTransitionTableValue = parseBooleanOption(optionTag,value,valueSpan);
+            
+            if (asciiTransitionTableValue != null) {
+                options.setAsciiTransitionTable(asciiTransitionTableValue);
+            }
+            break;
+        
+        case Options.CODE_STYLE:
+            options.setCodeStyle(parseCodeStyle(optionTag,value,valueSpan));
+            break;
+        
+        case Options.TABLE_STORAGE:
+            options.setTableStorage(parseTableStorage(optionTag,value,valueSpan));
+            break;
+        
+        case Options.LAZY_TABLES:
+            Boolean lazyTablesValue = parseBooleanOption(optionTag,value,valueSpan);
+            
+            if (lazyTablesValue != null) {
+                options.setLazyTables(lazyTablesValue);
+            }
+            break;
+        
         case Options.BUFFER_STRATEGY:
             options.setBufferStrategy(parseBufferStrategy(optionTag,value,valueSpan));
             break;
@@ -665,6 +710,42 @@ public class ConfigParser {
             options.setBufferIncrement(parseBufferIncrement(optionTag,value,valueSpan));
             break;
         
+        case Options.MAX_BUFFER_CAPACITY:
+            options.setMaxBufferCapacity(parseMaxBufferCapacity(optionTag,value,valueSpan));
+            break;
+        
+        case Options.BUFFER_OVERFLOW:
+            options.setBufferOverflow(parseBufferOverflow(optionTag,value,valueSpan));
+            break;
+        
+        case Options.INCREMENTAL:
+            Boolean incrementalValue = parseBooleanOption(optionTag,value,valueSpan);
+            
+            if (incrementalValue != null) {
+                options.setIncremental(incrementalValue);
+            }
+            break;
+        
+        case Options.SENTINEL:
+            Boolean sentinelValue = parseBooleanOption(optionTag,value,valueSpan);
+            
+            if (sentinelValue != null) {
+                options.setSentinel(sentinelValue);
+            }
+            break;
+        
+        case Options.RUN_LOOPS:
+            options.setRunLoops(parseRunLoopType(optionTag,value,valueSpan));
+            break;
+        
+        case Options.MEMOIZATION:
+            Boolean memoizationValue = parseBooleanOption(optionTag,value,valueSpan);
+            
+            if (memoizationValue != null) {
+                options.setMemoization(memoizationValue);
+            }
+            break;
+        
         case Options.FUNCTIONALITY:
             booleanParser.putValues(options.getFunctionalityMap(),optionTag,value,valueSpan);
             errors |= booleanParser.hasErrors();
@@ -849,6 +930,76 @@ public class ConfigParser {
         return inputMode;
     }
     
+    /**
+     * 
+     */
+    private CharacterMode parseCharacterMode(JOMTag optionTag, String value, Span valueSpan) {
+        CharacterMode characterMode = CharacterMode.forName(value);
+        
+        if (characterMode == null) {
+            errors |= Problems.INVALID_OPTION_VALUE.report(errorHandler,
+                    optionTag.getSliceSourceRange(valueSpan));
+        }
+        
+        return characterMode;
+    }
+    
+    /**
+     * 
+     */
+    private CharacterMapLayout parseCharacterMapLayout(JOMTag optionTag, String value, Span valueSpan) {
+        CharacterMapLayout characterMapLayout = CharacterMapLayout.forName(value);
+        
+        if (characterMapLayout == null) {
+            errors |= Problems.INVALID_OPTION_VALUE.report(errorHandler,
+                    optionTag.getSliceSourceRange(valueSpan));
+        }
+        
+        return characterMapLayout;
+    }
+    
+    /**
+     * 
+     */
+    private TransitionTableLayout parseTransitionTableLayout(JOMTag optionTag, String value, Span valueSpan) {
+        TransitionTableLayout transitionTableLayout = TransitionTableLayout.forName(value);
+        
+        if (transitionTableLayout == null) {
+            errors |= Problems.INVALID_OPTION_VALUE.report(errorHandler,
+                    optionTag.getSliceSourceRange(valueSpan));
+        }
+        
+        return transitionTableLayout;
+    }
+    
+    /**
+     * 
+     */
+    private CodeStyle parseCodeStyle(JOMTag optionTag, String value, Span valueSpan) {
+        CodeStyle codeStyle = CodeStyle.forName(value);
+        
+        if (codeStyle == null) {
+            errors |= Problems.INVALID_OPTION_VALUE.report(errorHandler,
+                    optionTag.getSliceSourceRange(valueSpan));
+        }
+        
+        return codeStyle;
+    }
+    
+    /**
+     * 
+     */
+    private TableStorage parseTableStorage(JOMTag optionTag, String value, Span valueSpan) {
+        TableStorage tableStorage = TableStorage.forName(value);
+        
+        if (tableStorage == null) {
+            errors |= Problems.INVALID_OPTION_VALUE.report(errorHandler,
+                    optionTag.getSliceSourceRange(valueSpan));
+        }
+        
+        return tableStorage;
+    }
+    
     /**
      * 
      */
@@ -877,6 +1028,57 @@ public class ConfigParser {
         return bufferIncrement;
     }
     
+    /**
+     * 
+     */
+    private int parseMaxBufferCapacity(JOMTag optionTag, String value, Span valueSpan) {
+        
+        // Note: The capacity is limited to the largest power of two which can
+        // be used as the size of an array.
+        if (!value.isEmpty() && (value.length() <= 10) && !value.startsWith("-") &&
+            !value.startsWith("0x") && !value.startsWith("0X") && isIntegerLiteral(value)) {
+            
+            long maxBufferCapacity = Long.parseLong(value);
+            
+            if (maxBufferCapacity <= (1 << 30)) {
+                return (int)maxBufferCapacity;
+            }
+        }
+        
+        errors |= Problems.INVALID_OPTION_VALUE.report(errorHandler,
+                optionTag.getSliceSourceRange(valueSpan));
+        
+        return -1;
+    }
+    
+    /**
+     * 
+     */
+    private BufferOverflow parseBufferOverflow(JOMTag optionTag, String value, Span valueSpan) {
+        BufferOverflow bufferOverflow = BufferOverflow.forName(value);
+        
+        if (bufferOverflow == null) {
+            errors |= Problems.INVALID_OPTION_VALUE.report(errorHandler,
+                    optionTag.getSliceSourceRange(valueSpan));
+        }
+        
+        return bufferOverflow;
+    }
+    
+    /**
+     * 
+     */
+    private RunLoopType parseRunLoopType(JOMTag optionTag, String value, Span valueSpan) {
+        RunLoopType runLoopType = RunLoopType.forName(value);
+        
+        if (runLoopType == null) {
+            errors |= Problems.INVALID_OPTION_VALUE.report(errorHandler,
+                    optionTag.getSliceSourceRange(valueSpan));
+        }
+        
+        return runLoopType;
+    }
+    
     /**
      * 
      */
@@ -906,6 +1108,19 @@ public class ConfigParser {
         return noMatchAction;
     }
     
+    /**
+     * 
+     */
+    private int getMaxCharacter(Options options) {
+        
+        // Note: The byte input modes always decode the input to code points.
+        if (options.getInputMode().isByteMode()) {
+            return CharacterMode.CODE_POINT.getMaxCharacter();
+        }
+        
+        return options.getCharacterMode().getMaxCharacter();
+    }
+    
     //===============
     // Macro Methods
     //===============
@@ -1012,6 +1227,7 @@ public class ConfigParser {
         
         RegExCompiler expressionCompiler = new RegExCompiler();
         expressionCompiler.setExcludeConditions(true);
+        expressionCompiler.setMaxCharacter(getMaxCharacter(config.getOptions()));
         expressionCompiler.setMacroResolver(localMacroResolver);
         
         List<TagInfo> localMacros = getTagInfoList(methodDecl.getJavaDoc(),
@@ -1067,18 +1283,110 @@ public class ConfigParser {
                         .getCondition(),expression);
             }
             
+            // get token code
+            List<TagInfo> tokenTags = getTagInfoList(methodDecl.getJavaDoc(),
+                    TOKEN_TAG,false,Problems.INVALID_TOKEN_CODE,config);
+            String tokenCode = null;
+            
+            if (tokenTags != null) {
+                tokenCode = getTokenCode(tokenTags,methodDecl);
+                
+                if (tokenCode == null) {
+                    return;
+                }
+            }
+            
             // create method info
             MethodInfo methodInfo = new MethodInfo(
                     methodDecl.getName().getText(),
                     methodDecl.getReturnType().getText(),
                     methodDecl.getReturnType().getSourceRange(),
-                    exprInfo.tag.getSliceSourceRange(exprSlice.trim()));
+                    exprInfo.tag.getSliceSourceRange(exprSlice.trim()),
+                    tokenCode);
             
             // add rule
             config.getRuleList().add(new Rule<>(expression,methodInfo));
         }
     }
     
+    /**
+     * 
+     */
+    private String getTokenCode(List<TagInfo> tokenTags,
+            JOMMethodDeclaration methodDecl) {
+        
+        // check for multiple token tags
+        if (tokenTags.size() != 1) {
+            for (int j=1;j<tokenTags.size();j++) {
+                errors |= Problems.TOO_MANY_TOKEN_TAGS.report(errorHandler,
+                        tokenTags.get(j).tag.getSourceRange());
+            }
+            
+            return null;
+        }
+        
+        // Note: A token code is either an integer literal or the name of a
+        // constant. The Java compiler checks the rest.
+        TagInfo tokenInfo = tokenTags.get(0);
+        String value = tokenInfo.value;
+        
+        if (!isIntegerLiteral(value) && !isQualifiedName(value)) {
+            errors |= Problems.INVALID_TOKEN_CODE.report(errorHandler,
+                    tokenInfo.tag.getSliceSourceRange(tokenInfo.valueSpan));
+            return null;
+        }
+        
+        // Note: The token code scan returns the token code instead of the
+        // result of the method. Void methods do not produce a token.
+        if (isVoidType(methodDecl.getReturnType().getText())) {
+            errors |= Problems.TOKEN_RETURN_TYPE.report(errorHandler,
+                    methodDecl.getReturnType().getSourceRange());
+            return null;
+        }
+        
+        return value;
+    }
+    
+    /**
+     * 
+     */
+    private boolean isIntegerLiteral(String value) {
+        int start = value.startsWith("-") ? 1 : 0;
+        int radix = 10;
+        
+        if (value.startsWith("0x",start) || value.startsWith("0X",start)) {
+            start += 2;
+            radix = 16;
+        }
+        
+        if (start == value.length()) {
+            return false;
+        }
+        
+        for (int i=start;i<value.length();i++) {
+            if (Character.digit(value.charAt(i),radix) == -1) {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
+    /**
+     * 
+     */
+    private boolean isQualifiedName(String value) {
+        String[] parts = value.split("\\.",-1);
+        
+        for (int i=0;i<parts.length;i++) {
+            if (!StringToolkit.isJavaIdentifier(parts[i])) {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
     //=====================
     // Return Type Methods
     //=====================
@@ -1147,6 +1455,29 @@ public class ConfigParser {
                     }
                 }
             }
+            
+            // Note: The token code scan needs a token code for each rule which
+            // produces a token, because it does not call the methods of the
+            // rules with a return value.
+            for (int i=0;i<ruleListSize;i++) {
+                if (ruleList.get(i).getAction().getTokenCode() != null) {
+                    config.setHasTokenCodes(true);
+                    break;
+                }
+            }
+            
+            if (config.getHasTokenCodes()) {
+                for (int i=0;i<ruleListSize;i++) {
+                    MethodInfo curMethod = ruleList.get(i).getAction();
+                    
+                    if ((curMethod.getTokenCode() == null) &&
+                        !isVoidType(curMethod.getReturnType())) {
+                        
+                        errors |= Problems.MISSING_TOKEN_CODE.report(errorHandler,
+                                curMethod.getReturnTypeSpan());
+                    }
+                }
+            }
         }
     }
     
@@ -1287,6 +1618,7 @@ public class ConfigParser {
                 case OPTION_TAG:
                 case MACRO_TAG:
                 case EXPR_TAG:
+                case TOKEN_TAG:
                     return true;
                 }
             }
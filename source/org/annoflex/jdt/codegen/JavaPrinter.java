@@ -310,10 +310,25 @@ public class JavaPrinter {
         
         lineSeparator();
         indent();
+        stringLiteral(1,endTextLength-startTextLength-1-3,string);
+        append(");");
+        lineSeparator();
+    }
+    
+    /**
+     * 
+     */
+    public void stringLiteral(int indentCount, int availableSpace, String string) {
+        
+        // "<string>" +
+        // "<string>"
+        
+        // Note: The string consists of character pairs which are never split
+        // across two lines.
+        
         append("\"");
         
         int length = string.length();
-        int availableSpace = endTextLength - startTextLength - 1 - 3;
         int curSpace = 0;
         
         for (int i=0;i<length;) {
@@ -332,13 +347,12 @@ public class JavaPrinter {
                 
                 append("\" +");
                 lineSeparator();
-                indent();
+                indent(indentCount);
                 append("\"");
             }
         }
         
-        append("\");");
-        lineSeparator();
+        append("\"");
     }
     
     /**
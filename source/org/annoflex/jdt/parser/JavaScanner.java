@@ -402,6 +402,25 @@ public class JavaScanner implements TokenIterator<JavaToken> {
      * DFA states:      304                          *
      * Static size:     111 KB                       *
      * Instance size:   24 Bytes                     *
+     * Backtracking:    2                            *
+     *                                               *
+     ************************************************/
+    
+    /*************************************************
+     *             Backtracking Analysis             *
+     * * * * * * * * * * * * * * * * * * * * * * * * *
+     *                                               *
+     * Rule:            createDecimalInteger         *
+     * Backtracking:    2                            *
+     * Example:         "8E+"                        *
+     *                                               *
+     * Rule:            createOctalInteger           *
+     * Backtracking:    2                            *
+     * Example:         "02E+"                       *
+     *                                               *
+     * Rule:            createDoubleLiteral          *
+     * Backtracking:    2                            *
+     * Example:         "08E+"                       *
      *                                               *
      ************************************************/
     
@@ -510,160 +529,161 @@ public class JavaScanner implements TokenIterator<JavaToken> {
      * The transition table of the DFA.
      */
     private static final short[][] TRANSITION_TABLE = createTransitionTable(
-    "\0\65\152\1\0\b\152\1\0\4\152\2\0\34\140\1\0\3\140\45\0\34\140\1\0\3" +
-    "\140\45\0\34\140\1\0\3\140\45\0\34\140\1\0\3\140\45\0\34\140\1\0\3\140\45" +
-    "\0\34\140\1\0\3\140\45\0\34\140\1\0\3\140\40\u010e\1\140\4\0\34\140\1" +
-    "\0\3\140\45\0\34\140\1\0\3\140\45\0\34\140\1\0\3\140\45\0\34\140\1\0\3" +
-    "\140\45\0\34\140\1\0\3\140\45\0\34\140\1\0\3\140\45\0\34\140\1\0\3\140\45" +
-    "\0\34\140\1\0\3\140\45\0\34\140\1\0\3\140\45\0\34\140\1\0\3\140\45\0\34" +
-    "\140\1\0\3\140\45\0\34\140\1\0\3\140\32\201\1\140\n\0\34\140\1\0\3\140\45" +
-    "\0\34\140\1\0\3\140\45\0\34\140\1\0\3\140\45\0\34\140\1\0\3\140\45\0\34" +
-    "\140\1\0\3\140\45\0\34\140\1\0\3\140\45\0\34\140\1\0\3\140\45\0\34\140\1" +
-    "\0\3\140\45\0\34\140\1\0\3\140\45\0\34\140\1\0\3\140\45\0\34\140\1\0\3" +
-    "\140\45\0\34\140\1\0\3\140\45\0\34\140\1\0\3\140\45\0\34\140\1\0\3\140\45" +
-    "\0\34\140\1\0\3\140\45\0\34\140\1\0\3\140\45\0\34\140\1\0\3\140\17\u0116\1" +
-    "\140\25\0\34\140\1\0\3\140\45\0\34\140\1\0\3\140\45\0\34\140\1\0\3\140\45" +
-    "\0\34\140\1\0\3\140\45\0\34\140\1\0\3\140\45\0\34\140\1\0\3\140\45\0\34" +
-    "\140\1\0\3\140\45\0\34\140\1\0\3\140\45\0\34\140\1\0\3\140\45\0\34\140\1" +
-    "\0\3\140\45\0\34\140\1\0\3\140\45\0\34\140\1\0\3\140\45\0\34\140\1\0\3" +
-    "\140\r\63\1\140\27\0\34\140\1\0\3\140\45\0\34\140\1\0\3\140\45\0\34\140\1" +
-    "\0\3\140\45\0\34\140\1\0\3\140\45\0\105\0\105\0\105\0\105\0\105\0\105" +
-    "\0\65\u012f\1\0\b\u012f\1\0\4\u012f\2\0\105\0\105\0\105\0\105\0\105\0\105" +
-    "\0\105\0\105\0\105\0\105\0\105\0\105\0\105\146\1\0\2\135\1\0\101\0\105" +
-    "\0\105\0\105\0\105\0\105\0\105\0\105\0\r\u012f\1\0\46\127\1\123\1\0\4" +
-    "\127\1\u0130\1\133\1\\\1\123\1\0\1\u0130\1\133\1\\\1\123\2\0\63\124\1" +
-    "\130\1\124\1\0\1\124\3\130\1\124\n\0\r\u012f\1\0\46\131\1\154\1\0\4\131\1" +
-    "\u0130\1\133\1\\\1\125\1\0\1\u0130\1\133\1\\\1\125\2\0\64\132\1\0\5\132\1" +
-    "\0\b\126\2\0\105\0\105\0\105\0\105\0\105\0\105\135\1\0\2\135\102\0\105" +
-    "\0\105\0\34\140\1\0\3\140\45\0\1\141\2\0\32\141\1\0\3\141\1\0\43\0\105" +
-    "\112\1\141\2\113\1\155\1\160\1\142\1\67\1\70\1\71\1\72\1\73\1\74\1\75\1" +
-    "\76\1\77\1\100\1\101\1\102\1\103\1\104\1\105\1\106\1\107\1\114\1\115\1" +
-    "\116\1\142\2\141\1\110\1\111\1\140\1\141\1\375\1\140\1\232\1\221\1\140\2" +
-    "\237\1\164\1\321\1\210\1\140\1\225\1\140\3\256\1\140\3\123\1\140\1\175\1" +
-    "\205\1\140\1\u011c\1\140\3\123\1\251\1\274\1\170\1\252\1\153\1\123\1" +
-    "\147\1\145\2\136\1\145\101\147\1\145\104\144\1\151\104\147\1\145\2\137\1" +
-    "\145\101\150\1\151\2\136\1\151\101\150\1\151\104\0\65\152\1\0\6\133\1" +
-    "\\\1\152\1\0\2\133\1\\\1\152\2\0\r\u012f\1\0\44\124\1\0\1\127\1\154\1" +
-    "\124\1\0\2\126\1\127\1\u0130\1\133\1\\\1\125\1\126\1\u0130\1\133\1\\\1" +
-    "\125\2\0\r\u012f\1\0\'\154\1\0\5\u0130\1\133\1\\\1\154\1\0\1\u0130\1" +
-    "\133\1\\\1\154\2\156\1\0\2\156\1\122\1\156\100\0\4\122\1\0\100\0\2\121\1" +
-    "\0\102\160\1\157\1\120\1\160\2\117\1\160\25\161\1\160\51\160\1\157\1" +
-    "\120\1\160\30\161\1\160\51\0\34\140\1\0\3\140\40\66\1\140\4\0\34\140\1" +
-    "\0\3\140\f\57\1\140\2\162\1\140\7\327\1\140\r\0\34\140\1\0\3\140\b\163\1" +
-    "\140\5\200\1\140\26\0\34\140\1\0\3\140\40\65\1\140\4\0\34\140\1\0\3\140\r" +
-    "\165\1\140\27\0\34\140\1\0\3\140\32\166\1\140\n\0\34\140\1\0\3\140\5" +
-    "\364\1\140\1\257\1\140\17\167\1\140\2\u0119\1\140\n\0\34\140\1\0\3\140\t" +
-    "\64\1\140\33\0\34\140\1\0\3\140\b\171\1\140\34\0\34\140\1\0\3\140\40" +
-    "\172\1\140\4\0\34\140\1\0\3\140\r\173\1\140\27\0\34\140\1\0\3\140\r\174\1" +
-    "\140\21\361\1\140\5\0\34\140\1\0\3\140\21\62\1\140\23\0\34\140\1\0\3" +
-    "\140\7\176\1\140\35\0\34\140\1\0\3\140\5\226\1\140\2\177\1\140\34\0\34" +
-    "\140\1\0\3\140\f\61\1\140\30\0\34\140\1\0\3\140\16\60\1\140\26\0\34\140\1" +
-    "\0\3\140\30\202\1\140\f\0\34\140\1\0\3\140\t\203\1\140\3\265\1\140\27" +
-    "\0\34\140\1\0\3\140\7\245\1\140\6\u0113\1\140\b\204\1\140\2\u0111\1\140\n" +
-    "\0\34\140\1\0\3\140\32\56\1\140\n\0\34\140\1\0\3\140\32\206\1\140\n\0\34" +
-    "\140\1\0\3\140\17\207\1\140\7\353\1\140\b\227\1\140\4\0\34\140\1\0\3" +
-    "\140\41\55\1\140\3\0\34\140\1\0\3\140\7\211\1\140\35\0\34\140\1\0\3\140\40" +
-    "\212\1\140\4\0\34\140\1\0\3\140\30\213\1\140\f\0\34\140\1\0\3\140\13" +
-    "\214\1\140\31\0\34\140\1\0\3\140\27\215\1\140\r\0\34\140\1\0\3\140\t" +
-    "\216\1\140\33\0\34\140\1\0\3\140\t\b\1\140\3\217\1\140\27\0\34\140\1" +
-    "\0\3\140\6\304\1\140\4\220\1\140\25\36\1\140\3\0\34\140\1\0\3\140\b\54\1" +
-    "\140\34\0\34\140\1\0\3\140\40\222\1\140\4\0\34\140\1\0\3\140\2\223\1" +
-    "\140\"\0\34\140\1\0\3\140\t\347\1\140\2\341\1\140\1\u011f\1\224\1\140\1" +
-    "\271\1\140\23\0\34\140\1\0\3\140\r\53\1\140\27\0\34\140\1\0\3\140\21" +
-    "\52\1\140\23\0\34\140\1\0\3\140\7\51\1\140\35\0\34\140\1\0\3\140\t\230\1" +
-    "\140\33\0\34\140\1\0\3\140\7\231\1\140\35\0\34\140\1\0\3\140\13\50\1" +
-    "\140\31\0\34\140\1\0\3\140\b\233\1\140\34\0\34\140\1\0\3\140\17\234\1" +
-    "\140\25\0\34\140\1\0\3\140\t\235\1\140\33\0\34\140\1\0\3\140\40\236\1" +
-    "\140\4\0\34\140\1\0\3\140\40\'\1\140\4\0\34\140\1\0\3\140\17\240\1\140\25" +
-    "\0\34\140\1\0\3\140\13\241\1\140\31\0\34\140\1\0\3\140\5\242\1\140\37" +
-    "\0\34\140\1\0\3\140\t\243\1\140\3\312\1\140\27\0\34\140\1\0\3\140\13" +
-    "\244\1\140\31\0\34\140\1\0\3\140\3\46\1\140\41\0\34\140\1\0\3\140\27" +
-    "\246\1\140\r\0\34\140\1\0\3\140\40\247\1\140\4\0\34\140\1\0\3\140\7\u0126\1" +
-    "\250\1\140\3\u0121\1\140\30\0\34\140\1\0\3\140\7\45\1\140\30\264\1\140\4" +
-    "\0\34\140\1\0\3\140\40\44\1\140\4\0\34\140\1\0\3\140\32\253\1\140\n\0\34" +
-    "\140\1\0\3\140\5\254\1\140\37\0\34\140\1\0\3\140\16\255\1\140\26\0\34" +
-    "\140\1\0\3\140\b\43\1\140\34\0\34\140\1\0\3\140\t\"\1\140\33\0\34\140\1" +
-    "\0\3\140\32\260\1\140\n\0\34\140\1\0\3\140\17\261\1\140\25\0\34\140\1" +
-    "\0\3\140\27\262\1\140\r\0\34\140\1\0\3\140\41\263\1\140\3\0\34\140\1" +
-    "\0\3\140\40\41\1\140\4\0\34\140\1\0\3\140\16\40\1\140\26\0\34\140\1\0\3" +
-    "\140\30\266\1\140\f\0\34\140\1\0\3\140\t\267\1\140\33\0\34\140\1\0\3" +
-    "\140\5\270\1\140\37\0\34\140\1\0\3\140\40\37\1\140\4\0\34\140\1\0\3\140\r" +
-    "\272\1\140\27\0\34\140\1\0\3\140\13\u0109\1\140\n\311\1\140\3\273\1\140\n" +
-    "\0\34\140\1\0\3\140\r\35\1\140\27\0\34\140\1\0\3\140\t\275\1\140\33\0\34" +
-    "\140\1\0\3\140\13\276\1\140\31\0\34\140\1\0\3\140\40\277\1\140\4\0\34" +
-    "\140\1\0\3\140\6\300\1\140\36\0\34\140\1\0\3\140\40\301\1\140\4\0\34" +
-    "\140\1\0\3\140\7\u0129\1\140\22\302\1\140\n\0\34\140\1\0\3\140\2\303\1" +
-    "\140\"\0\34\140\1\0\3\140\r\34\1\140\27\0\34\140\1\0\3\140\"\305\1\140\2" +
-    "\0\34\140\1\0\3\140\13\306\1\140\31\0\34\140\1\0\3\140\40\307\1\140\4" +
-    "\0\34\140\1\0\3\140\t\310\1\140\33\0\34\140\1\0\3\140\t\33\1\140\33\0\34" +
-    "\140\1\0\3\140\40\32\1\140\4\0\34\140\1\0\3\140\32\313\1\140\n\0\34\140\1" +
-    "\0\3\140\5\314\1\140\37\0\34\140\1\0\3\140\t\315\1\140\33\0\34\140\1" +
-    "\0\3\140\27\316\1\140\r\0\34\140\1\0\3\140\5\u0127\1\140\24\317\1\140\n" +
-    "\0\34\140\1\0\3\140\7\320\1\140\35\0\34\140\1\0\3\140\t\31\1\140\33\0\34" +
-    "\140\1\0\3\140\13\322\1\140\31\0\34\140\1\0\3\140\40\323\1\140\4\0\34" +
-    "\140\1\0\3\140\5\324\1\140\37\0\34\140\1\0\3\140\r\325\1\140\27\0\34" +
-    "\140\1\0\3\140\13\326\1\140\31\0\34\140\1\0\3\140\"\30\1\140\2\0\34\140\1" +
-    "\0\3\140\40\330\1\140\4\0\34\140\1\0\3\140\20\331\1\140\24\0\34\140\1" +
-    "\0\3\140\5\332\1\140\37\0\34\140\1\0\3\140\13\333\1\140\31\0\34\140\1" +
-    "\0\3\140\7\334\1\140\35\0\34\140\1\0\3\140\b\335\1\140\34\0\34\140\1" +
-    "\0\3\140\16\336\1\140\26\0\34\140\1\0\3\140\30\337\1\140\f\0\34\140\1" +
-    "\0\3\140\13\340\1\140\31\0\34\140\1\0\3\140\2\27\1\140\"\0\34\140\1\0\3" +
-    "\140\41\342\1\140\3\0\34\140\1\0\3\140\t\343\1\140\33\0\34\140\1\0\3" +
-    "\140\30\344\1\140\f\0\34\140\1\0\3\140\5\345\1\140\37\0\34\140\1\0\3" +
-    "\140\b\346\1\140\16\367\1\140\r\0\34\140\1\0\3\140\40\26\1\140\4\0\34" +
-    "\140\1\0\3\140\n\350\1\140\32\0\34\140\1\0\3\140\5\351\1\140\37\0\34" +
-    "\140\1\0\3\140\t\352\1\140\33\0\34\140\1\0\3\140\t\25\1\140\33\0\34\140\1" +
-    "\0\3\140\30\354\1\140\f\0\34\140\1\0\3\140\27\355\1\140\r\0\34\140\1" +
-    "\0\3\140\b\356\1\140\34\0\34\140\1\0\3\140\t\357\1\140\33\0\34\140\1" +
-    "\0\3\140\r\360\1\140\27\0\34\140\1\0\3\140\32\24\1\140\n\0\34\140\1\0\3" +
-    "\140\27\362\1\140\r\0\34\140\1\0\3\140\13\363\1\140\31\0\34\140\1\0\3" +
-    "\140\30\23\1\140\f\0\34\140\1\0\3\140\5\365\1\140\37\0\34\140\1\0\3\140\t" +
-    "\366\1\140\33\0\34\140\1\0\3\140\40\22\1\140\4\0\34\140\1\0\3\140\t\370\1" +
-    "\140\33\0\34\140\1\0\3\140\27\371\1\140\r\0\34\140\1\0\3\140\n\372\1" +
-    "\140\32\0\34\140\1\0\3\140\5\373\1\140\1\u0103\1\140\35\0\34\140\1\0\3" +
-    "\140\b\374\1\140\6\u0107\1\140\7\u012e\1\140\r\0\34\140\1\0\3\140\"\21\1" +
-    "\140\2\0\34\140\1\0\3\140\40\376\1\140\4\0\34\140\1\0\3\140\t\377\1\140\33" +
-    "\0\34\140\1\0\3\140\30\u0100\1\140\f\0\34\140\1\0\3\140\40\u0101\1\140\4" +
-    "\0\34\140\1\0\3\140\t\u0102\1\140\33\0\34\140\1\0\3\140\30\20\1\140\f" +
-    "\0\34\140\1\0\3\140\5\u0104\1\140\37\0\34\140\1\0\3\140\32\u0105\1\140\n" +
-    "\0\34\140\1\0\3\140\37\u0106\1\140\5\0\34\140\1\0\3\140\6\17\1\140\36" +
-    "\0\34\140\1\0\3\140\17\u0108\1\140\25\0\34\140\1\0\3\140\40\16\1\140\4" +
-    "\0\34\140\1\0\3\140\30\u010a\1\140\f\0\34\140\1\0\3\140\27\u010b\1\140\r" +
-    "\0\34\140\1\0\3\140\41\u010c\1\140\3\0\34\140\1\0\3\140\b\u010d\1\140\34" +
-    "\0\34\140\1\0\3\140\r\r\1\140\27\0\34\140\1\0\3\140\r\u010f\1\140\27" +
-    "\0\34\140\1\0\3\140\27\u0110\1\140\r\0\34\140\1\0\3\140\b\f\1\140\34" +
-    "\0\34\140\1\0\3\140\27\u0112\1\140\r\0\34\140\1\0\3\140\40\13\1\140\4" +
-    "\0\34\140\1\0\3\140\32\u0114\1\140\n\0\34\140\1\0\3\140\37\u0115\1\140\5" +
-    "\0\34\140\1\0\3\140\t\n\1\140\33\0\34\140\1\0\3\140\27\u0117\1\140\r" +
-    "\0\34\140\1\0\3\140\7\u0118\1\140\35\0\34\140\1\0\3\140\4\t\1\140\40" +
-    "\0\34\140\1\0\3\140\13\u011a\1\140\31\0\34\140\1\0\3\140\7\u011b\1\140\35" +
-    "\0\34\140\1\0\3\140\t\7\1\140\33\0\34\140\1\0\3\140\b\u011d\1\140\34" +
-    "\0\34\140\1\0\3\140\7\u011e\1\140\35\0\34\140\1\0\3\140\40\6\1\140\4" +
-    "\0\34\140\1\0\3\140\t\u0120\1\140\33\0\34\140\1\0\3\140\13\5\1\140\31" +
-    "\0\34\140\1\0\3\140\27\u0122\1\140\r\0\34\140\1\0\3\140\40\u0123\1\140\4" +
-    "\0\34\140\1\0\3\140\32\u0124\1\140\n\0\34\140\1\0\3\140\7\u0125\1\140\35" +
-    "\0\34\140\1\0\3\140\"\4\1\140\2\0\34\140\1\0\3\140\t\3\1\140\33\0\34" +
-    "\140\1\0\3\140\b\u0128\1\140\34\0\34\140\1\0\3\140\40\2\1\140\4\0\34" +
-    "\140\1\0\3\140\4\u012a\1\140\40\0\34\140\1\0\3\140\27\u012b\1\140\r\0\34" +
-    "\140\1\0\3\140\3\u012c\1\140\41\0\34\140\1\0\3\140\30\u012d\1\140\f\0\65" +
-    "\u012f\1\0\5\u0130\1\133\1\\\1\u012f\1\0\1\u0130\1\133\1\\\1\u012f\2" +
-    "\0\36\1\2\0\25\152\1\0\b\152\1\0\4\152\2");
+    "\0\65\110\1\0\b\110\1\0\4\110\2\0\36\1\2\0\25\110\1\0\b\110\1\0\4\110\2" +
+    "\u0120\1\101\2\72\1\113\1\116\1\u0130\1\u010e\1\u010f\1\u0110\1\u0111\1" +
+    "\u0112\1\u0113\1\71\1\u0114\1\u0115\1\u0116\1\u0117\1\u0118\1\u0119\1" +
+    "\u011a\1\u011b\1\u011c\1\u011d\1\u0121\1\u0122\1\u0123\1\u0130\2\101\1" +
+    "\u011e\1\u011f\1\100\1\101\1\333\1\100\1\170\1\157\1\100\2\175\1\122\1" +
+    "\257\1\146\1\100\1\163\1\100\3\214\1\100\3\73\1\100\1\133\1\143\1\100\1" +
+    "\372\1\100\3\73\1\207\1\232\1\126\1\210\1\111\1\73\1\0\34\100\1\0\3\100\45" +
+    "\0\34\100\1\0\3\100\45\0\34\100\1\0\3\100\45\0\34\100\1\0\3\100\45\0\34" +
+    "\100\1\0\3\100\45\0\34\100\1\0\3\100\45\0\34\100\1\0\3\100\40\354\1\100\4" +
+    "\0\34\100\1\0\3\100\45\0\34\100\1\0\3\100\45\0\34\100\1\0\3\100\45\0\34" +
+    "\100\1\0\3\100\45\0\34\100\1\0\3\100\45\0\34\100\1\0\3\100\45\0\34\100\1" +
+    "\0\3\100\45\0\34\100\1\0\3\100\45\0\34\100\1\0\3\100\45\0\34\100\1\0\3" +
+    "\100\45\0\34\100\1\0\3\100\45\0\34\100\1\0\3\100\32\137\1\100\n\0\34" +
+    "\100\1\0\3\100\45\0\34\100\1\0\3\100\45\0\34\100\1\0\3\100\45\0\34\100\1" +
+    "\0\3\100\45\0\34\100\1\0\3\100\45\0\34\100\1\0\3\100\45\0\34\100\1\0\3" +
+    "\100\45\0\34\100\1\0\3\100\45\0\34\100\1\0\3\100\45\0\34\100\1\0\3\100\45" +
+    "\0\34\100\1\0\3\100\45\0\34\100\1\0\3\100\45\0\34\100\1\0\3\100\45\0\34" +
+    "\100\1\0\3\100\45\0\34\100\1\0\3\100\45\0\34\100\1\0\3\100\45\0\34\100\1" +
+    "\0\3\100\17\364\1\100\25\0\34\100\1\0\3\100\45\0\34\100\1\0\3\100\45" +
+    "\0\34\100\1\0\3\100\45\0\34\100\1\0\3\100\45\0\34\100\1\0\3\100\45\0\34" +
+    "\100\1\0\3\100\45\0\34\100\1\0\3\100\45\0\34\100\1\0\3\100\45\0\34\100\1" +
+    "\0\3\100\45\0\34\100\1\0\3\100\45\0\34\100\1\0\3\100\45\0\34\100\1\0\3" +
+    "\100\45\0\34\100\1\0\3\100\r\65\1\100\27\0\34\100\1\0\3\100\45\0\34\100\1" +
+    "\0\3\100\45\0\34\100\1\0\3\100\45\0\34\100\1\0\3\100\45\0\65\u010d\1" +
+    "\0\b\u010d\1\0\4\u010d\2\104\1\0\2\77\1\0\101\0\r\u010d\1\0\46\u0128\1" +
+    "\73\1\0\4\u0128\1\2\1\u012c\1\u012d\1\73\1\0\1\2\1\u012c\1\u012d\1\73\2" +
+    "\0\63\74\1\u0129\1\74\1\0\1\74\3\u0129\1\74\n\0\r\u010d\1\0\46\u012a\1" +
+    "\112\1\0\4\u012a\1\2\1\u012c\1\u012d\1\75\1\0\1\2\1\u012c\1\u012d\1\75\2" +
+    "\0\64\u012b\1\0\5\u012b\1\0\b\76\2\77\1\0\2\77\102\0\34\100\1\0\3\100\45" +
+    "\0\1\101\2\0\32\101\1\0\3\101\1\0\43\105\1\103\2\u012e\1\103\101\105\1" +
+    "\103\104\102\1\107\104\105\1\103\2\u012f\1\103\101\106\1\107\2\u012e\1" +
+    "\107\101\106\1\107\104\0\65\110\1\0\6\u012c\1\u012d\1\110\1\0\2\u012c\1" +
+    "\u012d\1\110\2\0\r\u010d\1\0\44\74\1\0\1\u0128\1\112\1\74\1\0\2\76\1" +
+    "\u0128\1\2\1\u012c\1\u012d\1\75\1\76\1\2\1\u012c\1\u012d\1\75\2\0\r\u010d\1" +
+    "\0\'\112\1\0\5\2\1\u012c\1\u012d\1\112\1\0\1\2\1\u012c\1\u012d\1\112\2" +
+    "\114\1\0\2\114\1\u0127\1\114\100\0\4\u0127\1\0\100\0\2\u0126\1\0\102" +
+    "\116\1\115\1\u0125\1\116\2\u0124\1\116\25\117\1\116\51\116\1\115\1\u0125\1" +
+    "\116\30\117\1\116\51\0\34\100\1\0\3\100\40\70\1\100\4\0\34\100\1\0\3" +
+    "\100\f\61\1\100\2\120\1\100\7\265\1\100\r\0\34\100\1\0\3\100\b\121\1" +
+    "\100\5\136\1\100\26\0\34\100\1\0\3\100\40\67\1\100\4\0\34\100\1\0\3\100\r" +
+    "\123\1\100\27\0\34\100\1\0\3\100\32\124\1\100\n\0\34\100\1\0\3\100\5" +
+    "\322\1\100\1\215\1\100\17\125\1\100\2\367\1\100\n\0\34\100\1\0\3\100\t" +
+    "\66\1\100\33\0\34\100\1\0\3\100\b\127\1\100\34\0\34\100\1\0\3\100\40" +
+    "\130\1\100\4\0\34\100\1\0\3\100\r\131\1\100\27\0\34\100\1\0\3\100\r\132\1" +
+    "\100\21\317\1\100\5\0\34\100\1\0\3\100\21\64\1\100\23\0\34\100\1\0\3" +
+    "\100\7\\\1\100\35\0\34\100\1\0\3\100\5\164\1\100\2\135\1\100\34\0\34" +
+    "\100\1\0\3\100\f\63\1\100\30\0\34\100\1\0\3\100\16\62\1\100\26\0\34\100\1" +
+    "\0\3\100\30\140\1\100\f\0\34\100\1\0\3\100\t\141\1\100\3\223\1\100\27" +
+    "\0\34\100\1\0\3\100\7\203\1\100\6\361\1\100\b\142\1\100\2\357\1\100\n" +
+    "\0\34\100\1\0\3\100\32\60\1\100\n\0\34\100\1\0\3\100\32\144\1\100\n\0\34" +
+    "\100\1\0\3\100\17\145\1\100\7\311\1\100\b\165\1\100\4\0\34\100\1\0\3" +
+    "\100\41\57\1\100\3\0\34\100\1\0\3\100\7\147\1\100\35\0\34\100\1\0\3\100\40" +
+    "\150\1\100\4\0\34\100\1\0\3\100\30\151\1\100\f\0\34\100\1\0\3\100\13" +
+    "\152\1\100\31\0\34\100\1\0\3\100\27\153\1\100\r\0\34\100\1\0\3\100\t" +
+    "\154\1\100\33\0\34\100\1\0\3\100\t\n\1\100\3\155\1\100\27\0\34\100\1" +
+    "\0\3\100\6\242\1\100\4\156\1\100\25\40\1\100\3\0\34\100\1\0\3\100\b\56\1" +
+    "\100\34\0\34\100\1\0\3\100\40\160\1\100\4\0\34\100\1\0\3\100\2\161\1" +
+    "\100\"\0\34\100\1\0\3\100\t\305\1\100\2\277\1\100\1\375\1\162\1\100\1" +
+    "\227\1\100\23\0\34\100\1\0\3\100\r\55\1\100\27\0\34\100\1\0\3\100\21" +
+    "\54\1\100\23\0\34\100\1\0\3\100\7\53\1\100\35\0\34\100\1\0\3\100\t\166\1" +
+    "\100\33\0\34\100\1\0\3\100\7\167\1\100\35\0\34\100\1\0\3\100\13\52\1" +
+    "\100\31\0\34\100\1\0\3\100\b\171\1\100\34\0\34\100\1\0\3\100\17\172\1" +
+    "\100\25\0\34\100\1\0\3\100\t\173\1\100\33\0\34\100\1\0\3\100\40\174\1" +
+    "\100\4\0\34\100\1\0\3\100\40\51\1\100\4\0\34\100\1\0\3\100\17\176\1\100\25" +
+    "\0\34\100\1\0\3\100\13\177\1\100\31\0\34\100\1\0\3\100\5\200\1\100\37" +
+    "\0\34\100\1\0\3\100\t\201\1\100\3\250\1\100\27\0\34\100\1\0\3\100\13" +
+    "\202\1\100\31\0\34\100\1\0\3\100\3\50\1\100\41\0\34\100\1\0\3\100\27" +
+    "\204\1\100\r\0\34\100\1\0\3\100\40\205\1\100\4\0\34\100\1\0\3\100\7\u0104\1" +
+    "\206\1\100\3\377\1\100\30\0\34\100\1\0\3\100\7\'\1\100\30\222\1\100\4" +
+    "\0\34\100\1\0\3\100\40\46\1\100\4\0\34\100\1\0\3\100\32\211\1\100\n\0\34" +
+    "\100\1\0\3\100\5\212\1\100\37\0\34\100\1\0\3\100\16\213\1\100\26\0\34" +
+    "\100\1\0\3\100\b\45\1\100\34\0\34\100\1\0\3\100\t\44\1\100\33\0\34\100\1" +
+    "\0\3\100\32\216\1\100\n\0\34\100\1\0\3\100\17\217\1\100\25\0\34\100\1" +
+    "\0\3\100\27\220\1\100\r\0\34\100\1\0\3\100\41\221\1\100\3\0\34\100\1" +
+    "\0\3\100\40\43\1\100\4\0\34\100\1\0\3\100\16\"\1\100\26\0\34\100\1\0\3" +
+    "\100\30\224\1\100\f\0\34\100\1\0\3\100\t\225\1\100\33\0\34\100\1\0\3" +
+    "\100\5\226\1\100\37\0\34\100\1\0\3\100\40\41\1\100\4\0\34\100\1\0\3\100\r" +
+    "\230\1\100\27\0\34\100\1\0\3\100\13\347\1\100\n\247\1\100\3\231\1\100\n" +
+    "\0\34\100\1\0\3\100\r\37\1\100\27\0\34\100\1\0\3\100\t\233\1\100\33\0\34" +
+    "\100\1\0\3\100\13\234\1\100\31\0\34\100\1\0\3\100\40\235\1\100\4\0\34" +
+    "\100\1\0\3\100\6\236\1\100\36\0\34\100\1\0\3\100\40\237\1\100\4\0\34" +
+    "\100\1\0\3\100\7\u0107\1\100\22\240\1\100\n\0\34\100\1\0\3\100\2\241\1" +
+    "\100\"\0\34\100\1\0\3\100\r\36\1\100\27\0\34\100\1\0\3\100\"\243\1\100\2" +
+    "\0\34\100\1\0\3\100\13\244\1\100\31\0\34\100\1\0\3\100\40\245\1\100\4" +
+    "\0\34\100\1\0\3\100\t\246\1\100\33\0\34\100\1\0\3\100\t\35\1\100\33\0\34" +
+    "\100\1\0\3\100\40\34\1\100\4\0\34\100\1\0\3\100\32\251\1\100\n\0\34\100\1" +
+    "\0\3\100\5\252\1\100\37\0\34\100\1\0\3\100\t\253\1\100\33\0\34\100\1" +
+    "\0\3\100\27\254\1\100\r\0\34\100\1\0\3\100\5\u0105\1\100\24\255\1\100\n" +
+    "\0\34\100\1\0\3\100\7\256\1\100\35\0\34\100\1\0\3\100\t\33\1\100\33\0\34" +
+    "\100\1\0\3\100\13\260\1\100\31\0\34\100\1\0\3\100\40\261\1\100\4\0\34" +
+    "\100\1\0\3\100\5\262\1\100\37\0\34\100\1\0\3\100\r\263\1\100\27\0\34" +
+    "\100\1\0\3\100\13\264\1\100\31\0\34\100\1\0\3\100\"\32\1\100\2\0\34\100\1" +
+    "\0\3\100\40\266\1\100\4\0\34\100\1\0\3\100\20\267\1\100\24\0\34\100\1" +
+    "\0\3\100\5\270\1\100\37\0\34\100\1\0\3\100\13\271\1\100\31\0\34\100\1" +
+    "\0\3\100\7\272\1\100\35\0\34\100\1\0\3\100\b\273\1\100\34\0\34\100\1" +
+    "\0\3\100\16\274\1\100\26\0\34\100\1\0\3\100\30\275\1\100\f\0\34\100\1" +
+    "\0\3\100\13\276\1\100\31\0\34\100\1\0\3\100\2\31\1\100\"\0\34\100\1\0\3" +
+    "\100\41\300\1\100\3\0\34\100\1\0\3\100\t\301\1\100\33\0\34\100\1\0\3" +
+    "\100\30\302\1\100\f\0\34\100\1\0\3\100\5\303\1\100\37\0\34\100\1\0\3" +
+    "\100\b\304\1\100\16\325\1\100\r\0\34\100\1\0\3\100\40\30\1\100\4\0\34" +
+    "\100\1\0\3\100\n\306\1\100\32\0\34\100\1\0\3\100\5\307\1\100\37\0\34" +
+    "\100\1\0\3\100\t\310\1\100\33\0\34\100\1\0\3\100\t\27\1\100\33\0\34\100\1" +
+    "\0\3\100\30\312\1\100\f\0\34\100\1\0\3\100\27\313\1\100\r\0\34\100\1" +
+    "\0\3\100\b\314\1\100\34\0\34\100\1\0\3\100\t\315\1\100\33\0\34\100\1" +
+    "\0\3\100\r\316\1\100\27\0\34\100\1\0\3\100\32\26\1\100\n\0\34\100\1\0\3" +
+    "\100\27\320\1\100\r\0\34\100\1\0\3\100\13\321\1\100\31\0\34\100\1\0\3" +
+    "\100\30\25\1\100\f\0\34\100\1\0\3\100\5\323\1\100\37\0\34\100\1\0\3\100\t" +
+    "\324\1\100\33\0\34\100\1\0\3\100\40\24\1\100\4\0\34\100\1\0\3\100\t\326\1" +
+    "\100\33\0\34\100\1\0\3\100\27\327\1\100\r\0\34\100\1\0\3\100\n\330\1" +
+    "\100\32\0\34\100\1\0\3\100\5\331\1\100\1\341\1\100\35\0\34\100\1\0\3" +
+    "\100\b\332\1\100\6\345\1\100\7\u010c\1\100\r\0\34\100\1\0\3\100\"\23\1" +
+    "\100\2\0\34\100\1\0\3\100\40\334\1\100\4\0\34\100\1\0\3\100\t\335\1\100\33" +
+    "\0\34\100\1\0\3\100\30\336\1\100\f\0\34\100\1\0\3\100\40\337\1\100\4" +
+    "\0\34\100\1\0\3\100\t\340\1\100\33\0\34\100\1\0\3\100\30\22\1\100\f\0\34" +
+    "\100\1\0\3\100\5\342\1\100\37\0\34\100\1\0\3\100\32\343\1\100\n\0\34" +
+    "\100\1\0\3\100\37\344\1\100\5\0\34\100\1\0\3\100\6\21\1\100\36\0\34\100\1" +
+    "\0\3\100\17\346\1\100\25\0\34\100\1\0\3\100\40\20\1\100\4\0\34\100\1" +
+    "\0\3\100\30\350\1\100\f\0\34\100\1\0\3\100\27\351\1\100\r\0\34\100\1" +
+    "\0\3\100\41\352\1\100\3\0\34\100\1\0\3\100\b\353\1\100\34\0\34\100\1" +
+    "\0\3\100\r\17\1\100\27\0\34\100\1\0\3\100\r\355\1\100\27\0\34\100\1\0\3" +
+    "\100\27\356\1\100\r\0\34\100\1\0\3\100\b\16\1\100\34\0\34\100\1\0\3\100\27" +
+    "\360\1\100\r\0\34\100\1\0\3\100\40\r\1\100\4\0\34\100\1\0\3\100\32\362\1" +
+    "\100\n\0\34\100\1\0\3\100\37\363\1\100\5\0\34\100\1\0\3\100\t\f\1\100\33" +
+    "\0\34\100\1\0\3\100\27\365\1\100\r\0\34\100\1\0\3\100\7\366\1\100\35" +
+    "\0\34\100\1\0\3\100\4\13\1\100\40\0\34\100\1\0\3\100\13\370\1\100\31" +
+    "\0\34\100\1\0\3\100\7\371\1\100\35\0\34\100\1\0\3\100\t\t\1\100\33\0\34" +
+    "\100\1\0\3\100\b\373\1\100\34\0\34\100\1\0\3\100\7\374\1\100\35\0\34" +
+    "\100\1\0\3\100\40\b\1\100\4\0\34\100\1\0\3\100\t\376\1\100\33\0\34\100\1" +
+    "\0\3\100\13\7\1\100\31\0\34\100\1\0\3\100\27\u0100\1\100\r\0\34\100\1" +
+    "\0\3\100\40\u0101\1\100\4\0\34\100\1\0\3\100\32\u0102\1\100\n\0\34\100\1" +
+    "\0\3\100\7\u0103\1\100\35\0\34\100\1\0\3\100\"\6\1\100\2\0\34\100\1\0\3" +
+    "\100\t\5\1\100\33\0\34\100\1\0\3\100\b\u0106\1\100\34\0\34\100\1\0\3" +
+    "\100\40\4\1\100\4\0\34\100\1\0\3\100\4\u0108\1\100\40\0\34\100\1\0\3" +
+    "\100\27\u0109\1\100\r\0\34\100\1\0\3\100\3\u010a\1\100\41\0\34\100\1" +
+    "\0\3\100\30\u010b\1\100\f\0\65\u010d\1\0\5\2\1\u012c\1\u012d\1\u010d\1" +
+    "\0\1\2\1\u012c\1\u012d\1\u010d\2\0\105\0\105\0\105\0\105\0\105\0\105" +
+    "\0\105\0\105\0\105\0\105\0\105\0\105\0\105\0\105\0\105\0\105\0\105\0\105" +
+    "\0\105\0\105\0\105\0\105\0\105\0\105\0\105\0\105\0\105\0\105\0\105\0\105" +
+    "\0\105\0\105\0\105\0\105\0\105");
     
     /**
      * Maps state numbers to action numbers.
      */
     private static final byte[] ACTION_MAP = createActionMap(
-    "\0\1\1\1\2\1\3\1\4\1\5\1\6\1\7\1\b\1\t\1\n\1\13\1\f\1" +
+    "\0\3\1\1\2\1\3\1\4\1\5\1\6\1\7\1\b\1\t\1\n\1\13\1\f\1" +
     "\r\1\16\1\17\1\20\1\21\1\22\1\23\1\24\1\25\1\26\1\27\1" +
     "\30\1\31\1\32\1\33\1\34\1\35\1\36\1\37\1\40\1\41\1\"\1" +
     "\43\1\44\1\45\1\46\1\'\1\50\1\51\1\52\1\53\1\54\1\55\1" +
-    "\56\1\57\1\60\1\61\1\62\1\63\1\64\1\65\1\66\1\67\1\70\1" +
-    "\71\1\72\1\73\1\74\1\75\1\76\1\77\1\100\1\101\1\102\1" +
-    "\103\1\104\1\105\1\106\1\107\1\110\1\111\1\112\1\113\1" +
-    "\114\1\115\1\116\1\117\1\120\1\121\1\122\1\123\1\124\1" +
-    "\125\1\126\1\127\1\130\1\131\1\132\1\133\1\\\1\135\1\136\1" +
-    "\137\1\140\1\141\1\0\1\136\2\135\1\136\1\135\2\133\1\122\1" +
-    "\133\1\121\2\117\1\116\2\137\275\133\1\0\1");
+    "\56\1\57\1\60\1\61\1\62\1\63\1\64\1\65\1\74\1\112\1\122\1" +
+    "\123\1\124\1\125\1\\\1\137\1\140\1\136\2\135\1\136\1\135\2" +
+    "\133\1\122\1\133\1\121\2\117\1\116\2\137\275\133\1\66\1" +
+    "\67\1\70\1\71\1\72\1\73\1\75\1\76\1\77\1\100\1\101\1\102\1" +
+    "\103\1\104\1\105\1\106\1\107\1\110\1\111\1\113\1\114\1" +
+    "\115\1\116\1\117\1\120\1\121\1\126\1\127\1\130\1\131\1" +
+    "\132\1\133\1\135\1\136\1\141\1");
     
     //===============
     // String Fields
@@ -889,7 +909,7 @@ public class JavaScanner implements TokenIterator<JavaToken> {
         if (dot < regionEnd) {
             
             // find longest match
-            int curState = 98;
+            int curState = 2;
             int iterator = dot;
             int matchState = -1;
             int matchPosition = 0;
@@ -902,9 +922,14 @@ public class JavaScanner implements TokenIterator<JavaToken> {
                     break;
                 }
                 
-                if (ACTION_MAP[curState] != -1) {
+                if (curState > 2) {
                     matchState = curState;
                     matchPosition = iterator;
+                    
+                    // stop at a state without transitions
+                    if (curState >= 269) {
+                        break;
+                    }
                 }
             } while (++iterator < regionEnd);
             
@@ -80,9 +80,9 @@ public class CharClass extends Expression {
                     "contain negative values");
         }
         
-        if (charSet.getEnd(charSet.size()-1) > Character.MAX_VALUE) {
+        if (charSet.getEnd(charSet.size()-1) > Character.MAX_CODE_POINT) {
             throw new IllegalArgumentException("char set may not " +
-                    "contain values greater than "+Character.MAX_VALUE);
+                    "contain values greater than "+Character.MAX_CODE_POINT);
         }
         
         this.charSet = charSet;
@@ -180,7 +180,7 @@ public class CharClass extends Expression {
         MutableIntRangeSet set = new MutableIntRangeSet();
         
         if (invert) {
-            set.add(Character.MIN_VALUE,Character.MAX_VALUE);
+            set.add(Character.MIN_CODE_POINT,Character.MAX_CODE_POINT);
             set.remove(symbols);
         }
         
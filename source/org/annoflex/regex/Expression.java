@@ -47,7 +47,7 @@ public abstract class Expression {
      * ANY_SYBMOL := [^]
      */
     public static final CharClass ANY_SYMBOL = new CharClass(
-            Character.MIN_VALUE,Character.MAX_VALUE);
+            Character.MIN_CODE_POINT,Character.MAX_CODE_POINT);
     
     /**
      * EVERYTHING := [^]*
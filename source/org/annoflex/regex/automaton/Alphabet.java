@@ -34,6 +34,11 @@ public class Alphabet {
      */
     private final ConstIntRangeSet[] charClassList;
     
+    /**
+     * 
+     */
+    private final int maxCharacter;
+    
     /**
      * 
      */
@@ -58,6 +63,19 @@ public class Alphabet {
      * 
      */
     public Alphabet(Rule<?>[] ruleList) {
+        this(ruleList,Character.MAX_VALUE);
+    }
+    
+    /**
+     * 
+     */
+    public Alphabet(Rule<?>[] ruleList, int maxCharacter) {
+        if ((maxCharacter < 0) || (maxCharacter > Character.MAX_CODE_POINT)) {
+            throw new IllegalArgumentException("invalid max character");
+        }
+        
+        this.maxCharacter = maxCharacter;
+        
         charClassList = createCharClassList(ruleList);
         
         for (int i=0;i<charClassList.length;i++) {
@@ -83,6 +101,13 @@ public class Alphabet {
         return charClassList[index];
     }
     
+    /**
+     * 
+     */
+    public int getMaxCharacter() {
+        return maxCharacter;
+    }
+    
     /**
      * 
      */
@@ -91,11 +116,12 @@ public class Alphabet {
         
         if (symbols == null) {
             IdSet symbolSet = new IdSet();
-            int intervalCount = charSet.size();
+            ConstIntRangeSet clippedSet = clip(charSet);
+            int intervalCount = clippedSet.size();
             
             for (int i=0;i<intervalCount;i++) {
-                int startIndex = charClassIndex.indexOf(charSet.getStart(i));
-                int endIndex = charClassIndex.indexOf(charSet.getEnd(i));
+                int startIndex = charClassIndex.indexOf(clippedSet.getStart(i));
+                int endIndex = charClassIndex.indexOf(clippedSet.getEnd(i));
                 
                 for (int j=startIndex;j<=endIndex;j++) {
                     symbolSet.add(charClassIndex.getValue(j));
@@ -119,7 +145,7 @@ public class Alphabet {
     private ConstIntRangeSet[] createCharClassList(Rule<?>[] ruleList) {
         
         // create the char class table
-        CharClassTable charClassTable = new CharClassTable(ruleList);
+        CharClassTable charClassTable = new CharClassTable(ruleList,this);
         
         // sort the intervals of the char class table by their id sets 
         Interval[] intervalList = createSortedIntervalList(charClassTable);
@@ -168,6 +194,17 @@ public class Alphabet {
         return array;
     }
     
+    /**
+     * 
+     */
+    ConstIntRangeSet clip(ConstIntRangeSet charSet) {
+        if (charSet.isEmpty() || (charSet.getEnd(charSet.size()-1) <= maxCharacter)) {
+            return charSet;
+        }
+        
+        return charSet.intersection(new ConstIntRangeSet(0,maxCharacter));
+    }
+    
     //====================
     // Conversion Methods
     //====================
@@ -176,7 +213,7 @@ public class Alphabet {
      * 
      */
     public char[] toSymbolMap() {
-        char[] symbolMap = new char[0x10000];
+        char[] symbolMap = new char[maxCharacter+1];
         int size = getLength();
         
         for (int i=0;i<size;i++) {
@@ -238,10 +275,17 @@ public class Alphabet {
         /**
          * 
          */
-        public CharClassTable(Rule<?>[] ruleList) {
+        private final Alphabet alphabet;
+        
+        /**
+         * 
+         */
+        public CharClassTable(Rule<?>[] ruleList, Alphabet alphabet) {
             super(MultiMapController.ID_SET_CONTROLLER);
             
-            put(Character.MIN_VALUE,Character.MAX_VALUE,symbolSetCounter++);
+            this.alphabet = alphabet;
+            
+            put(0,alphabet.getMaxCharacter(),symbolSetCounter++);
             
             for (int i=0;i<ruleList.length;i++) {
                 commitSymbolSets(ruleList[i].getExpression().normalize());
@@ -253,10 +297,15 @@ public class Alphabet {
          */
         private void commitSymbolSets(Expression expression) {
             if (expression.isCharClass()) {
-                ConstIntRangeSet symbolSet = ((CharClass)expression).getCharSet();
+                
+                // Note: Characters outside of the character range of the
+                // alphabet can never be part of the input and are therefore
+                // removed.
+                ConstIntRangeSet symbolSet = alphabet.clip(((CharClass)expression)
+                        .getCharSet());
                 
                 // put only new symbol sets in order to minimize the number of ids
-                if (symbolSetCache.add(symbolSet)) {
+                if (!symbolSet.isEmpty() && symbolSetCache.add(symbolSet)) {
                     put(symbolSet,symbolSetCounter++);
                 }
             }
@@ -22,6 +22,7 @@ import org.annoflex.regex.ModifierExpression;
 import org.annoflex.regex.QuantifierExpression;
 import org.annoflex.util.LongBreak;
 import org.annoflex.util.SystemToolkit;
+import org.annoflex.util.integer.ConstIntRangeSet;
 import org.annoflex.util.integer.IdSet;
 import org.annoflex.util.problem.ErrorHandler;
 
@@ -39,6 +40,16 @@ public class AutomatonCompiler<A> {
      */
     private ErrorHandler<Rule<A>> errorHandler;
     
+    /**
+     * 
+     */
+    private int maxCharacter = Character.MAX_VALUE;
+    
+    /**
+     * 
+     */
+    private int maxSingleUnitCharacter = Character.MAX_CODE_POINT;
+    
     /**
      * 
      */
@@ -121,6 +132,44 @@ public class AutomatonCompiler<A> {
         return errorHandler;
     }
     
+    /**
+     * 
+     */
+    public void setMaxCharacter(int maxCharacter) {
+        if ((maxCharacter < 0) || (maxCharacter > Character.MAX_CODE_POINT)) {
+            throw new IllegalArgumentException("invalid max character");
+        }
+        
+        this.maxCharacter = maxCharacter;
+    }
+    
+    /**
+     * 
+     */
+    public int getMaxCharacter() {
+        return maxCharacter;
+    }
+    
+    /**
+     * 
+     */
+    public void setMaxSingleUnitCharacter(int maxSingleUnitCharacter) {
+        if ((maxSingleUnitCharacter < 0) ||
+            (maxSingleUnitCharacter > Character.MAX_CODE_POINT)) {
+            
+            throw new IllegalArgumentException("invalid max single unit character");
+        }
+        
+        this.maxSingleUnitCharacter = maxSingleUnitCharacter;
+    }
+    
+    /**
+     * 
+     */
+    public int getMaxSingleUnitCharacter() {
+        return maxSingleUnitCharacter;
+    }
+    
     /**
      * 
      */
@@ -152,7 +201,7 @@ public class AutomatonCompiler<A> {
         Rule<A>[] ruleArray = validateRuleList(ruleList);
         
         // initialize
-        alphabet = new Alphabet(ruleArray);
+        alphabet = new Alphabet(ruleArray,maxCharacter);
         nameMap = new NameMap();
         actionPool = new ActionPool<>();
         
@@ -488,7 +537,7 @@ public class AutomatonCompiler<A> {
                     new ArrayList<Expression>());
         }
         
-        if (expression.getWordLength() > 0) {
+        if ((expression.getWordLength() > 0) && isSingleUnitExpression(expression)) {
             ArrayList<Expression> list = new ArrayList<>(1);
             list.add(expression);
             
@@ -519,7 +568,9 @@ public class AutomatonCompiler<A> {
             }
             
             else {
-                if (childExpression.getWordLength() < 0) {
+                if ((childExpression.getWordLength() < 0) ||
+                    !isSingleUnitExpression(childExpression)) {
+                    
                     return null;
                 }
                 
@@ -530,6 +581,35 @@ public class AutomatonCompiler<A> {
         return list;
     }
     
+    /**
+     * 
+     */
+    private boolean isSingleUnitExpression(Expression expression) {
+        
+        // The length of an expression in characters is only equal to its
+        // length in input units if every character is encoded by one unit.
+        if (maxCharacter <= maxSingleUnitCharacter) {
+            return true;
+        }
+        
+        if (expression.isCharClass()) {
+            ConstIntRangeSet charSet = ((CharClass)expression).getCharSet();
+            
+            return charSet.isEmpty() ||
+                   (charSet.getEnd(charSet.size()-1) <= maxSingleUnitCharacter);
+        }
+        
+        int childCount = expression.getChildCount();
+        
+        for (int i=0;i<childCount;i++) {
+            if (!isSingleUnitExpression(expression.getChild(i))) {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
     /**
      * 
      */
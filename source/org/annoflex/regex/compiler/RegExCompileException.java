@@ -28,6 +28,7 @@ public class RegExCompileException extends RuntimeException {
     public static final int INVALID_CHAR_NAME      = 11;
     public static final int UNKNOWN_CHAR_PROPERTY  = 12;
     public static final int INVALID_CHAR_PROPERTY  = 13;
+    public static final int INVALID_CHAR_VALUE     = 14;
     
     //========
     // Fields
@@ -87,6 +87,11 @@ public class RegExCompiler {
      */
     private PropertyResolver propertyResolver;
     
+    /**
+     * 
+     */
+    private int maxCharacter = Character.MAX_CODE_POINT;
+    
     //==================
     // Property Methods
     //==================
@@ -119,6 +124,24 @@ public class RegExCompiler {
         return macroResolver;
     }
     
+    /**
+     * 
+     */
+    public void setMaxCharacter(int maxCharacter) {
+        if ((maxCharacter < 0) || (maxCharacter > Character.MAX_CODE_POINT)) {
+            throw new IllegalArgumentException("invalid max character");
+        }
+        
+        this.maxCharacter = maxCharacter;
+    }
+    
+    /**
+     * 
+     */
+    public int getMaxCharacter() {
+        return maxCharacter;
+    }
+    
     //=================
     // Compile Methods
     //=================
@@ -127,6 +150,8 @@ public class RegExCompiler {
      * 
      */
     public Expression compile(String string) throws RegExCompileException {
+        parser.setCodePointMode(maxCharacter > Character.MAX_VALUE);
+        
         try {
             return extractCompilationUnit(parser.parse(string));
         }
@@ -660,7 +685,7 @@ public class RegExCompiler {
         }
         
         if (characterClass.getInvert()) {
-            charSet.invert(Character.MIN_VALUE,Character.MAX_VALUE);
+            charSet.invert(Character.MIN_CODE_POINT,Character.MAX_CODE_POINT);
         }
         
         if (charSet.isEmpty()) {
@@ -739,8 +764,8 @@ public class RegExCompiler {
             throw createInternalError("character class range has invalid children");
         }
         
-        char char1 = extractCharRef((ROMCharRef)child1);
-        char char2 = extractCharRef((ROMCharRef)child2);
+        int char1 = extractCharRef((ROMCharRef)child1);
+        int char2 = extractCharRef((ROMCharRef)child2);
         
         if (char1 > char2) {
             throw createError(RegExCompileException.INVALID_CHAR_RANGE,"invalid char range");
@@ -919,12 +944,19 @@ public class RegExCompiler {
     /**
      * 
      */
-    private char extractCharRef(ROMCharRef charRefNode) {
+    private int extractCharRef(ROMCharRef charRefNode) {
         CharRef charRef = charRefNode.getCharRef();
         
         switch(charRef.type()) {
         case VALUE:
-            return charRef.charValue();
+            int charValue = charRef.charValue();
+            
+            if (charValue > maxCharacter) {
+                throw createError(RegExCompileException.INVALID_CHAR_VALUE,
+                        "character value exceeds the character mode");
+            }
+            
+            return charValue;
         
         case NAME:
             String name = charRef.charName();
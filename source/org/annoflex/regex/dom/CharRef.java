@@ -22,7 +22,7 @@ public class CharRef {
     /**
      * 
      */
-    private final char charValue;
+    private final int charValue;
     
     /**
      * 
@@ -36,7 +36,7 @@ public class CharRef {
     /**
      * 
      */
-    public CharRef(char charValue) {
+    public CharRef(int charValue) {
         this.type = CharRefType.VALUE;
         this.charValue = charValue;
         charName = null;
@@ -73,7 +73,7 @@ public class CharRef {
     /**
      * 
      */
-    public final char charValue() {
+    public final int charValue() {
         return charValue;
     }
     
@@ -100,13 +100,13 @@ public class CharRef {
         switch(type) {
         case VALUE:
             builder.append("value=");
-            builder.append((int)charValue);
+            builder.append(charValue);
             builder.append(" (hex: ");
             builder.append(Integer.toHexString(charValue));
             builder.append(", octal: ");
             builder.append(Integer.toOctalString(charValue));
             builder.append("), char=");
-            builder.append(charValue);
+            builder.appendCodePoint(charValue);
             break;
         
         case NAME:
@@ -603,8 +603,21 @@ final static String yyrule[] = {
 //#line 605 "RegExParser.y"
 private final RegExScanner scanner = new RegExScanner();
 
+private RegExToken pendingToken;
+
+private boolean isCodePointMode;
+
+public void setCodePointMode(boolean isCodePointMode) {
+    this.isCodePointMode = isCodePointMode;
+}
+
+public boolean isCodePointMode() {
+    return isCodePointMode;
+}
+
 public ROMCompilationUnit parse(String string) throws RegExParseException {
     scanner.setString(string);
+    pendingToken = null;
     
     yydebug = false;
     yyparse();
@@ -618,12 +631,22 @@ void yyerror(String s) {
 
 int yylex() {
     try {
-        RegExToken token = scanner.getNextToken();
+        RegExToken token = nextToken();
         
-        while ((token != null) && (token.type() == RegExTokenType.WS) &&
-               scanner.isIgnoreWhitespace()) {
+        // Note: In code point mode a literal surrogate pair denotes a single
+        // supplementary character and is passed on like an escaped character.
+        if (isCodePointMode && isSurrogate(token,true)) {
+            RegExToken nextToken = nextToken();
             
-            token = scanner.getNextToken();
+            if (isSurrogate(nextToken,false) && (nextToken.start() == token.end())) {
+                token = new RegExToken(RegExTokenType.ESCAPED_CHAR,token.start(),
+                        nextToken.end(),new CharRef(Character.toCodePoint(
+                        (Character)token.value(),(Character)nextToken.value())));
+            }
+            
+            else {
+                pendingToken = nextToken;
+            }
         }
         
         if (token != null) {
@@ -641,6 +664,37 @@ int yylex() {
     
     return 0;
 }
+
+private RegExToken nextToken() {
+    if (pendingToken != null) {
+        RegExToken token = pendingToken;
+        
+        pendingToken = null;
+        
+        return token;
+    }
+    
+    RegExToken token = scanner.getNextToken();
+    
+    while ((token != null) && (token.type() == RegExTokenType.WS) &&
+           scanner.isIgnoreWhitespace()) {
+        
+        token = scanner.getNextToken();
+    }
+    
+    return token;
+}
+
+private static boolean isSurrogate(RegExToken token, boolean isHigh) {
+    if ((token == null) || (token.type() != RegExTokenType.CH)) {
+        return false;
+    }
+    
+    char character = (Character)token.value();
+    
+    return isHigh ? Character.isHighSurrogate(character) :
+        Character.isLowSurrogate(character);
+}
 //#line 582 "RegExParser.java"
 //###############################################################
 // method: yylexdebug : check lexer state
@@ -327,7 +327,7 @@ public class RegExScanner implements TokenIterator<RegExToken> {
     /** @expr u{CurlyBrackets}? */ RegExToken handleSmallUCurlyBrackets() { return escapedCharNumber(16); }
     
     // 24-bit hex character
-    /** @expr U{Hex}{,6} */ RegExToken handleLargeU() { return escapedCharNumber(1,6,16,65535); }
+    /** @expr U{Hex}{,6} */ RegExToken handleLargeU() { return escapedCharNumber(1,6,16,Character.MAX_CODE_POINT); }
     
     // a Unicode vertical whitespace character
     /** @expr v */ RegExToken handleSmallV() { return escapedCharClass(Property.VWHITE_SPACE,false); }
@@ -415,10 +415,11 @@ public class RegExScanner implements TokenIterator<RegExToken> {
             throw invalid();
         }
         
-        int charValue = parseInteger(text,radix,65535,"invalid escape sequence");
+        int charValue = parseInteger(text,radix,Character.MAX_CODE_POINT,
+                "invalid escape sequence");
         
         return createCharRefToken(RegExTokenType.ESCAPED_CHAR,-1,
-                new CharRef((char)charValue));
+                new CharRef(charValue));
     }
     
     /**
@@ -437,7 +438,7 @@ public class RegExScanner implements TokenIterator<RegExToken> {
                 maxValue,"invalid escape sequence");
         
         return createCharRefToken(RegExTokenType.ESCAPED_CHAR,-1,
-                new CharRef((char)charValue));
+                new CharRef(charValue));
     }
     
     /**
@@ -826,6 +827,17 @@ public class RegExScanner implements TokenIterator<RegExToken> {
      * DFA states:      413                          *
      * Static size:     85 KB                        *
      * Instance size:   36 Bytes                     *
+     * Backtracking:    9                            *
+     *                                               *
+     ************************************************/
+    
+    /*************************************************
+     *             Backtracking Analysis             *
+     * * * * * * * * * * * * * * * * * * * * * * * * *
+     *                                               *
+     * Rule:            enterCharacterClass          *
+     * Backtracking:    9                            *
+     * Example:         "[:^xdigit:"                 *
      *                                               *
      ************************************************/
     
@@ -855,92 +867,91 @@ public class RegExScanner implements TokenIterator<RegExToken> {
     "\r\1\16\1\17\1\20\1\21\1\22\1\24\1\25\1\26\1\30\1\31\65\32\120\0\120" +
     "\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120" +
     "\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\65\1" +
-    "\40\1\41\1\34\1\37\1\35\1\36\1\"\1\43\1\65\1\46\1\'\1\57\1\63\1\65\2" +
-    "\50\1\51\1\52\1\53\1\54\1\55\1\56\1\60\1\61\1\62\1\64\1\45\1\44\64\66\120" +
-    "\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\17\44\1\0\13\44\65\0\33" +
-    "\45\1\0\64\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120" +
-    "\0\120\0\120\0\120\0\120\0\120\0\120\0\120\121\1\74\1\75\1\70\1\73\1" +
-    "\71\1\72\1\76\1\77\1\121\1\102\1\103\1\113\1\117\1\121\2\104\1\105\1" +
-    "\106\1\107\1\110\1\111\1\112\1\114\1\115\1\116\1\120\1\101\1\100\64\122\120" +
-    "\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\17\100\1\0\13\100\65\0\33" +
-    "\101\1\0\64\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120" +
-    "\0\120\0\120\0\120\0\120\0\120\0\120\0\120\153\1\130\1\131\1\124\1\127\1" +
-    "\125\1\126\1\132\1\133\1\153\1\\\1\135\1\145\1\151\1\153\2\136\1\137\1" +
-    "\140\1\141\1\142\1\143\1\144\1\146\1\147\1\150\1\152\1\153\65\154\120" +
+    "\"\1\43\1\34\1\41\1\37\1\40\1\44\1\45\1\65\1\46\1\'\1\57\1\63\1\65\2" +
+    "\50\1\51\1\52\1\53\1\54\1\55\1\56\1\60\1\61\1\62\1\64\1\36\1\35\64\66\120" +
+    "\0\17\35\1\0\13\35\65\0\33\36\1\0\64\0\120\0\120\0\120\0\120\0\120\0\120" +
+    "\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120" +
+    "\0\120\0\120\0\120\0\120\0\120\0\120\121\1\76\1\77\1\70\1\75\1\73\1\74\1" +
+    "\100\1\101\1\121\1\102\1\103\1\113\1\117\1\121\2\104\1\105\1\106\1\107\1" +
+    "\110\1\111\1\112\1\114\1\115\1\116\1\120\1\72\1\71\64\122\120\0\17\71\1" +
+    "\0\13\71\65\0\33\72\1\0\64\0\120\0\120\0\120\0\120\0\120\0\120\0\120" +
     "\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120" +
+    "\0\120\0\120\0\120\0\120\0\120\153\1\130\1\131\1\124\1\127\1\125\1\126\1" +
+    "\132\1\133\1\153\1\\\1\135\1\145\1\151\1\153\2\136\1\137\1\140\1\141\1" +
+    "\142\1\143\1\144\1\146\1\147\1\150\1\152\1\153\65\154\120\0\120\0\120" +
     "\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120" +
-    "\0\70\u0148\1\0\27\0\120\0\120\0\120\0\120\0\120\0\120\0\t\260\1\0\106" +
+    "\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\70\u010e\1" +
+    "\0\27\0\b\u0138\1\0\107\0\t\156\1\0\106\0\66\157\1\0\31\0\40\160\1\0\57" +
+    "\0\34\161\1\0\63\0\40\162\1\0\57\0\112\163\1\0\5\0\34\307\1\0\t\273\1" +
+    "\0\7\245\1\0\5\231\1\0\3\215\1\0\3\202\1\0\1\164\1\0\5\367\1\0\1\353\1" +
+    "\0\1\337\1\0\1\323\1\0\5\0\n\165\1\0\21\315\1\0\t\301\1\0\7\253\1\0\5" +
+    "\237\1\0\3\223\1\0\3\207\1\0\1\175\1\0\5\375\1\0\1\361\1\0\1\345\1\0\1" +
+    "\331\1\0\5\0\b\u0137\1\0\107\0\t\167\1\0\106\0\66\170\1\0\31\0\40\171\1" +
+    "\0\57\0\34\172\1\0\63\0\40\173\1\0\57\0\112\174\1\0\5\0\b\u0136\1\0\107" +
+    "\0\t\176\1\0\106\0\112\177\1\0\5\0\62\200\1\0\35\0\54\201\1\0\43\0\b" +
+    "\u0135\1\0\107\0\t\203\1\0\106\0\112\204\1\0\5\0\62\205\1\0\35\0\54\206\1" +
+    "\0\43\0\b\u0134\1\0\107\0\t\210\1\0\106\0\62\211\1\0\35\0\114\212\1\0\3" +
+    "\0\56\213\1\0\41\0\56\214\1\0\41\0\b\u0133\1\0\107\0\t\216\1\0\106\0\62" +
+    "\217\1\0\35\0\114\220\1\0\3\0\56\221\1\0\41\0\56\222\1\0\41\0\b\u0132\1" +
+    "\0\107\0\t\224\1\0\106\0\114\225\1\0\3\0\110\226\1\0\7\0\104\227\1\0\13" +
+    "\0\56\230\1\0\41\0\b\u0131\1\0\107\0\t\232\1\0\106\0\114\233\1\0\3\0\110" +
+    "\234\1\0\7\0\104\235\1\0\13\0\56\236\1\0\41\0\b\u0130\1\0\107\0\t\240\1" +
+    "\0\106\0\66\241\1\0\31\0\110\242\1\0\7\0\52\243\1\0\45\0\62\260\1\0\5" +
+    "\244\1\0\27\0\b\u012f\1\0\107\0\t\246\1\0\106\0\66\247\1\0\31\0\110\250\1" +
+    "\0\7\0\52\251\1\0\45\0\62\265\1\0\5\252\1\0\27\0\b\u012e\1\0\107\0\t" +
+    "\254\1\0\106\0\66\255\1\0\31\0\52\256\1\0\45\0\40\257\1\0\57\0\b\u012d\1" +
+    "\0\107\0\t\261\1\0\106\0\66\262\1\0\31\0\52\263\1\0\45\0\40\264\1\0\57" +
+    "\0\b\u012c\1\0\107\0\t\266\1\0\106\0\62\267\1\0\35\0\114\270\1\0\3\0\74" +
+    "\271\1\0\23\0\54\272\1\0\43\0\b\u012b\1\0\107\0\t\274\1\0\106\0\62\275\1" +
+    "\0\35\0\114\276\1\0\3\0\74\277\1\0\23\0\54\300\1\0\43\0\b\u012a\1\0\107" +
+    "\0\t\302\1\0\106\0\36\303\1\0\61\0\56\304\1\0\41\0\104\305\1\0\13\0\62" +
+    "\306\1\0\35\0\b\u0129\1\0\107\0\t\310\1\0\106\0\36\311\1\0\61\0\56\312\1" +
+    "\0\41\0\104\313\1\0\13\0\62\314\1\0\35\0\b\u0128\1\0\107\0\t\316\1\0\106" +
+    "\0\66\317\1\0\31\0\40\320\1\0\57\0\34\321\1\0\63\0\40\322\1\0\57\0\b" +
+    "\u0127\1\0\107\0\t\324\1\0\106\0\66\325\1\0\31\0\40\326\1\0\57\0\34\327\1" +
+    "\0\63\0\40\330\1\0\57\0\b\u0126\1\0\107\0\t\332\1\0\106\0\46\333\1\0\51" +
+    "\0\62\334\1\0\35\0\66\335\1\0\31\0\52\336\1\0\45\0\b\u0125\1\0\107\0\t" +
+    "\340\1\0\106\0\46\341\1\0\51\0\62\342\1\0\35\0\66\343\1\0\31\0\52\344\1" +
+    "\0\45\0\b\u0124\1\0\107\0\t\346\1\0\106\0\44\347\1\0\53\0\52\350\1\0\45" +
+    "\0\104\351\1\0\13\0\46\352\1\0\51\0\b\u0123\1\0\107\0\t\354\1\0\106\0\44" +
+    "\355\1\0\53\0\52\356\1\0\45\0\104\357\1\0\13\0\46\360\1\0\51\0\b\u0122\1" +
+    "\0\107\0\t\362\1\0\106\0\40\363\1\0\57\0\40\364\1\0\57\0\110\365\1\0\7" +
+    "\0\46\u0102\1\0\r\366\1\0\33\0\b\u0121\1\0\107\0\t\370\1\0\106\0\40\371\1" +
+    "\0\57\0\40\372\1\0\57\0\110\373\1\0\7\0\46\u0107\1\0\r\374\1\0\33\0\b" +
+    "\u0120\1\0\107\0\t\376\1\0\106\0\104\377\1\0\13\0\36\u0100\1\0\61\0\52" +
+    "\u010b\1\0\3\u0101\1\0\41\0\b\u011f\1\0\107\0\t\u0103\1\0\106\0\104\u0104\1" +
+    "\0\13\0\36\u0105\1\0\61\0\52\155\1\0\3\u0106\1\0\41\0\b\u011e\1\0\107" +
+    "\0\t\u0108\1\0\106\0\50\u0109\1\0\'\0\70\u010a\1\0\27\0\b\u011d\1\0\107" +
+    "\0\t\u010c\1\0\106\0\50\u010d\1\0\'\u0149\1\u011a\1\u011b\1\u0115\1\u0119\1" +
+    "\u0117\1\u0118\1\u0110\1\u011c\1\u0149\1\u013d\1\u0111\1\u0112\1\u0113\1" +
+    "\u0114\1\u0149\1\u013e\1\u013f\1\u0140\1\u0141\1\u0142\1\u0143\1\u0144\1" +
+    "\u0145\1\u0146\1\u0147\1\u0148\1\u0149\65\0\t\166\1\0\106\0\13\u0139\1" +
+    "\0\104\0\f\u013a\1\0\103\0\r\u013b\1\0\102\0\16\u013c\1\0\101\u0116\120" +
     "\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120" +
     "\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120" +
-    "\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\13\222\1" +
-    "\0\104\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\f\223\1\0\103\0\120" +
-    "\0\120\0\120\0\r\224\1\0\102\0\120\0\120\245\1\162\1\163\1\u0149\1\161\1" +
-    "\157\1\160\1\164\1\165\1\245\1\226\1\227\1\237\1\243\1\247\1\245\1\230\1" +
-    "\231\1\232\1\233\1\234\1\235\1\236\1\240\1\241\1\242\1\244\1\245\65\0\16" +
-    "\225\1\0\101\0\b\221\1\0\107\0\t\250\1\0\106\0\66\251\1\0\31\0\40\252\1" +
-    "\0\57\0\34\253\1\0\63\0\40\254\1\0\57\0\112\255\1\0\5\0\34\u0101\1\0\t" +
-    "\365\1\0\7\337\1\0\5\323\1\0\3\307\1\0\3\274\1\0\1\256\1\0\5\u0131\1" +
-    "\0\1\u0125\1\0\1\u0119\1\0\1\u010d\1\0\5\0\n\257\1\0\21\u0107\1\0\t\373\1" +
-    "\0\7\345\1\0\5\331\1\0\3\315\1\0\3\301\1\0\1\267\1\0\5\u0137\1\0\1\u012b\1" +
-    "\0\1\u011f\1\0\1\u0113\1\0\5\0\b\220\1\0\107\0\t\261\1\0\106\0\66\262\1" +
-    "\0\31\0\40\263\1\0\57\0\34\264\1\0\63\0\40\265\1\0\57\0\112\266\1\0\5" +
-    "\0\b\217\1\0\107\0\t\270\1\0\106\0\112\271\1\0\5\0\62\272\1\0\35\0\54" +
-    "\273\1\0\43\0\b\216\1\0\107\0\t\275\1\0\106\0\112\276\1\0\5\0\62\277\1" +
-    "\0\35\0\54\300\1\0\43\0\b\215\1\0\107\0\t\302\1\0\106\0\62\303\1\0\35" +
-    "\0\114\304\1\0\3\0\56\305\1\0\41\0\56\306\1\0\41\0\b\214\1\0\107\0\t" +
-    "\310\1\0\106\0\62\311\1\0\35\0\114\312\1\0\3\0\56\313\1\0\41\0\56\314\1" +
-    "\0\41\0\b\213\1\0\107\0\t\316\1\0\106\0\114\317\1\0\3\0\110\320\1\0\7" +
-    "\0\104\321\1\0\13\0\56\322\1\0\41\0\b\212\1\0\107\0\t\324\1\0\106\0\114" +
-    "\325\1\0\3\0\110\326\1\0\7\0\104\327\1\0\13\0\56\330\1\0\41\0\b\211\1" +
-    "\0\107\0\t\332\1\0\106\0\66\333\1\0\31\0\110\334\1\0\7\0\52\335\1\0\45" +
-    "\0\62\352\1\0\5\336\1\0\27\0\b\210\1\0\107\0\t\340\1\0\106\0\66\341\1" +
-    "\0\31\0\110\342\1\0\7\0\52\343\1\0\45\0\62\357\1\0\5\344\1\0\27\0\b\207\1" +
-    "\0\107\0\t\346\1\0\106\0\66\347\1\0\31\0\52\350\1\0\45\0\40\351\1\0\57" +
-    "\0\b\206\1\0\107\0\t\353\1\0\106\0\66\354\1\0\31\0\52\355\1\0\45\0\40" +
-    "\356\1\0\57\0\b\205\1\0\107\0\t\360\1\0\106\0\62\361\1\0\35\0\114\362\1" +
-    "\0\3\0\74\363\1\0\23\0\54\364\1\0\43\0\b\204\1\0\107\0\t\366\1\0\106" +
-    "\0\62\367\1\0\35\0\114\370\1\0\3\0\74\371\1\0\23\0\54\372\1\0\43\0\b" +
-    "\203\1\0\107\0\t\374\1\0\106\0\36\375\1\0\61\0\56\376\1\0\41\0\104\377\1" +
-    "\0\13\0\62\u0100\1\0\35\0\b\202\1\0\107\0\t\u0102\1\0\106\0\36\u0103\1" +
-    "\0\61\0\56\u0104\1\0\41\0\104\u0105\1\0\13\0\62\u0106\1\0\35\0\b\201\1" +
-    "\0\107\0\t\u0108\1\0\106\0\66\u0109\1\0\31\0\40\u010a\1\0\57\0\34\u010b\1" +
-    "\0\63\0\40\u010c\1\0\57\0\b\200\1\0\107\0\t\u010e\1\0\106\0\66\u010f\1" +
-    "\0\31\0\40\u0110\1\0\57\0\34\u0111\1\0\63\0\40\u0112\1\0\57\0\b\177\1" +
-    "\0\107\0\t\u0114\1\0\106\0\46\u0115\1\0\51\0\62\u0116\1\0\35\0\66\u0117\1" +
-    "\0\31\0\52\u0118\1\0\45\0\b\176\1\0\107\0\t\u011a\1\0\106\0\46\u011b\1" +
-    "\0\51\0\62\u011c\1\0\35\0\66\u011d\1\0\31\0\52\u011e\1\0\45\0\b\175\1" +
-    "\0\107\0\t\u0120\1\0\106\0\44\u0121\1\0\53\0\52\u0122\1\0\45\0\104\u0123\1" +
-    "\0\13\0\46\u0124\1\0\51\0\b\174\1\0\107\0\t\u0126\1\0\106\0\44\u0127\1" +
-    "\0\53\0\52\u0128\1\0\45\0\104\u0129\1\0\13\0\46\u012a\1\0\51\0\b\173\1" +
-    "\0\107\0\t\u012c\1\0\106\0\40\u012d\1\0\57\0\40\u012e\1\0\57\0\110\u012f\1" +
-    "\0\7\0\46\u013c\1\0\r\u0130\1\0\33\0\b\172\1\0\107\0\t\u0132\1\0\106" +
-    "\0\40\u0133\1\0\57\0\40\u0134\1\0\57\0\110\u0135\1\0\7\0\46\u0141\1\0\r" +
-    "\u0136\1\0\33\0\b\171\1\0\107\0\t\u0138\1\0\106\0\104\u0139\1\0\13\0\36" +
-    "\u013a\1\0\61\0\52\u0145\1\0\3\u013b\1\0\41\0\b\170\1\0\107\0\t\u013d\1" +
-    "\0\106\0\104\u013e\1\0\13\0\36\u013f\1\0\61\0\52\155\1\0\3\u0140\1\0\41" +
-    "\0\b\167\1\0\107\0\t\u0142\1\0\106\0\50\u0143\1\0\'\0\70\u0144\1\0\27" +
-    "\0\b\166\1\0\107\0\t\u0146\1\0\106\0\50\u0147\1\0\'\156\120\u0185\33" +
-    "\u0182\1\u0157\1\u0158\1\u0159\1\u015a\1\u015b\1\u015c\1\u015d\1\u015e\1" +
-    "\u015f\1\u0160\1\u0161\1\u0162\1\u0163\1\u0164\1\u0165\1\u0166\1\u0195\1" +
-    "\u0169\1\u0193\1\u0191\1\u016c\1\u018f\1\u016e\1\u016f\1\u0170\1\u0171\1" +
-    "\u0172\1\u0173\1\u018a\1\u0176\1\u0177\1\u0178\1\u0179\1\u017a\1\u0187\1" +
-    "\u017d\1\u017e\1\u017f\1\u0180\1\u0181\1\u014b\1\u014c\1\u014d\1\u014e\1" +
-    "\u0197\1\u0150\1\u0151\1\u0152\1\u0153\1\u0154\1\u0155\1\u0156\1\0\120" +
     "\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120" +
     "\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120" +
-    "\0\120\0\120\0\4\u0196\1\0\113\0\120\0\120\0\120\0\120\0\120\0\120\0\120" +
-    "\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\33\u019d\1\0\50\u019d\f" +
-    "\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\33" +
-    "\u0183\1\0\64\0\33\u0184\1\0\64\0\120\0\120\u0186\1\u017c\1\u0186\116" +
-    "\0\4\u0186\1\0\26\u0188\1\0\50\u0188\f\0\33\u017b\1\0\50\u017b\f\u0189\1" +
-    "\u0175\1\u0189\116\0\4\u0189\1\0\26\u018b\1\0\50\u018b\f\0\33\u018d\1" +
-    "\0\50\u018d\f\0\33\u0174\1\0\50\u0174\f\0\33\u018c\1\0\50\u018c\f\u018f\3" +
-    "\u018e\1\u018f\111\u016d\1\u018f\2\u018f\3\u018e\1\u018f\114\u0190\1" +
-    "\u016b\1\u0190\116\0\4\u0190\1\0\113\u0192\1\u016a\1\u0192\116\0\4\u0192\1" +
-    "\0\113\u0194\1\u0168\1\u0194\116\0\4\u0194\1\0\113\u0196\1\u0167\1\u0196\116" +
-    "\u014f\120\0\120\0\33\u0198\1\0\50\u0198\f\0\33\u0199\1\0\50\u0199\f" +
-    "\0\33\u019a\1\0\50\u019a\f\0\33\u019b\1\0\50\u019b\f\0\33\u019c\1\0\50" +
-    "\u019c\f");
+    "\0\120\0\120\0\120\0\120\u019c\33\u014d\1\u0172\1\u0173\1\u0174\1\u0175\1" +
+    "\u0176\1\u0177\1\u0178\1\u0179\1\u017a\1\u017b\1\u017c\1\u017d\1\u017e\1" +
+    "\u017f\1\u0180\1\u014b\1\u015e\1\u0183\1\u015c\1\u015a\1\u0186\1\u0158\1" +
+    "\u0188\1\u0189\1\u018a\1\u018b\1\u018c\1\u018d\1\u0153\1\u014c\1\u0190\1" +
+    "\u0191\1\u0192\1\u0193\1\u0150\1\u0196\1\u0197\1\u0198\1\u0199\1\u019a\1" +
+    "\u0166\1\u0167\1\u0168\1\u0169\1\u0160\1\u016b\1\u016c\1\u016d\1\u016e\1" +
+    "\u016f\1\u0170\1\u0171\1\0\4\u015f\1\0\113\0\33\u0165\1\0\50\u0165\f" +
+    "\0\33\u014e\1\0\64\0\33\u019b\1\0\64\u014f\1\u0195\1\u014f\116\0\4\u014f\1" +
+    "\0\26\u0151\1\0\50\u0151\f\0\33\u0194\1\0\50\u0194\f\u0152\1\u018f\1" +
+    "\u0152\116\0\4\u0152\1\0\26\u0154\1\0\50\u0154\f\0\33\u0156\1\0\50\u0156\f" +
+    "\0\33\u018e\1\0\50\u018e\f\0\33\u0155\1\0\50\u0155\f\u0158\3\u0157\1" +
+    "\u0158\111\u0187\1\u0158\2\u0158\3\u0157\1\u0158\114\u0159\1\u0185\1" +
+    "\u0159\116\0\4\u0159\1\0\113\u015b\1\u0184\1\u015b\116\0\4\u015b\1\0\113" +
+    "\u015d\1\u0182\1\u015d\116\0\4\u015d\1\0\113\u015f\1\u0181\1\u015f\116" +
+    "\u016a\120\0\33\u019d\1\0\50\u019d\f\0\33\u0161\1\0\50\u0161\f\0\33\u0162\1" +
+    "\0\50\u0162\f\0\33\u0163\1\0\50\u0163\f\0\33\u0164\1\0\50\u0164\f\0\120" +
+    "\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120" +
+    "\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120" +
+    "\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120" +
+    "\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120\0\120" +
+    "\0\120\0\120\0\120\0\120\0\120\0\120\0\120");
     
     /**
      * Maps state numbers to action numbers.
@@ -948,29 +959,28 @@ public class RegExScanner implements TokenIterator<RegExToken> {
     private static final byte[] ACTION_MAP = createActionMap(
     "\0\1\1\1\75\1\100\1\101\1\104\1\105\1\110\1\113\1\156\1" +
     "\157\1\160\1\161\1\162\1\163\1\164\1\165\1\166\1\167\1" +
-    "\170\1\171\1\172\1\173\1\174\1\175\1\1\1\0\1\1\1\76\1" +
-    "\77\1\102\1\104\1\107\1\111\1\113\1\154\1\155\1\156\1" +
-    "\157\1\160\1\161\1\162\1\163\1\164\1\165\1\166\1\167\1" +
-    "\170\1\171\1\172\1\173\1\174\1\175\1\1\1\0\1\1\1\76\1" +
-    "\100\1\102\1\103\1\107\1\111\1\113\1\154\1\155\1\156\1" +
-    "\157\1\160\1\161\1\162\1\163\1\164\1\165\1\166\1\167\1" +
-    "\170\1\171\1\172\1\173\1\174\1\175\1\1\1\0\1\1\1\76\1" +
-    "\100\1\102\1\104\1\106\1\111\1\113\1\156\1\157\1\160\1" +
-    "\161\1\162\1\163\1\164\1\165\1\166\1\167\1\170\1\171\1" +
-    "\172\1\173\1\174\1\175\1\1\1\0\1\1\1\76\1\100\1\101\1" +
-    "\104\1\107\1\110\1\112\1\114\1\115\1\116\1\117\1\120\1" +
-    "\121\1\122\1\123\1\124\1\125\1\126\1\127\1\130\1\131\1" +
-    "\132\1\133\1\\\1\135\1\136\1\137\1\140\1\141\1\142\1\143\1" +
-    "\144\1\145\1\146\1\147\1\150\1\151\1\152\1\153\1\156\1" +
-    "\157\1\160\1\161\1\162\1\163\1\164\1\165\1\166\1\167\1" +
-    "\170\1\171\1\172\1\173\1\174\1\175\1\0\1\175\1\0\241\1\1" +
-    "\0\1\2\1\3\1\4\1\5\1\6\1\7\1\b\1\t\1\n\1\13\1\f\1\r\1" +
-    "\16\1\17\1\20\1\21\1\22\1\23\1\24\1\25\1\26\1\27\1\30\1" +
-    "\31\1\32\1\33\1\34\1\35\1\36\1\37\1\40\1\41\1\"\1\43\1" +
-    "\44\1\45\1\46\1\'\1\50\1\51\1\52\1\53\1\54\1\55\1\56\1" +
-    "\57\1\60\1\61\1\62\1\63\1\64\1\65\1\66\1\67\1\70\1\71\1" +
-    "\72\1\73\1\74\1\63\1\62\2\54\1\53\4\44\2\"\2\41\2\37\2" +
-    "\36\1\6\1\55\6");
+    "\170\1\171\1\172\1\173\1\174\1\175\1\1\1\0\1\1\1\154\1" +
+    "\155\1\76\1\77\1\102\1\104\1\107\1\111\1\113\1\156\1\157\1" +
+    "\160\1\161\1\162\1\163\1\164\1\165\1\166\1\167\1\170\1" +
+    "\171\1\172\1\173\1\174\1\175\1\1\1\0\1\1\1\154\1\155\1" +
+    "\76\1\100\1\102\1\103\1\107\1\111\1\113\1\156\1\157\1" +
+    "\160\1\161\1\162\1\163\1\164\1\165\1\166\1\167\1\170\1" +
+    "\171\1\172\1\173\1\174\1\175\1\1\1\0\1\1\1\76\1\100\1" +
+    "\102\1\104\1\106\1\111\1\113\1\156\1\157\1\160\1\161\1" +
+    "\162\1\163\1\164\1\165\1\166\1\167\1\170\1\171\1\172\1" +
+    "\173\1\174\1\175\1\1\1\0\243\110\1\157\1\167\1\173\1\175\1" +
+    "\1\2\76\1\100\1\101\1\104\1\107\1\112\1\114\1\115\1\116\1" +
+    "\117\1\120\1\121\1\122\1\123\1\124\1\125\1\126\1\127\1" +
+    "\130\1\131\1\132\1\133\1\\\1\135\1\136\1\137\1\140\1\141\1" +
+    "\142\1\143\1\144\1\145\1\146\1\147\1\150\1\151\1\152\1" +
+    "\153\1\156\1\160\1\161\1\162\1\163\1\164\1\165\1\166\1" +
+    "\170\1\171\1\172\1\174\1\175\1\0\1\35\1\55\1\71\1\72\1" +
+    "\63\1\62\2\54\1\53\4\44\2\"\2\41\2\37\2\36\1\6\1\55\5" +
+    "\2\1\3\1\4\1\5\1\6\1\7\1\b\1\t\1\n\1\13\1\f\1\r\1\16\1" +
+    "\17\1\20\1\21\1\22\1\23\1\24\1\25\1\26\1\27\1\30\1\31\1" +
+    "\32\1\33\1\34\1\36\1\37\1\40\1\41\1\"\1\43\1\44\1\45\1" +
+    "\46\1\'\1\50\1\51\1\52\1\53\1\54\1\56\1\57\1\60\1\61\1" +
+    "\62\1\63\1\64\1\65\1\66\1\67\1\70\1\73\1\74\1\55\1");
     
     //=========================
     // Lexical State Constants
@@ -1196,7 +1206,7 @@ public class RegExScanner implements TokenIterator<RegExToken> {
         case LEXICAL_STATE_AB: startState = 26; break;
         case LEXICAL_STATE_CB: startState = 54; break;
         case LEXICAL_STATE_SS: startState = 82; break;
-        case LEXICAL_STATE_CC: startState = 165; break;
+        case LEXICAL_STATE_CC: startState = 270; break;
         case LEXICAL_STATE_ES: startState = 329; break;
         default:
             throw new IllegalArgumentException("invalid lexical state");
@@ -1306,7 +1316,7 @@ public class RegExScanner implements TokenIterator<RegExToken> {
                     break;
                 }
                 
-                if (ACTION_MAP[curState] != -1) {
+                if (curState > startState) {
                     matchState = curState;
                     matchPosition = iterator;
                 }
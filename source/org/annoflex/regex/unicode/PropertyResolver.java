@@ -155,7 +155,7 @@ public class PropertyResolver {
             ConstIntRangeSet rangeSet = source.getCharSet(propertyName,longValue);
             
             if (rangeSet != null) {
-                return invert ? rangeSet.invert(Character.MIN_VALUE,Character.MAX_VALUE) :
+                return invert ? rangeSet.invert(Character.MIN_CODE_POINT,Character.MAX_CODE_POINT) :
                     rangeSet;
             }
             
@@ -240,16 +240,12 @@ public class PropertyResolver {
     private ConstIntRangeSet createCharSet(char character, boolean invert) {
         if (invert) {
             if (character == Character.MIN_VALUE) {
-                return new ConstIntRangeSet(Character.MIN_VALUE+1,Character.MAX_VALUE);
-            }
-            
-            if (character == Character.MAX_VALUE) {
-                return new ConstIntRangeSet(Character.MIN_VALUE,Character.MAX_VALUE-1);
+                return new ConstIntRangeSet(Character.MIN_CODE_POINT+1,Character.MAX_CODE_POINT);
             }
             
             return new ConstIntRangeSet(new int[][]{
-                    new int[] {Character.MIN_VALUE,character-1},
-                    new int[] {character+1,Character.MAX_VALUE}});
+                    new int[] {Character.MIN_CODE_POINT,character-1},
+                    new int[] {character+1,Character.MAX_CODE_POINT}});
         }
         
         return new ConstIntRangeSet(character);
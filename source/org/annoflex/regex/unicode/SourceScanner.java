@@ -97,6 +97,7 @@ final class SourceScanner {
      * DFA states:      11                           *
      * Static size:     12 KB                        *
      * Instance size:   32 Bytes + O(maxMatchLength) *
+     * Backtracking:    0                            *
      *                                               *
      ************************************************/
     
@@ -117,14 +118,14 @@ final class SourceScanner {
      * The transition table of the DFA.
      */
     private static final byte[][] TRANSITION_TABLE = createTransitionTable(
-    "\0\1\2\1\3\1\4\1\5\1\6\1\7\1\b\1\t\1\n\1\13\1\0\13\0\13\0\13\0\13\0\13" +
-    "\0\13\0\13\0\13\0\t\n\1\0\1\0\n\13\1");
+    "\0\1\4\1\5\1\6\1\7\1\b\1\t\1\n\1\13\1\2\1\3\1\0\t\2\1\0\1\0\n\3\1\0\13" +
+    "\0\13\0\13\0\13\0\13\0\13\0\13\0\13");
     
     /**
      * Maps state numbers to action numbers.
      */
     private static final byte[] ACTION_MAP = createActionMap(
-    "\0\1\1\1\2\1\3\1\4\1\5\1\6\1\7\1\b\1\t\1\n\1");
+    "\0\1\t\1\n\1\1\1\2\1\3\1\4\1\5\1\6\1\7\1\b\1");
     
     //==================
     // Helper Constants
@@ -369,9 +370,14 @@ final class SourceScanner {
                     break;
                 }
                 
-                if (ACTION_MAP[curState] != -1) {
+                if (curState > 0) {
                     matchState = curState;
                     matchPosition = iterator;
+                    
+                    // stop at a state without transitions
+                    if (curState >= 3) {
+                        break;
+                    }
                 }
             } while (hasNextChar(++iterator));
             
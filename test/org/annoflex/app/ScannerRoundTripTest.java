@@ -0,0 +1,1250 @@
+/*
+ * AnnoFlex - An annotation-based code generator for lexical scanners
+ * 
+ * Copyright (c) Stefan Czaska. All rights reserved.
+ */
+package org.annoflex.app;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.function.UnaryOperator;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.annoflex.util.BundleCache;
+
+/**
+ * Generates scanners for a fixed set of rules with different options, compiles
+ * them and compares their token streams with the token stream of the scanner
+ * which has been generated with the default options. The generator and this
+ * class have to be on the class path and a JDK compiler has to be available:
+ * 
+ * <pre>
+ * java -cp build org.annoflex.app.ScannerRoundTripTest
+ * </pre>
+ * 
+ * The vector run loops are only checked if the module jdk.incubator.vector has
+ * been added to the virtual machine.
+ * 
+ * @author Stefan Czaska
+ */
+final class ScannerRoundTripTest {
+    
+    //===========
+    // Constants
+    //===========
+    
+    /**
+     * The rules of the scanners. The scanner method of each rule returns a
+     * distinct code and the last rule accepts each character, so that each
+     * input can be scanned completely.
+     */
+    private static final String RULES =
+        "    /**\n"+
+        "     * @expr [a-z]+\n"+
+        "     */\n"+
+        "    int ident() { return 1; }\n"+
+        "    \n"+
+        "    /**\n"+
+        "     * @expr [a-z]+ / \"(\"\n"+
+        "     */\n"+
+        "    int call() { return 2; }\n"+
+        "    \n"+
+        "    /**\n"+
+        "     * @expr [0-9]+(\".\"[0-9]+)?\n"+
+        "     */\n"+
+        "    int number() { return 3; }\n"+
+        "    \n"+
+        "    /**\n"+
+        "     * @expr \"/*\"\n"+
+        "     */\n"+
+        "    int commentStart() { setLexicalState(LEXICAL_STATE_COMMENT); return 4; }\n"+
+        "    \n"+
+        "    /**\n"+
+        "     * @expr <COMMENT>\"*\" \"/\"\n"+
+        "     */\n"+
+        "    int commentEnd() { setLexicalState(LEXICAL_STATE_INITIAL); return 5; }\n"+
+        "    \n"+
+        "    /**\n"+
+        "     * @expr <COMMENT>[^*]+|\"*\"\n"+
+        "     */\n"+
+        "    int commentText() { return 6; }\n"+
+        "    \n"+
+        "    /**\n"+
+        "     * @expr \\\"[^\\\"\\n]*\\\"\n"+
+        "     */\n"+
+        "    int string() { return 7; }\n"+
+        "    \n"+
+        "    /**\n"+
+        "     * @expr [\uD83D\uDE00]+\n"+
+        "     */\n"+
+        "    int emoji() { return 8; }\n"+
+        "    \n"+
+        "    /**\n"+
+        "     * @expr [ \\n]+\n"+
+        "     */\n"+
+        "    void whitespace() { }\n"+
+        "    \n"+
+        "    /**\n"+
+        "     * @expr [^]\n"+
+        "     */\n"+
+        "    int other() { return 9; }\n"+
+        "    \n";
+    
+    /**
+     * The rules with a rule which requires a backtracking over 3000 characters.
+     */
+    private static final String DEEP_RULES = RULES+
+        "    /**\n"+
+        "     * @expr \"!\"{3000}\"?\"\n"+
+        "     */\n"+
+        "    int deep() { return 10; }\n"+
+        "    \n";
+    
+    /**
+     * The rules without the comment rules and therefore without lexical states.
+     */
+    private static final String SINGLE_STATE_RULES = RULES.replaceAll(
+            "(?s)    /\\*\\*\n     \\* @expr (\"/\\*\"|<COMMENT>).*?\n    \n","");
+    
+    /**
+     * The rules with a floating point literal whose exponent requires a
+     * backtracking over two characters.
+     */
+    private static final String FLOAT_RULES =
+        "    /**\n"+
+        "     * @expr [0-9]+(\".\"[0-9]*)?([eE][+-]?[0-9]+)?\n"+
+        "     */\n"+
+        "    int floatLiteral() { return 1; }\n"+
+        "    \n"+
+        "    /**\n"+
+        "     * @expr [^]\n"+
+        "     */\n"+
+        "    int other() { return 9; }\n"+
+        "    \n";
+    
+    /**
+     * The rules with a rule which requires an unbounded backtracking and
+     * which therefore has a quadratic scan time without memoization.
+     */
+    private static final String REPEAT_RULES =
+        "    /**\n"+
+        "     * @expr \"a\"*\"b\"|\"a\"\n"+
+        "     */\n"+
+        "    int repeat() { return 1; }\n"+
+        "    \n"+
+        "    /**\n"+
+        "     * @expr [^]\n"+
+        "     */\n"+
+        "    int other() { return 9; }\n"+
+        "    \n";
+    
+    /**
+     * The rules without lexical states whose methods return the matched text
+     * and whose token tags contain the codes of the original rules.
+     */
+    private static final String TAGGED_RULES = SINGLE_STATE_RULES.replaceAll(
+            "     \\*/\n    int (\\w+)\\(\\) \\{ return (\\d+); \\}",
+            "     * @token $2\n     */\n    String $1() { return getMatchText(); }");
+    
+    /**
+     * The characters of the random inputs.
+     */
+    private static final String INPUT_CHARACTERS = "ab(1.2 /**/\"\n\u00E9\uD83D\uDE00#";
+    
+    /**
+     * The inputs which are checked in addition to the random inputs. The last
+     * input contains runs which are longer than the vectors of the run loops.
+     */
+    private static final String[] FIXED_INPUTS = {"","a","ab(12.5","/* a */b",
+            "\"a\"\"","/*\n*/\n\n1.","\uD83D\uDE00\uD83D\uDE00\u00E9#",
+            "abcdefghijklmnopqrstuvwxyz".repeat(4)+"("+"1234567890".repeat(8)+" /*"+
+            "ab ".repeat(30)+"*/\""+"a".repeat(70)+"\""};
+    
+    /**
+     * The number of random inputs of each check.
+     */
+    private static final int RANDOM_INPUT_COUNT = 300;
+    
+    /**
+     * The maximum length of a random input.
+     */
+    private static final int MAX_INPUT_LENGTH = 120;
+    
+    /**
+     * The name of the module of the vector run loops.
+     */
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    
+    //=======
+    // Types
+    //=======
+    
+    /**
+     * The ways in which the generated scanners are driven. Each driver adds a
+     * static method "scan" to the scanner, which returns the codes and texts of
+     * all tokens of an input.
+     */
+    private enum Driver {
+        
+        STRING("",
+            "        %NAME% scanner = new %NAME%();\n"+
+            "        scanner.setString(input);\n"+
+            "        StringBuilder builder = new StringBuilder();\n"+
+            "        int code;\n"+
+            "        \n"+
+            "        while ((code = scanner.getNextToken()) != -1) {\n"+
+            "            builder.append(code).append(':').append(scanner.getMatchText()).append(';');\n"+
+            "        }\n"+
+            "        \n"+
+            "        return builder.toString();\n"),
+        
+        CHAR_ARRAY("",
+            "        %NAME% scanner = new %NAME%();\n"+
+            "        scanner.setCharArray((\"[\"+input+\"]\").toCharArray(),1,input.length()+1);\n"+
+            "        StringBuilder builder = new StringBuilder();\n"+
+            "        int code;\n"+
+            "        \n"+
+            "        while ((code = scanner.getNextToken()) != -1) {\n"+
+            "            builder.append(code).append(':').append(scanner.getMatchText()).append(';');\n"+
+            "        }\n"+
+            "        \n"+
+            "        return builder.toString();\n"),
+        
+        CHAR_ARRAY_REGION("",
+            "        // scan the region without the first two and the last two characters\n"+
+            "        char[] chars = input.toCharArray();\n"+
+            "        %NAME% scanner = new %NAME%();\n"+
+            "        scanner.setCharArray(chars,2,chars.length-2);\n"+
+            "        StringBuilder builder = new StringBuilder();\n"+
+            "        int code;\n"+
+            "        \n"+
+            "        while ((code = scanner.getNextToken()) != -1) {\n"+
+            "            builder.append(code).append(':').append(scanner.getMatchStart()).append('-')\n"+
+            "                .append(scanner.getMatchEnd()).append(':').append(scanner.getMatchText())\n"+
+            "                .append(';');\n"+
+            "        }\n"+
+            "        \n"+
+            "        return builder.toString();\n"),
+        
+        CHAR_SEQUENCE("",
+            "        %NAME% scanner = new %NAME%();\n"+
+            "        scanner.setCharSequence(new StringBuilder(input));\n"+
+            "        StringBuilder builder = new StringBuilder();\n"+
+            "        int code;\n"+
+            "        \n"+
+            "        while ((code = scanner.getNextToken()) != -1) {\n"+
+            "            builder.append(code).append(':').append(scanner.getMatchText()).append(';');\n"+
+            "        }\n"+
+            "        \n"+
+            "        return builder.toString();\n"),
+        
+        BYTE_ARRAY("",
+            "        byte[] bytes = (\"[\"+input+\"]\").getBytes(StandardCharsets.UTF_8);\n"+
+            "        %NAME% scanner = new %NAME%();\n"+
+            "        scanner.setByteArray(bytes,1,bytes.length-1);\n"+
+            "        StringBuilder builder = new StringBuilder();\n"+
+            "        int code;\n"+
+            "        \n"+
+            "        while ((code = scanner.getNextToken()) != -1) {\n"+
+            "            builder.append(code).append(':').append(scanner.getMatchText()).append(';');\n"+
+            "        }\n"+
+            "        \n"+
+            "        return builder.toString();\n"),
+        
+        BYTE_ARRAY_POSITIONS("",
+            "        byte[] bytes = input.getBytes(StandardCharsets.UTF_8);\n"+
+            "        %NAME% scanner = new %NAME%();\n"+
+            "        scanner.setByteArray(bytes,0,bytes.length);\n"+
+            "        StringBuilder builder = new StringBuilder();\n"+
+            "        int code;\n"+
+            "        \n"+
+            "        while ((code = scanner.getNextToken()) != -1) {\n"+
+            "            builder.append(code).append(':').append(scanner.getMatchStart()).append('-')\n"+
+            "                .append(scanner.getMatchEnd()).append(':').append(scanner.getMatchText())\n"+
+            "                .append(';');\n"+
+            "        }\n"+
+            "        \n"+
+            "        return builder.toString();\n"),
+        
+        BYTE_BUFFER("",
+            "        byte[] bytes = input.getBytes(StandardCharsets.UTF_8);\n"+
+            "        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);\n"+
+            "        buffer.put(bytes).flip();\n"+
+            "        %NAME% scanner = new %NAME%();\n"+
+            "        scanner.setByteBuffer(buffer);\n"+
+            "        StringBuilder builder = new StringBuilder();\n"+
+            "        int code;\n"+
+            "        \n"+
+            "        while ((code = scanner.getNextToken()) != -1) {\n"+
+            "            builder.append(code).append(':').append(scanner.getMatchText()).append(';');\n"+
+            "        }\n"+
+            "        \n"+
+            "        return builder.toString();\n"),
+        
+        CHANNEL("",
+            "        byte[] bytes = input.getBytes(StandardCharsets.UTF_8);\n"+
+            "        %NAME% scanner = new %NAME%();\n"+
+            "        scanner.setChannel(Channels.newChannel(new ByteArrayInputStream(bytes)),\n"+
+            "                StandardCharsets.UTF_8,4);\n"+
+            "        StringBuilder builder = new StringBuilder();\n"+
+            "        int code;\n"+
+            "        \n"+
+            "        while ((code = scanner.getNextToken()) != -1) {\n"+
+            "            builder.append(code).append(':').append(scanner.getMatchText()).append(';');\n"+
+            "        }\n"+
+            "        \n"+
+            "        return builder.toString();\n"),
+        
+        CHANNEL_BYTES("",
+            "        // replace the number signs by a malformed byte\n"+
+            "        byte[] bytes = input.getBytes(StandardCharsets.UTF_8);\n"+
+            "        \n"+
+            "        for (int i=0;i<bytes.length;i++) {\n"+
+            "            if (bytes[i] == '#') {\n"+
+            "                bytes[i] = (byte)0xff;\n"+
+            "            }\n"+
+            "        }\n"+
+            "        \n"+
+            "        %NAME% scanner = new %NAME%();\n"+
+            "        StringBuilder builder = new StringBuilder();\n"+
+            "        \n"+
+            "        // scan twice with the same decoder and deliver one byte per read\n"+
+            "        for (int pass=0;pass<2;pass++) {\n"+
+            "            InputStream stream = new ByteArrayInputStream(bytes) {\n"+
+            "                public int read(byte[] buffer, int offset, int length) {\n"+
+            "                    return super.read(buffer,offset,Math.min(length,1));\n"+
+            "                }\n"+
+            "                \n"+
+            "                public int available() {\n"+
+            "                    return 0;\n"+
+            "                }\n"+
+            "            };\n"+
+            "            \n"+
+            "            scanner.setChannel(Channels.newChannel(stream),StandardCharsets.UTF_8,2);\n"+
+            "            int code;\n"+
+            "            \n"+
+            "            while ((code = scanner.getNextToken()) != -1) {\n"+
+            "                builder.append(code).append(':').append(scanner.getMatchText()).append(';');\n"+
+            "            }\n"+
+            "            \n"+
+            "            builder.append(\"end;\");\n"+
+            "        }\n"+
+            "        \n"+
+            "        return builder.toString();\n"),
+        
+        OBJECT("",
+            "        %NAME% scanner = new %NAME%();\n"+
+            "        scanner.setString(input);\n"+
+            "        StringBuilder builder = new StringBuilder();\n"+
+            "        Object token;\n"+
+            "        \n"+
+            "        while ((token = scanner.getNextToken()) != null) {\n"+
+            "            builder.append(token).append(':').append(scanner.getMatchText()).append(';');\n"+
+            "        }\n"+
+            "        \n"+
+            "        return builder.toString();\n"),
+        
+        TOKEN_CODE("",
+            "        %NAME% scanner = new %NAME%();\n"+
+            "        scanner.setString(input);\n"+
+            "        StringBuilder builder = new StringBuilder();\n"+
+            "        int code;\n"+
+            "        \n"+
+            "        while ((code = scanner.getNextTokenCode()) != -1) {\n"+
+            "            builder.append(code).append(':').append(scanner.getMatchText()).append(';');\n"+
+            "        }\n"+
+            "        \n"+
+            "        return builder.toString();\n"),
+        
+        CHAR_READS("getFailMemoHits+",
+            "        // count the characters which are read by the scanner\n"+
+            "        int[] reads = new int[1];\n"+
+            "        CharSequence sequence = new CharSequence() {\n"+
+            "            public int length() { return input.length(); }\n"+
+            "            public char charAt(int index) { reads[0]++; return input.charAt(index); }\n"+
+            "            public CharSequence subSequence(int start, int end) { return input.subSequence(start,end); }\n"+
+            "        };\n"+
+            "        \n"+
+            "        %NAME% scanner = new %NAME%();\n"+
+            "        scanner.setCharSequence(sequence);\n"+
+            "        \n"+
+            "        while (scanner.getNextToken() != -1) {\n"+
+            "        }\n"+
+            "        \n"+
+            "        // the fail memo hits are only available with memoization\n"+
+            "        Object hits = 0;\n"+
+            "        \n"+
+            "        try {\n"+
+            "            hits = %NAME%.class.getMethod(\"getFailMemoHits\").invoke(scanner);\n"+
+            "        }\n"+
+            "        \n"+
+            "        catch(NoSuchMethodException e) {\n"+
+            "        }\n"+
+            "        \n"+
+            "        return reads[0]+\" \"+hits;\n"),
+        
+        TOKENIZE("tokenize+",
+            "        %NAME% scanner = new %NAME%();\n"+
+            "        scanner.setString(input);\n"+
+            "        StringBuilder builder = new StringBuilder();\n"+
+            "        int[] codes = new int[3];\n"+
+            "        int[] starts = new int[3];\n"+
+            "        int[] ends = new int[3];\n"+
+            "        int count;\n"+
+            "        \n"+
+            "        while ((count = scanner.tokenize(codes,starts,ends,3)) != 0) {\n"+
+            "            for (int i=0;i<count;i++) {\n"+
+            "                builder.append(codes[i]).append(':')\n"+
+            "                    .append(input,starts[i],ends[i]).append(';');\n"+
+            "            }\n"+
+            "        }\n"+
+            "        \n"+
+            "        return builder.toString();\n"),
+        
+        TOKENIZE_BATCHES("tokenize+",
+            "        // alternate batches of at most three tokens with single tokens\n"+
+            "        %NAME% scanner = new %NAME%();\n"+
+            "        scanner.setString(input);\n"+
+            "        StringBuilder builder = new StringBuilder();\n"+
+            "        int[] codes = new int[4];\n"+
+            "        int[] starts = new int[4];\n"+
+            "        int[] ends = new int[4];\n"+
+            "        int count;\n"+
+            "        int code;\n"+
+            "        \n"+
+            "        while ((count = scanner.tokenize(codes,starts,ends,3)) != 0) {\n"+
+            "            builder.append(\"batch \").append(count).append(';');\n"+
+            "            \n"+
+            "            for (int i=0;i<count;i++) {\n"+
+            "                builder.append(codes[i]).append(':')\n"+
+            "                    .append(input,starts[i],ends[i]).append(';');\n"+
+            "            }\n"+
+            "            \n"+
+            "            builder.append(\"dot \").append(scanner.getDot()).append(';');\n"+
+            "            \n"+
+            "            if ((code = scanner.getNextToken()) != -1) {\n"+
+            "                builder.append(code).append(':').append(scanner.getMatchText()).append(';');\n"+
+            "            }\n"+
+            "        }\n"+
+            "        \n"+
+            "        return builder.toString();\n"),
+        
+        RELEX("relex+",
+            "        // scan the input with an inserted comment start and remove it again\n"+
+            "        int middle = input.length() / 2;\n"+
+            "        %NAME% scanner = new %NAME%();\n"+
+            "        scanner.setString(input.substring(0,middle)+\"a/*\"+input.substring(middle));\n"+
+            "        ArrayList<int[]> oldTokens = new ArrayList<>();\n"+
+            "        ArrayList<int[]> newTokens = new ArrayList<>();\n"+
+            "        int code;\n"+
+            "        \n"+
+            "        while ((code = scanner.getNextToken()) != -1) {\n"+
+            "            oldTokens.add(new int[]{code,scanner.getMatchStart(),scanner.getMatchEnd()});\n"+
+            "        }\n"+
+            "        \n"+
+            "        int restart = scanner.relex(middle,3,\"\");\n"+
+            "        \n"+
+            "        for (int[] token : oldTokens) {\n"+
+            "            if (token[1] < restart) {\n"+
+            "                newTokens.add(token);\n"+
+            "            }\n"+
+            "        }\n"+
+            "        \n"+
+            "        while ((code = scanner.getNextToken()) != -1) {\n"+
+            "            newTokens.add(new int[]{code,scanner.getMatchStart(),scanner.getMatchEnd()});\n"+
+            "        }\n"+
+            "        \n"+
+            "        // take over the previous tokens behind the resynchronization\n"+
+            "        int sync = scanner.getDot();\n"+
+            "        \n"+
+            "        for (int[] token : oldTokens) {\n"+
+            "            if ((sync < input.length()) && (token[1] >= sync + 3)) {\n"+
+            "                newTokens.add(new int[]{token[0],token[1]-3,token[2]-3});\n"+
+            "            }\n"+
+            "        }\n"+
+            "        \n"+
+            "        StringBuilder builder = new StringBuilder();\n"+
+            "        \n"+
+            "        for (int[] token : newTokens) {\n"+
+            "            builder.append(token[0]).append(':')\n"+
+            "                .append(input,token[1],token[2]).append(';');\n"+
+            "        }\n"+
+            "        \n"+
+            "        return builder.toString();\n"),
+        
+        RELEX_LOCAL("relex+",
+            "        // scan the input without the bar and insert an x at its position\n"+
+            "        int position = input.indexOf('|');\n"+
+            "        %NAME% scanner = new %NAME%();\n"+
+            "        scanner.setString(input.substring(0,position)+input.substring(position+1));\n"+
+            "        \n"+
+            "        while (scanner.getNextToken() != -1) {\n"+
+            "        }\n"+
+            "        \n"+
+            "        StringBuilder builder = new StringBuilder();\n"+
+            "        int restart = scanner.relex(position,0,\"x\");\n"+
+            "        int code;\n"+
+            "        \n"+
+            "        builder.append(\"restart \").append(restart).append(';');\n"+
+            "        \n"+
+            "        while ((code = scanner.getNextToken()) != -1) {\n"+
+            "            builder.append(code).append(':').append(scanner.getMatchText()).append(';');\n"+
+            "        }\n"+
+            "        \n"+
+            "        return builder.append(\"sync \").append(scanner.getDot()).append(';').toString();\n"),
+        
+        TOKENIZE_PARALLEL("tokenizeParallel+",
+            "        %NAME% scanner = new %NAME%();\n"+
+            "        scanner.setString(input);\n"+
+            "        StringBuilder builder = new StringBuilder();\n"+
+            "        int[] tokens = scanner.tokenizeParallel(%NAME%::new,8);\n"+
+            "        \n"+
+            "        for (int i=0;i<tokens.length;i+=3) {\n"+
+            "            builder.append(tokens[i]).append(':')\n"+
+            "                .append(input,tokens[i+1],tokens[i+2]).append(';');\n"+
+            "        }\n"+
+            "        \n"+
+            "        return builder.toString();\n"),
+        
+        TOKENIZE_CHUNKS("tokenizeParallel+",
+            "        // count the scanners of the chunks\n"+
+            "        AtomicInteger scanners = new AtomicInteger();\n"+
+            "        %NAME% scanner = new %NAME%();\n"+
+            "        scanner.setString(input);\n"+
+            "        StringBuilder builder = new StringBuilder();\n"+
+            "        int[] tokens = scanner.tokenizeParallel(() -> {\n"+
+            "            scanners.incrementAndGet();\n"+
+            "            return new %NAME%();\n"+
+            "        },4);\n"+
+            "        \n"+
+            "        for (int i=0;i<tokens.length;i+=3) {\n"+
+            "            builder.append(tokens[i]).append(':')\n"+
+            "                .append(input,tokens[i+1],tokens[i+2]).append(';');\n"+
+            "        }\n"+
+            "        \n"+
+            "        return builder.append(scanners.get()).append(\" scanners\").toString();\n"),
+        
+        PUSH("",
+            "        %NAME% scanner = new %NAME%();\n"+
+            "        StringBuilder builder = new StringBuilder();\n"+
+            "        int position = 0;\n"+
+            "        \n"+
+            "        // feed at most three characters at once\n"+
+            "        while (true) {\n"+
+            "            int code = scanner.getNextToken();\n"+
+            "            \n"+
+            "            if (code != -1) {\n"+
+            "                builder.append(code).append(':').append(scanner.getMatchText()).append(';');\n"+
+            "            }\n"+
+            "            \n"+
+            "            else if (scanner.isInputNeeded()) {\n"+
+            "                int length = Math.min(input.length()-position,3);\n"+
+            "                scanner.feed(input.toCharArray(),position,length,\n"+
+            "                        position+length == input.length());\n"+
+            "                position += length;\n"+
+            "            }\n"+
+            "            \n"+
+            "            else {\n"+
+            "                return builder.toString();\n"+
+            "            }\n"+
+            "        }\n"),
+        
+        PUSH_SPLIT("",
+            "        // feed the input in two parts which are separated by a bar\n"+
+            "        int split = input.indexOf('|');\n"+
+            "        char[] chars = input.toCharArray();\n"+
+            "        %NAME% scanner = new %NAME%();\n"+
+            "        StringBuilder builder = new StringBuilder();\n"+
+            "        int code;\n"+
+            "        \n"+
+            "        scanner.feed(chars,0,split,false);\n"+
+            "        \n"+
+            "        while ((code = scanner.getNextToken()) != -1) {\n"+
+            "            builder.append(code).append(':').append(scanner.getMatchText()).append(';');\n"+
+            "        }\n"+
+            "        \n"+
+            "        builder.append(scanner.isInputNeeded() ? \"needed;\" : \"stopped;\");\n"+
+            "        scanner.feed(chars,split+1,chars.length-split-1,true);\n"+
+            "        \n"+
+            "        while ((code = scanner.getNextToken()) != -1) {\n"+
+            "            builder.append(code).append(':').append(scanner.getMatchText()).append(';');\n"+
+            "        }\n"+
+            "        \n"+
+            "        return builder.toString();\n"),
+        
+        READER("",
+            "        // deliver at most three characters per read\n"+
+            "        Reader reader = new FilterReader(new StringReader(input)) {\n"+
+            "            public int read(char[] buffer, int offset, int length) throws IOException {\n"+
+            "                return super.read(buffer,offset,Math.min(length,3));\n"+
+            "            }\n"+
+            "        };\n"+
+            "        \n"+
+            "        %NAME% scanner = new %NAME%();\n"+
+            "        scanner.setReader(reader,2);\n"+
+            "        StringBuilder builder = new StringBuilder();\n"+
+            "        int code;\n"+
+            "        \n"+
+            "        while ((code = scanner.getNextToken()) != -1) {\n"+
+            "            builder.append(code).append(':').append(scanner.getMatchText()).append(';');\n"+
+            "        }\n"+
+            "        \n"+
+            "        return builder.toString();\n");
+        
+        /**
+         * 
+         */
+        private final String functionality;
+        
+        /**
+         * 
+         */
+        private final String code;
+        
+        /**
+         * 
+         */
+        private Driver(String functionality, String code) {
+            this.functionality = functionality;
+            this.code = code;
+        }
+    }
+    
+    //========
+    // Fields
+    //========
+    
+    /**
+     * 
+     */
+    private final File directory;
+    
+    /**
+     * 
+     */
+    private final HashMap<String,Method> referenceMap = new HashMap<>();
+    
+    /**
+     * 
+     */
+    private String scannerContent;
+    
+    /**
+     * 
+     */
+    private int scannerCount;
+    
+    /**
+     * 
+     */
+    private int failureCount;
+    
+    //==============
+    // Constructors
+    //==============
+    
+    /**
+     * 
+     */
+    private ScannerRoundTripTest(File directory) {
+        this.directory = directory;
+    }
+    
+    //=============
+    // Main Method
+    //=============
+    
+    /**
+     * 
+     */
+    public static void main(String[] args) throws Exception {
+        File directory = Files.createTempDirectory("annoflex").toFile();
+        ScannerRoundTripTest test = new ScannerRoundTripTest(directory);
+        
+        try {
+            test.checkAll();
+        }
+        
+        finally {
+            delete(directory);
+        }
+        
+        if (test.failureCount != 0) {
+            System.out.println(test.failureCount+" checks failed");
+            System.exit(1);
+        }
+        
+        System.out.println("All checks passed");
+    }
+    
+    //==============
+    // Test Methods
+    //==============
+    
+    /**
+     * 
+     */
+    private void checkAll() throws Exception {
+        check("user-001",RULES,Driver.STRING,"characterMode = codePoint");
+        check("user-002",RULES,Driver.STRING,"characterMapLayout = paged");
+        check("user-003",RULES,Driver.STRING,"transitionTableLayout = comb");
+        check("user-004",RULES,Driver.STRING,"transitionTableLayout = flat");
+        check("user-005",RULES,Driver.STRING,"codeStyle = direct");
+        checkContent("user-005","switch(curState) {",true);
+        checkContent("user-005","TRANSITION_TABLE",false);
+        check("user-005",RULES,Driver.STRING,"codeStyle = direct","characterMode = codePoint");
+        checkContent("user-005","switch(curState) {",true);
+        check("user-005",RULES,Driver.READER,"codeStyle = direct","inputMode = reader",
+                "runLoops = enabled");
+        checkContent("user-005","switch(curState) {",true);
+        check("user-006",RULES,Driver.STRING,"asciiTransitionTable = enabled");
+        check("user-007",RULES,Driver.CHAR_ARRAY,"inputMode = charArray");
+        checkContent("user-007","char curChar = charArray[iterator];",true);
+        checkTokens("user-007",RULES,Driver.CHAR_ARRAY_REGION,"xxab 12(cd((",
+                "1:2-4:ab;3:5-7:12;9:7-8:(;1:8-10:cd;","inputMode = charArray");
+        check("user-007",RULES,Driver.CHAR_SEQUENCE,"inputMode = charSequence");
+        checkContent("user-007","char curChar = charSequence.charAt(iterator);",true);
+        check("user-008",RULES,Driver.BYTE_ARRAY,"inputMode = byteArray");
+        checkTokens("user-008",RULES,Driver.BYTE_ARRAY_POSITIONS,
+                "ab \u00E9\uD83D\uDE00\uD83D\uDE00 12(",
+                "1:0-2:ab;9:3-5:\u00E9;8:5-13:\uD83D\uDE00\uD83D\uDE00;3:14-16:12;9:16-17:(;",
+                "inputMode = byteArray");
+        check("user-008",RULES,Driver.BYTE_BUFFER,"inputMode = byteBuffer");
+        check("user-009",RULES,Driver.CHANNEL,"inputMode = channel");
+        checkTokens("user-009",RULES,Driver.CHANNEL_BYTES,"ab\u00E9\uD83D\uDE00#cd",
+                "1:ab;9:\u00E9;8:\uD83D\uDE00;9:\uFFFD;1:cd;end;".repeat(2),
+                "inputMode = channel");
+        check("user-010",RULES,Driver.STRING,"tableStorage = resource");
+        checkTableResource("user-010","extended",data -> Arrays.copyOf(data,data.length+1),
+                "is corrupted");
+        checkTableResource("user-010","truncated",data -> Arrays.copyOf(data,data.length-1),
+                "is truncated");
+        checkTableResource("user-010","altered",data -> {
+            data[data.length-1]++;
+            return data;
+        },"is corrupted");
+        
+        byte[] foreignData = createTableResource(SINGLE_STATE_RULES);
+        
+        checkTableResource("user-010","foreign",data -> foreignData,
+                "does not belong to this scanner");
+        check("user-011",RULES,Driver.STRING,"lazyTables = enabled");
+        check("user-012",SINGLE_STATE_RULES,TAGGED_RULES,Driver.TOKEN_CODE);
+        checkTokens("user-012",TAGGED_RULES,Driver.OBJECT,"ab 12(","ab:ab;12:12;(:(;");
+        check("user-013",RULES,Driver.TOKENIZE);
+        checkTokens("user-013",RULES,Driver.TOKENIZE_BATCHES,"ab cd ef gh /* ij */ kl mn(",
+                "batch 3;1:ab;1:cd;1:ef;dot 8;1:gh;batch 3;4:/*;6: ij ;5:*/;dot 20;"+
+                "1:kl;batch 2;2:mn;9:(;dot 27;");
+        checkContent("user-013","int dot = this.dot;",true);
+        check("user-014",RULES,Driver.RELEX,"incremental = enabled");
+        checkTokens("user-014",RULES,Driver.RELEX_LOCAL,"ab cd ef gh ij| kl mn op qr st uv",
+                "restart 12;1:ijx;sync 15;","incremental = enabled");
+        checkTokens("user-014",RULES,Driver.RELEX_LOCAL,"ab cd 12 ef(gh) 3|4 kl mn op qr",
+                "restart 16;3:3;1:x;3:4;sync 19;","incremental = enabled");
+        checkTokens("user-014",RULES,Driver.RELEX_LOCAL,"ab /* cd ef */ gh| ij kl mn",
+                "restart 15;1:ghx;sync 18;","incremental = enabled");
+        checkTokens("user-014",RULES,Driver.RELEX_LOCAL,"ab /* cd e|f */ gh ij kl mn",
+                "restart 5;6: cd exf ;sync 13;","incremental = enabled");
+        check("user-015",RULES,Driver.TOKENIZE_PARALLEL);
+        checkTokens("user-015",RULES,Driver.TOKENIZE_CHUNKS,"ab\ncd\nef\ngh\n",
+                "1:ab;1:cd;1:ef;1:gh;2 scanners");
+        checkTokens("user-015",RULES,Driver.TOKENIZE_CHUNKS,"ab /*\ncd\nef\n*/ gh\nij(\n",
+                "1:ab;4:/*;6:\ncd\nef\n;5:*/;1:gh;2:ij;9:(;4 scanners");
+        checkTokens("user-015",RULES,Driver.TOKENIZE_CHUNKS,"abcdefghij",
+                "1:abcdefghij;1 scanners");
+        check("user-016",RULES,Driver.PUSH,"inputMode = push");
+        checkTokens("user-016",RULES,Driver.PUSH_SPLIT,"abc|def(",
+                "needed;2:abcdef;9:(;","inputMode = push");
+        checkTokens("user-016",RULES,Driver.PUSH_SPLIT,"ab |cd",
+                "1:ab;needed;1:cd;","inputMode = push");
+        checkTokens("user-016",RULES,Driver.PUSH_SPLIT,"12.|5 \"a|b\"",
+                "needed;3:12.5;7:\"a|b\";","inputMode = push");
+        check("user-017",RULES,Driver.READER,"inputMode = reader",
+                "bufferStrategy = ringBuffer","maxBufferCapacity = 1024");
+        checkTokens("user-017",RULES,Driver.READER,"abcdefghijklmnopqrstuvwxyz",
+                "java.io.IOException: buffer capacity exceeded","inputMode = reader",
+                "bufferStrategy = ringBuffer","maxBufferCapacity = 16");
+        checkTokens("user-017",RULES,Driver.READER,"abcdefghijklmnopqrstuvwxyz",
+                "1:abcdefghijklmnop;1:qrstuvwxyz;","inputMode = reader",
+                "bufferStrategy = ringBuffer","maxBufferCapacity = 16",
+                "bufferOverflow = truncate");
+        checkTokens("user-017",RULES,Driver.READER,"\"abc def ghi jkl mno pqr",
+                "java.io.IOException: buffer capacity exceeded","inputMode = reader",
+                "bufferStrategy = ringBuffer","maxBufferCapacity = 16");
+        checkTokens("user-017",RULES,Driver.READER,"\"abc def ghi jkl mno pqr",
+                "9:\";1:abc;1:def;1:ghi;1:jkl;1:mno;1:pqr;","inputMode = reader",
+                "bufferStrategy = ringBuffer","maxBufferCapacity = 16",
+                "bufferOverflow = truncate");
+        checkTokens("user-017",RULES,Driver.READER,"abcdefghijklmno 1234567890 abc(",
+                "1:abcdefghijklmno;3:1234567890;2:abc;9:(;","inputMode = reader",
+                "bufferStrategy = ringBuffer","maxBufferCapacity = 16");
+        check("user-018",RULES,Driver.READER,"inputMode = reader","bufferStrategy = chunked");
+        checkContent("user-018","buffer[chunkIndex] = new char[BUFFER_CHUNK_SIZE];",true);
+        
+        String chunkA = "a".repeat(16382);
+        String chunkB = "b".repeat(40000);
+        String chunkC = "c".repeat(20000);
+        
+        checkTokens("user-018",RULES,Driver.READER,chunkA+" "+chunkB+" /*"+chunkC+"*/ 12",
+                "1:"+chunkA+";1:"+chunkB+";4:/*;6:"+chunkC+";5:*/;3:12;",
+                "inputMode = reader","bufferStrategy = chunked");
+        check("user-019",RULES,Driver.READER,"inputMode = reader","sentinel = enabled");
+        checkContent("user-019","hasNextChar(++iterator)",false);
+        checkTokens("user-019",RULES,Driver.READER,"ab\uFFFF\"c\uFFFF\uFFFFd\"\uFFFF",
+                "1:ab;9:\uFFFF;7:\"c\uFFFF\uFFFFd\";9:\uFFFF;","inputMode = reader",
+                "sentinel = enabled");
+        checkTokens("user-019",RULES,Driver.READER,"abcdef\uFFFFgh",
+                "1:abcdef;9:\uFFFF;1:gh;","inputMode = reader","sentinel = enabled");
+        check("user-020",RULES,Driver.CHAR_ARRAY,"inputMode = charArray","runLoops = enabled");
+        checkContent("user-020","if ((runChar < 'a') || (runChar > 'z')) {",true);
+        checkTokens("user-020",RULES,Driver.CHAR_ARRAY_REGION,"xxabcd 12345 efghij",
+                "1:2-6:abcd;3:7-12:12345;1:13-17:efgh;","inputMode = charArray",
+                "runLoops = enabled");
+        check("user-020",RULES,Driver.READER,"inputMode = reader","runLoops = enabled");
+        checkContent("user-020","while (hasNextChar(iterator+1)) {",true);
+        checkTokens("user-020",RULES,Driver.READER,"abcdefghij( 1234567.89",
+                "2:abcdefghij;9:(;3:1234567.89;","inputMode = reader","runLoops = enabled");
+        check("user-021",RULES,Driver.CHAR_ARRAY,"inputMode = charArray","runLoops = vector");
+        checkContent("user-021","ShortVector.fromCharArray(",true);
+        check("user-021",RULES,Driver.READER,"inputMode = reader","runLoops = vector");
+        checkContent("user-021","ShortVector.fromCharArray(",true);
+        check("user-022",RULES,Driver.STRING,"runLoops = enabled");
+        checkContent("user-022","iterator = string.indexOf('*',iterator+1);",true);
+        
+        String commentBody = " ab\n".repeat(2000);
+        
+        checkTokens("user-022",RULES,Driver.STRING,"/*"+commentBody+"* **/x",
+                "4:/*;6:"+commentBody+";6:*;6: ;6:*;5:*/;1:x;","runLoops = enabled");
+        checkTokens("user-022",RULES,Driver.STRING,"/*"+commentBody,
+                "4:/*;6:"+commentBody+";","runLoops = enabled");
+        check("user-023",RULES,Driver.STRING,"memoization = enabled");
+        check("user-023",REPEAT_RULES,Driver.STRING,"memoization = enabled");
+        checkReads("user-023",REPEAT_RULES,1000);
+        check("user-024",DEEP_RULES,Driver.TOKENIZE);
+        check("user-024",FLOAT_RULES,Driver.TOKENIZE);
+        checkContent("user-024",
+                "     * Rule:            floatLiteral                 *\n"+
+                "     * Backtracking:    2                            *\n"+
+                "     * Example:         \"0E+\"                        *\n",true);
+        check("user-024",REPEAT_RULES,Driver.TOKENIZE);
+        checkContent("user-024",
+                "     * Rule:            repeat                       *\n"+
+                "     * Backtracking:    unbounded                    *\n"+
+                "     * Example:         \"aaa\"...                     *\n",true);
+        check("user-025",SINGLE_STATE_RULES,Driver.STRING,"codeStyle = direct");
+        check("user-025",SINGLE_STATE_RULES,Driver.READER,"inputMode = reader");
+        checkContent("user-025","if (curState > 2) {",true);
+        checkContent("user-025","// stop at a state without transitions",true);
+        checkContent("user-025","ACTION_MAP[curState]",false);
+        checkTokens("user-025",SINGLE_STATE_RULES,Driver.CHAR_READS,"(((( ab",
+                "8 0","inputMode = charSequence");
+    }
+    
+    /**
+     * Generates a scanner with the specified options and compares its token
+     * streams with the token streams of the scanner which has been generated
+     * from the same rules with the default options.
+     */
+    private void check(String requestId, String rules, Driver driver,
+            String... options) throws Exception {
+        
+        check(requestId,rules,rules,driver,options);
+    }
+    
+    /**
+     * Generates a scanner with the specified options and compares its token
+     * streams with the token streams of the scanner which has been generated
+     * from the reference rules with the default options.
+     */
+    private void check(String requestId, String referenceRules, String rules,
+            Driver driver, String... options) throws Exception {
+        
+        String description = (requestId+" "+driver+" "+String.join(", ",options)).trim();
+        scannerContent = null;
+        
+        for (String option : options) {
+            if (option.endsWith("vector") && !ModuleLayer.boot()
+                    .findModule(VECTOR_MODULE).isPresent()) {
+                
+                System.out.println("SKIPPED "+description+" (module "+
+                        VECTOR_MODULE+" not present)");
+                return;
+            }
+        }
+        
+        Method reference = referenceMap.get(referenceRules);
+        
+        if (reference == null) {
+            reference = createScanner(referenceRules,Driver.STRING);
+            referenceMap.put(referenceRules,reference);
+        }
+        
+        Method scanner;
+        
+        try {
+            scanner = createScanner(rules,driver,options);
+        }
+        
+        catch(IllegalStateException | StackOverflowError e) {
+            System.out.println("FAILED "+description);
+            System.out.println("  "+e);
+            failureCount++;
+            return;
+        }
+        
+        Random random = new Random(description.hashCode());
+        
+        for (int i=-FIXED_INPUTS.length;i<RANDOM_INPUT_COUNT;i++) {
+            String input = i < 0 ? FIXED_INPUTS[i+FIXED_INPUTS.length] :
+                createInput(random);
+            
+            String expected = scan(reference,input);
+            String actual;
+            
+            try {
+                actual = scan(scanner,input);
+            }
+            
+            catch(Exception e) {
+                actual = e.toString();
+            }
+            
+            if (!expected.equals(actual)) {
+                System.out.println("FAILED "+description);
+                System.out.println("  input:    "+escape(input));
+                System.out.println("  expected: "+escape(expected));
+                System.out.println("  actual:   "+escape(actual));
+                failureCount++;
+                return;
+            }
+        }
+        
+        System.out.println("OK "+description);
+    }
+    
+    /**
+     * Generates a scanner with the specified options and compares its token
+     * stream of a single input with the expected token stream. An exception
+     * of the scanner is compared by its string representation.
+     */
+    private void checkTokens(String requestId, String rules, Driver driver,
+            String input, String expected, String... options) throws Exception {
+        
+        String description = (requestId+" "+driver+" "+String.join(", ",options)).trim();
+        String actual;
+        
+        try {
+            actual = scan(createScanner(rules,driver,options),input);
+        }
+        
+        catch(Exception | StackOverflowError e) {
+            actual = e.toString();
+        }
+        
+        if (!expected.equals(actual)) {
+            System.out.println("FAILED "+description);
+            System.out.println("  input:    "+escape(input));
+            System.out.println("  expected: "+escape(expected));
+            System.out.println("  actual:   "+escape(actual));
+            failureCount++;
+            return;
+        }
+        
+        System.out.println("OK "+description+" ("+abbreviate(escape(input))+")");
+    }
+    
+    /**
+     * Checks whether the scanner of the last check contains the specified
+     * text. Nothing is checked if the last check has been skipped or if its
+     * scanner could not be generated.
+     */
+    private void checkContent(String requestId, String text, boolean contained) {
+        String description = requestId+" "+(contained ? "contains " : "lacks ")+escape(text);
+        
+        if (scannerContent == null) {
+            return;
+        }
+        
+        if (scannerContent.contains(text) != contained) {
+            System.out.println("FAILED "+description);
+            failureCount++;
+            return;
+        }
+        
+        System.out.println("OK "+description);
+    }
+    
+    /**
+     * Scans a run of the specified length and a run of twice this length
+     * with and without memoization and checks that the number of character
+     * reads grows linearly with memoization and quadratically without it.
+     */
+    private void checkReads(String requestId, String rules, int length) throws Exception {
+        String description = requestId+" "+Driver.CHAR_READS+" a{"+length+"}, a{"+(2*length)+"}";
+        String input = "a".repeat(length);
+        
+        Method scanner = createScanner(rules,Driver.CHAR_READS,"inputMode = charSequence");
+        Method memoScanner = createScanner(rules,Driver.CHAR_READS,"inputMode = charSequence",
+                "memoization = enabled");
+        
+        String[] result = scan(scanner,input).split(" ");
+        String[] doubleResult = scan(scanner,input+input).split(" ");
+        String[] memoResult = scan(memoScanner,input).split(" ");
+        String[] memoDoubleResult = scan(memoScanner,input+input).split(" ");
+        
+        long reads = Long.parseLong(result[0]);
+        long doubleReads = Long.parseLong(doubleResult[0]);
+        long memoReads = Long.parseLong(memoResult[0]);
+        long memoDoubleReads = Long.parseLong(memoDoubleResult[0]);
+        long memoHits = Long.parseLong(memoResult[1]);
+        
+        if ((doubleReads < 3 * reads) || (memoDoubleReads > 2 * memoReads + 8) ||
+            (memoHits == 0)) {
+            
+            System.out.println("FAILED "+description);
+            System.out.println("  reads without memoization: "+reads+", "+doubleReads);
+            System.out.println("  reads with memoization:    "+memoReads+", "+memoDoubleReads);
+            System.out.println("  fail memo hits:            "+memoHits);
+            failureCount++;
+            return;
+        }
+        
+        System.out.println("OK "+description);
+    }
+    
+    /**
+     * Generates a scanner with a table resource, changes the resource and
+     * checks that the scanner rejects it with the expected message.
+     */
+    private void checkTableResource(String requestId, String change,
+            UnaryOperator<byte[]> operator, String expected) throws Exception {
+        
+        String description = requestId+" "+change+" table resource";
+        Method scanner = createScanner(RULES,Driver.STRING,"tableStorage = resource");
+        File file = new File(directory,"Scanner"+scannerCount+".bin");
+        
+        Files.write(file.toPath(),operator.apply(Files.readAllBytes(file.toPath())));
+        
+        // Note: The tables are loaded by the static initializer of the
+        // scanner, which runs on the first call.
+        String actual;
+        
+        try {
+            actual = scan(scanner,"a");
+        }
+        
+        catch(ExceptionInInitializerError e) {
+            actual = String.valueOf(e.getCause());
+        }
+        
+        String expectedMessage = "java.lang.IllegalStateException: table resource \""+
+                file.getName()+"\" "+expected;
+        
+        if (!expectedMessage.equals(actual)) {
+            System.out.println("FAILED "+description);
+            System.out.println("  expected: "+expectedMessage);
+            System.out.println("  actual:   "+actual);
+            failureCount++;
+            return;
+        }
+        
+        System.out.println("OK "+description);
+    }
+    
+    //=================
+    // Scanner Methods
+    //=================
+    
+    /**
+     * Generates, compiles and loads a scanner and returns its scan method.
+     */
+    private Method createScanner(String rules, Driver driver,
+            String... options) throws Exception {
+        
+        String name = "Scanner"+(++scannerCount);
+        StringBuilder builder = new StringBuilder();
+        
+        builder.append("import java.io.*;\n");
+        builder.append("import java.nio.*;\n");
+        builder.append("import java.nio.channels.*;\n");
+        builder.append("import java.nio.charset.*;\n");
+        builder.append("import java.util.*;\n");
+        builder.append("import java.util.concurrent.atomic.*;\n");
+        builder.append("\n");
+        builder.append("/**\n");
+        
+        for (String option : options) {
+            builder.append(" * @option ").append(option).append("\n");
+        }
+        
+        if (!driver.functionality.isEmpty()) {
+            builder.append(" * @option functionality = ").append(driver.functionality).append("\n");
+        }
+        
+        builder.append(" */\n");
+        builder.append("public class ").append(name).append(" {\n");
+        builder.append("    \n");
+        builder.append(rules);
+        builder.append("    public static String scan(String input) throws Exception {\n");
+        builder.append(driver.code.replace("%NAME%",name));
+        builder.append("    }\n");
+        builder.append("    \n");
+        builder.append("    //%%LEX-MAIN-START%%\n");
+        builder.append("    //%%LEX-MAIN-END%%\n");
+        builder.append("}\n");
+        
+        // generate the scanner
+        TextInfo textInfo = new TextInfo(builder.toString(),LineSeparatorMode.LF);
+        BundleCache bundleCache = new BundleCache();
+        Updater updater = new Updater();
+        updater.setErrorHandler(new UpdaterErrorHandler(textInfo,bundleCache,
+                new Console(bundleCache)));
+        
+        String content = updater.update(textInfo);
+        scannerContent = content;
+        
+        if (updater.hasErrors()) {
+            throw new IllegalStateException("generation of "+name+" failed");
+        }
+        
+        File file = new File(directory,name+".java");
+        Files.write(file.toPath(),content.getBytes(StandardCharsets.UTF_8));
+        
+        if (updater.getTableData() != null) {
+            Files.write(new File(directory,updater.getTableResourceName()).toPath(),
+                    updater.getTableData());
+        }
+        
+        // compile the scanner
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        ArrayList<String> arguments = new ArrayList<>();
+        
+        arguments.add("-nowarn");
+        arguments.add("-encoding");
+        arguments.add("UTF-8");
+        arguments.add("-d");
+        arguments.add(directory.getPath());
+        
+        if (content.contains(VECTOR_MODULE)) {
+            arguments.add("--add-modules");
+            arguments.add(VECTOR_MODULE);
+        }
+        
+        arguments.add(file.getPath());
+        
+        if (compiler.run(null,null,new PrintStream(errors),
+                arguments.toArray(new String[arguments.size()])) != 0) {
+            
+            throw new IllegalStateException("compilation of "+name+" failed:\n"+
+                    errors.toString());
+        }
+        
+        // load the scanner
+        URLClassLoader classLoader = new URLClassLoader(new URL[]{
+                directory.toURI().toURL()});
+        
+        return classLoader.loadClass(name).getDeclaredMethod("scan",String.class);
+    }
+    
+    /**
+     * Generates a scanner with a table resource and returns the resource.
+     */
+    private byte[] createTableResource(String rules) throws Exception {
+        createScanner(rules,Driver.STRING,"tableStorage = resource");
+        
+        return Files.readAllBytes(new File(directory,"Scanner"+scannerCount+".bin").toPath());
+    }
+    
+    /**
+     * 
+     */
+    private static String scan(Method method, String input) throws Exception {
+        try {
+            return (String)method.invoke(null,input);
+        }
+        
+        catch(InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            
+            if (cause instanceof Exception) {
+                throw (Exception)cause;
+            }
+            
+            throw e;
+        }
+    }
+    
+    //================
+    // Helper Methods
+    //================
+    
+    /**
+     * 
+     */
+    private static String createInput(Random random) {
+        StringBuilder builder = new StringBuilder();
+        int length = random.nextInt(MAX_INPUT_LENGTH+1);
+        
+        for (int i=0;i<length;i++) {
+            char character = INPUT_CHARACTERS.charAt(random.nextInt(INPUT_CHARACTERS.length()));
+            
+            // keep the surrogate pairs together
+            if (Character.isHighSurrogate(character)) {
+                builder.append(character);
+                character = INPUT_CHARACTERS.charAt(INPUT_CHARACTERS.indexOf(character)+1);
+            }
+            
+            else if (Character.isLowSurrogate(character)) {
+                builder.append(INPUT_CHARACTERS.charAt(INPUT_CHARACTERS.indexOf(character)-1));
+            }
+            
+            builder.append(character);
+        }
+        
+        return builder.toString();
+    }
+    
+    /**
+     * 
+     */
+    private static String escape(String string) {
+        return string.replace("\n","\\n");
+    }
+    
+    /**
+     * 
+     */
+    private static String abbreviate(String string) {
+        return string.length() > 60 ? string.substring(0,60)+"..." : string;
+    }
+    
+    /**
+     * 
+     */
+    private static void delete(File file) throws IOException {
+        File[] children = file.listFiles();
+        
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        
+        Files.delete(file.toPath());
+    }
+}